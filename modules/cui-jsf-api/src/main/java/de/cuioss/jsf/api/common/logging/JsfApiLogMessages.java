@@ -106,6 +106,15 @@ public final class JsfApiLogMessages {
                 .prefix(PREFIX)
                 .identifier(3)
                 .build();
+
+        /**
+         * Log message for enabled render profiling.
+         */
+        public static final LogRecord RENDER_PROFILING_ENABLED = LogRecordModel.builder()
+                .template("Render profiling is enabled, statistics are published as MBean '%s'")
+                .prefix(PREFIX)
+                .identifier(4)
+                .build();
     }
 
 
@@ -181,6 +190,53 @@ public final class JsfApiLogMessages {
                 .prefix(PREFIX)
                 .identifier(105)
                 .build();
+
+        /**
+         * Log message for failed registration or unregistration of an MBean.
+         */
+        public static final LogRecord MBEAN_REGISTRATION_FAILED = LogRecordModel.builder()
+                .template("Unable to register or unregister MBean '%s'")
+                .prefix(PREFIX)
+                .identifier(106)
+                .build();
+
+        /**
+         * Log message for a failing render metrics listener.
+         */
+        public static final LogRecord RENDER_METRICS_LISTENER_FAILED = LogRecordModel.builder()
+                .template("Render metrics listener '%s' failed, the call is ignored")
+                .prefix(PREFIX)
+                .identifier(107)
+                .build();
+
+        /**
+         * Log message for a lazy loading request exceeding its timeout.
+         */
+        public static final LogRecord LAZY_LOADING_REQUEST_TIMEOUT = LogRecordModel.builder()
+                .template("Lazy loading request '%s' did not complete within %s ms and has been cancelled")
+                .prefix(PREFIX)
+                .identifier(108)
+                .build();
+
+        /**
+         * Log message for a lazy loading request no longer tracked by its registry, being
+         * restarted.
+         */
+        public static final LogRecord LAZY_LOADING_REQUEST_RESTARTED = LogRecordModel.builder()
+                .template("Lazy loading request '%s' is no longer tracked, restarted as '%s'")
+                .prefix(PREFIX)
+                .identifier(109)
+                .build();
+
+        /**
+         * Log message for a lazy loading request no longer tracked by its registry, being
+         * replaced by a synchronous retrieval.
+         */
+        public static final LogRecord LAZY_LOADING_REQUEST_UNTRACKED = LogRecordModel.builder()
+                .template("Lazy loading request '%s' is no longer tracked, retrieving the content on the request thread")
+                .prefix(PREFIX)
+                .identifier(110)
+                .build();
     }
 
     /**
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.common.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counter for hits, misses and evictions of a cache.
+ * <p>
+ * The counters are based on {@link LongAdder}, therefore recording is cheap even
+ * under heavy contention. Reading the counters is not atomic as a whole, the
+ * values are intended for monitoring, not for control flow.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * private static final CacheStatistics STATISTICS = new CacheStatistics();
+ *
+ * if (null != cached) {
+ *     STATISTICS.recordHit();
+ * } else {
+ *     STATISTICS.recordMiss();
+ * }
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class CacheStatistics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Records a cache hit.
+     */
+    public void recordHit() {
+        hits.increment();
+    }
+
+    /**
+     * Records a cache miss.
+     */
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Records the eviction of an element.
+     */
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    /**
+     * @return the number of recorded hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of recorded misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of recorded evictions
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the ratio of hits to all requests, {@code 0.0} if there were no requests at all
+     */
+    public double getHitRate() {
+        var hitCount = getHitCount();
+        var total = hitCount + getMissCount();
+        if (total == 0) {
+            return 0.0;
+        }
+        return (double) hitCount / total;
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics(hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions="
+                + getEvictionCount() + ")";
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.common.util;
+
+import static de.cuioss.tools.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Simple, size-bounded, thread-safe cache evicting the least recently used element.
+ * <p>
+ * The cache is based on a {@link ConcurrentHashMap}, therefore hits do not take a lock:
+ * Each element carries a recency marker, derived from a counter advanced by
+ * {@link #put(Object, Object)} only. A hit merely reads the counter and updates the marker
+ * of its element if it has changed since, so frequent hits do not contend on shared
+ * state. Exceeding the maximum size on {@link #put(Object, Object)} evicts the least
+ * recently used elements in a batch, down to 90% of the maximum size, so that the scan over
+ * all elements is amortized over the following insertions. Eviction is done by one thread
+ * at a time, neither lookups nor other insertions wait for it. Under concurrent access the
+ * order is approximate: Hits between two insertions are not ordered, and an element
+ * accessed while being evicted may be evicted nevertheless. Hits, misses and evictions are
+ * recorded in {@link CacheStatistics}. Neither keys nor values may be {@code null}.
+ * </p>
+ * <p>
+ * The value computation of {@link #computeIfAbsent(Object, Function)} is done
+ * without any lock. Concurrent misses for the same key may therefore compute the
+ * value more than once, the last one wins. Use this cache for side-effect free
+ * computations only.
+ * </p>
+ * <p>
+ * Usage example:
+ * <pre>
+ * private final LruCache&lt;String, String&gt; cache = new LruCache&lt;&gt;(512);
+ *
+ * String result = cache.computeIfAbsent(input, this::expensiveComputation);
+ * </pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class LruCache<K, V> {
+
+    @Getter
+    private final int maxSize;
+
+    @Getter
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    private final Map<K, Element<V>> entries;
+
+    /** Advanced by each insertion, see {@link #insertionMarker()} and {@link #hitMarker()}. */
+    private final AtomicLong clock = new AtomicLong();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /** The number of elements kept after an eviction. */
+    private final int evictionTarget;
+
+    /**
+     * @param maxSize the maximum number of elements, must be positive
+     */
+    public LruCache(final int maxSize) {
+        checkArgument(maxSize > 0, "maxSize must be positive");
+        this.maxSize = maxSize;
+        evictionTarget = maxSize - maxSize / 10;
+        entries = new ConcurrentHashMap<>(Math.min(maxSize, 64));
+    }
+
+    /**
+     * @param key must not be null
+     * @return the cached value or {@code null} if there is none. Records a hit or miss.
+     */
+    public V get(final K key) {
+        requireNonNull(key);
+        final var element = entries.get(key);
+        if (null == element) {
+            statistics.recordMiss();
+            return null;
+        }
+        final var marker = hitMarker();
+        if (element.lastAccess != marker) {
+            element.lastAccess = marker;
+        }
+        statistics.recordHit();
+        return element.value;
+    }
+
+    /**
+     * @param key   must not be null
+     * @param value must not be null
+     */
+    public void put(final K key, final V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        entries.put(key, new Element<>(value, insertionMarker()));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * @return the marker of a newly inserted element, more recent than all previous hits
+     */
+    private long insertionMarker() {
+        return clock.incrementAndGet() << 1;
+    }
+
+    /**
+     * @return the marker of a hit, more recent than all previous insertions
+     */
+    private long hitMarker() {
+        return (clock.get() << 1) | 1;
+    }
+
+    /**
+     * Evicts batches of the least recently used elements as long as the maximum size is
+     * exceeded. If another thread is already evicting, it will recheck the size after its
+     * batch, therefore the calling thread does not wait for it.
+     */
+    private void evict() {
+        while (entries.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                evictBatch();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictBatch() {
+        final List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+        // The markers are copied, as they may change while sorting
+        entries.forEach((key, element) -> candidates.add(new Candidate<>(key, element, element.lastAccess)));
+        var excess = candidates.size() - evictionTarget;
+        if (excess <= 0) {
+            return;
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+        for (final Candidate<K, V> candidate : candidates) {
+            if (excess == 0) {
+                return;
+            }
+            if (entries.remove(candidate.key(), candidate.element())) {
+                statistics.recordEviction();
+                excess--;
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value for the given key, computing and caching it if absent.
+     *
+     * @param key      must not be null
+     * @param function computing the value, must not return null
+     * @return the cached or computed value
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+        var value = get(key);
+        if (null == value) {
+            value = requireNonNull(function.apply(key));
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param key must not be null
+     */
+    public void invalidate(final K key) {
+        entries.remove(requireNonNull(key));
+    }
+
+    /**
+     * @param filter identifying the keys of the elements to be removed, must not be null
+     */
+    public void invalidateIf(final Predicate<? super K> filter) {
+        requireNonNull(filter);
+        entries.keySet().removeIf(filter);
+    }
+
+    /**
+     * Removes all elements. The statistics are not reset.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return the number of elements currently cached
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private record Candidate<K, V>(K key, Element<V> element, long lastAccess) {
+    }
+
+    private static final class Element<V> {
+
+        private final V value;
+
+        private volatile long lastAccess;
+
+        Element(final V value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
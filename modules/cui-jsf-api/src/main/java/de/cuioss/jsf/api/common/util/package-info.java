@@ -24,6 +24,10 @@
  * <ul>
  *   <li>{@link de.cuioss.jsf.api.common.util.CheckContextState}: Utilities for checking
  *       the state of {@link jakarta.faces.context.FacesContext} during the JSF lifecycle</li>
+ *   <li>{@link de.cuioss.jsf.api.common.util.CacheStatistics}: Thread-safe hit / miss / eviction
+ *       counters for the caches of the cui-jsf modules</li>
+ *   <li>{@link de.cuioss.jsf.api.common.util.LruCache}: Size-bounded, thread-safe cache evicting
+ *       the least recently used element</li>
  * </ul>
  * 
  * <h3>Key Features</h3>
@@ -171,6 +171,7 @@ public class BaseCuiCommandButton extends HtmlCommandButton implements Component
      * </p>
      */
     @Override
+    @Deprecated(since = "1.1")
     public void writeTitleToParent() {
         super.setTitle(titleProvider.getTitle());
     }
@@ -15,7 +15,6 @@
  */
 package de.cuioss.jsf.api.components.css;
 
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
 import de.cuioss.tools.string.MoreStrings;
 
 /**
@@ -168,6 +167,6 @@ public enum ContextSize implements StyleClassProvider {
      * @see #getStyleClass(String)
      */
     public StyleClassBuilder getStyleClassBuilder(final String prefix) {
-        return new StyleClassBuilderImpl(getStyleClass(prefix));
+        return StyleClassBuilderFactory.create(getStyleClass(prefix));
     }
 }
@@ -15,7 +15,6 @@
  */
 package de.cuioss.jsf.api.components.css;
 
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
 import de.cuioss.tools.string.MoreStrings;
 
 /**
@@ -170,7 +169,7 @@ public enum ContextState implements StyleClassProvider {
      * @see #getStyleClassWithPrefix(String)
      */
     public final StyleClassBuilder getStyleClassBuilderWithPrefix(final String prefix) {
-        return new StyleClassBuilderImpl(getStyleClassWithPrefix(prefix));
+        return StyleClassBuilderFactory.create(getStyleClassWithPrefix(prefix));
     }
 
     /**
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css;
+
+import static de.cuioss.tools.base.Preconditions.checkArgument;
+
+import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.impl.TokenizedStyleClassBuilder;
+
+/**
+ * Factory for creating {@link StyleClassBuilder} instances.
+ * <p>
+ * The implementation to be used is selected application-wide by calling
+ * {@link #activate(StyleClassBuilderFactory)}. It defaults to {@link #LIST_BASED}.
+ * All renderers and components of the cui-jsf libraries create their builders
+ * using {@link #create()} or {@link #create(String)}.
+ * </p>
+ * <p>
+ * Usage example:
+ * </p>
+ * <pre>
+ * // Usually done once at application startup
+ * StyleClassBuilderFactory.activate(StyleClassBuilderFactory.TOKENIZED);
+ *
+ * StyleClassBuilder builder = StyleClassBuilderFactory.create("btn");
+ * </pre>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public enum StyleClassBuilderFactory {
+
+    /**
+     * Creates instances of {@link StyleClassBuilderImpl}.
+     */
+    LIST_BASED {
+        @Override
+        public StyleClassBuilder newBuilder(final String initialClass) {
+            return new StyleClassBuilderImpl(initialClass);
+        }
+    },
+
+    /**
+     * Creates instances of {@link TokenizedStyleClassBuilder}, using the interned
+     * tokens of {@link de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable}.
+     */
+    TOKENIZED {
+        @Override
+        public StyleClassBuilder newBuilder(final String initialClass) {
+            return new TokenizedStyleClassBuilder(initialClass);
+        }
+    };
+
+    private static volatile StyleClassBuilderFactory active = LIST_BASED;
+
+    /**
+     * @param initialClass to be added to the builder, may be null or empty
+     * @return a newly created builder of the concrete type
+     */
+    public abstract StyleClassBuilder newBuilder(String initialClass);
+
+    /**
+     * Defines the implementation used by {@link #create()} and {@link #create(String)}.
+     *
+     * @param factory must not be null
+     */
+    public static void activate(final StyleClassBuilderFactory factory) {
+        checkArgument(null != factory, "factory must not be null");
+        active = factory;
+    }
+
+    /**
+     * @return the currently active factory
+     */
+    public static StyleClassBuilderFactory getActive() {
+        return active;
+    }
+
+    /**
+     * @return an empty {@link StyleClassBuilder} created by the active factory
+     */
+    public static StyleClassBuilder create() {
+        return active.newBuilder(null);
+    }
+
+    /**
+     * @param initialClass to be added to the builder, may be null or empty
+     * @return a {@link StyleClassBuilder} created by the active factory
+     */
+    public static StyleClassBuilder create(final String initialClass) {
+        return active.newBuilder(initialClass);
+    }
+}
@@ -15,8 +15,6 @@
  */
 package de.cuioss.jsf.api.components.css;
 
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
-
 /**
  * Interface for components that can provide CSS style classes.
  * <p>
@@ -78,6 +76,6 @@ public interface StyleClassProvider {
      * @see StyleClassBuilder
      */
     default StyleClassBuilder getStyleClassBuilder() {
-        return new StyleClassBuilderImpl(getStyleClass());
+        return StyleClassBuilderFactory.create(getStyleClass());
     }
 }
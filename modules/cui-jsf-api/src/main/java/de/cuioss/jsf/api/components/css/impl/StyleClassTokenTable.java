@@ -0,0 +1,228 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css.impl;
+
+import de.cuioss.jsf.api.components.css.ContextSize;
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.css.CssCommon;
+import de.cuioss.jsf.api.components.css.StyleClassProvider;
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+
+/**
+ * Global table of interned CSS class tokens used by {@link TokenizedStyleClassBuilder}.
+ * <p>
+ * Every registered token is assigned a stable, dense integer id. Lookups can be
+ * done on a region of a {@link String} without creating a substring, which allows
+ * the builder to split space-separated class lists without allocating.
+ * </p>
+ * <p>
+ * The table is pre-populated with the tokens of {@link CssCommon}, {@link ContextState}
+ * and {@link ContextSize}. Library specific enums, like the ones in cui-jsf-bootstrap,
+ * register their tokens by calling {@link #register(StyleClassProvider...)}.
+ * Tokens that are not registered are still supported by the builder, but are
+ * handled as plain strings.
+ * </p>
+ * <p>
+ * Thread-safety: Reads work on an immutable snapshot and are lock-free.
+ * Registration is synchronized and replaces the snapshot (copy-on-write),
+ * therefore it should only be used for a bounded set of well-known tokens.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+@UtilityClass
+public final class StyleClassTokenTable {
+
+    /**
+     * Id returned for tokens that are not part of the table.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static volatile Snapshot snapshot = new Snapshot(new String[0]);
+
+    static {
+        register(CssCommon.values());
+        register(ContextState.values());
+        register(ContextSize.values());
+    }
+
+    /**
+     * Registers the (possibly space-separated) style classes of the given providers.
+     *
+     * @param providers to be registered, may be null or contain null elements
+     */
+    public static void register(final StyleClassProvider... providers) {
+        if (null == providers) {
+            return;
+        }
+        var tokens = new String[providers.length];
+        for (var i = 0; i < providers.length; i++) {
+            tokens[i] = null == providers[i] ? null : providers[i].getStyleClass();
+        }
+        register(tokens);
+    }
+
+    /**
+     * Registers the given (possibly space-separated) style classes.
+     *
+     * @param styleClasses to be registered, may be null or contain null elements
+     */
+    public static synchronized void register(final String... styleClasses) {
+        if (null == styleClasses) {
+            return;
+        }
+        var current = snapshot;
+        var tokens = Arrays.copyOf(current.tokens, current.tokens.length + 8);
+        var size = current.tokens.length;
+        for (String styleClass : styleClasses) {
+            if (null == styleClass) {
+                continue;
+            }
+            var length = styleClass.length();
+            var start = 0;
+            while (start < length) {
+                while (start < length && isSeparator(styleClass.charAt(start))) {
+                    start++;
+                }
+                var end = start;
+                while (end < length && !isSeparator(styleClass.charAt(end))) {
+                    end++;
+                }
+                if (end > start && current.indexOf(styleClass, start, end) == UNKNOWN
+                        && !containsToken(tokens, size, styleClass, start, end)) {
+                    if (size == tokens.length) {
+                        tokens = Arrays.copyOf(tokens, size * 2);
+                    }
+                    tokens[size++] = styleClass.substring(start, end);
+                }
+                start = end;
+            }
+        }
+        if (size != current.tokens.length) {
+            snapshot = new Snapshot(Arrays.copyOf(tokens, size));
+        }
+    }
+
+    /**
+     * @param styleClass the complete string to be looked up
+     * @return the id of the given token or {@link #UNKNOWN}
+     */
+    public static int indexOf(final String styleClass) {
+        if (null == styleClass) {
+            return UNKNOWN;
+        }
+        return snapshot.indexOf(styleClass, 0, styleClass.length());
+    }
+
+    /**
+     * Looks up the token defined by the given region without creating a substring.
+     *
+     * @param source the string containing the token
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the id of the given token or {@link #UNKNOWN}
+     */
+    public static int indexOf(final String source, final int start, final int end) {
+        return snapshot.indexOf(source, start, end);
+    }
+
+    /**
+     * @param id of a registered token
+     * @return the interned token
+     * @throws ArrayIndexOutOfBoundsException if the id is not registered
+     */
+    public static String token(final int id) {
+        return snapshot.tokens[id];
+    }
+
+    /**
+     * @return the number of registered tokens
+     */
+    public static int size() {
+        return snapshot.tokens.length;
+    }
+
+    static boolean isSeparator(final char character) {
+        return character <= ' ';
+    }
+
+    private static boolean containsToken(final String[] tokens, final int size, final String source,
+            final int start, final int end) {
+        for (var i = 0; i < size; i++) {
+            if (regionEquals(tokens[i], source, start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean regionEquals(final String token, final String source, final int start, final int end) {
+        return token.length() == end - start && token.regionMatches(0, source, start, end - start);
+    }
+
+    /**
+     * Immutable open-addressing hash table mapping tokens to their ids.
+     */
+    private static final class Snapshot {
+
+        private final String[] tokens;
+        private final int[] slots;
+        private final int mask;
+
+        Snapshot(final String[] tokens) {
+            this.tokens = tokens;
+            var capacity = Integer.highestOneBit(Math.max(16, tokens.length * 4) - 1) << 1;
+            slots = new int[capacity];
+            mask = capacity - 1;
+            Arrays.fill(slots, UNKNOWN);
+            for (var id = 0; id < tokens.length; id++) {
+                var slot = spread(tokens[id].hashCode()) & mask;
+                while (slots[slot] != UNKNOWN) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = id;
+            }
+        }
+
+        int indexOf(final String source, final int start, final int end) {
+            var hash = start == 0 && end == source.length() ? source.hashCode() : hash(source, start, end);
+            var slot = spread(hash) & mask;
+            int id;
+            while ((id = slots[slot]) != UNKNOWN) {
+                if (regionEquals(tokens[id], source, start, end)) {
+                    return id;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return UNKNOWN;
+        }
+
+        private static int hash(final String source, final int start, final int end) {
+            var hash = 0;
+            for (var i = start; i < end; i++) {
+                hash = 31 * hash + source.charAt(i);
+            }
+            return hash;
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
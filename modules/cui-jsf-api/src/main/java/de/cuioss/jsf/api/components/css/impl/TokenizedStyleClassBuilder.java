@@ -0,0 +1,363 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css.impl;
+
+import static de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable.UNKNOWN;
+import static de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable.isSeparator;
+import static de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable.regionEquals;
+
+import de.cuioss.jsf.api.components.css.StyleClassBuilder;
+import de.cuioss.jsf.api.components.css.StyleClassProvider;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Allocation-light implementation of {@link StyleClassBuilder} backed by the
+ * {@link StyleClassTokenTable}.
+ * <p>
+ * In contrast to {@link StyleClassBuilderImpl} this implementation:
+ * <ul>
+ *   <li>splits space-separated input in place, without creating intermediate lists</li>
+ *   <li>stores well-known tokens as ids of the global token table, resulting in
+ *   int comparisons for the duplicate checks</li>
+ *   <li>caches the joined style class string until the builder is mutated</li>
+ * </ul>
+ * <p>
+ * Tokens unknown to the {@link StyleClassTokenTable} are supported as well,
+ * they are stored and compared as plain strings. The order of the tokens is the
+ * order of insertion, therefore the resulting string is identical to the one
+ * created by {@link StyleClassBuilderImpl}.
+ * </p>
+ * <p>
+ * Instances are usually created using
+ * {@link de.cuioss.jsf.api.components.css.StyleClassBuilderFactory}.
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class TokenizedStyleClassBuilder implements StyleClassBuilder, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3556520462416209867L;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** Token ids in insertion order, {@link StyleClassTokenTable#UNKNOWN} for foreign tokens. */
+    private transient int[] ids;
+
+    /** The tokens in insertion order, the interned instance for known tokens. */
+    private transient String[] tokens;
+
+    private transient int size;
+
+    /** Cached result of {@link #getStyleClass()}, reset on every mutation. */
+    private transient String joined;
+
+    /**
+     * Creates an empty builder.
+     */
+    public TokenizedStyleClassBuilder() {
+        ids = new int[INITIAL_CAPACITY];
+        tokens = new String[INITIAL_CAPACITY];
+        joined = "";
+    }
+
+    /**
+     * @param initialClass to be added to the builder. Can be a single class or
+     *                     multiple space-separated classes. May be null or empty.
+     */
+    public TokenizedStyleClassBuilder(final String initialClass) {
+        this();
+        process(initialClass, Operation.ADD);
+    }
+
+    @Override
+    public String getStyleClass() {
+        if (null == joined) {
+            joined = join();
+        }
+        return joined;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return size > 0;
+    }
+
+    @Override
+    public StyleClassBuilder append(final String styleClass) {
+        process(styleClass, Operation.ADD);
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder append(final StyleClassBuilder styleClassBuilder) {
+        if (styleClassBuilder instanceof TokenizedStyleClassBuilder other) {
+            for (var i = 0; i < other.size; i++) {
+                add(other.ids[i], other.tokens[i]);
+            }
+        } else if (null != styleClassBuilder) {
+            process(styleClassBuilder.getStyleClass(), Operation.ADD);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder append(final StyleClassProvider styleClassProvider) {
+        if (null != styleClassProvider) {
+            process(styleClassProvider.getStyleClass(), Operation.ADD);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder appendIfTrue(final StyleClassProvider styleClassProvider, final boolean condition) {
+        if (condition) {
+            append(styleClassProvider);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder remove(final String styleClass) {
+        process(styleClass, Operation.REMOVE);
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder remove(final StyleClassBuilder styleClassBuilder) {
+        if (null != styleClassBuilder) {
+            process(styleClassBuilder.getStyleClass(), Operation.REMOVE);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder remove(final StyleClassProvider styleClassProvider) {
+        if (null != styleClassProvider) {
+            process(styleClassProvider.getStyleClass(), Operation.REMOVE);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder toggle(final String styleClass) {
+        process(styleClass, Operation.TOGGLE);
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder toggle(final StyleClassBuilder styleClassBuilder) {
+        if (null != styleClassBuilder) {
+            process(styleClassBuilder.getStyleClass(), Operation.TOGGLE);
+        }
+        return this;
+    }
+
+    @Override
+    public StyleClassBuilder toggle(final StyleClassProvider styleClassProvider) {
+        if (null != styleClassProvider) {
+            process(styleClassProvider.getStyleClass(), Operation.TOGGLE);
+        }
+        return this;
+    }
+
+    private enum Operation {
+        ADD, REMOVE, TOGGLE
+    }
+
+    /**
+     * Splits the given string in place and applies the operation to each token.
+     */
+    private void process(final String styleClass, final Operation operation) {
+        if (null == styleClass) {
+            return;
+        }
+        var length = styleClass.length();
+        var start = 0;
+        while (start < length) {
+            while (start < length && isSeparator(styleClass.charAt(start))) {
+                start++;
+            }
+            var end = start;
+            while (end < length && !isSeparator(styleClass.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                apply(styleClass, start, end, operation);
+            }
+            start = end;
+        }
+    }
+
+    private void apply(final String source, final int start, final int end, final Operation operation) {
+        var id = StyleClassTokenTable.indexOf(source, start, end);
+        var position = positionOf(id, source, start, end);
+        switch (operation) {
+            case ADD -> {
+                if (position < 0) {
+                    insert(id, source, start, end);
+                }
+            }
+            case REMOVE -> {
+                if (position >= 0) {
+                    removeAt(position);
+                }
+            }
+            case TOGGLE -> {
+                if (position < 0) {
+                    insert(id, source, start, end);
+                } else {
+                    removeAt(position);
+                }
+            }
+        }
+    }
+
+    private void add(final int storedId, final String token) {
+        // The token may have been registered after the other builder stored it
+        var id = storedId == UNKNOWN ? StyleClassTokenTable.indexOf(token) : storedId;
+        if (positionOf(id, token, 0, token.length()) < 0) {
+            ensureCapacity();
+            ids[size] = id;
+            tokens[size] = token;
+            size++;
+            joined = null;
+        }
+    }
+
+    private void insert(final int id, final String source, final int start, final int end) {
+        String token;
+        if (id != UNKNOWN) {
+            token = StyleClassTokenTable.token(id);
+        } else if (start == 0 && end == source.length()) {
+            token = source;
+        } else {
+            token = source.substring(start, end);
+        }
+        ensureCapacity();
+        ids[size] = id;
+        tokens[size] = token;
+        size++;
+        joined = null;
+    }
+
+    /**
+     * A token stored as {@link StyleClassTokenTable#UNKNOWN} may have been registered
+     * meanwhile, e.g. by the class initialization of a library enum. Such a token is
+     * matched by its string and assigned the id on the fly.
+     */
+    private int positionOf(final int id, final String source, final int start, final int end) {
+        if (id != UNKNOWN) {
+            for (var i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+                if (ids[i] == UNKNOWN && regionEquals(tokens[i], source, start, end)) {
+                    ids[i] = id;
+                    tokens[i] = StyleClassTokenTable.token(id);
+                    return i;
+                }
+            }
+        } else {
+            for (var i = 0; i < size; i++) {
+                if (ids[i] == UNKNOWN && regionEquals(tokens[i], source, start, end)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(final int position) {
+        var moved = size - position - 1;
+        if (moved > 0) {
+            System.arraycopy(ids, position + 1, ids, position, moved);
+            System.arraycopy(tokens, position + 1, tokens, position, moved);
+        }
+        size--;
+        tokens[size] = null;
+        joined = null;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            tokens = Arrays.copyOf(tokens, size * 2);
+        }
+    }
+
+    private String join() {
+        if (size == 0) {
+            return "";
+        }
+        if (size == 1) {
+            return tokens[0];
+        }
+        var length = size - 1;
+        for (var i = 0; i < size; i++) {
+            length += tokens[i].length();
+        }
+        var builder = new StringBuilder(length);
+        builder.append(tokens[0]);
+        for (var i = 1; i < size; i++) {
+            builder.append(' ').append(tokens[i]);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TokenizedStyleClassBuilder other)) {
+            return false;
+        }
+        return getStyleClass().equals(other.getStyleClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getStyleClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "TokenizedStyleClassBuilder(" + getStyleClass() + ")";
+    }
+
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeUTF(getStyleClass());
+    }
+
+    @Serial
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        ids = new int[INITIAL_CAPACITY];
+        tokens = new String[INITIAL_CAPACITY];
+        process(in.readUTF(), Operation.ADD);
+    }
+}
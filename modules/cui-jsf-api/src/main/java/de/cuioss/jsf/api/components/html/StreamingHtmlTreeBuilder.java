@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.html;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.components.css.StyleClassBuilder;
+import de.cuioss.jsf.api.components.css.StyleClassProvider;
+import jakarta.faces.context.ResponseWriter;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streaming counterpart of {@link HtmlTreeBuilder}.
+ * <p>
+ * It provides the same fluent API, but instead of building a JDOM document, every call
+ * is directly passed to the given {@link ResponseWriter}. Only the names of the currently
+ * open elements are kept, therefore the memory consumption does not depend on the size
+ * of the created markup.
+ * </p>
+ * <p>
+ * The child breakpoint semantics of {@link HtmlTreeBuilder} are reproduced by the
+ * {@link Mode}: A renderer creates the structure with {@link Mode#UNTIL_CHILD_BREAKPOINT}
+ * in {@code encodeBegin} and the very same structure with
+ * {@link Mode#FROM_CHILD_BREAKPOINT_ON} in {@code encodeEnd}. Each instance writes only
+ * its part, nothing is buffered. Like in {@link HtmlTreeBuilder} children of the
+ * breakpoint element itself are never written.
+ * </p>
+ * <p>
+ * Usage example:
+ * </p>
+ * <pre>
+ * try (var builder = new StreamingHtmlTreeBuilder(writer, Mode.UNTIL_CHILD_BREAKPOINT)) {
+ *     builder.withNode(Node.DIV).withStyleClass("panel")
+ *            .withNodeChildBreakpoint().currentHierarchyUp()
+ *            .withNode(Node.SPAN).withTextContent("Footer");
+ * }
+ * </pre>
+ * <p>
+ * Differences to {@link HtmlTreeBuilder}:
+ * </p>
+ * <ul>
+ * <li>Attributes must be added directly after the corresponding {@code withNode} call,
+ * as required by {@link ResponseWriter}</li>
+ * <li>Text content is written using {@link ResponseWriter#writeText(Object, String)}</li>
+ * <li>Attributes with {@code null} values are ignored</li>
+ * <li>{@link IOException}s are rethrown as {@link UncheckedIOException} in order to keep
+ * the fluent API</li>
+ * </ul>
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ * @see HtmlTreeBuilder
+ */
+public class StreamingHtmlTreeBuilder implements AutoCloseable {
+
+    /**
+     * Defines which part of the created structure is written.
+     */
+    public enum Mode {
+
+        /** Writes everything, analogous to {@link HtmlTreeBuilder#writeToResponseWriter(ResponseWriter)}. */
+        COMPLETE,
+
+        /**
+         * Writes everything until the child breakpoint, analogous to
+         * {@link HtmlTreeBuilder#writeToResponseWriterUntilChildBreakpoint(ResponseWriter)}.
+         */
+        UNTIL_CHILD_BREAKPOINT,
+
+        /**
+         * Writes everything after the child breakpoint, including the end tags of the elements
+         * opened before, analogous to
+         * {@link HtmlTreeBuilder#writeToResponseWriterFromChildBreakpointOn(ResponseWriter)}.
+         */
+        FROM_CHILD_BREAKPOINT_ON
+    }
+
+    private enum Phase {
+        BEFORE, INSIDE, AFTER
+    }
+
+    private final ResponseWriter writer;
+
+    @Getter
+    private final Mode mode;
+
+    private final Deque<String> openElements = new ArrayDeque<>();
+
+    private Phase phase = Phase.BEFORE;
+
+    /** Depth of {@link #openElements} at which the breakpoint element has been opened. */
+    private int breakpointDepth = -1;
+
+    /**
+     * @param writer the writer to stream to, must not be null
+     * @param mode   defining the part to be written, must not be null
+     */
+    public StreamingHtmlTreeBuilder(final ResponseWriter writer, final Mode mode) {
+        this.writer = requireNonNull(writer);
+        this.mode = requireNonNull(mode);
+    }
+
+    /**
+     * Creates a builder writing the complete structure.
+     *
+     * @param writer the writer to stream to, must not be null
+     */
+    public StreamingHtmlTreeBuilder(final ResponseWriter writer) {
+        this(writer, Mode.COMPLETE);
+    }
+
+    /**
+     * @return the name of the current element, {@link HtmlTreeBuilder#ROOT} if there is none
+     */
+    public String getCurrentName() {
+        var current = openElements.peek();
+        return null == current ? HtmlTreeBuilder.ROOT : current;
+    }
+
+    /**
+     * Starts a new element with the specified name and makes it the current element.
+     *
+     * @param nodeName the name of the element to create
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withNode(final String nodeName) {
+        if (phase == Phase.BEFORE && HtmlTreeBuilder.CHILD_BREAKPOINT_ELEMENT.equals(nodeName)) {
+            openElements.push(nodeName);
+            breakpointDepth = openElements.size();
+            phase = Phase.INSIDE;
+            return this;
+        }
+        if (isWriting()) {
+            try {
+                writer.startElement(nodeName, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        openElements.push(nodeName);
+        return this;
+    }
+
+    /**
+     * @param node identifying the element to create
+     * @return this builder instance for method chaining
+     * @see #withNode(String)
+     */
+    public StreamingHtmlTreeBuilder withNode(final Node node) {
+        return withNode(node.getContent());
+    }
+
+    /**
+     * Ends the current element and makes its parent the current element.
+     *
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder currentHierarchyUp() {
+        if (openElements.isEmpty()) {
+            return this;
+        }
+        if (phase == Phase.INSIDE && openElements.size() == breakpointDepth) {
+            openElements.pop();
+            phase = Phase.AFTER;
+            return this;
+        }
+        var name = openElements.pop();
+        if (isWriting()) {
+            try {
+                writer.endElement(name);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param content the text content to be written, may be null
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withTextContent(final String content) {
+        if (null != content && isWriting()) {
+            try {
+                writer.writeText(content, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param attributeName  the name of the attribute
+     * @param attributeValue the value of the attribute, {@code null} values are ignored
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withAttribute(final String attributeName, final String attributeValue) {
+        if (null != attributeValue && isWriting()) {
+            try {
+                writer.writeAttribute(attributeName, attributeValue, null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @param attributeName  identifying the attribute, must not be null
+     * @param attributeValue the value of the attribute, {@code null} values are ignored
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withAttribute(final AttributeName attributeName, final String attributeValue) {
+        return withAttribute(attributeName.getContent(), attributeValue);
+    }
+
+    /**
+     * @param attributeName  identifying the attribute, must not be null
+     * @param attributeValue providing the attribute value, must not be null
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withAttribute(final AttributeName attributeName,
+            final AttributeValue attributeValue) {
+        return withAttribute(attributeName.getContent(), attributeValue.getContent());
+    }
+
+    /**
+     * @param attributeValue the value for both the id and name attribute
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withAttributeNameAndId(final String attributeValue) {
+        return withAttribute(AttributeName.ID, attributeValue).withAttribute(AttributeName.NAME, attributeValue);
+    }
+
+    /**
+     * @param styleClass the CSS class name(s) to set, may be null
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withStyleClass(final String styleClass) {
+        return withAttribute(AttributeName.CLASS, styleClass);
+    }
+
+    /**
+     * @param styleClass supplying the CSS class name(s)
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withStyleClass(final StyleClassProvider styleClass) {
+        return withStyleClass(styleClass.getStyleClass());
+    }
+
+    /**
+     * @param styleClass supplying the CSS class name(s)
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withStyleClass(final StyleClassBuilder styleClass) {
+        return withStyleClass(styleClass.getStyleClass());
+    }
+
+    /**
+     * Starts the child breakpoint element, see {@link HtmlTreeBuilder#withNodeChildBreakpoint()}.
+     * Children of the breakpoint element are never written.
+     *
+     * @return this builder instance for method chaining
+     */
+    public StreamingHtmlTreeBuilder withNodeChildBreakpoint() {
+        return withNode(HtmlTreeBuilder.CHILD_BREAKPOINT_ELEMENT);
+    }
+
+    /**
+     * Ends all elements that are still open. Must be called once the structure is complete,
+     * usually implicitly by using try-with-resources.
+     *
+     * @throws UncheckedIOException if an I/O error occurs
+     */
+    @Override
+    public void close() {
+        while (!openElements.isEmpty()) {
+            currentHierarchyUp();
+        }
+    }
+
+    private boolean isWriting() {
+        return switch (mode) {
+            case COMPLETE -> phase != Phase.INSIDE;
+            case UNTIL_CHILD_BREAKPOINT -> phase == Phase.BEFORE;
+            case FROM_CHILD_BREAKPOINT_ON -> phase == Phase.AFTER;
+        };
+    }
+}
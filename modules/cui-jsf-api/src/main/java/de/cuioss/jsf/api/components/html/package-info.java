@@ -24,6 +24,8 @@
  * <h3>Key Components</h3>
  * <ul>
  *   <li>{@link de.cuioss.jsf.api.components.html.HtmlTreeBuilder} - Central builder class with fluent methods for creating HTML trees</li>
+ *   <li>{@link de.cuioss.jsf.api.components.html.StreamingHtmlTreeBuilder} - Same fluent API, but writing directly to a
+ *   {@link jakarta.faces.context.ResponseWriter} without creating a document</li>
  *   <li>{@link de.cuioss.jsf.api.components.html.Node} - Enum representing HTML element types</li>
  *   <li>{@link de.cuioss.jsf.api.components.html.AttributeName} - Standard HTML attribute names</li>
  *   <li>{@link de.cuioss.jsf.api.components.html.AttributeValue} - Common HTML attribute values</li>
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist;
+
+import java.io.Serializable;
+
+/**
+ * <h2>Editable data list model rendering a single page of items</h2>
+ * <p>
+ * Extension of {@link EditableDataListModel} for large lists: {@link #getDisplayItems()}
+ * provides only the items of the current page, therefore the editableDataList composite
+ * renders and decodes just that window. {@link #getResultItems()},
+ * {@link #getDeletedItems()} and {@link #hasChanges()} still refer to the complete list.
+ * </p>
+ * <p>
+ * The pages are zero-based. Changing the page is expected to be prevented while an item
+ * is being edited, see {@link #isEveryItemSavedOrCanceled()}.
+ * </p>
+ *
+ * @param <T> identifying the type of items to be managed, see {@link EditableDataListModel}
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public interface PagedEditableDataListModel<T extends Serializable> extends EditableDataListModel<T> {
+
+    /**
+     * @return the maximum number of items per page, always positive
+     */
+    int getPageSize();
+
+    /**
+     * @return the index of the current page, zero-based
+     */
+    int getPageIndex();
+
+    /**
+     * @param pageIndex to be displayed, values out of range are adjusted to the first or
+     *                  last page
+     */
+    void setPageIndex(int pageIndex);
+
+    /**
+     * @return the number of all items including added and deleted ones, not only the ones
+     *         of the current page
+     */
+    int getItemCount();
+
+    /**
+     * @return the number of pages, at least one
+     */
+    default int getPageCount() {
+        return Math.max(1, (getItemCount() + getPageSize() - 1) / getPageSize());
+    }
+
+    /**
+     * @return {@code true} if there is a page before the current one
+     */
+    default boolean isPreviousPageAvailable() {
+        return getPageIndex() > 0;
+    }
+
+    /**
+     * @return {@code true} if there is a page after the current one
+     */
+    default boolean isNextPageAvailable() {
+        return getPageIndex() < getPageCount() - 1;
+    }
+
+    /**
+     * Displays the previous page, if there is one.
+     */
+    default void previousPage() {
+        setPageIndex(getPageIndex() - 1);
+    }
+
+    /**
+     * Displays the next page, if there is one.
+     */
+    default void nextPage() {
+        setPageIndex(getPageIndex() + 1);
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import static de.cuioss.jsf.api.components.model.datalist.AddStatus.PERSISTED;
+
+import de.cuioss.jsf.api.components.model.datalist.EditEvent;
+import de.cuioss.jsf.api.components.model.datalist.EditStatus;
+import de.cuioss.jsf.api.components.model.datalist.EditableDataListModel;
+import de.cuioss.jsf.api.components.model.datalist.ItemWrapper;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>Editable data list model with constant time change detection</h2>
+ * <p>
+ * Variant of {@link AbstractEditableDataListModel} intended for lists with thousands of
+ * items. Instead of comparing {@link #getResultItems()} with {@link #getLoadedItems()} on
+ * every call, it keeps a journal of the changes while they are applied:
+ * </p>
+ * <ul>
+ * <li>The number of added and deleted items</li>
+ * <li>The items saved with a value differing from the loaded one, identified by their
+ * wrapper</li>
+ * <li>The item currently being edited, as there is at most one</li>
+ * </ul>
+ * <p>
+ * Therefore {@link #hasChanges()} and {@link #isEveryItemSavedOrCanceled()} run in
+ * constant time. {@link #getResultItems()} and {@link #getDeletedItems()} are computed
+ * once and cached until the next change. The list indices are renumbered lazily, starting
+ * at the first changed position, once the display items are requested.
+ * </p>
+ * <p>
+ * The journal relies on all changes being applied by the methods of the model. The
+ * display items are therefore provided as unmodifiable list and the wrappers must not be
+ * put into edit mode directly. Other than {@link AbstractEditableDataListModel}, an item
+ * modified and saved with its loaded value again is not regarded as change, regardless of
+ * other items with the same value.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @param <T> identifying the type of items to be managed. Must be at least
+ *            {@link Serializable} and implement {@link Object#hashCode()} and
+ *            {@link Object#equals(Object)} correctly to ensure proper tracking of changes.
+ * @since 1.1
+ */
+@ToString(of = {"displayItems", "addedCount", "deletedCount"}, doNotUseGetters = true)
+@EqualsAndHashCode(of = "displayItems", doNotUseGetters = true)
+public abstract class AbstractDeltaTrackingEditableDataListModel<T extends Serializable>
+        implements EditableDataListModel<T> {
+
+    @Serial
+    private static final long serialVersionUID = -3981462512306125507L;
+
+    private List<ItemWrapper<T>> displayItems;
+
+    /** Position from which on the list indices must be renumbered. */
+    private int staleIndicesFrom;
+
+    /** The number of non-persisted items contained in the display items. */
+    @Getter
+    private int addedCount;
+
+    /** The number of persisted items marked for deletion. */
+    @Getter
+    private int deletedCount;
+
+    /** The saved items differing from their loaded value, mapped to the loaded value. */
+    private Map<ItemWrapper<T>, T> modifiedItems = new IdentityHashMap<>();
+
+    private ItemWrapper<T> editedItem;
+
+    private List<T> resultItems;
+
+    private List<T> deletedItems;
+
+    /**
+     * @return an unmodifiable view on the wrapped display items with valid list
+     *         indices, never {@code null}
+     */
+    @Override
+    public List<ItemWrapper<T>> getDisplayItems() {
+        final var items = items();
+        if (staleIndicesFrom < items.size()) {
+            for (var index = staleIndicesFrom; index < items.size(); index++) {
+                items.get(index).setListIndex(index);
+            }
+            staleIndicesFrom = items.size();
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    @Override
+    public void editItem(final ItemWrapper<T> item) {
+        cancelAllEditItems();
+        item.doEdit(createCopy(item.getWrapped()));
+        editedItem = item;
+        changed();
+    }
+
+    @Override
+    public ItemWrapper<T> addItem() {
+        final var newWrapper = getNewItemWrapper();
+        cancelAllEditItems();
+        newWrapper.doEdit(createEmptyItem());
+        editedItem = newWrapper;
+        return addNewDisplayItem(newWrapper);
+    }
+
+    /**
+     * Adds the given item with {@linkplain EditStatus#ADDED}.
+     *
+     * @param item to be added, must not be {@code null}
+     * @return the wrapped item
+     */
+    public ItemWrapper<T> addItem(final T item) {
+        return addNewDisplayItem(new ItemWrapperImpl<>(item, EditStatus.ADDED));
+    }
+
+    private ItemWrapper<T> addNewDisplayItem(final ItemWrapper<T> newWrapper) {
+        final var items = items();
+        final var index = isNewCreatedItemShouldBeAddedAsFirst() ? 0 : items.size();
+        items.add(index, newWrapper);
+        markIndicesStale(index);
+        addedCount++;
+        changed();
+        return newWrapper;
+    }
+
+    @Override
+    public void cancelEditItem(final ItemWrapper<T> item) {
+        item.doCancel();
+        if (editedItem == item) {
+            editedItem = null;
+        }
+        if (!PERSISTED.equals(item.getAddStatus()) && null == item.getInitialWrapped()) {
+            removeDisplayItem(item);
+        }
+        changed();
+    }
+
+    @Override
+    public void saveEditItem(final ItemWrapper<T> item) {
+        final var oldValue = item.getInitialWrapped();
+        item.doSave();
+        final var newValue = item.getWrapped();
+        if (editedItem == item) {
+            editedItem = null;
+        }
+        if (PERSISTED.equals(item.getAddStatus()) && null != oldValue) {
+            final var loaded = modifiedItems.getOrDefault(item, oldValue);
+            if (loaded.equals(newValue)) {
+                modifiedItems.remove(item);
+            } else {
+                modifiedItems.put(item, loaded);
+            }
+        }
+        changed();
+
+        if (null != oldValue && !oldValue.equals(newValue)) {
+            elementModified(EditEvent.MODIFIED, oldValue, newValue);
+        } else if (null == oldValue && null != newValue) {
+            elementModified(EditEvent.ADDED, null, newValue);
+        }
+    }
+
+    @Override
+    public void markForDelete(final ItemWrapper<T> item) {
+        if (editedItem == item) {
+            editedItem = null;
+        }
+        if (!PERSISTED.equals(item.getAddStatus())) {
+            removeDisplayItem(item);
+        } else if (!item.isMarkedForDelete()) {
+            item.markForDelete();
+            deletedCount++;
+        }
+        changed();
+        elementModified(EditEvent.MARK_DELETE, item.getWrapped(), null);
+    }
+
+    @Override
+    public void undoMarkForDelete(final ItemWrapper<T> item) {
+        if (item.isMarkedForDelete() && PERSISTED.equals(item.getAddStatus())) {
+            deletedCount--;
+        }
+        item.undoMarkForDelete();
+        if (item.isEditMode() && editedItem != item) {
+            cancelAllEditItems();
+            editedItem = item;
+        }
+        changed();
+        elementModified(EditEvent.UNMARK_DELETE, null, item.getWrapped());
+    }
+
+    /**
+     * Cancels the edit mode of the item currently being edited, removing it if it has
+     * been created by {@link #addItem()}.
+     */
+    protected void cancelAllEditItems() {
+        final var item = editedItem;
+        if (null == item) {
+            return;
+        }
+        editedItem = null;
+        if (item.isEditMode()) {
+            item.doCancel();
+        }
+        if (!PERSISTED.equals(item.getAddStatus()) && null == item.getWrapped()) {
+            removeDisplayItem(item);
+        }
+        changed();
+    }
+
+    /**
+     * Runs in constant time.
+     */
+    @Override
+    public boolean isEveryItemSavedOrCanceled() {
+        return null == editedItem || !editedItem.isEditMode();
+    }
+
+    @Override
+    public List<T> getDeletedItems() {
+        if (null == deletedItems) {
+            deletedItems = items().stream()
+                    .filter(item -> item.isMarkedForDelete() && PERSISTED.equals(item.getAddStatus()))
+                    .map(ItemWrapper::getWrapped).toList();
+        }
+        return deletedItems;
+    }
+
+    @Override
+    public List<T> getResultItems() {
+        if (null == resultItems) {
+            resultItems = items().stream().filter(item -> !item.isMarkedForDelete()).map(ItemWrapper::getWrapped)
+                    .toList();
+        }
+        return resultItems;
+    }
+
+    /**
+     * Runs in constant time. The item currently being edited is compared with its loaded
+     * value, as its copy may have been changed since.
+     */
+    @Override
+    public boolean hasChanges() {
+        if (addedCount > 0 || deletedCount > 0) {
+            return true;
+        }
+        final var edited = editedItem;
+        if (null == edited || !edited.isEditMode() || !PERSISTED.equals(edited.getAddStatus())) {
+            return !modifiedItems.isEmpty();
+        }
+        if (modifiedItems.size() > (modifiedItems.containsKey(edited) ? 1 : 0)) {
+            return true;
+        }
+        final var loaded = modifiedItems.getOrDefault(edited, edited.getInitialWrapped());
+        return null != loaded && !loaded.equals(edited.getWrapped());
+    }
+
+    /**
+     * @return the number of persisted items saved with a value differing from the loaded
+     *         one
+     */
+    public int getModifiedCount() {
+        return modifiedItems.size();
+    }
+
+    /**
+     * @return a new empty item wrapper
+     */
+    protected ItemWrapper<T> getNewItemWrapper() {
+        return new ItemWrapperImpl<>();
+    }
+
+    /**
+     * @param item to be wrapped, must not be {@code null}
+     * @return a new item wrapper containing the given item
+     */
+    protected ItemWrapper<T> getNewItemWrapper(final T item) {
+        return new ItemWrapperImpl<>(item);
+    }
+
+    /**
+     * (Re-)Initializes the display items with the loaded items and resets the journal.
+     * The display items are loaded implicitly on first access.
+     */
+    public void initDisplayItems() {
+        loadDisplayItems();
+        addedCount = 0;
+        deletedCount = 0;
+        modifiedItems = new IdentityHashMap<>();
+        editedItem = null;
+    }
+
+    private void loadDisplayItems() {
+        final var loaded = getLoadedItems();
+        if (null == displayItems) {
+            displayItems = new ArrayList<>(loaded.size());
+        } else {
+            displayItems.clear();
+        }
+        for (final T item : loaded) {
+            displayItems.add(getNewItemWrapper(item));
+        }
+        staleIndicesFrom = 0;
+        changed();
+    }
+
+    private List<ItemWrapper<T>> items() {
+        if (null == displayItems) {
+            loadDisplayItems();
+        }
+        return displayItems;
+    }
+
+    private void removeDisplayItem(final ItemWrapper<T> item) {
+        final var items = items();
+        var index = staleIndicesFrom > item.getListIndex() ? item.getListIndex() : -1;
+        if (index < 0 || index >= items.size() || items.get(index) != item) {
+            index = indexOf(item);
+        }
+        if (index < 0) {
+            return;
+        }
+        items.remove(index);
+        markIndicesStale(index);
+        modifiedItems.remove(item);
+        if (!PERSISTED.equals(item.getAddStatus())) {
+            addedCount--;
+        }
+    }
+
+    private int indexOf(final ItemWrapper<T> item) {
+        final var items = items();
+        for (var index = 0; index < items.size(); index++) {
+            if (items.get(index) == item) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void markIndicesStale(final int index) {
+        staleIndicesFrom = Math.min(staleIndicesFrom, index);
+    }
+
+    /** Invalidates the cached result and deleted items. */
+    private void changed() {
+        resultItems = null;
+        deletedItems = null;
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import static de.cuioss.jsf.api.components.model.datalist.AddStatus.PERSISTED;
+
+import de.cuioss.jsf.api.components.model.datalist.EditEvent;
+import de.cuioss.jsf.api.components.model.datalist.EditStatus;
+import de.cuioss.jsf.api.components.model.datalist.ItemWrapper;
+import de.cuioss.jsf.api.components.model.datalist.PagedEditableDataListModel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2>Base implementation for paged editable data list models</h2>
+ * <p>
+ * Implementation of {@link PagedEditableDataListModel} keeping the memory consumption
+ * independent of the number of loaded items:
+ * </p>
+ * <ul>
+ * <li>Wrappers are created for the items of the current page only, see
+ * {@link #getDisplayItems()}</li>
+ * <li>Wrappers of loaded items are kept beyond the current page only if the item has been
+ * touched, i.e. it is edited, modified or marked for deletion</li>
+ * <li>{@link #getResultItems()} is computed from the loaded items and the touched
+ * wrappers, without wrapping every item</li>
+ * </ul>
+ * <p>
+ * Items created by {@link #addItem()} are placed before or after the loaded items,
+ * depending on {@link #isNewCreatedItemShouldBeAddedAsFirst()}, and the page showing them
+ * is selected. Subclasses implement {@link #createEmptyItem()},
+ * {@link #createCopy(Serializable)} and {@link #getLoadedItems()}, where the latter must
+ * return the same list with efficient random access on every call.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @param <T> identifying the type of items to be managed. Must be at least
+ *            {@link Serializable} and implement {@link Object#hashCode()} and
+ *            {@link Object#equals(Object)} correctly to ensure proper tracking of changes.
+ * @since 1.1
+ */
+@ToString(of = {"pageIndex", "addedItems", "touchedItems"}, doNotUseGetters = true)
+@EqualsAndHashCode(of = {"pageIndex", "addedItems", "touchedItems"}, doNotUseGetters = true)
+public abstract class AbstractPagedEditableDataListModel<T extends Serializable>
+        implements PagedEditableDataListModel<T> {
+
+    @Serial
+    private static final long serialVersionUID = -6064331962311853064L;
+
+    /** The default number of items per page. */
+    public static final int DEFAULT_PAGE_SIZE = 25;
+
+    @Getter
+    private int pageIndex;
+
+    /** The items that are not persisted yet, in display order. */
+    private final List<ItemWrapper<T>> addedItems = new ArrayList<>();
+
+    /** The touched wrappers of loaded items, keyed by the index of the loaded item. */
+    private final TreeMap<Integer, ItemWrapper<T>> touchedItems = new TreeMap<>();
+
+    /** The wrappers of the current page, {@code null} if they need to be created. */
+    private List<ItemWrapper<T>> pageItems;
+
+    /**
+     * @return {@link #DEFAULT_PAGE_SIZE}, may be overridden
+     */
+    @Override
+    public int getPageSize() {
+        return DEFAULT_PAGE_SIZE;
+    }
+
+    @Override
+    public int getItemCount() {
+        return addedItems.size() + getLoadedItems().size();
+    }
+
+    @Override
+    public void setPageIndex(final int pageIndex) {
+        final var adjusted = Math.clamp(pageIndex, 0, getPageCount() - 1);
+        if (adjusted != this.pageIndex) {
+            this.pageIndex = adjusted;
+            touchedItems.values().removeIf(item -> EditStatus.INITIAL.equals(item.getEditStatus()));
+            pageItems = null;
+        }
+    }
+
+    /**
+     * @return the wrapped items of the current page only, never {@code null}. The list
+     *         index of each wrapper is its position within all items.
+     */
+    @Override
+    public List<ItemWrapper<T>> getDisplayItems() {
+        if (null == pageItems) {
+            pageIndex = Math.clamp(pageIndex, 0, getPageCount() - 1);
+            final var start = getPageStart();
+            final var end = Math.min(start + getPageSize(), getItemCount());
+            pageItems = new ArrayList<>(Math.max(0, end - start));
+            for (var position = start; position < end; position++) {
+                final var item = getItemAt(position);
+                item.setListIndex(position);
+                pageItems.add(item);
+            }
+        }
+        return pageItems;
+    }
+
+    @Override
+    public void editItem(final ItemWrapper<T> item) {
+        touch(item);
+        cancelAllEditItems();
+        item.doEdit(createCopy(item.getWrapped()));
+    }
+
+    /**
+     * Adds a new empty item in edit mode and selects the page showing it.
+     */
+    @Override
+    public ItemWrapper<T> addItem() {
+        final ItemWrapper<T> newWrapper = new ItemWrapperImpl<>();
+        cancelAllEditItems();
+        newWrapper.doEdit(createEmptyItem());
+        return addNewItem(newWrapper);
+    }
+
+    /**
+     * Adds the given item with {@linkplain EditStatus#ADDED}.
+     *
+     * @param item to be added, must not be {@code null}
+     * @return the wrapped item
+     */
+    public ItemWrapper<T> addItem(final T item) {
+        return addNewItem(new ItemWrapperImpl<>(item, EditStatus.ADDED));
+    }
+
+    private ItemWrapper<T> addNewItem(final ItemWrapper<T> newWrapper) {
+        if (isNewCreatedItemShouldBeAddedAsFirst()) {
+            addedItems.addFirst(newWrapper);
+            pageItems = null;
+            setPageIndex(0);
+        } else {
+            addedItems.add(newWrapper);
+            pageItems = null;
+            setPageIndex(getPageCount() - 1);
+        }
+        return newWrapper;
+    }
+
+    @Override
+    public void cancelEditItem(final ItemWrapper<T> item) {
+        item.doCancel();
+        if (!PERSISTED.equals(item.getAddStatus()) && null == item.getInitialWrapped()) {
+            removeAddedItem(item);
+        }
+    }
+
+    /**
+     * Saves the given item. The edit status of a loaded item is derived from the
+     * comparison with its loaded value.
+     */
+    @Override
+    public void saveEditItem(final ItemWrapper<T> item) {
+        final var oldValue = item.getInitialWrapped();
+        item.doSave();
+        final var newValue = item.getWrapped();
+        final var loadedIndex = getLoadedIndex(item);
+        if (loadedIndex >= 0) {
+            item.setEditStatus(getLoadedItems().get(loadedIndex).equals(newValue) ? EditStatus.INITIAL
+                    : EditStatus.MODIFIED);
+        }
+
+        if (null != oldValue && !oldValue.equals(newValue)) {
+            elementModified(EditEvent.MODIFIED, oldValue, newValue);
+        } else if (null == oldValue && null != newValue) {
+            elementModified(EditEvent.ADDED, null, newValue);
+        }
+    }
+
+    @Override
+    public void markForDelete(final ItemWrapper<T> item) {
+        if (!PERSISTED.equals(item.getAddStatus())) {
+            removeAddedItem(item);
+        } else {
+            touch(item);
+            item.markForDelete();
+        }
+        elementModified(EditEvent.MARK_DELETE, item.getWrapped(), null);
+    }
+
+    @Override
+    public void undoMarkForDelete(final ItemWrapper<T> item) {
+        item.undoMarkForDelete();
+        elementModified(EditEvent.UNMARK_DELETE, null, item.getWrapped());
+    }
+
+    /**
+     * Cancels the edit mode of all items, only the added and touched ones need to be
+     * considered. Added items canceled before being saved are removed.
+     */
+    protected void cancelAllEditItems() {
+        touchedItems.values().stream().filter(ItemWrapper::isEditMode).forEach(ItemWrapper::doCancel);
+        addedItems.stream().filter(ItemWrapper::isEditMode).forEach(ItemWrapper::doCancel);
+        if (addedItems.removeIf(item -> !PERSISTED.equals(item.getAddStatus()) && null == item.getWrapped())) {
+            pageItems = null;
+        }
+    }
+
+    @Override
+    public boolean isEveryItemSavedOrCanceled() {
+        return touchedItems.values().stream().noneMatch(ItemWrapper::isEditMode)
+                && addedItems.stream().noneMatch(ItemWrapper::isEditMode);
+    }
+
+    @Override
+    public List<T> getDeletedItems() {
+        return touchedItems.values().stream()
+                .filter(item -> item.isMarkedForDelete() && PERSISTED.equals(item.getAddStatus()))
+                .map(ItemWrapper::getWrapped).toList();
+    }
+
+    /**
+     * Computed from the loaded items and the touched wrappers without creating wrappers.
+     */
+    @Override
+    public List<T> getResultItems() {
+        final var loaded = getLoadedItems();
+        final List<T> result = new ArrayList<>(getItemCount());
+        final var addedFirst = isNewCreatedItemShouldBeAddedAsFirst();
+        if (addedFirst) {
+            addedItems.forEach(item -> result.add(item.getWrapped()));
+        }
+        for (var index = 0; index < loaded.size(); index++) {
+            final var touched = touchedItems.get(index);
+            if (null == touched) {
+                result.add(loaded.get(index));
+            } else if (!touched.isMarkedForDelete()) {
+                result.add(touched.getWrapped());
+            }
+        }
+        if (!addedFirst) {
+            addedItems.forEach(item -> result.add(item.getWrapped()));
+        }
+        return result;
+    }
+
+    /**
+     * Only the added and touched items are considered.
+     */
+    @Override
+    public boolean hasChanges() {
+        if (!addedItems.isEmpty()) {
+            return true;
+        }
+        final var loaded = getLoadedItems();
+        for (final Map.Entry<Integer, ItemWrapper<T>> entry : touchedItems.entrySet()) {
+            final var item = entry.getValue();
+            if (item.isMarkedForDelete() || !loaded.get(entry.getKey()).equals(item.getWrapped())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resets the model to the loaded items, discarding all changes, and selects the first
+     * page.
+     */
+    public void initDisplayItems() {
+        addedItems.clear();
+        touchedItems.clear();
+        pageIndex = 0;
+        pageItems = null;
+    }
+
+    /**
+     * @param item to be wrapped, must not be {@code null}
+     * @return a new item wrapper for a loaded item
+     */
+    protected ItemWrapper<T> getNewItemWrapper(final T item) {
+        return new ItemWrapperImpl<>(item);
+    }
+
+    private int getPageStart() {
+        return pageIndex * getPageSize();
+    }
+
+    private ItemWrapper<T> getItemAt(final int position) {
+        final var loadedIndex = toLoadedIndex(position);
+        if (loadedIndex < 0) {
+            return addedItems.get(isNewCreatedItemShouldBeAddedAsFirst() ? position
+                    : position - getLoadedItems().size());
+        }
+        final var touched = touchedItems.get(loadedIndex);
+        return null != touched ? touched : getNewItemWrapper(getLoadedItems().get(loadedIndex));
+    }
+
+    /**
+     * @return the index of the loaded item at the given position, -1 for added items
+     */
+    private int toLoadedIndex(final int position) {
+        if (isNewCreatedItemShouldBeAddedAsFirst()) {
+            return position - addedItems.size();
+        }
+        return position < getLoadedItems().size() ? position : -1;
+    }
+
+    /**
+     * @return the index of the loaded item wrapped by the given wrapper, -1 for added or
+     *         unknown items
+     */
+    private int getLoadedIndex(final ItemWrapper<T> item) {
+        for (final Map.Entry<Integer, ItemWrapper<T>> entry : touchedItems.entrySet()) {
+            if (entry.getValue() == item) {
+                return entry.getKey();
+            }
+        }
+        if (null != pageItems) {
+            for (var index = 0; index < pageItems.size(); index++) {
+                if (pageItems.get(index) == item) {
+                    return toLoadedIndex(getPageStart() + index);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void touch(final ItemWrapper<T> item) {
+        final var loadedIndex = getLoadedIndex(item);
+        if (loadedIndex >= 0) {
+            touchedItems.put(loadedIndex, item);
+        }
+    }
+
+    private void removeAddedItem(final ItemWrapper<T> item) {
+        if (addedItems.removeIf(added -> added == item)) {
+            pageItems = null;
+            setPageIndex(pageIndex);
+        }
+    }
+}
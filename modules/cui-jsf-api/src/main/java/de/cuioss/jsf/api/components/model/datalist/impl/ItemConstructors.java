@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Class-level cache of the constructors used by {@link ReflectionBasedEditableDataListModel}.
+ * <p>
+ * The public no-argument constructor and the public copy constructor of a model class are
+ * resolved once and compiled into {@link MethodHandle}s, therefore creating and copying
+ * items does not repeat the constructor lookup and access checks on every add and edit.
+ * If a constructor can not be resolved, the failure is kept and reported on each usage,
+ * like before.
+ * </p>
+ * <p>
+ * The cache is based on {@link ClassValue}, therefore it does not prevent model classes
+ * from being unloaded.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class ItemConstructors {
+
+    private static final MethodType DEFAULT_TYPE = MethodType.methodType(Object.class);
+
+    private static final MethodType COPY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<ItemConstructors> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected ItemConstructors computeValue(final Class<?> type) {
+            return new ItemConstructors(type);
+        }
+    };
+
+    private final Class<?> modelClass;
+
+    private final MethodHandle defaultConstructor;
+
+    private final ReflectiveOperationException defaultConstructorFailure;
+
+    private final MethodHandle copyConstructor;
+
+    private final ReflectiveOperationException copyConstructorFailure;
+
+    private ItemConstructors(final Class<?> modelClass) {
+        this.modelClass = modelClass;
+        final var lookup = MethodHandles.publicLookup();
+        MethodHandle handle = null;
+        ReflectiveOperationException failure = null;
+        try {
+            handle = lookup.findConstructor(modelClass, MethodType.methodType(void.class)).asType(DEFAULT_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            failure = e;
+        }
+        defaultConstructor = handle;
+        defaultConstructorFailure = failure;
+
+        handle = null;
+        failure = null;
+        try {
+            handle = lookup.findConstructor(modelClass, MethodType.methodType(void.class, modelClass))
+                    .asType(COPY_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            failure = e;
+        }
+        copyConstructor = handle;
+        copyConstructorFailure = failure;
+    }
+
+    /**
+     * @param modelClass must not be null
+     * @return the shared constructors of the given class
+     */
+    static ItemConstructors forType(final Class<?> modelClass) {
+        return CONSTRUCTORS.get(modelClass);
+    }
+
+    /**
+     * @return a new instance created by the no-argument constructor
+     * @throws IllegalStateException if there is no such public constructor or it fails
+     */
+    Object newInstance() {
+        if (null == defaultConstructor) {
+            throw defaultConstructorFailed(defaultConstructorFailure);
+        }
+        try {
+            return (Object) defaultConstructor.invokeExact();
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw defaultConstructorFailed(e);
+        }
+    }
+
+    /**
+     * @param item to be copied
+     * @return a new instance created by the copy constructor
+     * @throws IllegalStateException if there is no such public constructor or it fails
+     */
+    Object copy(final Object item) {
+        if (null == copyConstructor) {
+            throw copyConstructorFailed(copyConstructorFailure);
+        }
+        try {
+            return (Object) copyConstructor.invokeExact(item);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw copyConstructorFailed(e);
+        }
+    }
+
+    private IllegalStateException defaultConstructorFailed(final Throwable cause) {
+        return new IllegalStateException(
+                "Unable to create an Instances using the default constructor, offending class: " + modelClass, cause);
+    }
+
+    private IllegalStateException copyConstructorFailed(final Throwable cause) {
+        return new IllegalStateException(
+                "Unable to create an Instances using the copy constructor, offending class: " + modelClass, cause);
+    }
+}
@@ -23,7 +23,6 @@ import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -51,6 +50,10 @@ import java.util.Objects;
  * <li>It must have a public copy constructor (constructor accepting its own type) for creating copies</li>
  * <li>It should properly implement equals and hashCode for change detection</li>
  * </ul>
+ * <p>
+ * Both constructors are resolved once per model class and compiled into method handles,
+ * see {@link ItemConstructors}.
+ * </p>
  *
  * @author Oliver Wolff
  * @param <T> identifying the type of items to be managed. Must be at least
@@ -91,8 +94,8 @@ public class ReflectionBasedEditableDataListModel<T extends Serializable> extend
 
     /**
      * <p>Creates a new empty item using the default constructor of the model class.</p>
-     * <p>This implementation uses reflection to instantiate a new object of the model class
-     * by invoking its no-argument constructor.</p>
+     * <p>This implementation invokes the cached handle of the no-argument constructor
+     * of the model class.</p>
      *
      * @return A new instance of the model class created via its default constructor.
      * @throws IllegalStateException If the model class cannot be instantiated using
@@ -102,19 +105,13 @@ public class ReflectionBasedEditableDataListModel<T extends Serializable> extend
      */
     @Override
     public T createEmptyItem() {
-        try {
-            return modelClass.getDeclaredConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | RuntimeException | InvocationTargetException
-                | NoSuchMethodException e) {
-            throw new IllegalStateException(
-                    "Unable to create an Instances using the default constructor, offending class: " + modelClass, e);
-        }
+        return modelClass.cast(ItemConstructors.forType(modelClass).newInstance());
     }
 
     /**
      * <p>Creates a copy of the given item using the copy constructor of the model class.</p>
-     * <p>This implementation uses reflection to instantiate a new object of the model class
-     * by invoking its copy constructor (a constructor that accepts an instance of its own class).</p>
+     * <p>This implementation invokes the cached handle of the copy constructor (a constructor
+     * that accepts an instance of its own class) of the model class.</p>
      *
      * @param item The item to copy. Must not be null.
      * @return A new instance of the model class created via its copy constructor,
@@ -126,12 +123,6 @@ public class ReflectionBasedEditableDataListModel<T extends Serializable> extend
      */
     @Override
     public T createCopy(final T item) {
-        try {
-            return modelClass.getConstructor(modelClass).newInstance(item);
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException e) {
-            throw new IllegalStateException(
-                    "Unable to create an Instances using the copy constructor, offending class: " + modelClass, e);
-        }
+        return modelClass.cast(ItemConstructors.forType(modelClass).copy(item));
     }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.lazyloading;
+
+import de.cuioss.jsf.api.common.logging.JsfApiLogMessages;
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.model.result_content.ResultContent;
+import de.cuioss.jsf.api.components.model.result_content.ResultErrorHandler;
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.nameprovider.IDisplayNameProvider;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.ActionEvent;
+import lombok.Getter;
+import lombok.Synchronized;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Base implementation of {@link LazyLoadingThreadModel} running the backend call off the
+ * request thread.
+ * <p>
+ * {@link #startInitialize()}, usually bound to the {@code startInitialize} attribute of
+ * the lazy loading component, starts {@link #retrieve()} on a virtual thread, tracked by
+ * the {@link LazyLoadingRequestRegistry} of the session. The follow-up content load
+ * request collects the result in {@link #processAction(ActionEvent)}, waiting at most
+ * until {@link #getTimeout()} has passed since the start. The lazy loading component of
+ * the bootstrap module does not block its servlet thread on that wait: While
+ * {@link #isResultAvailable()} is {@code false}, it renders the waiting indicator and
+ * requests the content again after a short delay.
+ * </p>
+ * <p>
+ * The wait is done without holding the lock of the model, therefore {@link #cancel()}
+ * takes effect immediately. A cancelled or restarted retrieval does not change the
+ * model once its wait returns.
+ * </p>
+ * <p>
+ * The registry may lose track of a retrieval, e.g. if more than
+ * {@link LazyLoadingRequestRegistry#DEFAULT_MAX_REQUESTS} are running within the session
+ * or the session has been migrated to another node. {@link #isResultAvailable()} then
+ * restarts the retrieval asynchronously, at most {@link #MAX_RESTARTS} times, so that
+ * the component keeps polling. Only if the restarts are exhausted or the retrieval is
+ * lost between polling and collecting, {@link #processAction(ActionEvent)} calls
+ * {@link #retrieve()} on the request thread. Both cases are logged at WARN level. If
+ * {@link #processAction(ActionEvent)} is called without {@link #startInitialize()} or
+ * after {@link #cancel()}, {@link #retrieve()} is called on the request thread as well.
+ * </p>
+ * <p>
+ * Usage example:
+ * </p>
+ * <pre>
+ * public class PatientSummaryModel extends BaseLazyLoadingThreadModel&lt;PatientSummary&gt; {
+ *
+ *     &#64;Override
+ *     protected ResultObject&lt;PatientSummary&gt; retrieve() {
+ *         return summaryService.loadSummary(patientId);
+ *     }
+ * }
+ *
+ * &lt;boot:lazyLoading viewModel="#{bean.summaryModel}"
+ *     startInitialize="#{bean.summaryModel.startInitialize()}"&gt;
+ * </pre>
+ * <p>
+ * {@link #retrieve()} runs without {@link FacesContext} and must only access state that
+ * is safe to be used from another thread.
+ * </p>
+ *
+ * @param <T> the type of content being loaded
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public abstract class BaseLazyLoadingThreadModel<T extends Serializable> implements LazyLoadingThreadModel<T> {
+
+    @Serial
+    private static final long serialVersionUID = 2265101733628925313L;
+
+    private static final CuiLogger LOGGER = new CuiLogger(BaseLazyLoadingThreadModel.class);
+
+    /** Default of {@link #getTimeout()}. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * The maximum number of restarts of a retrieval no longer tracked by the registry,
+     * see {@link #isResultAvailable()}.
+     */
+    public static final int MAX_RESTARTS = 2;
+
+    /**
+     * The id of the running retrieval, {@code null} if there is none.
+     */
+    @Getter
+    private String requestId;
+
+    /**
+     * The loaded content, {@code null} until the retrieval has been successful.
+     */
+    @Getter
+    private T content;
+
+    @Getter
+    private IDisplayNameProvider<?> notificationBoxValue;
+
+    @Getter
+    private ContextState notificationBoxState = ContextState.DEFAULT;
+
+    @Getter
+    private boolean renderContent = true;
+
+    @Getter
+    private volatile boolean initialized;
+
+    /** The number of restarts of the current retrieval, see {@link #MAX_RESTARTS}. */
+    private int restarts;
+
+    /** Guards the state, never held while waiting for the retrieval. */
+    private final Object lock = new Object[0];
+
+    /**
+     * The actual backend call, executed on a virtual thread. Exceptions are converted
+     * into an {@link ResultState#ERROR}.
+     *
+     * @return the result of the backend call, must not be null
+     */
+    protected abstract ResultObject<T> retrieve();
+
+    /**
+     * @return the maximum duration of {@link #retrieve()}, defaults to
+     *         {@link #DEFAULT_TIMEOUT}
+     */
+    protected Duration getTimeout() {
+        return DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Starts {@link #retrieve()} on a virtual thread, unless the model is already
+     * initialized or the retrieval is running.
+     */
+    @Synchronized("lock")
+    public void startInitialize() {
+        if (initialized || null != requestId) {
+            return;
+        }
+        resetNotificationBox();
+        restarts = 0;
+        requestId = registry().submit(this::retrieve, getTimeout());
+        LOGGER.debug("Started lazy loading request %s", requestId);
+    }
+
+    /**
+     * Restarts the retrieval if the registry no longer tracks it, see the documentation
+     * of the class.
+     *
+     * @return {@code true} if {@link #processAction(ActionEvent)} can collect the result
+     *         without waiting
+     */
+    public boolean isResultAvailable() {
+        final String pending;
+        synchronized (lock) {
+            if (initialized) {
+                return true;
+            }
+            if (null != requestId && restarts < MAX_RESTARTS && !registry().isTracked(requestId)) {
+                final var lost = requestId;
+                restarts++;
+                requestId = registry().submit(this::retrieve, getTimeout());
+                LOGGER.warn(JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_RESTARTED, lost, requestId);
+                return false;
+            }
+            pending = requestId;
+        }
+        return null == pending || registry().isDone(pending);
+    }
+
+    /**
+     * Collects the result of the retrieval started by {@link #startInitialize()}. If there
+     * is none, e.g. because it has been cancelled or is no longer tracked by the registry,
+     * {@link #retrieve()} is called directly. Neither is done while holding the lock of
+     * the model.
+     */
+    @Override
+    public void processAction(final ActionEvent actionEvent) {
+        final String pending;
+        synchronized (lock) {
+            if (initialized) {
+                return;
+            }
+            pending = requestId;
+        }
+        var result = null == pending ? null : registry().<T>await(pending).orElse(null);
+        if (null == result) {
+            if (null != pending) {
+                LOGGER.warn(JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_UNTRACKED, pending);
+            }
+            result = LazyLoadingRequestRegistry.execute(this::retrieve);
+        }
+        synchronized (lock) {
+            if (initialized || !Objects.equals(pending, requestId)) {
+                LOGGER.debug("Discarding result of lazy loading request %s, collected or cancelled meanwhile",
+                        pending);
+                return;
+            }
+            requestId = null;
+            handleRequestResult(result, new ResultErrorHandler());
+        }
+    }
+
+    /**
+     * Cancels the running retrieval, if any. The next {@link #startInitialize()} starts a
+     * new one.
+     */
+    @Synchronized("lock")
+    public void cancel() {
+        if (null != requestId) {
+            registry().cancel(requestId);
+            requestId = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Stores the result as {@link #getContent()}, unless it is an
+     * {@link ResultState#ERROR}, and translates its detail into the notification box.
+     * </p>
+     */
+    @Override
+    public void handleRequestResult(final ResultObject<T> result, final ResultErrorHandler errorHandler) {
+        final var resultContent = new ResultContent(result, errorHandler, LOGGER);
+        final var messages = resultContent.getNotificationBoxMessages();
+        if (!messages.isEmpty()) {
+            notificationBoxValue = messages.getFirst().getNotificationBoxValue();
+            notificationBoxState = messages.getFirst().getNotificationBoxState();
+        }
+        renderContent = resultContent.isRenderContent();
+        if (ResultState.ERROR != result.getState()) {
+            content = result.getResult();
+        }
+        initialized = true;
+    }
+
+    @Override
+    public void resetNotificationBox() {
+        notificationBoxValue = null;
+        notificationBoxState = ContextState.DEFAULT;
+        renderContent = true;
+    }
+
+    /**
+     * @return the registry of the current session
+     */
+    protected LazyLoadingRequestRegistry registry() {
+        return LazyLoadingRequestRegistry.forSession(FacesContext.getCurrentInstance().getExternalContext());
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.lazyloading;
+
+import static de.cuioss.tools.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.common.logging.JsfApiLogMessages;
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.nameprovider.LabeledKey;
+import de.cuioss.uimodel.result.ResultDetail;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import jakarta.faces.context.ExternalContext;
+import jakarta.servlet.http.HttpSessionBindingEvent;
+import jakarta.servlet.http.HttpSessionBindingListener;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Session-scoped registry of backend retrievals running off the request thread, see
+ * {@link BaseLazyLoadingThreadModel}.
+ * <p>
+ * Each retrieval is started on a virtual thread and tracked by a generated request id
+ * together with its deadline. A follow-up request collects the {@link ResultObject} by
+ * {@link #await(String)}, waiting at most until the deadline. Retrievals exceeding it
+ * are cancelled and result in an {@link ResultState#ERROR}. Failing retrievals are
+ * converted into an {@link ResultState#ERROR} as well, using the message key
+ * {@value #MESSAGE_KEY_REQUEST_FAILED}.
+ * </p>
+ * <p>
+ * The number of tracked retrievals per session is bounded by
+ * {@link #DEFAULT_MAX_REQUESTS}: Starting an additional one cancels the oldest. All
+ * retrievals are cancelled once the session ends. The retrievals are not serialized,
+ * after a session migration {@link #await(String)} provides an empty result for them.
+ * </p>
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public final class LazyLoadingRequestRegistry implements HttpSessionBindingListener, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3405612358164471254L;
+
+    private static final CuiLogger LOGGER = new CuiLogger(LazyLoadingRequestRegistry.class);
+
+    /** The maximum number of retrievals tracked per session. */
+    public static final int DEFAULT_MAX_REQUESTS = 16;
+
+    /** Message key of the detail for failed or timed out retrievals. */
+    public static final String MESSAGE_KEY_REQUEST_FAILED = "message.error.request";
+
+    static final String SESSION_KEY = LazyLoadingRequestRegistry.class.getName();
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final int maxRequests;
+
+    private final transient ExecutorService executor;
+
+    /** Insertion-ordered, therefore the first entry is the oldest one. Guarded by this. */
+    private transient Map<String, Request<?>> requests;
+
+    /**
+     * Creates a registry running the retrievals on virtual threads.
+     *
+     * @param maxRequests the maximum number of tracked retrievals, must be positive
+     */
+    public LazyLoadingRequestRegistry(final int maxRequests) {
+        this(maxRequests, VIRTUAL_THREADS);
+    }
+
+    LazyLoadingRequestRegistry(final int maxRequests, final ExecutorService executor) {
+        checkArgument(maxRequests > 0, "maxRequests must be positive, but was %s".formatted(maxRequests));
+        this.maxRequests = maxRequests;
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * @param externalContext the current context, must not be null
+     * @return the registry of the current session, created on first access
+     */
+    public static LazyLoadingRequestRegistry forSession(final ExternalContext externalContext) {
+        final var sessionMap = externalContext.getSessionMap();
+        synchronized (externalContext.getSessionMutex()) {
+            return (LazyLoadingRequestRegistry) sessionMap.computeIfAbsent(SESSION_KEY,
+                    key -> new LazyLoadingRequestRegistry(DEFAULT_MAX_REQUESTS));
+        }
+    }
+
+    /**
+     * Starts the given retrieval. Cancels the oldest retrieval if the maximum number is
+     * reached.
+     *
+     * @param <T>       the type of the result
+     * @param retrieval the backend call, must not access the {@code FacesContext}
+     * @param timeout   the maximum duration of the retrieval, must be positive
+     * @return the id identifying the retrieval
+     */
+    public synchronized <T> String submit(final Supplier<ResultObject<T>> retrieval, final Duration timeout) {
+        requireNonNull(retrieval);
+        checkArgument(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive, but was %s"
+                .formatted(timeout));
+        final var running = requests();
+        while (running.size() >= maxRequests) {
+            final var oldest = running.entrySet().iterator().next();
+            LOGGER.debug("Cancelling lazy loading request %s, maximum of %s reached", oldest.getKey(), maxRequests);
+            oldest.getValue().future().cancel(true);
+            running.remove(oldest.getKey());
+        }
+        final var requestId = UUID.randomUUID().toString();
+        final Future<ResultObject<T>> future = executor().submit(() -> execute(retrieval));
+        running.put(requestId, new Request<>(future, System.nanoTime() + timeout.toNanos(), timeout.toMillis()));
+        return requestId;
+    }
+
+    /**
+     * Collects the result of the given retrieval, waiting at most until its deadline.
+     * The retrieval stays tracked while waiting, so that it can still be cancelled, and
+     * is no longer tracked afterwards.
+     *
+     * @param <T>       the type of the result
+     * @param requestId as returned by {@link #submit(Supplier, Duration)}
+     * @return the result, an {@link ResultState#ERROR} if the retrieval failed or timed
+     *         out, empty if the request id is unknown, e.g. after being cancelled
+     */
+    @SuppressWarnings("unchecked") // The type is defined by the caller of submit
+    public <T> Optional<ResultObject<T>> await(final String requestId) {
+        final Request<T> request;
+        synchronized (this) {
+            request = (Request<T>) requests().get(requestId);
+        }
+        if (null == request) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(collect(requestId, request));
+        } finally {
+            synchronized (this) {
+                requests().remove(requestId, request);
+            }
+        }
+    }
+
+    private <T> ResultObject<T> collect(final String requestId, final Request<T> request) {
+        final var remaining = Math.max(0, request.deadline() - System.nanoTime());
+        try {
+            return request.future().get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            request.future().cancel(true);
+            LOGGER.warn(JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_TIMEOUT, requestId, request.timeoutMillis());
+            return failed(e);
+        } catch (ExecutionException e) {
+            return failed(e.getCause());
+        } catch (CancellationException e) {
+            return failed(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failed(e);
+        }
+    }
+
+    /**
+     * Allows polling instead of waiting.
+     *
+     * @param requestId as returned by {@link #submit(Supplier, Duration)}
+     * @return {@code true} if {@link #await(String)} would return without waiting
+     */
+    public synchronized boolean isDone(final String requestId) {
+        final var request = requests().get(requestId);
+        return null == request || request.future().isDone() || request.deadline() - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @param requestId as returned by {@link #submit(Supplier, Duration)}
+     * @return {@code true} if the retrieval is tracked, {@code false} if it is unknown,
+     *         e.g. after being collected, cancelled or evicted
+     */
+    public synchronized boolean isTracked(final String requestId) {
+        return requests().containsKey(requestId);
+    }
+
+    /**
+     * @param requestId as returned by {@link #submit(Supplier, Duration)}
+     * @return {@code true} if the retrieval has been tracked and is cancelled now
+     */
+    public synchronized boolean cancel(final String requestId) {
+        final var request = requests().remove(requestId);
+        if (null == request) {
+            return false;
+        }
+        request.future().cancel(true);
+        return true;
+    }
+
+    /**
+     * Cancels all retrievals.
+     */
+    public synchronized void cancelAll() {
+        requests().values().forEach(request -> request.future().cancel(true));
+        requests().clear();
+    }
+
+    /**
+     * @return the number of tracked retrievals
+     */
+    public synchronized int size() {
+        return requests().size();
+    }
+
+    /**
+     * Cancels all retrievals once the registry is removed from the session, including
+     * the end of the session.
+     */
+    @Override
+    public void valueUnbound(final HttpSessionBindingEvent event) {
+        cancelAll();
+    }
+
+    /**
+     * Runs the given retrieval, converting a failure into an {@link ResultState#ERROR}.
+     *
+     * @param <T>       the type of the result
+     * @param retrieval to be run, must not be null
+     * @return the result of the retrieval
+     */
+    static <T> ResultObject<T> execute(final Supplier<ResultObject<T>> retrieval) {
+        try {
+            return requireNonNull(retrieval.get(), "retrieval must not return null");
+        } catch (RuntimeException e) {
+            return failed(e);
+        }
+    }
+
+    static <T> ResultObject<T> failed(final Throwable cause) {
+        return new ResultObject<>(null, ResultState.ERROR,
+                new ResultDetail(new LabeledKey(MESSAGE_KEY_REQUEST_FAILED), cause), null);
+    }
+
+    private Map<String, Request<?>> requests() {
+        if (null == requests) {
+            requests = new LinkedHashMap<>();
+        }
+        return requests;
+    }
+
+    private ExecutorService executor() {
+        return null == executor ? VIRTUAL_THREADS : executor;
+    }
+
+    private record Request<T>(Future<ResultObject<T>> future, long deadline, long timeoutMillis) {
+    }
+}
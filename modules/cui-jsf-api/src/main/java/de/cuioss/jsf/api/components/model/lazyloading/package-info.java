@@ -52,6 +52,10 @@
  * When using asynchronous loading via {@link de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingThreadModel},
  * implementations must ensure thread safety as the model will be accessed concurrently
  * by the JSF thread and background loading threads.
+ * {@link de.cuioss.jsf.api.components.model.lazyloading.BaseLazyLoadingThreadModel} provides
+ * such an implementation: it executes the retrieval on a virtual thread tracked by the
+ * session-scoped {@link de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingRequestRegistry},
+ * which bounds the number of concurrent retrievals and cancels them on timeout or session end.
  * </p>
  * 
  * <h3>Usage with Widget Models</h3>
@@ -16,7 +16,11 @@
 package de.cuioss.jsf.api.components.myfaces;
 
 import de.cuioss.jsf.api.components.base.BaseCuiCommandButton;
+import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.partial.TitleProvider;
+import de.cuioss.jsf.api.components.renderer.ElementReplacingResponseWriter;
+
+import java.util.Map;
 
 /**
  * <h2>Adapting to MyFaces</h2>
@@ -28,14 +32,35 @@ import de.cuioss.jsf.api.components.partial.TitleProvider;
  * <ul>
  * <li>Use the standard-methods like {@link TitleProvider#setTitleKey(String)} as usual</li>
  * <li>The {@link jakarta.faces.render.Renderer} must call {@link TitleProvider#resolveAndStoreTitle()}</li>
- * <li>Finally, the {@link jakarta.faces.render.Renderer} must call {@link #writeTitleToParent()}</li>
+ * <li>Finally, the {@link jakarta.faces.render.Renderer} passes the resolved title to the delegate renderer
+ * by using {@link ElementReplacingResponseWriter} with {@link #titleAttribute(String)}</li>
  * </ul>
+ * The resolved title is not written to the parent, as it would end up in the state of the component and be
+ * saved with every view.
  *  See {@link BaseCuiCommandButton} for usage
  */
 public interface MyFacesDelegateTitleAdapter {
 
     /**
-     * Writes the current style-class to the parent
+     * Writes the current title to the parent. Still supported for renderers outside of
+     * this library, the ones of this library use {@link #titleAttribute(String)}.
+     *
+     * @deprecated the resolved title ends up in the state of the component, pass it to
+     *             the renderer by using {@link #titleAttribute(String)} instead
      */
+    @Deprecated(since = "1.1")
     void writeTitleToParent();
+
+    /**
+     * @param title the resolved title, may be null
+     * @return the attributes to be passed to
+     *         {@link ElementReplacingResponseWriter#createWrappedReplacingResonseWriter(jakarta.faces.context.FacesContext, String, String, boolean, Map)},
+     *         empty if there is no title
+     */
+    static Map<String, String> titleAttribute(final String title) {
+        if (null == title) {
+            return Map.of();
+        }
+        return Map.of(AttributeName.TITLE.getContent(), title);
+    }
 }
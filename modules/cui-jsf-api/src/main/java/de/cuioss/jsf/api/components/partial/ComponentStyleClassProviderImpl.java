@@ -16,7 +16,7 @@
 package de.cuioss.jsf.api.components.partial;
 
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import de.cuioss.jsf.api.components.util.CuiState;
 import jakarta.faces.component.StateHelper;
 import lombok.NonNull;
@@ -135,6 +135,6 @@ public class ComponentStyleClassProviderImpl implements ComponentStyleClassProvi
      * @return a new {@link StyleClassBuilder} instance containing the user-provided style classes
      */
     private StyleClassBuilder getLocalStyleClassBuilder() {
-        return new StyleClassBuilderImpl(state.get(LOCAL_STYLE_CLASS_KEY));
+        return StyleClassBuilderFactory.create(state.get(LOCAL_STYLE_CLASS_KEY));
     }
 }
@@ -142,11 +142,11 @@ public interface TitleProvider {
     String resolveTitle();
 
     /**
-     * Resolves the title and stores it in the component's state.
+     * Resolves the title and stores it for the current render.
      * <p>
      * This method must be called before rendering to ensure proper title handling
-     * across different JSF implementations. It resolves the title and stores it in the
-     * component's attribute map for later retrieval by the standard HTML renderer.
+     * across different JSF implementations. It resolves the title and stores it
+     * for later retrieval by {@link #getTitle()}.
      * </p>
      * <p>
      * This is primarily needed to handle differences between Mojarra and MyFaces
@@ -156,7 +156,7 @@ public interface TitleProvider {
     void resolveAndStoreTitle();
 
     /**
-     * Returns the title from the component's state.
+     * Returns the title stored by {@link #resolveAndStoreTitle()}.
      * <p>
      * This method is typically used by renderers to retrieve the resolved title.
      * For proper functionality, {@link #resolveAndStoreTitle()} should be called
@@ -88,11 +88,6 @@ public class TitleProviderImpl implements TitleProvider {
      */
     private static final String TITLE_CONVERTER_KEY = "titleConverter";
 
-    /**
-     * The key for storing the resolved title in the {@link StateHelper}
-     */
-    private static final String TITLE_KEY = "title";
-
     /**
      * Bridge to the owning component, providing access to its FacesContext and StateHelper
      */
@@ -103,6 +98,13 @@ public class TitleProviderImpl implements TitleProvider {
      */
     private final CuiState state;
 
+    /**
+     * The title resolved by {@link #resolveAndStoreTitle()}. Deliberately not kept in the
+     * {@link StateHelper}: It is resolved again for each render, which is cheap as
+     * messages resolved by key are cached by {@link LabelResolver}.
+     */
+    private String resolvedTitle;
+
     /**
      * Constructor creating a new TitleProviderImpl.
      * <p>
@@ -195,7 +197,7 @@ public class TitleProviderImpl implements TitleProvider {
      */
     @Override
     public String getTitle() {
-        return state.get(TITLE_KEY);
+        return resolvedTitle;
     }
 
     /**
@@ -228,16 +230,14 @@ public class TitleProviderImpl implements TitleProvider {
     /**
      * {@inheritDoc}
      * <p>
-     * The implementation only resolves and stores the title once to avoid
-     * redundant processing. This method should be called by the {@link Renderer}
+     * The implementation keeps the resolved title in the provider instead of the
+     * {@link StateHelper}, therefore it does not inflate the view state and reflects
+     * changes of the locale. This method should be called by the {@link Renderer}
      * before rendering a component.
      * </p>
      */
     @Override
     public void resolveAndStoreTitle() {
-        // Titles should usually be set once
-        if (isTitleSet() && null == state.get(TITLE_KEY)) {
-            state.put(TITLE_KEY, resolveTitle());
-        }
+        resolvedTitle = isTitleSet() ? resolveTitle() : null;
     }
 }
@@ -18,6 +18,9 @@ package de.cuioss.jsf.api.components.renderer;
 import static de.cuioss.tools.string.MoreStrings.isEmpty;
 
 import de.cuioss.jsf.api.common.logging.JsfApiLogMessages;
+import de.cuioss.jsf.api.components.renderer.profiling.CountingResponseWriter;
+import de.cuioss.jsf.api.components.renderer.profiling.RenderPhase;
+import de.cuioss.jsf.api.components.renderer.profiling.RenderProfiler;
 import de.cuioss.jsf.api.components.util.ComponentWrapper;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.string.MoreStrings;
@@ -35,6 +38,10 @@ import java.io.IOException;
  * Base class for renderer that use {@link DecoratingResponseWriter} in order to
  * simplify usage. The actual implementor must implement at least one of
  * doEncodeBegin or doEncodeEnd
+ * <p>
+ * The {@link DecoratingResponseWriter} is created once per encoding of a component and
+ * shared by all encode phases, see {@link RenderContext}.
+ * </p>
  *
  * @param <T> identifying the concrete component to be rendered, at least
  *            {@link UIComponent}
@@ -106,7 +113,11 @@ public class BaseDecoratorRenderer<T extends UIComponent> extends Renderer {
         // the cast is safe because of the
         // typing
         final var typedComponent = (T) component;
-        doEncodeBegin(context, new DecoratingResponseWriter<>(context, typedComponent), typedComponent);
+        if (RenderProfiler.isEnabled(context)) {
+            encodeProfiled(context, typedComponent, RenderPhase.ENCODE_BEGIN);
+        } else {
+            doEncodeBegin(context, RenderContext.get(context).begin(context, typedComponent), typedComponent);
+        }
     }
 
     @Override
@@ -123,22 +134,57 @@ public class BaseDecoratorRenderer<T extends UIComponent> extends Renderer {
         // the cast is safe because of the
         // typing
         final var typedComponent = (T) component;
-        doEncodeChildren(context, new DecoratingResponseWriter<>(context, typedComponent), typedComponent);
+        if (RenderProfiler.isEnabled(context)) {
+            encodeProfiled(context, typedComponent, RenderPhase.ENCODE_CHILDREN);
+        } else {
+            doEncodeChildren(context, RenderContext.get(context).resume(context, typedComponent), typedComponent);
+        }
     }
 
     @Override
     public void encodeEnd(final FacesContext context, final UIComponent component) throws IOException {
         // Checks the contract
         super.encodeEnd(context, component);
+        final var renderContext = RenderContext.get(context);
         // Stop here if the component will not be rendered
         if (!component.isRendered()) {
+            renderContext.release(component);
             return;
         }
         @SuppressWarnings("unchecked") // owolff Should not be a problem because
         // the cast is safe because of the
         // typing
         final var typedComponent = (T) component;
-        doEncodeEnd(context, new DecoratingResponseWriter<>(context, typedComponent), typedComponent);
+        if (RenderProfiler.isEnabled(context)) {
+            encodeProfiled(context, typedComponent, RenderPhase.ENCODE_END);
+        } else {
+            try {
+                doEncodeEnd(context, renderContext.resume(context, typedComponent), typedComponent);
+            } finally {
+                renderContext.release(component);
+            }
+        }
+    }
+
+    /**
+     * Calls the doEncode method for the given phase with a
+     * {@link CountingResponseWriter} and records the duration and the characters
+     * written in the {@link RenderProfiler}.
+     */
+    private void encodeProfiled(final FacesContext context, final T component, final RenderPhase phase)
+            throws IOException {
+        final var counting = new CountingResponseWriter(context.getResponseWriter());
+        final var writer = new DecoratingResponseWriter<>(context, counting, component);
+        final var start = System.nanoTime();
+        try {
+            switch (phase) {
+                case ENCODE_BEGIN -> doEncodeBegin(context, writer, component);
+                case ENCODE_CHILDREN -> doEncodeChildren(context, writer, component);
+                case ENCODE_END -> doEncodeEnd(context, writer, component);
+            }
+        } finally {
+            RenderProfiler.record(getClass(), phase, System.nanoTime() - start, counting.getCharacterCount());
+        }
     }
 
     @Override
@@ -29,6 +29,7 @@ import de.cuioss.jsf.api.components.util.ComponentWrapper;
 import de.cuioss.tools.string.MoreStrings;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.context.ResponseWriter;
 import lombok.Getter;
 import lombok.NonNull;
 
@@ -108,10 +109,24 @@ public class DecoratingResponseWriter<T extends UIComponent> extends ResponseWri
      * @throws NullPointerException if either parameter is null
      */
     public DecoratingResponseWriter(final FacesContext facesContext, final T component) {
-        super(requireNonNull(facesContext.getResponseWriter()));
+        this(facesContext, facesContext.getResponseWriter(), component);
+    }
+
+    /**
+     * Creates a new instance of DecoratingResponseWriter wrapping the given writer
+     * instead of the one of the faces context, e.g. for profiling.
+     *
+     * @param facesContext the current JSF context, must not be null
+     * @param wrapped the response writer to delegate to, must not be null
+     * @param component the component to be rendered, must not be null
+     * @throws NullPointerException if any parameter is null
+     */
+    public DecoratingResponseWriter(final FacesContext facesContext, final ResponseWriter wrapped,
+            final T component) {
+        super(requireNonNull(wrapped));
         this.component = requireNonNull(component);
         componentWrapper = new ComponentWrapper<>(component);
-        this.facesContext = facesContext;
+        this.facesContext = requireNonNull(facesContext);
     }
 
     /**
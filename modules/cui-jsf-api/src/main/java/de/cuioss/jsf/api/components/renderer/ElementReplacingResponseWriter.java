@@ -26,6 +26,7 @@ import jakarta.faces.context.ResponseWriterWrapper;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.util.Map;
 
 /**
  * A specialized {@link ResponseWriterWrapper} that dynamically replaces one HTML element type
@@ -46,6 +47,13 @@ import java.io.IOException;
  * if needed.
  * </p>
  * <p>
+ * Optionally, attributes can be passed that are written to the replaced element instead of
+ * the ones written by the wrapped renderer, see
+ * {@link #createWrappedReplacingResonseWriter(FacesContext, String, String, boolean, Map)}.
+ * This way computed values, e.g. a resolved title, can be rendered without being stored in the
+ * state of the component.
+ * </p>
+ * <p>
  * Usage example:
  * </p>
  * <pre>
@@ -96,6 +104,16 @@ public class ElementReplacingResponseWriter extends ResponseWriterWrapper {
      */
     private final boolean ignoreCloseElement;
 
+    /**
+     * Attributes written to the replaced element, replacing the ones written by the caller.
+     */
+    private final Map<String, String> replacedElementAttributes;
+
+    /**
+     * Flag indicating whether the start tag of the replaced element is currently open.
+     */
+    private boolean replacedElementOpen;
+
     /**
      * Creates a new ElementReplacingResponseWriter with specified element replacement settings.
      * <p>
@@ -115,11 +133,32 @@ public class ElementReplacingResponseWriter extends ResponseWriterWrapper {
      */
     public ElementReplacingResponseWriter(final ResponseWriter delegate, final String filterElement,
             final String replaceElement, final boolean ignoreCloseElement) {
+        this(delegate, filterElement, replaceElement, ignoreCloseElement, Map.of());
+    }
+
+    /**
+     * Creates a new ElementReplacingResponseWriter that additionally writes the given attributes
+     * to the replaced element. Attributes with the same name written by the caller to the
+     * replaced element are dropped.
+     *
+     * @param delegate the {@link ResponseWriter} to be delegated to, must not be null
+     * @param filterElement the HTML element name to be replaced, must not be null or empty
+     * @param replaceElement the replacement HTML element name, must not be null or empty
+     * @param ignoreCloseElement if true, the closing tag for the replaced element will be omitted
+     * @param replacedElementAttributes the attributes to be written to the replaced element,
+     *                                  must not be null
+     * @throws NullPointerException if any parameter is null
+     * @throws IllegalArgumentException if filterElement or replaceElement is empty
+     */
+    public ElementReplacingResponseWriter(final ResponseWriter delegate, final String filterElement,
+            final String replaceElement, final boolean ignoreCloseElement,
+            final Map<String, String> replacedElementAttributes) {
         super(delegate);
         wrapped = delegate;
         this.filterElement = requireNonNull(emptyToNull(filterElement));
         this.replaceElement = requireNonNull(emptyToNull(replaceElement));
         this.ignoreCloseElement = ignoreCloseElement;
+        this.replacedElementAttributes = Map.copyOf(replacedElementAttributes);
     }
 
     /**
@@ -137,11 +176,30 @@ public class ElementReplacingResponseWriter extends ResponseWriterWrapper {
     public void startElement(final String name, final UIComponent component) throws IOException {
         if (filterElement.equals(name)) {
             super.startElement(replaceElement, component);
+            for (final var attribute : replacedElementAttributes.entrySet()) {
+                super.writeAttribute(attribute.getKey(), attribute.getValue(), attribute.getKey());
+            }
+            replacedElementOpen = true;
         } else {
+            replacedElementOpen = false;
             super.startElement(name, component);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Drops attributes written to the replaced element that are replaced by this writer.
+     * </p>
+     */
+    @Override
+    public void writeAttribute(final String name, final Object value, final String property) throws IOException {
+        if (replacedElementOpen && replacedElementAttributes.containsKey(name)) {
+            return;
+        }
+        super.writeAttribute(name, value, property);
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -155,6 +213,7 @@ public class ElementReplacingResponseWriter extends ResponseWriterWrapper {
      */
     @Override
     public void endElement(final String name) throws IOException {
+        replacedElementOpen = false;
         if (filterElement.equals(name)) {
             if (!ignoreCloseElement) {
                 super.endElement(replaceElement);
@@ -186,12 +245,41 @@ public class ElementReplacingResponseWriter extends ResponseWriterWrapper {
      */
     public static FacesContext createWrappedReplacingResonseWriter(final FacesContext context,
             final String filterElement, final String replaceElement, final boolean ignoreCloseElement) {
+        return createWrappedReplacingResonseWriter(context, filterElement, replaceElement, ignoreCloseElement,
+                Map.of());
+    }
+
+    /**
+     * Variant of {@link #createWrappedReplacingResonseWriter(FacesContext, String, String, boolean)}
+     * writing the given attributes to the replaced element, see
+     * {@link #ElementReplacingResponseWriter(ResponseWriter, String, String, boolean, Map)}. The
+     * writer is created once per underlying {@link ResponseWriter}, so that attributes written
+     * via separate lookups of the writer are still recognized.
+     *
+     * @param context the original FacesContext to wrap, must not be null
+     * @param filterElement the HTML element name to be replaced, must not be null or empty
+     * @param replaceElement the replacement HTML element name, must not be null or empty
+     * @param ignoreCloseElement if true, the closing tag for the replaced element will be omitted
+     * @param replacedElementAttributes the attributes to be written to the replaced element,
+     *                                  must not be null
+     * @return a wrapped FacesContext that provides an ElementReplacingResponseWriter
+     */
+    public static FacesContext createWrappedReplacingResonseWriter(final FacesContext context,
+            final String filterElement, final String replaceElement, final boolean ignoreCloseElement,
+            final Map<String, String> replacedElementAttributes) {
+        requireNonNull(replacedElementAttributes);
         return new FacesContextWrapper(context) {
 
+            private ElementReplacingResponseWriter writer;
+
             @Override
             public ResponseWriter getResponseWriter() {
-                return new ElementReplacingResponseWriter(context.getResponseWriter(), filterElement, replaceElement,
-                        ignoreCloseElement);
+                final var current = context.getResponseWriter();
+                if (null == writer || writer.getWrapped() != current) {
+                    writer = new ElementReplacingResponseWriter(current, filterElement, replaceElement,
+                            ignoreCloseElement, replacedElementAttributes);
+                }
+                return writer;
             }
         };
     }
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Request-scoped render state of {@link BaseDecoratorRenderer}, stored in the attributes
+ * of the {@link FacesContext}.
+ * <p>
+ * It keeps one {@link DecoratingResponseWriter}, together with its
+ * {@link de.cuioss.jsf.api.components.util.ComponentWrapper}, for each component currently
+ * being encoded. The instance is created in {@code encodeBegin}, reused in
+ * {@code encodeChildren} and {@code encodeEnd} and released afterwards. Therefore the
+ * client id, the client behaviors and the type checks are computed once per encoding of a
+ * component instead of once per phase. Releasing in {@code encodeEnd} ensures that
+ * components encoded repeatedly, e.g. within {@code ui:repeat}, start with a fresh
+ * instance on each iteration.
+ * </p>
+ * <p>
+ * If the response writer of the {@link FacesContext} has been replaced between the
+ * phases, e.g. by a component buffering its children, the instance is rebound to the
+ * current one instead of being recreated.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class RenderContext {
+
+    static final String CONTEXT_KEY = RenderContext.class.getName();
+
+    private final Map<UIComponent, DecoratingResponseWriter<?>> writers = new IdentityHashMap<>();
+
+    /**
+     * @param context must not be null
+     * @return the instance for the current request, created on first access
+     */
+    static RenderContext get(final FacesContext context) {
+        return (RenderContext) context.getAttributes().computeIfAbsent(CONTEXT_KEY, key -> new RenderContext());
+    }
+
+    /**
+     * Creates a new writer for the given component, replacing a stale one from an
+     * encoding that has not been completed.
+     *
+     * @param <T>       the type of the component
+     * @param context   must not be null
+     * @param component must not be null
+     * @return the writer to be used until {@link #release(UIComponent)}
+     */
+    <T extends UIComponent> DecoratingResponseWriter<T> begin(final FacesContext context, final T component) {
+        final var writer = new DecoratingResponseWriter<>(context, component);
+        writers.put(component, writer);
+        return writer;
+    }
+
+    /**
+     * @param <T>       the type of the component
+     * @param context   must not be null
+     * @param component must not be null
+     * @return the writer created by {@link #begin(FacesContext, UIComponent)}, bound to
+     *         the current response writer, a new one if there is none
+     */
+    @SuppressWarnings("unchecked") // The writer has been created for the very same component
+    <T extends UIComponent> DecoratingResponseWriter<T> resume(final FacesContext context, final T component) {
+        final var writer = (DecoratingResponseWriter<T>) writers.get(component);
+        if (null == writer) {
+            return begin(context, component);
+        }
+        final var current = context.getResponseWriter();
+        if (writer.getWrapped() != current) {
+            writer.rebind(current);
+        }
+        return writer;
+    }
+
+    /**
+     * @param component whose encoding is complete
+     */
+    void release(final UIComponent component) {
+        writers.remove(component);
+    }
+
+    /**
+     * @return the number of components currently being encoded
+     */
+    int size() {
+        return writers.size();
+    }
+}
@@ -92,7 +92,17 @@ public class ResponseWriterBase extends ResponseWriterWrapper {
      */
     @Getter
     @NonNull
-    private final ResponseWriter wrapped;
+    private ResponseWriter wrapped;
+
+    /**
+     * Replaces the wrapped response writer, used by {@link RenderContext} for reusing
+     * an instance after the response writer of the {@link FacesContext} has changed.
+     *
+     * @param wrapped the new response writer to delegate to, must not be null
+     */
+    void rebind(@NonNull final ResponseWriter wrapped) {
+        this.wrapped = wrapped;
+    }
 
     /**
      * Starts writing an HTML element with the specified node type.
@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import static java.util.Objects.requireNonNull;
+
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.ResponseWriter;
+import jakarta.faces.context.ResponseWriterWrapper;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * {@link ResponseWriter} counting the characters passed to the wrapped writer.
+ * <p>
+ * Text and direct writes are counted exactly. For elements and attributes the markup
+ * created by the wrapped writer is estimated, e.g. {@code <name} for
+ * {@link #startElement(String, UIComponent)} and {@code  name="value"} for
+ * {@link #writeAttribute(String, Object, String)}. Escaping is not taken into account.
+ * For the usual ASCII markup the count approximates the number of bytes written.
+ * </p>
+ * <p>
+ * This class is not thread-safe and should be used within a single request context.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class CountingResponseWriter extends ResponseWriterWrapper {
+
+    @Getter
+    private final ResponseWriter wrapped;
+
+    /**
+     * The number of characters counted so far.
+     */
+    @Getter
+    private long characterCount;
+
+    /**
+     * @param wrapped the {@link ResponseWriter} to delegate to, must not be null
+     */
+    public CountingResponseWriter(final ResponseWriter wrapped) {
+        this.wrapped = requireNonNull(wrapped);
+    }
+
+    @Override
+    public void startElement(final String name, final UIComponent component) throws IOException {
+        super.startElement(name, component);
+        // "<name" and the closing ">"
+        characterCount += length(name) + 2;
+    }
+
+    @Override
+    public void endElement(final String name) throws IOException {
+        super.endElement(name);
+        // "</name>"
+        characterCount += length(name) + 3;
+    }
+
+    @Override
+    public void writeAttribute(final String name, final Object value, final String property) throws IOException {
+        super.writeAttribute(name, value, property);
+        countAttribute(name, value);
+    }
+
+    @Override
+    public void writeURIAttribute(final String name, final Object value, final String property) throws IOException {
+        super.writeURIAttribute(name, value, property);
+        countAttribute(name, value);
+    }
+
+    @Override
+    public void writeComment(final Object comment) throws IOException {
+        super.writeComment(comment);
+        // "<!--" and "-->"
+        characterCount += length(comment) + 7;
+    }
+
+    @Override
+    public void writeText(final Object text, final String property) throws IOException {
+        super.writeText(text, property);
+        characterCount += length(text);
+    }
+
+    @Override
+    public void writeText(final Object text, final UIComponent component, final String property)
+            throws IOException {
+        super.writeText(text, component, property);
+        characterCount += length(text);
+    }
+
+    @Override
+    public void writeText(final char[] text, final int off, final int len) throws IOException {
+        super.writeText(text, off, len);
+        characterCount += len;
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) throws IOException {
+        super.write(cbuf, off, len);
+        characterCount += len;
+    }
+
+    @Override
+    public void write(final char[] cbuf) throws IOException {
+        super.write(cbuf);
+        characterCount += cbuf.length;
+    }
+
+    @Override
+    public void write(final int c) throws IOException {
+        super.write(c);
+        characterCount++;
+    }
+
+    @Override
+    public void write(final String str) throws IOException {
+        super.write(str);
+        characterCount += length(str);
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) throws IOException {
+        super.write(str, off, len);
+        characterCount += len;
+    }
+
+    private void countAttribute(final String name, final Object value) {
+        if (null != value) {
+            // ' name="value"'
+            characterCount += length(name) + length(value) + 4;
+        }
+    }
+
+    private static int length(final Object value) {
+        return null == value ? 0 : value.toString().length();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+/**
+ * Service provider interface for forwarding render profiling data to an external
+ * metrics system. Implementations are discovered via {@link java.util.ServiceLoader},
+ * therefore they must provide a public no-argument constructor and be registered in
+ * {@code META-INF/services/de.cuioss.jsf.api.components.renderer.profiling.RenderMetricsListener}.
+ * <p>
+ * Implementations are called synchronously within the render response phase, for each
+ * profiled renderer call. They must be thread-safe and should not do more than updating
+ * their own counters.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface RenderMetricsListener {
+
+    /**
+     * @param rendererType      the concrete type of the renderer
+     * @param phase             the phase that has been rendered
+     * @param durationNanos     the duration of the call in nanoseconds
+     * @param charactersWritten the number of characters written via the
+     *                          {@link de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter}
+     */
+    void recorded(Class<?> rendererType, RenderPhase phase, long durationNanos, long charactersWritten);
+}
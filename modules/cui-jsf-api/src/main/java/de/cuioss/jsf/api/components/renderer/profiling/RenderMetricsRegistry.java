@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry of {@link RenderStatistics}, one per renderer type and
+ * {@link RenderPhase}.
+ * <p>
+ * The statistics of a renderer type are created on its first call, subsequent calls
+ * solely read from a {@link ConcurrentHashMap} and update the striped counters of
+ * {@link RenderStatistics}, therefore recording does not need any lock.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class RenderMetricsRegistry {
+
+    private static final RenderPhase[] PHASES = RenderPhase.values();
+
+    private final ConcurrentMap<Class<?>, RenderStatistics[]> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param rendererType      the concrete type of the renderer, must not be null
+     * @param phase             the phase that has been rendered, must not be null
+     * @param durationNanos     the duration of the call in nanoseconds
+     * @param charactersWritten the number of characters written by the call
+     */
+    public void record(final Class<?> rendererType, final RenderPhase phase, final long durationNanos,
+            final long charactersWritten) {
+        getStatistics(rendererType, phase).record(durationNanos, charactersWritten);
+    }
+
+    /**
+     * @param rendererType the concrete type of the renderer, must not be null
+     * @param phase        the phase, must not be null
+     * @return the statistics for the given renderer type and phase, created if not
+     *         present yet
+     */
+    public RenderStatistics getStatistics(final Class<?> rendererType, final RenderPhase phase) {
+        requireNonNull(phase, "phase must not be null");
+        var perPhase = statistics.get(requireNonNull(rendererType, "rendererType must not be null"));
+        if (null == perPhase) {
+            perPhase = statistics.computeIfAbsent(rendererType, key -> createPerPhase());
+        }
+        return perPhase[phase.ordinal()];
+    }
+
+    /**
+     * @return an unmodifiable snapshot of all renderer types that have been recorded,
+     *         mapped to their statistics per phase
+     */
+    public Map<Class<?>, Map<RenderPhase, RenderStatistics>> getAllStatistics() {
+        final Map<Class<?>, Map<RenderPhase, RenderStatistics>> result = new HashMap<>();
+        statistics.forEach((type, perPhase) -> {
+            final Map<RenderPhase, RenderStatistics> phases = new EnumMap<>(RenderPhase.class);
+            for (final RenderPhase phase : PHASES) {
+                phases.put(phase, perPhase[phase.ordinal()]);
+            }
+            result.put(type, Collections.unmodifiableMap(phases));
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Removes all recorded statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    private static RenderStatistics[] createPerPhase() {
+        final var perPhase = new RenderStatistics[PHASES.length];
+        for (var i = 0; i < PHASES.length; i++) {
+            perPhase[i] = new RenderStatistics();
+        }
+        return perPhase;
+    }
+}
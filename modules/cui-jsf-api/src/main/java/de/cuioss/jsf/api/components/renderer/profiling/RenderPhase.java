@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+/**
+ * The phases of a {@link jakarta.faces.render.Renderer} that are profiled by
+ * {@link RenderProfiler}.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public enum RenderPhase {
+
+    /** Corresponds to {@code Renderer#encodeBegin}. */
+    ENCODE_BEGIN,
+
+    /**
+     * Corresponds to {@code Renderer#encodeChildren}. The recorded duration includes
+     * the rendering of the children.
+     */
+    ENCODE_CHILDREN,
+
+    /** Corresponds to {@code Renderer#encodeEnd}. */
+    ENCODE_END
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import static de.cuioss.jsf.api.common.logging.JsfApiLogMessages.INFO;
+import static de.cuioss.jsf.api.common.logging.JsfApiLogMessages.WARN;
+
+import de.cuioss.jsf.api.common.accessor.CuiProjectStageAccessor;
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.tools.string.MoreStrings;
+import jakarta.faces.context.FacesContext;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Entry point of the render profiling, see the package documentation for an overview.
+ * <p>
+ * The state is resolved once per class loader, usually on application start by
+ * {@link RenderProfilingEventListener}, otherwise on the first render call:
+ * </p>
+ * <ol>
+ * <li>If the context parameter {@value #CONTEXT_PARAM_ENABLED} is set, its boolean value
+ * is used</li>
+ * <li>Otherwise profiling is enabled within
+ * {@link de.cuioss.uimodel.application.CuiProjectStage#isDevelopment()} only</li>
+ * </ol>
+ * <p>
+ * After resolving, {@link #isEnabled(FacesContext)} solely reads a volatile field, so
+ * the profiling can be left switchable in production. The {@link RenderProfilingMXBean}
+ * is registered independently of the state, allowing to enable it at runtime.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public final class RenderProfiler {
+
+    private static final CuiLogger LOGGER = new CuiLogger(RenderProfiler.class);
+
+    /** Context parameter for explicitly enabling or disabling the render profiling. */
+    public static final String CONTEXT_PARAM_ENABLED = "de.cuioss.jsf.api.RENDER_PROFILING";
+
+    /** The name the {@link RenderProfilingMXBean} is registered with. */
+    public static final String OBJECT_NAME = "de.cuioss.jsf:type=RenderProfiling";
+
+    private static final RenderMetricsRegistry REGISTRY = new RenderMetricsRegistry();
+
+    private static final List<RenderMetricsListener> LISTENERS = loadListeners();
+
+    /** {@code null} as long as the state has not been resolved. */
+    @SuppressWarnings("java:S3077") // Boolean is immutable
+    private static volatile Boolean enabled;
+
+    private static ObjectName registeredName;
+
+    private RenderProfiler() {
+        throw new UnsupportedOperationException("This utility class must not be instantiated");
+    }
+
+    /**
+     * @param context the current {@link FacesContext}, used for resolving the initial
+     *                state, must not be null
+     * @return boolean indicating whether profiling is enabled
+     */
+    public static boolean isEnabled(final FacesContext context) {
+        final var current = enabled;
+        if (null != current) {
+            return current;
+        }
+        return initialize(context);
+    }
+
+    /**
+     * @return boolean indicating whether profiling is enabled, {@code false} if the state
+     *         has not been resolved yet
+     */
+    public static boolean isEnabled() {
+        return Boolean.TRUE.equals(enabled);
+    }
+
+    /**
+     * Switches profiling on or off, overriding the configured state.
+     *
+     * @param enable the new state
+     */
+    public static synchronized void setEnabled(final boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * @return the registry containing the recorded statistics
+     */
+    public static RenderMetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Records a single renderer call in the registry and notifies all
+     * {@link RenderMetricsListener}s. Failing listeners are logged and ignored.
+     *
+     * @param rendererType      the concrete type of the renderer, must not be null
+     * @param phase             the phase that has been rendered, must not be null
+     * @param durationNanos     the duration of the call in nanoseconds
+     * @param charactersWritten the number of characters written by the call
+     */
+    public static void record(final Class<?> rendererType, final RenderPhase phase, final long durationNanos,
+            final long charactersWritten) {
+        REGISTRY.record(rendererType, phase, durationNanos, charactersWritten);
+        for (final RenderMetricsListener listener : LISTENERS) {
+            try {
+                listener.recorded(rendererType, phase, durationNanos, charactersWritten);
+            } catch (RuntimeException e) {
+                LOGGER.warn(e, WARN.RENDER_METRICS_LISTENER_FAILED, listener.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * Resolves the initial state, if not already done, and registers the
+     * {@link RenderProfilingMXBean}.
+     *
+     * @param context the current {@link FacesContext}, must not be null
+     * @return boolean indicating whether profiling is enabled
+     */
+    static synchronized boolean initialize(final FacesContext context) {
+        if (null == enabled) {
+            enabled = resolveEnabled(context);
+            registerMBean();
+            if (enabled) {
+                LOGGER.info(INFO.RENDER_PROFILING_ENABLED, OBJECT_NAME);
+            }
+        }
+        return enabled;
+    }
+
+    static boolean resolveEnabled(final FacesContext context) {
+        final var parameter = context.getExternalContext().getInitParameter(CONTEXT_PARAM_ENABLED);
+        if (!MoreStrings.isBlank(parameter)) {
+            return Boolean.parseBoolean(parameter.trim());
+        }
+        return new CuiProjectStageAccessor().getValue().isDevelopment();
+    }
+
+    /**
+     * Unregisters the {@link RenderProfilingMXBean} and resets the state, which will be
+     * resolved again on the next call of {@link #isEnabled(FacesContext)}.
+     */
+    static synchronized void shutdown() {
+        if (null != registeredName) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            } catch (JMException e) {
+                LOGGER.warn(e, WARN.MBEAN_REGISTRATION_FAILED, OBJECT_NAME);
+            }
+            registeredName = null;
+        }
+        enabled = null;
+    }
+
+    private static void registerMBean() {
+        if (null != registeredName) {
+            return;
+        }
+        try {
+            final var name = new ObjectName(OBJECT_NAME);
+            final var server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new RenderProfiling(), name);
+                registeredName = name;
+            }
+        } catch (JMException | SecurityException e) {
+            LOGGER.warn(e, WARN.MBEAN_REGISTRATION_FAILED, OBJECT_NAME);
+        }
+    }
+
+    private static List<RenderMetricsListener> loadListeners() {
+        final List<RenderMetricsListener> listeners = new ArrayList<>();
+        ServiceLoader.load(RenderMetricsListener.class).forEach(listeners::add);
+        return List.copyOf(listeners);
+    }
+}
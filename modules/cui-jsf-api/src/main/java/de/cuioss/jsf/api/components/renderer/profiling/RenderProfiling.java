@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link RenderProfilingMXBean}, delegating to
+ * {@link RenderProfiler}.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+class RenderProfiling implements RenderProfilingMXBean {
+
+    @Override
+    public boolean isEnabled() {
+        return RenderProfiler.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        RenderProfiler.setEnabled(enabled);
+    }
+
+    @Override
+    public void reset() {
+        RenderProfiler.getRegistry().reset();
+    }
+
+    @Override
+    public Map<String, Long> getInvocationCounts() {
+        return collect(RenderStatistics::getInvocationCount);
+    }
+
+    @Override
+    public Map<String, Long> getTotalDurationNanos() {
+        return collect(RenderStatistics::getTotalNanos);
+    }
+
+    @Override
+    public Map<String, Long> getMaxDurationNanos() {
+        return collect(RenderStatistics::getMaxNanos);
+    }
+
+    @Override
+    public Map<String, Long> getCharactersWritten() {
+        return collect(RenderStatistics::getCharactersWritten);
+    }
+
+    @Override
+    public Map<String, long[]> getDurationHistograms() {
+        return collect(RenderStatistics::getHistogram);
+    }
+
+    private static <V> Map<String, V> collect(final Function<RenderStatistics, V> extractor) {
+        final Map<String, V> result = new TreeMap<>();
+        RenderProfiler.getRegistry().getAllStatistics()
+                .forEach((type, phases) -> phases.forEach((phase, statistics) -> {
+                    if (statistics.getInvocationCount() > 0) {
+                        result.put(type.getName() + '#' + phase, extractor.apply(statistics));
+                    }
+                }));
+        return result;
+    }
+}
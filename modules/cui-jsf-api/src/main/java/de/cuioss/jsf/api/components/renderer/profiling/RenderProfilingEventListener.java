@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.PostConstructApplicationEvent;
+import jakarta.faces.event.PreDestroyApplicationEvent;
+import jakarta.faces.event.SystemEvent;
+import jakarta.faces.event.SystemEventListener;
+
+/**
+ * Resolves the state of the {@link RenderProfiler} on application start and
+ * unregisters its MBean on application shutdown, preventing the class loader of the
+ * application from leaking. Registered within the faces-config of this module for
+ * {@link PostConstructApplicationEvent} and {@link PreDestroyApplicationEvent}.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class RenderProfilingEventListener implements SystemEventListener {
+
+    @Override
+    public void processEvent(final SystemEvent event) {
+        if (event instanceof PreDestroyApplicationEvent) {
+            RenderProfiler.shutdown();
+        } else if (event instanceof PostConstructApplicationEvent) {
+            RenderProfiler.initialize(FacesContext.getCurrentInstance());
+        }
+    }
+
+    @Override
+    public boolean isListenerForSource(final Object source) {
+        return true;
+    }
+}
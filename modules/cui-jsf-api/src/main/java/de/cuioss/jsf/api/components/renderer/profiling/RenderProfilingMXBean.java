@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import java.util.Map;
+
+/**
+ * JMX view on the {@link RenderMetricsRegistry} of {@link RenderProfiler}. The keys of
+ * the maps are composed of the fully qualified name of the renderer type and the
+ * {@link RenderPhase}, separated by {@code '#'}, e.g.
+ * {@code de.cuioss.jsf.MyRenderer#ENCODE_BEGIN}.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public interface RenderProfilingMXBean {
+
+    /**
+     * @return boolean indicating whether profiling is currently enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabled switches profiling on or off at runtime
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Removes all recorded statistics.
+     */
+    void reset();
+
+    /**
+     * @return the number of calls per renderer type and phase
+     */
+    Map<String, Long> getInvocationCounts();
+
+    /**
+     * @return the summed up durations in nanoseconds per renderer type and phase
+     */
+    Map<String, Long> getTotalDurationNanos();
+
+    /**
+     * @return the maximum duration of a single call in nanoseconds per renderer type and
+     *         phase
+     */
+    Map<String, Long> getMaxDurationNanos();
+
+    /**
+     * @return the number of characters written per renderer type and phase
+     */
+    Map<String, Long> getCharactersWritten();
+
+    /**
+     * @return the duration histograms per renderer type and phase, see
+     *         {@link RenderStatistics} for the definition of the buckets
+     */
+    Map<String, long[]> getDurationHistograms();
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated profiling data of a single renderer type and {@link RenderPhase}.
+ * <p>
+ * All counters are based on {@link LongAdder}, which stripes the updates across
+ * multiple cells, therefore recording is lock-free and cheap even under heavy
+ * contention. The duration histogram uses exponential buckets: Bucket {@code 0} counts
+ * the calls below one microsecond, bucket {@code i} the calls of at least
+ * {@code 2^(i-1)} and less than {@code 2^i} microseconds. The last bucket counts all
+ * remaining calls.
+ * </p>
+ * <p>
+ * Reading the values is not atomic as a whole, they are intended for monitoring only.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class RenderStatistics {
+
+    /** The number of buckets of the duration histogram. */
+    public static final int BUCKET_COUNT = 24;
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder charactersWritten = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder[] histogram = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * Creates empty statistics.
+     */
+    public RenderStatistics() {
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            histogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param durationNanos     the duration of the call in nanoseconds
+     * @param charactersWritten the number of characters written by the call
+     */
+    public void record(final long durationNanos, final long charactersWritten) {
+        invocations.increment();
+        totalNanos.add(durationNanos);
+        this.charactersWritten.add(charactersWritten);
+        maxNanos.accumulate(durationNanos);
+        histogram[bucketIndex(durationNanos)].increment();
+    }
+
+    /**
+     * @param durationNanos the duration in nanoseconds
+     * @return the index of the histogram bucket the given duration belongs to
+     */
+    static int bucketIndex(final long durationNanos) {
+        final var micros = durationNanos / 1000;
+        if (micros <= 0) {
+            return 0;
+        }
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+    }
+
+    /**
+     * @return the number of recorded calls
+     */
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    /**
+     * @return the sum of the durations of all recorded calls in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return the maximum duration of a single recorded call in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @return the average duration of the recorded calls in nanoseconds, {@code 0} if
+     *         there are none
+     */
+    public long getAverageNanos() {
+        final var count = getInvocationCount();
+        return 0 == count ? 0 : getTotalNanos() / count;
+    }
+
+    /**
+     * @return the sum of the characters written by all recorded calls
+     */
+    public long getCharactersWritten() {
+        return charactersWritten.sum();
+    }
+
+    /**
+     * @return a copy of the histogram with {@link #BUCKET_COUNT} elements
+     */
+    public long[] getHistogram() {
+        final var result = new long[BUCKET_COUNT];
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            result[i] = histogram[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     * Resets all counters to zero.
+     */
+    public void reset() {
+        invocations.reset();
+        totalNanos.reset();
+        charactersWritten.reset();
+        maxNanos.reset();
+        for (final LongAdder bucket : histogram) {
+            bucket.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RenderStatistics(invocations=" + getInvocationCount() + ", averageNanos=" + getAverageNanos()
+                + ", maxNanos=" + getMaxNanos() + ", charactersWritten=" + getCharactersWritten() + ")";
+    }
+}
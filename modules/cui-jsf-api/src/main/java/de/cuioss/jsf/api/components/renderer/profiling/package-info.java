@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <h2>Summary</h2>
+ * <p>
+ * Opt-in profiling of the render response phase for all renderer based on
+ * {@link de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer}.
+ * </p>
+ * <p>
+ * If enabled, every call of encodeBegin, encodeChildren and encodeEnd is timed and the
+ * characters written via the
+ * {@link de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter} are counted.
+ * The values are aggregated per renderer type and
+ * {@link de.cuioss.jsf.api.components.renderer.profiling.RenderPhase} into the
+ * {@link de.cuioss.jsf.api.components.renderer.profiling.RenderMetricsRegistry}.
+ * If disabled, the only overhead is reading a volatile field.
+ * </p>
+ * <h2>Configuration</h2>
+ * <p>
+ * By default profiling is enabled within
+ * {@link de.cuioss.uimodel.application.CuiProjectStage#isDevelopment()} only. The
+ * context parameter
+ * {@value de.cuioss.jsf.api.components.renderer.profiling.RenderProfiler#CONTEXT_PARAM_ENABLED}
+ * overrides this default. At runtime it can be switched using
+ * {@link de.cuioss.jsf.api.components.renderer.profiling.RenderProfiler#setEnabled(boolean)}
+ * or the corresponding JMX attribute.
+ * </p>
+ * <h2>Exposure</h2>
+ * <ul>
+ * <li>JMX: The registry is published as
+ * {@link de.cuioss.jsf.api.components.renderer.profiling.RenderProfilingMXBean} named
+ * {@value de.cuioss.jsf.api.components.renderer.profiling.RenderProfiler#OBJECT_NAME}</li>
+ * <li>SPI: Implementations of
+ * {@link de.cuioss.jsf.api.components.renderer.profiling.RenderMetricsListener}
+ * registered via {@link java.util.ServiceLoader} are notified about each recorded
+ * call, e.g. for bridging to Micrometer or MicroProfile Metrics</li>
+ * </ul>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
@@ -15,11 +15,9 @@
  */
 package de.cuioss.jsf.api.components.support;
 
-import de.cuioss.jsf.api.common.accessor.ConverterAccessor;
+import de.cuioss.jsf.api.common.util.CacheStatistics;
 import de.cuioss.portal.common.bundle.ResourceBundleWrapper;
-import de.cuioss.portal.common.cdi.PortalBeanManager;
 import de.cuioss.tools.string.MoreStrings;
-import jakarta.faces.component.html.HtmlOutputText;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.convert.Converter;
 import lombok.AccessLevel;
@@ -27,6 +25,7 @@ import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 
 import java.io.Serializable;
+import java.util.Locale;
 
 /**
  * <p>
@@ -45,6 +44,13 @@ import java.io.Serializable;
  * depending whether strictMode is set to <code>true</code>. strictMode is set
  * to <code>false</code> it will return null on that case.</li>
  * </ul>
+ * <p>
+ * Converters for the types of label values and the {@link ResourceBundleWrapper} are
+ * cached by the {@link LabelResolverEngine}. Messages resolved by key are kept per locale
+ * in an application-wide, size-bounded cache. After reloading resource bundles, it must
+ * be invalidated by {@link #invalidateMessageCache(FacesContext)}. Instances are
+ * immutable and may be used concurrently.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -54,7 +60,8 @@ import java.io.Serializable;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class LabelResolver {
 
-    private static final HtmlOutputText DUMMY = new HtmlOutputText();
+    /** The maximum number of messages resolved by key kept per application. */
+    public static final int MAX_CACHED_MESSAGES = 4096;
 
     private final String labelKey;
     private final Serializable labelValue;
@@ -76,48 +83,57 @@ public class LabelResolver {
                     "Neither labelvalue nor LabelKey is set. Either set it or use strictMode=false");
         }
         if (null != labelValue) {
+            final var engine = LabelResolverEngine.get(context);
             Converter resolvedConverter = null;
             if (converter instanceof Converter converter1) {
                 resolvedConverter = converter1;
             } else if (converter instanceof String string) {
-                resolvedConverter = resolveConverterById(string);
+                resolvedConverter = LabelResolverEngine.getConverter(string);
             } else if (null != converter) {
                 throw new IllegalStateException("Invalid converter property - can not handle " + converter.getClass());
             }
             if (null == resolvedConverter) {
-                resolvedConverter = resolveConverterByClass(labelValue.getClass());
+                resolvedConverter = engine.getConverter(labelValue.getClass());
             }
             if (null == resolvedConverter) {
                 throw new IllegalStateException(
                         "Unable to determine converter for valueClass=" + labelValue.getClass());
             }
-            DUMMY.setEscape(escape);
-            return resolvedConverter.getAsString(context, DUMMY, labelValue);
+            return resolvedConverter.getAsString(context, engine.getComponent(escape), labelValue);
         }
         if (!MoreStrings.isEmpty(labelKey)) {
-            return PortalBeanManager.resolveRequiredBean(ResourceBundleWrapper.class).getString(labelKey);
+            return LabelResolverEngine.get(context).getString(labelKey);
         }
 
         return null;
     }
 
     /**
-     * @param klazz
-     * @return
+     * Removes all cached messages of the application, e.g. after reloading the
+     * resource bundles.
+     *
+     * @param context must not be null
+     */
+    public static void invalidateMessageCache(final FacesContext context) {
+        ResolvedMessageCache.get(context).clear();
+    }
+
+    /**
+     * Removes the cached messages of the given locale.
+     *
+     * @param context must not be null
+     * @param locale  must not be null
      */
-    private static Converter resolveConverterByClass(final Class<? extends Serializable> klazz) {
-        final var accessor = new ConverterAccessor();
-        accessor.setTargetClass(klazz);
-        return accessor.getValue();
+    public static void invalidateMessageCache(final FacesContext context, final Locale locale) {
+        ResolvedMessageCache.get(context).invalidate(locale);
     }
 
     /**
-     * @param converterId
-     * @return
+     * @param context must not be null
+     * @return the statistics of the message cache of the application: A miss corresponds
+     *         to a lookup in the resource bundle
      */
-    private static Converter resolveConverterById(final String converterId) {
-        final var accessor = new ConverterAccessor();
-        accessor.setConverterId(converterId);
-        return accessor.getValue();
+    public static CacheStatistics getMessageCacheStatistics(final FacesContext context) {
+        return ResolvedMessageCache.get(context).getStatistics();
     }
 }
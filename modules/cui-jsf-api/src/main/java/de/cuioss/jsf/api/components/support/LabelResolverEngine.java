@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.support;
+
+import de.cuioss.jsf.api.common.accessor.ConverterAccessor;
+import de.cuioss.portal.common.bundle.ResourceBundleWrapper;
+import de.cuioss.portal.common.cdi.PortalBeanManager;
+import de.cuioss.portal.common.locale.PortalLocale;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.CDI;
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.html.HtmlOutputText;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.Converter;
+
+import java.io.Serial;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Request-scoped state of {@link LabelResolver}, stored in the attributes of the
+ * {@link FacesContext}.
+ * <p>
+ * Labels are resolved for nearly every component on every render, therefore the engine
+ * keeps everything that does not depend on the individual label:
+ * </p>
+ * <ul>
+ * <li>The converters for the types of label values, shared by all requests of the
+ * application and stored in the application map. Runtime registrations of converters
+ * for a type already resolved are therefore not taken into account.</li>
+ * <li>The {@link ResourceBundleWrapper}, looked up once per request. The messages
+ * resolved by it are kept in a {@link ResolvedMessageCache} for the {@link PortalLocale},
+ * the locale the wrapper resolves the messages with. Only if there is none, the locale
+ * of the view is used.</li>
+ * <li>The components passed to the converters, one per escape mode. As they are bound
+ * to the request, they are never shared between threads.</li>
+ * </ul>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class LabelResolverEngine {
+
+    static final String CONTEXT_KEY = LabelResolverEngine.class.getName();
+
+    static final String CONVERTERS_KEY = LabelResolverEngine.class.getName() + ".converters";
+
+    private final FacesContext context;
+
+    private final Map<Class<?>, Converter<?>> converters;
+
+    private ResourceBundleWrapper resourceBundle;
+
+    private ResolvedMessageCache messages;
+
+    private Instance<Locale> portalLocale;
+
+    private HtmlOutputText escapingComponent;
+
+    private HtmlOutputText nonEscapingComponent;
+
+    private LabelResolverEngine(final FacesContext context, final Map<Class<?>, Converter<?>> converters) {
+        this.context = context;
+        this.converters = converters;
+    }
+
+    /**
+     * @param context must not be null
+     * @return the instance for the current request, created on first access
+     */
+    static LabelResolverEngine get(final FacesContext context) {
+        return (LabelResolverEngine) context.getAttributes().computeIfAbsent(CONTEXT_KEY,
+                key -> new LabelResolverEngine(context, applicationConverters(context)));
+    }
+
+    @SuppressWarnings("unchecked") // Only this class writes the entry
+    private static Map<Class<?>, Converter<?>> applicationConverters(final FacesContext context) {
+        return (Map<Class<?>, Converter<?>>) context.getExternalContext().getApplicationMap()
+                .computeIfAbsent(CONVERTERS_KEY, key -> new ConcurrentHashMap<Class<?>, Converter<?>>());
+    }
+
+    /**
+     * @param type the type of the value to be converted, must not be null
+     * @return the converter for the given type, see {@link ConverterAccessor}, created once
+     *         per application
+     */
+    Converter<?> getConverter(final Class<?> type) {
+        return converters.computeIfAbsent(type, LabelResolverEngine::createConverter);
+    }
+
+    /**
+     * @param converterId must not be null
+     * @return the converter with the given id
+     * @throws IllegalStateException if there is none
+     */
+    static Converter<?> getConverter(final String converterId) {
+        final var accessor = new ConverterAccessor<>();
+        accessor.setConverterId(converterId);
+        return accessor.getValue();
+    }
+
+    private static Converter<?> createConverter(final Class<?> type) {
+        final var accessor = new ConverterAccessor<Object>();
+        @SuppressWarnings("unchecked") final var targetClass = (Class<Object>) type;
+        accessor.setTargetClass(targetClass);
+        return accessor.getValue();
+    }
+
+    /**
+     * @param escape whether the converted value is to be escaped
+     * @return the component to be passed to the converter
+     */
+    UIComponent getComponent(final boolean escape) {
+        if (escape) {
+            if (null == escapingComponent) {
+                escapingComponent = new HtmlOutputText();
+            }
+            return escapingComponent;
+        }
+        if (null == nonEscapingComponent) {
+            nonEscapingComponent = new HtmlOutputText();
+            nonEscapingComponent.setEscape(false);
+        }
+        return nonEscapingComponent;
+    }
+
+    /**
+     * @param key must not be null
+     * @return the resolved message, taken from the {@link ResolvedMessageCache} for the
+     *         locale of the current user
+     */
+    String getString(final String key) {
+        if (null == messages) {
+            messages = ResolvedMessageCache.get(context);
+        }
+        return messages.get(resolveLocale(), key, () -> getResourceBundle().getString(key));
+    }
+
+    private ResourceBundleWrapper getResourceBundle() {
+        if (null == resourceBundle) {
+            resourceBundle = PortalBeanManager.resolveRequiredBean(ResourceBundleWrapper.class);
+        }
+        return resourceBundle;
+    }
+
+    /**
+     * Not cached, as the locale may be changed while processing the request. The
+     * {@link PortalLocale} is preferred, as the {@link ResourceBundleWrapper} resolves the
+     * messages with it, which may differ from the locale of the view.
+     */
+    private Locale resolveLocale() {
+        if (null == portalLocale) {
+            portalLocale = CDI.current().select(Locale.class, PortalLocaleLiteral.INSTANCE);
+        }
+        if (portalLocale.isResolvable()) {
+            final var locale = portalLocale.get();
+            if (null != locale) {
+                return locale;
+            }
+        }
+        final var viewRoot = context.getViewRoot();
+        if (null != viewRoot) {
+            return viewRoot.getLocale();
+        }
+        return context.getApplication().getViewHandler().calculateLocale(context);
+    }
+
+    @SuppressWarnings("java:S2160") // equality is defined by AnnotationLiteral
+    private static final class PortalLocaleLiteral extends AnnotationLiteral<PortalLocale> implements PortalLocale {
+
+        @Serial
+        private static final long serialVersionUID = -3245771493281530463L;
+
+        static final PortalLocaleLiteral INSTANCE = new PortalLocaleLiteral();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.support;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
+import jakarta.faces.context.FacesContext;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Cache for messages resolved by their key, partitioned by locale, stored in the
+ * application map and therefore shared by all requests of the application.
+ * <p>
+ * Labels, titles and placeholders of components are usually defined by keys, resolved
+ * on every render of every component. The resulting text depends solely on the key and
+ * the locale, therefore it is looked up in the resource bundle only once. A locale change
+ * simply uses another partition. After reloading resource bundles, the cache must be
+ * invalidated explicitly, see {@link LabelResolver#invalidateMessageCache(FacesContext)}.
+ * </p>
+ * <p>
+ * The number of messages is bounded, the least recently used ones are evicted. Instances
+ * are thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class ResolvedMessageCache {
+
+    static final String APPLICATION_KEY = ResolvedMessageCache.class.getName();
+
+    private final LruCache<Key, String> messages;
+
+    /**
+     * @param context must not be null
+     * @return the instance of the current application, created on first access
+     */
+    static ResolvedMessageCache get(final FacesContext context) {
+        return (ResolvedMessageCache) context.getExternalContext().getApplicationMap().computeIfAbsent(
+                APPLICATION_KEY, key -> new ResolvedMessageCache(LabelResolver.MAX_CACHED_MESSAGES));
+    }
+
+    /**
+     * @param maxSize the maximum number of messages kept, must be positive
+     */
+    ResolvedMessageCache(final int maxSize) {
+        messages = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param locale  the message is resolved for, must not be null
+     * @param key     of the message, must not be null
+     * @param message resolving the message, called on a cache miss only
+     * @return the cached or newly resolved message, {@code null} messages are not cached
+     */
+    String get(final Locale locale, final String key, final Supplier<String> message) {
+        final var cacheKey = new Key(locale, key);
+        var resolved = messages.get(cacheKey);
+        if (null == resolved) {
+            resolved = message.get();
+            if (null != resolved) {
+                messages.put(cacheKey, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Removes all messages of the given locale.
+     *
+     * @param locale must not be null
+     */
+    void invalidate(final Locale locale) {
+        requireNonNull(locale);
+        messages.invalidateIf(key -> locale.equals(key.locale()));
+    }
+
+    /**
+     * Removes all messages.
+     */
+    void clear() {
+        messages.clear();
+    }
+
+    /**
+     * @return the hit and miss statistics of the messages
+     */
+    CacheStatistics getStatistics() {
+        return messages.getStatistics();
+    }
+
+    /**
+     * @return the number of messages currently kept
+     */
+    int size() {
+        return messages.size();
+    }
+
+    private record Key(Locale locale, String key) {
+
+        Key {
+            requireNonNull(locale);
+            requireNonNull(key);
+        }
+    }
+}
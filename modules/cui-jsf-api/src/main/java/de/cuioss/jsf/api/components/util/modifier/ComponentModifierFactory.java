@@ -17,13 +17,19 @@ package de.cuioss.jsf.api.components.util.modifier;
 
 import static java.util.Objects.requireNonNull;
 
+import de.cuioss.jsf.api.common.util.CacheStatistics;
 import de.cuioss.jsf.api.components.util.ComponentModifier;
 import de.cuioss.tools.logging.CuiLogger;
 import jakarta.faces.component.UIComponent;
 import lombok.experimental.UtilityClass;
 
+import java.lang.ref.WeakReference;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>Factory for creating component modifiers that provide a unified interface for
@@ -43,6 +49,20 @@ import java.util.ServiceLoader;
  * <p>This approach ensures that components can be manipulated in a consistent way regardless
  * of their specific implementation details, while still allowing for optimized handling of
  * known component types.</p>
+ *
+ * <p>The winning strategy is cached per context classloader and component class, so the
+ * SPI scan only runs once per component type. A cached resolution is verified on each use:
+ * if it does not apply to the concrete instance, the full resolution is run again. The
+ * cache can be monitored using {@link #getResolutionStatistics()}.</p>
+ *
+ * <p>The cache is held by this class only, in a {@link WeakHashMap} keyed by the context
+ * classloader. Nothing is attached to the component classes, which may be loaded by the
+ * container, e.g. {@code HtmlInputText}, and would otherwise pin the classloader of the
+ * web application after undeploying it. The resolvers are referenced strongly by their
+ * classloader's entry. As they are usually loaded by that very classloader, an entry is
+ * only released together with this class, which is the case if this library is deployed
+ * as part of the web application. {@link #clearResolutionCache()} releases all entries
+ * explicitly.</p>
  * 
  * <p>Example usage:</p>
  * <pre>
@@ -69,6 +89,26 @@ public class ComponentModifierFactory {
      */
     private static final CuiLogger LOGGER = new CuiLogger(ComponentModifierFactory.class);
 
+    private static final ComponentModifierResolver INTERFACE_BASED = CuiInterfaceBasedModifier::wrap;
+
+    private static final ComponentModifierResolver REFLECTION_BASED = component -> Optional
+            .of(new ReflectionBasedModifier(component));
+
+    /**
+     * Remembers the winning strategy for each component class, per context classloader.
+     * Guarded by its own monitor.
+     */
+    private static final Map<ClassLoader, Map<Class<?>, ComponentModifierResolver>> RESOLUTIONS =
+            new WeakHashMap<>();
+
+    /**
+     * The resolutions of the most recently used classloader, usually the only one, looked up
+     * without locking.
+     */
+    private static volatile LoaderResolutions recent;
+
+    private static final CacheStatistics STATISTICS = new CacheStatistics();
+
     /**
      * <p>Retrieves the most appropriate {@link ComponentModifier} implementation for
      * the given UIComponent.</p>
@@ -94,21 +134,67 @@ public class ComponentModifierFactory {
     public static ComponentModifier findFittingWrapper(final UIComponent toBeWrapped) {
         requireNonNull(toBeWrapped);
 
+        var type = toBeWrapped.getClass();
+        var resolutions = resolutionsFor(Thread.currentThread().getContextClassLoader());
+        var resolver = resolutions.get(type);
+        if (null != resolver) {
+            var cached = resolver.wrap(toBeWrapped);
+            if (cached.isPresent()) {
+                STATISTICS.recordHit();
+                return cached.get();
+            }
+        }
+        STATISTICS.recordMiss();
+
         LOGGER.trace("Resolving for %s. First try from SPI", toBeWrapped.getClass());
 
         var iterator = loadResolver();
         while (iterator.hasNext()) {
-            var resolved = iterator.next().wrap(toBeWrapped);
+            var candidate = iterator.next();
+            var resolved = candidate.wrap(toBeWrapped);
             if (resolved.isPresent()) {
                 LOGGER.trace("Resolved %s for %s", resolved.get().getClass(), toBeWrapped.getClass());
+                resolutions.put(type, candidate);
                 return resolved.get();
             }
         }
         LOGGER.trace("Not Found by SPI, checking interfaces-based");
         var wrapper = CuiInterfaceBasedModifier.wrap(toBeWrapped);
+        resolutions.put(type, wrapper.isPresent() ? INTERFACE_BASED : REFLECTION_BASED);
         return wrapper.orElse(new ReflectionBasedModifier(toBeWrapped));
     }
 
+    private static Map<Class<?>, ComponentModifierResolver> resolutionsFor(final ClassLoader loader) {
+        var current = recent;
+        if (null != current && current.loader.get() == loader) {
+            return current.resolutions;
+        }
+        synchronized (RESOLUTIONS) {
+            var resolutions = RESOLUTIONS.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+            recent = new LoaderResolutions(loader, resolutions);
+            return resolutions;
+        }
+    }
+
+    /**
+     * @return the statistics of the per component class resolution cache
+     */
+    public static CacheStatistics getResolutionStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Invalidates all cached resolutions, e.g. after {@link ComponentModifierResolver}
+     * implementations have been added to the classpath at runtime.
+     * The statistics are not reset.
+     */
+    public static void clearResolutionCache() {
+        synchronized (RESOLUTIONS) {
+            RESOLUTIONS.clear();
+            recent = null;
+        }
+    }
+
     /**
      * <p>Loads all {@link ComponentModifierResolver} implementations registered via the
      * Java Service Provider Interface (SPI) mechanism.</p>
@@ -123,4 +209,18 @@ public class ComponentModifierFactory {
         ServiceLoader<ComponentModifierResolver> loader = ServiceLoader.load(ComponentModifierResolver.class);
         return loader.iterator();
     }
+
+    /**
+     * The resolutions of a single classloader, which is only weakly referenced.
+     */
+    private static final class LoaderResolutions {
+
+        private final WeakReference<ClassLoader> loader;
+        private final Map<Class<?>, ComponentModifierResolver> resolutions;
+
+        LoaderResolutions(final ClassLoader loader, final Map<Class<?>, ComponentModifierResolver> resolutions) {
+            this.loader = new WeakReference<>(loader);
+            this.resolutions = resolutions;
+        }
+    }
 }
@@ -22,6 +22,12 @@ import java.util.Optional;
 
 /**
  * Used for the SPI to define Resolver for concrete {@link ComponentModifier}
+ * <p>
+ * {@link ComponentModifierFactory} caches the resolver that matched for a given
+ * component class. Implementations should therefore decide on the type of the
+ * component only. If a cached resolver returns an empty {@link Optional} for an
+ * instance the full resolution is run again.
+ * </p>
  *
  * @author Oliver Wolff
  *
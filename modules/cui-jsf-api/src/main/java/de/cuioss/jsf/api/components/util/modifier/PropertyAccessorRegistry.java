@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.util.modifier;
+
+import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.tools.property.PropertyReadWrite;
+import de.cuioss.tools.property.PropertyUtil;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class-level registry of compiled property accessors used by
+ * {@link ReflectionBasedModifier}.
+ * <p>
+ * For each component class the accessors are resolved once and shared by all
+ * modifier instances. Getters and setters are compiled into {@link MethodHandle}s.
+ * If a handle can not be created, e.g. because the accessor is not accessible,
+ * the accessor falls back to {@link PropertyUtil}. Readability and writeability
+ * are determined by {@link PropertyReadWrite}, like before.
+ * </p>
+ * <p>
+ * The registry is based on {@link ClassValue}, therefore it does not prevent
+ * component classes from being unloaded.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class PropertyAccessorRegistry {
+
+    private static final CuiLogger LOGGER = new CuiLogger(PropertyAccessorRegistry.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyAccessor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private PropertyAccessorRegistry() {
+    }
+
+    /**
+     * @param beanType     the type of the bean, must not be null
+     * @param propertyName the name of the property, must not be null
+     * @return the shared accessor for the given property
+     */
+    static PropertyAccessor resolve(final Class<?> beanType, final String propertyName) {
+        return ACCESSORS.get(beanType).computeIfAbsent(propertyName, name -> compile(beanType, name));
+    }
+
+    private static PropertyAccessor compile(final Class<?> beanType, final String propertyName) {
+        var readWrite = PropertyReadWrite.resolveForBean(beanType, propertyName);
+        MethodHandle getter = null;
+        MethodHandle setter = null;
+        var descriptor = findDescriptor(beanType, propertyName);
+        if (null != descriptor) {
+            if (readWrite.isReadable()) {
+                getter = toHandle(descriptor.getReadMethod(), GETTER_TYPE);
+            }
+            if (readWrite.isWriteable()) {
+                setter = toHandle(descriptor.getWriteMethod(), SETTER_TYPE);
+            }
+        }
+        LOGGER.trace("Compiled accessor for %s#%s, getter-handle=%s, setter-handle=%s", beanType, propertyName,
+                null != getter, null != setter);
+        return new PropertyAccessor(propertyName, readWrite.isReadable(), readWrite.isWriteable(), getter, setter);
+    }
+
+    private static PropertyDescriptor findDescriptor(final Class<?> beanType, final String propertyName) {
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(beanType).getPropertyDescriptors()) {
+                if (propertyName.equals(descriptor.getName())) {
+                    return descriptor;
+                }
+            }
+        } catch (IntrospectionException e) {
+            LOGGER.trace(e, "Unable to introspect %s, falling back to reflection", beanType);
+        }
+        return null;
+    }
+
+    private static MethodHandle toHandle(final Method method, final MethodType type) {
+        if (null == method) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            if (method.trySetAccessible()) {
+                try {
+                    return MethodHandles.lookup().unreflect(method).asType(type);
+                } catch (IllegalAccessException inner) {
+                    LOGGER.trace(inner, "Unable to access %s, falling back to reflection", method);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accessor for a single property of a concrete bean type.
+     */
+    static final class PropertyAccessor {
+
+        private final String name;
+        private final boolean readable;
+        private final boolean writeable;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        PropertyAccessor(final String name, final boolean readable, final boolean writeable,
+                final MethodHandle getter, final MethodHandle setter) {
+            this.name = name;
+            this.readable = readable;
+            this.writeable = writeable;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean isReadable() {
+            return readable;
+        }
+
+        boolean isWriteable() {
+            return writeable;
+        }
+
+        Object read(final Object bean) {
+            if (null == getter) {
+                return PropertyUtil.readProperty(bean, name);
+            }
+            try {
+                return (Object) getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to read property " + name + " from " + bean.getClass(), e);
+            }
+        }
+
+        void write(final Object bean, final Object value) {
+            if (null == setter) {
+                PropertyUtil.setProperty(bean, name, value);
+                return;
+            }
+            try {
+                setter.invokeExact(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to write property " + name + " on " + bean.getClass(), e);
+            }
+        }
+    }
+}
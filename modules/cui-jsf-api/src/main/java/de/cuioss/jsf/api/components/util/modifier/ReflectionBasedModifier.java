@@ -21,19 +21,19 @@ import de.cuioss.jsf.api.components.partial.ComponentStyleClassProviderImpl;
 import de.cuioss.jsf.api.components.partial.ForIdentifierProvider;
 import de.cuioss.jsf.api.components.partial.StyleAttributeProviderImpl;
 import de.cuioss.jsf.api.components.util.ComponentModifier;
-import de.cuioss.tools.property.PropertyReadWrite;
-import de.cuioss.tools.property.PropertyUtil;
+import de.cuioss.jsf.api.components.util.modifier.PropertyAccessorRegistry.PropertyAccessor;
 import jakarta.faces.component.EditableValueHolder;
 import jakarta.faces.component.UIComponent;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Implementation of {@link ComponentModifier} that uses reflection in order to
  * determine the corresponding methods.
+ * <p>
+ * The accessors are resolved and compiled once per component class and shared
+ * between all instances, see {@link PropertyAccessorRegistry}.
+ * </p>
  *
  * @author Oliver Wolff
  */
@@ -57,8 +57,6 @@ public class ReflectionBasedModifier implements ComponentModifier {
     @Getter
     private final UIComponent component;
 
-    private final Map<String, PropertyReadWrite> description;
-
     @Getter
     private final boolean editableValueHolder;
 
@@ -68,19 +66,18 @@ public class ReflectionBasedModifier implements ComponentModifier {
     public ReflectionBasedModifier(final UIComponent component) {
         this.component = requireNonNull(component);
         editableValueHolder = component instanceof EditableValueHolder;
-        description = new HashMap<>();
     }
 
-    private PropertyReadWrite supportsAttribute(final String attributeName) {
-        return description.computeIfAbsent(attributeName,
-                key -> PropertyReadWrite.resolveForBean(getComponent().getClass(), key));
+    private PropertyAccessor supportsAttribute(final String attributeName) {
+        return PropertyAccessorRegistry.resolve(getComponent().getClass(), attributeName);
     }
 
     private Object readAttribute(final String attributeName) {
-        if (!supportsAttribute(attributeName).isReadable()) {
+        var accessor = supportsAttribute(attributeName);
+        if (!accessor.isReadable()) {
             throw new UnsupportedOperationException("Attribute not supported " + attributeName);
         }
-        return PropertyUtil.readProperty(getComponent(), attributeName);
+        return accessor.read(getComponent());
     }
 
     private boolean readBooleanAttribute(final String attributeName) {
@@ -92,10 +89,11 @@ public class ReflectionBasedModifier implements ComponentModifier {
     }
 
     private void writeAttribute(final String attributeName, final Object value) {
-        if (!supportsAttribute(attributeName).isWriteable()) {
+        var accessor = supportsAttribute(attributeName);
+        if (!accessor.isWriteable()) {
             throw new UnsupportedOperationException("Attribute not supported " + attributeName);
         }
-        PropertyUtil.setProperty(getComponent(), attributeName, value);
+        accessor.write(getComponent(), value);
     }
 
     @Override
@@ -17,6 +17,8 @@ package de.cuioss.jsf.api.security;
 
 import static de.cuioss.tools.string.MoreStrings.nullToEmpty;
 
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
 import de.cuioss.tools.collect.MapBuilder;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +26,6 @@ import org.owasp.html.HtmlPolicyBuilder;
 import org.owasp.html.PolicyFactory;
 
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
@@ -50,6 +51,12 @@ import java.util.regex.Pattern;
  * Each enum constant represents a different sanitizing policy with varying levels 
  * of HTML elements and attributes allowed.
  * </p>
+ * <p>
+ * The results are cached per policy in a bounded LRU cache, because the same display
+ * strings are usually sanitized on every render. Only inputs up to
+ * {@value #MAX_CACHEABLE_LENGTH} characters are cached. The cache can be monitored
+ * using {@link #getCacheStatistics()}.
+ * </p>
  * 
  * @author Oliver Wolff
  */
@@ -117,6 +124,12 @@ public enum CuiSanitizer implements UnaryOperator<String> {
     /** The ampersand entity. */
     private static final String AMP = "&amp;";
 
+    /** Maximum number of cached results per policy. */
+    public static final int CACHE_SIZE = 1024;
+
+    /** Inputs longer than this are sanitized without being cached. */
+    public static final int MAX_CACHEABLE_LENGTH = 2048;
+
     /**
      * The corresponding policy factory from OWASP HTML Sanitizer.
      */
@@ -136,40 +149,20 @@ public enum CuiSanitizer implements UnaryOperator<String> {
             .put("&lt;", "<").put("&gt;", ">").put("&#96;", "`").toImmutableMap();
 
     /**
-     * Handles recursive HTML entity escaping.
+     * Single-pass decoder for {@link #specialChars}.
      * <p>
      * It is possible to use '&amp;' as '&amp;amp;'. This means that entities can be
      * escaped recursively, creating constructs like "&amp;amp;amp;lt". The sanitizer
-     * doesn't handle this case by default, so this method provides a workaround.
+     * doesn't handle this case by default, therefore the decoder collapses these
+     * constructs before sanitizing, see {@link EntityDecoder#collapseAndDecode(String)}.
      * </p>
-     *
-     * @param input input string that may contain double-escaped entities
-     * @return input where all '&amp;amp;' sequences are replaced with '&amp;'
      */
-    private String catchDoubleEscape(final String input) {
-        if (!input.contains(AMP)) {
-            return input;
-        }
-        return catchDoubleEscape(input.replace(AMP, "&"));
-    }
+    private final EntityDecoder entityDecoder = new EntityDecoder(specialChars, AMP);
 
     /**
-     * Replaces HTML entities with their character representation.
-     * <p>
-     * Some HTML entities should be replaced by their string representation for correct
-     * sanitizing and to ensure consistent output.
-     * </p>
-     *
-     * @param input input string that may contain HTML entities
-     * @return string with entities replaced by their character representation
+     * Cache for the sanitized results.
      */
-    private String replaceEscaped(final String input) {
-        var sanitizedValue = input;
-        for (final Entry<String, String> e : specialChars.entrySet()) {
-            sanitizedValue = sanitizedValue.replaceAll(e.getKey(), e.getValue());
-        }
-        return sanitizedValue;
-    }
+    private final LruCache<String, String> cache = new LruCache<>(CACHE_SIZE);
 
     /**
      * Sanitizes the given HTML string according to the policy defined by this enum constant.
@@ -187,23 +180,48 @@ public enum CuiSanitizer implements UnaryOperator<String> {
             if (null == policyFactory) {
                 return untrustedHtml;
             }
-            if (!preserveEntities) {
-                return policyFactory.sanitize(untrustedHtml);
+            if (untrustedHtml.length() > MAX_CACHEABLE_LENGTH) {
+                return sanitize(untrustedHtml);
             }
-            // catch constructs like '&amp;amp;lt'
-            var sanitizedValue = catchDoubleEscape(untrustedHtml);
-
-            // replace '&lt' with '<' and so on to catch scripts tags.
-            sanitizedValue = replaceEscaped(sanitizedValue);
+            var cached = cache.get(untrustedHtml);
+            if (null == cached) {
+                cached = sanitize(untrustedHtml);
+                if (null != cached) {
+                    cache.put(untrustedHtml, cached);
+                }
+            }
+            return cached;
+        }
+        return nullToEmpty(untrustedHtml);
+    }
 
-            sanitizedValue = policyFactory.sanitize(sanitizedValue);
+    private String sanitize(final String untrustedHtml) {
+        if (!preserveEntities) {
+            return policyFactory.sanitize(untrustedHtml);
+        }
+        // catch constructs like '&amp;amp;lt' and replace '&lt' with '<' and so on to catch scripts tags.
+        var sanitizedValue = entityDecoder.collapseAndDecode(untrustedHtml);
 
-            if (null == sanitizedValue) {
-                return "";
-            }
+        sanitizedValue = policyFactory.sanitize(sanitizedValue);
 
-            return replaceEscaped(sanitizedValue);
+        if (null == sanitizedValue) {
+            return "";
         }
-        return nullToEmpty(untrustedHtml);
+
+        return entityDecoder.decode(sanitizedValue);
+    }
+
+    /**
+     * @return the statistics of the result cache of this policy
+     */
+    public CacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Removes all cached results of this policy.
+     */
+    public void clearCache() {
+        cache.clear();
     }
 }
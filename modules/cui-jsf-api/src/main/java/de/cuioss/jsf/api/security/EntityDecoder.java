@@ -0,0 +1,183 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.security;
+
+import java.util.Map;
+
+/**
+ * Single-pass replacement of a fixed set of HTML entities, used by the
+ * {@code *_PRESERVE_ENTITIES} variants of {@link CuiSanitizer}.
+ * <p>
+ * The output is identical to applying {@link String#replace(CharSequence, CharSequence)}
+ * for each entry of the given map in its iteration order, but the input is scanned only
+ * once and no intermediate strings are created. Strings without any '&amp;' are returned
+ * as they are.
+ * </p>
+ * <p>
+ * The only interaction between the sequential replacements is the ampersand entity:
+ * Replacing it yields a new '&amp;' that may form an entity together with the following
+ * text. Such an entity is only replaced by the sequential approach, if it is processed
+ * after the ampersand entity. This is reproduced by {@link #decode(String)}.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class EntityDecoder {
+
+    private static final char AMPERSAND = '&';
+
+    private final String ampersandEntity;
+
+    private final String[] entities;
+
+    private final String[] replacements;
+
+    /** Index of the ampersand entity within {@link #entities}, -1 if not present. */
+    private final int ampersandIndex;
+
+    /**
+     * @param replacementMap  the entities to be replaced, each one must start with '&amp;'
+     *                        and must not contain any further '&amp;'.
+     * @param ampersandEntity the entity representing the ampersand itself, usually "&amp;amp;"
+     */
+    EntityDecoder(final Map<String, String> replacementMap, final String ampersandEntity) {
+        this.ampersandEntity = ampersandEntity;
+        entities = new String[replacementMap.size()];
+        replacements = new String[replacementMap.size()];
+        var index = 0;
+        var ampIndex = -1;
+        for (Map.Entry<String, String> entry : replacementMap.entrySet()) {
+            entities[index] = entry.getKey();
+            replacements[index] = entry.getValue();
+            if (ampersandEntity.equals(entry.getKey())) {
+                ampIndex = index;
+            }
+            index++;
+        }
+        ampersandIndex = ampIndex;
+    }
+
+    /**
+     * Equivalent to first replacing all ampersand entities recursively, until none is left,
+     * and afterwards replacing all entities.
+     *
+     * @param input must not be null
+     * @return the decoded string
+     */
+    String collapseAndDecode(final String input) {
+        var start = input.indexOf(AMPERSAND);
+        if (start < 0) {
+            return input;
+        }
+        var length = input.length();
+        var result = new StringBuilder(length);
+        result.append(input, 0, start);
+        var position = start;
+        while (position < length) {
+            var current = input.charAt(position);
+            if (current != AMPERSAND) {
+                result.append(current);
+                position++;
+                continue;
+            }
+            // Skip constructs like '&amp;amp;amp;'
+            var next = position + 1;
+            while (matchesTail(ampersandEntity, input, next)) {
+                next += ampersandEntity.length() - 1;
+            }
+            var match = findTail(input, next, -1);
+            if (match < 0) {
+                result.append(AMPERSAND);
+                position = next;
+            } else {
+                result.append(replacements[match]);
+                position = next + entities[match].length() - 1;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Equivalent to replacing each entity sequentially in the order of the map given
+     * to the constructor.
+     *
+     * @param input must not be null
+     * @return the decoded string
+     */
+    String decode(final String input) {
+        var start = input.indexOf(AMPERSAND);
+        if (start < 0) {
+            return input;
+        }
+        var length = input.length();
+        var result = new StringBuilder(length);
+        result.append(input, 0, start);
+        var position = start;
+        while (position < length) {
+            var current = input.charAt(position);
+            if (current != AMPERSAND) {
+                result.append(current);
+                position++;
+                continue;
+            }
+            var match = findTail(input, position + 1, -2);
+            if (match < 0) {
+                result.append(AMPERSAND);
+                position++;
+            } else if (match != ampersandIndex) {
+                result.append(replacements[match]);
+                position += entities[match].length();
+            } else {
+                // The resulting '&' may only be combined with entities replaced later on
+                var next = position + entities[match].length();
+                var combined = findTail(input, next, ampersandIndex);
+                if (combined < 0) {
+                    result.append(replacements[match]);
+                    position = next;
+                } else {
+                    result.append(replacements[combined]);
+                    position = next + entities[combined].length() - 1;
+                }
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param input    the input string
+     * @param offset   the position directly behind an '&amp;'
+     * @param minIndex only entities with an index greater than this are considered,
+     *                 -1 excludes the ampersand entity, -2 considers all entities
+     * @return the index of the entity whose tail (the part behind the '&amp;') matches at
+     *         the given offset, -1 if none matches
+     */
+    private int findTail(final String input, final int offset, final int minIndex) {
+        for (var i = Math.max(0, minIndex + 1); i < entities.length; i++) {
+            if ((minIndex != -1 || i != ampersandIndex) && matchesTail(entities[i], input, offset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesTail(final String entity, final String input, final int offset) {
+        return entity.regionMatches(1, input, offset, entity.length() - 1);
+    }
+}
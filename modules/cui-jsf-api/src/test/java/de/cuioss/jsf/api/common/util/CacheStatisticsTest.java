@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for CacheStatistics")
+class CacheStatisticsTest {
+
+    @Test
+    @DisplayName("Should count and reset")
+    void shouldCountAndReset() {
+        // Arrange
+        var statistics = new CacheStatistics();
+        assertEquals(0.0, statistics.getHitRate(), "Empty statistics should have a hit rate of 0");
+
+        // Act
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordHit();
+        statistics.recordMiss();
+        statistics.recordEviction();
+
+        // Assert
+        assertEquals(3, statistics.getHitCount(), "Hits should be counted");
+        assertEquals(1, statistics.getMissCount(), "Misses should be counted");
+        assertEquals(1, statistics.getEvictionCount(), "Evictions should be counted");
+        assertEquals(0.75, statistics.getHitRate(), "Hit rate should be computed");
+
+        statistics.reset();
+        assertEquals(0, statistics.getHitCount() + statistics.getMissCount() + statistics.getEvictionCount(),
+                "All counters should be reset");
+    }
+}
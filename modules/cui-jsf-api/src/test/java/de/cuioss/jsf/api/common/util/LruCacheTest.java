@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+@DisplayName("Tests for LruCache")
+class LruCacheTest {
+
+    @Test
+    @DisplayName("Should evict least recently used element")
+    void shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        var cache = new LruCache<String, String>(2);
+        cache.put("1", "one");
+        cache.put("2", "two");
+
+        // Act
+        cache.get("1");
+        cache.put("3", "three");
+
+        // Assert
+        assertEquals(2, cache.size(), "Cache should be bounded");
+        assertNull(cache.get("2"), "Least recently used element should be evicted");
+        assertEquals("one", cache.get("1"), "Recently used element should be kept");
+        assertEquals(1, cache.getStatistics().getEvictionCount(), "Eviction should be recorded");
+    }
+
+    @Test
+    @DisplayName("Should evict in batches down to 90 percent")
+    void shouldEvictInBatches() {
+        // Arrange
+        var cache = new LruCache<Integer, Integer>(100);
+        for (var i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        cache.get(0);
+
+        // Act
+        cache.put(100, 100);
+
+        // Assert
+        assertEquals(90, cache.size(), "Cache should be reduced to 90 percent");
+        assertEquals(11, cache.getStatistics().getEvictionCount(), "Evictions should be recorded");
+        assertEquals(Integer.valueOf(0), cache.get(0), "Recently used element should be kept");
+        assertEquals(Integer.valueOf(100), cache.get(100), "Inserted element should be kept");
+        assertNull(cache.get(1), "Least recently used element should be evicted");
+    }
+
+    @Test
+    @DisplayName("Should compute absent values once")
+    void shouldComputeIfAbsent() {
+        // Arrange
+        var cache = new LruCache<String, Integer>(8);
+
+        // Act
+        var first = cache.computeIfAbsent("abc", String::length);
+        var second = cache.computeIfAbsent("abc", key -> -1);
+
+        // Assert
+        assertEquals(3, first, "Value should be computed");
+        assertEquals(3, second, "Value should be served from cache");
+        assertEquals(1, cache.getStatistics().getHitCount(), "Hit should be recorded");
+        assertEquals(1, cache.getStatistics().getMissCount(), "Miss should be recorded");
+
+        cache.invalidate("abc");
+        assertEquals(0, cache.size(), "Invalidated element should be removed");
+    }
+
+    @Test
+    @DisplayName("Should invalidate matching elements")
+    void shouldInvalidateIf() {
+        // Arrange
+        var cache = new LruCache<String, String>(8);
+        cache.put("menu:de", "1");
+        cache.put("menu:en", "2");
+        cache.put("footer:de", "3");
+
+        // Act
+        cache.invalidateIf(key -> key.startsWith("menu:"));
+
+        // Assert
+        assertEquals(1, cache.size(), "Only non-matching element should be kept");
+        assertEquals("3", cache.get("footer:de"), "Non-matching element should be kept");
+    }
+
+    @Test
+    @DisplayName("Should stay bounded under concurrent access")
+    void shouldStayBoundedConcurrently() throws Exception {
+        // Arrange
+        var cache = new LruCache<Integer, Integer>(16);
+        var tasks = new ArrayList<Callable<Void>>();
+        for (var thread = 0; thread < 4; thread++) {
+            final var offset = thread;
+            tasks.add(() -> {
+                for (var i = 0; i < 1000; i++) {
+                    final Integer key = (i * 4 + offset) % 64;
+                    assertEquals(key, cache.computeIfAbsent(key, Integer::valueOf));
+                }
+                return null;
+            });
+        }
+
+        // Act
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 16, "Cache should be bounded");
+        assertEquals(4000, cache.getStatistics().getHitCount() + cache.getStatistics().getMissCount(),
+                "Every lookup should be recorded");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid size")
+    void shouldRejectInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(0));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.impl.TokenizedStyleClassBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for StyleClassBuilderFactory")
+class StyleClassBuilderFactoryTest {
+
+    @AfterEach
+    void resetFactory() {
+        StyleClassBuilderFactory.activate(StyleClassBuilderFactory.LIST_BASED);
+    }
+
+    @Test
+    @DisplayName("Should default to list based builders")
+    void shouldDefaultToListBased() {
+        assertEquals(StyleClassBuilderFactory.LIST_BASED, StyleClassBuilderFactory.getActive());
+        assertInstanceOf(StyleClassBuilderImpl.class, StyleClassBuilderFactory.create());
+        assertEquals("btn", StyleClassBuilderFactory.create("btn").getStyleClass());
+    }
+
+    @Test
+    @DisplayName("Should switch to tokenized builders")
+    void shouldSwitchToTokenized() {
+        StyleClassBuilderFactory.activate(StyleClassBuilderFactory.TOKENIZED);
+        assertInstanceOf(TokenizedStyleClassBuilder.class, StyleClassBuilderFactory.create());
+        assertEquals("btn", StyleClassBuilderFactory.create("btn").getStyleClass());
+        assertEquals("primary", ContextState.PRIMARY.getStyleClassBuilder().getStyleClass());
+    }
+
+    @Test
+    @DisplayName("Should reject null factory")
+    void shouldRejectNull() {
+        assertThrows(IllegalArgumentException.class, () -> StyleClassBuilderFactory.activate(null));
+    }
+}
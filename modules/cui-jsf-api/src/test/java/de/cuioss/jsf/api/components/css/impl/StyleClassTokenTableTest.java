@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.cuioss.jsf.api.components.css.ContextSize;
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.css.CssCommon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for StyleClassTokenTable")
+class StyleClassTokenTableTest {
+
+    @Test
+    @DisplayName("Should be pre-populated with the api tokens")
+    void shouldContainApiTokens() {
+        for (CssCommon common : CssCommon.values()) {
+            assertNotEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf(common.getStyleClass()));
+        }
+        assertNotEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf(ContextState.DANGER.getStyleClass()));
+        assertNotEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf(ContextSize.LG.getStyleClass()));
+        assertEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf((String) null));
+    }
+
+    @Test
+    @DisplayName("Should resolve regions and registered tokens")
+    void shouldResolveRegions() {
+        StyleClassTokenTable.register("token-table-one token-table-two", null, "token-table-one");
+        var source = "foo token-table-two bar";
+        var id = StyleClassTokenTable.indexOf(source, 4, 19);
+        assertNotEquals(StyleClassTokenTable.UNKNOWN, id);
+        assertEquals("token-table-two", StyleClassTokenTable.token(id));
+        assertEquals(id, StyleClassTokenTable.indexOf("token-table-two"));
+        assertEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf(source, 0, 3));
+
+        var size = StyleClassTokenTable.size();
+        StyleClassTokenTable.register("token-table-one");
+        assertEquals(size, StyleClassTokenTable.size());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.css.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.css.CssCommon;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.UUID;
+
+@DisplayName("Tests for TokenizedStyleClassBuilder")
+class TokenizedStyleClassBuilderTest {
+
+    private static final String COMBINED_CLASS = "some class";
+
+    private static final String CSS_CLASS = "cssClass";
+
+    @Nested
+    @DisplayName("Tests for constructors and empty handling")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should create empty builder")
+        void shouldCreateEmptyBuilder() {
+            assertFalse(new TokenizedStyleClassBuilder().isAvailable());
+            assertEquals("", new TokenizedStyleClassBuilder().getStyleClass());
+            assertFalse(new TokenizedStyleClassBuilder(null).isAvailable());
+            assertFalse(new TokenizedStyleClassBuilder("  ").isAvailable());
+        }
+
+        @Test
+        @DisplayName("Should handle CSS string in constructor")
+        void shouldHandleCssStringInConstructor() {
+            var builder = new TokenizedStyleClassBuilder(COMBINED_CLASS);
+            assertTrue(builder.isAvailable());
+            assertEquals(COMBINED_CLASS, builder.getStyleClass());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for style class manipulation")
+    class StyleClassManipulationTests {
+
+        @Test
+        @DisplayName("Should ignore duplicates of known and unknown tokens")
+        void shouldIgnoreDuplicates() {
+            var builder = new TokenizedStyleClassBuilder();
+            builder.append(COMBINED_CLASS).append(CssCommon.DISABLED).append(COMBINED_CLASS)
+                    .append(" disabled ");
+            assertEquals(COMBINED_CLASS + " disabled", builder.getStyleClass());
+        }
+
+        @Test
+        @DisplayName("Should remove and toggle tokens")
+        void shouldRemoveAndToggle() {
+            var builder = new TokenizedStyleClassBuilder(CSS_CLASS);
+            builder.append(COMBINED_CLASS).append(ContextState.PRIMARY);
+
+            builder.remove("class");
+            assertEquals(CSS_CLASS + " some primary", builder.getStyleClass());
+
+            builder.toggle(ContextState.PRIMARY).toggle(CssCommon.PULL_LEFT);
+            assertEquals(CSS_CLASS + " some pull-left", builder.getStyleClass());
+
+            builder.remove(new TokenizedStyleClassBuilder(CSS_CLASS + " some pull-left"));
+            assertFalse(builder.isAvailable());
+        }
+
+        @Test
+        @DisplayName("Should append other builders")
+        void shouldAppendOtherBuilders() {
+            var builder = new TokenizedStyleClassBuilder(CSS_CLASS);
+            builder.append(new TokenizedStyleClassBuilder("disabled " + CSS_CLASS))
+                    .append(new StyleClassBuilderImpl(COMBINED_CLASS));
+            assertEquals(CSS_CLASS + " disabled " + COMBINED_CLASS, builder.getStyleClass());
+        }
+
+        @Test
+        @DisplayName("Should cache the joined string until mutated")
+        void shouldCacheJoinedString() {
+            var builder = new TokenizedStyleClassBuilder(COMBINED_CLASS);
+            var first = builder.getStyleClass();
+            assertSame(first, builder.getStyleClass());
+
+            builder.append(CssCommon.DISABLED);
+            assertNotEquals(first, builder.getStyleClass());
+        }
+
+        @Test
+        @DisplayName("Should behave like StyleClassBuilderImpl")
+        void shouldBehaveLikeListBasedImplementation() {
+            var tokenized = new TokenizedStyleClassBuilder("a b");
+            var listBased = new StyleClassBuilderImpl("a b");
+            tokenized.append("c").toggle("a").append(CssCommon.PULL_RIGHT).remove("b").toggle("a");
+            listBased.append("c").toggle("a").append(CssCommon.PULL_RIGHT).remove("b").toggle("a");
+            assertEquals(listBased.getStyleClass(), tokenized.getStyleClass());
+        }
+
+        @Test
+        @DisplayName("Should match tokens registered after being added")
+        void shouldMatchLateRegisteredTokens() {
+            // The table is global, therefore the tokens must be unique to this test
+            var late = "late-" + UUID.randomUUID();
+            var other = "other-" + UUID.randomUUID();
+            var builder = new TokenizedStyleClassBuilder(late + " " + other);
+            var copy = new TokenizedStyleClassBuilder(late);
+            assertEquals(StyleClassTokenTable.UNKNOWN, StyleClassTokenTable.indexOf(late));
+
+            StyleClassTokenTable.register(late, other);
+
+            builder.append(late);
+            assertEquals(late + " " + other, builder.getStyleClass(), "Token should not be duplicated");
+            builder.append(copy);
+            assertEquals(late + " " + other, builder.getStyleClass(), "Copied token should not be duplicated");
+            builder.toggle(other);
+            assertEquals(late, builder.getStyleClass(), "Token should be toggled");
+            builder.remove(late);
+            assertFalse(builder.isAvailable(), "Token should be removed");
+        }
+    }
+
+    @Test
+    @DisplayName("Should survive serialization")
+    void shouldSerialize() throws IOException, ClassNotFoundException {
+        var builder = new TokenizedStyleClassBuilder(COMBINED_CLASS);
+        builder.append(CssCommon.DISABLED);
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(builder);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var read = (TokenizedStyleClassBuilder) in.readObject();
+            assertEquals(builder, read);
+            assertEquals(builder.getStyleClass(), read.getStyleClass());
+        }
+    }
+}
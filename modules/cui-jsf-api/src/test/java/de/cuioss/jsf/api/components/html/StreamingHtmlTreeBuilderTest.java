@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.html;
+
+import static de.cuioss.jsf.api.components.ComponentTestUtils.createSimplePartialRenderBuilder;
+import static de.cuioss.jsf.api.components.ComponentTestUtils.createWrappedPartialRenderBuilder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.cuioss.jsf.api.components.html.StreamingHtmlTreeBuilder.Mode;
+import org.apache.myfaces.test.mock.MockResponseWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+@DisplayName("Tests for StreamingHtmlTreeBuilder")
+class StreamingHtmlTreeBuilderTest {
+
+    private static void createWrappedPartialStructure(final StreamingHtmlTreeBuilder builder) {
+        builder.withNode(Node.DIV).withAttribute(AttributeName.NAME, "wrapper")
+                .withNode(Node.DIV).withAttribute(AttributeName.NAME, "header")
+                .currentHierarchyUp()
+                .withNodeChildBreakpoint()
+                .withNode(Node.DIV).withAttribute(AttributeName.NAME, "DoNotRender")
+                .currentHierarchyUp()
+                .currentHierarchyUp()
+                .withNode(Node.DIV).withAttribute(AttributeName.NAME, "footer")
+                .close();
+    }
+
+    private static void createSimplePartialStructure(final StreamingHtmlTreeBuilder builder) {
+        builder.withNode(Node.DIV).withAttribute(AttributeName.NAME, "header")
+                .currentHierarchyUp()
+                .withNodeChildBreakpoint()
+                .withNode(Node.DIV).withAttribute(AttributeName.NAME, "DoNotRender")
+                .currentHierarchyUp()
+                .currentHierarchyUp()
+                .withNode(Node.DIV).withAttribute(AttributeName.NAME, "footer")
+                .close();
+    }
+
+    private static String stream(final Mode mode, final boolean wrapped) {
+        var sink = new StringWriter();
+        var builder = new StreamingHtmlTreeBuilder(new MockResponseWriter(sink), mode);
+        if (wrapped) {
+            createWrappedPartialStructure(builder);
+        } else {
+            createSimplePartialStructure(builder);
+        }
+        return sink.toString();
+    }
+
+    @Test
+    @DisplayName("Should write the same markup until the child breakpoint")
+    void shouldWriteUntilChildBreakpoint() throws Exception {
+        var sink = new StringWriter();
+        createSimplePartialRenderBuilder().writeToResponseWriterUntilChildBreakpoint(new MockResponseWriter(sink));
+        assertEquals(sink.toString(), stream(Mode.UNTIL_CHILD_BREAKPOINT, false));
+
+        sink = new StringWriter();
+        createWrappedPartialRenderBuilder().writeToResponseWriterUntilChildBreakpoint(new MockResponseWriter(sink));
+        assertEquals(sink.toString(), stream(Mode.UNTIL_CHILD_BREAKPOINT, true));
+    }
+
+    @Test
+    @DisplayName("Should write the same markup from the child breakpoint on")
+    void shouldWriteFromChildBreakpointOn() throws Exception {
+        var sink = new StringWriter();
+        createSimplePartialRenderBuilder().writeToResponseWriterFromChildBreakpointOn(new MockResponseWriter(sink));
+        assertEquals(sink.toString(), stream(Mode.FROM_CHILD_BREAKPOINT_ON, false));
+
+        sink = new StringWriter();
+        createWrappedPartialRenderBuilder().writeToResponseWriterFromChildBreakpointOn(new MockResponseWriter(sink));
+        assertEquals(sink.toString(), stream(Mode.FROM_CHILD_BREAKPOINT_ON, true));
+    }
+
+    @Test
+    @DisplayName("Should write the complete structure including text")
+    void shouldWriteCompleteStructure() {
+        var sink = new StringWriter();
+        try (var builder = new StreamingHtmlTreeBuilder(new MockResponseWriter(sink))) {
+            builder.withNode(Node.DIV).withAttribute(AttributeName.ID, "someId")
+                    .withNode(Node.SPAN).withTextContent("text");
+            assertEquals(Node.SPAN.getContent(), builder.getCurrentName());
+        }
+        assertEquals("<div id=\"someId\"><span>text</span></div>", sink.toString());
+    }
+}
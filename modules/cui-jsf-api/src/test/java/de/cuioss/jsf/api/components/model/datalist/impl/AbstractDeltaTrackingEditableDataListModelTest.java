@@ -0,0 +1,243 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.api.components.model.datalist.EditStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+
+@DisplayName("Tests for AbstractDeltaTrackingEditableDataListModel")
+class AbstractDeltaTrackingEditableDataListModelTest {
+
+    private final TestModel underTest = new TestModel();
+
+    @Nested
+    @DisplayName("Tests for change tracking")
+    class ChangeTrackingTests {
+
+        @Test
+        @DisplayName("Should report no changes initially")
+        void shouldReportNoChangesInitially() {
+            // Act & Assert
+            assertEquals(3, underTest.getDisplayItems().size(), "All loaded items should be displayed");
+            assertFalse(underTest.hasChanges(), "Should have no changes");
+            assertTrue(underTest.isEveryItemSavedOrCanceled(), "No item should be edited");
+        }
+
+        @Test
+        @DisplayName("Should track added items")
+        void shouldTrackAdd() {
+            // Act
+            final var added = underTest.addItem();
+
+            // Assert
+            assertFalse(underTest.isEveryItemSavedOrCanceled(), "Added item should be edited");
+            assertTrue(underTest.hasChanges(), "Added item should be a change");
+            assertEquals(1, underTest.getAddedCount(), "Added item should be counted");
+
+            // Act
+            underTest.cancelEditItem(added);
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Cancelled item should be removed");
+            assertEquals(3, underTest.getDisplayItems().size(), "Cancelled item should be removed");
+        }
+
+        @Test
+        @DisplayName("Should track the item being edited")
+        void shouldTrackEdit() {
+            // Arrange
+            final var edit = underTest.getDisplayItems().getFirst();
+            underTest.editItem(edit);
+
+            // Act
+            edit.getWrapped().setAge(99);
+
+            // Assert
+            assertTrue(underTest.hasChanges(), "Changed copy should be a change");
+
+            // Act
+            underTest.cancelEditItem(edit);
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Cancelled edit should not be a change");
+            assertTrue(underTest.isEveryItemSavedOrCanceled(), "No item should be edited");
+        }
+
+        @Test
+        @DisplayName("Should track saved modifications against the loaded value")
+        void shouldTrackModification() {
+            // Arrange
+            final var edit = underTest.getDisplayItems().getFirst();
+            underTest.editItem(edit);
+            edit.getWrapped().setAge(99);
+
+            // Act
+            underTest.saveEditItem(edit);
+
+            // Assert
+            assertTrue(underTest.hasChanges(), "Saved modification should be a change");
+            assertEquals(1, underTest.getModifiedCount(), "Modification should be counted");
+            assertEquals(EditStatus.MODIFIED, edit.getEditStatus(), "Item should be modified");
+
+            // Act
+            underTest.editItem(edit);
+            edit.getWrapped().setAge(1);
+            underTest.saveEditItem(edit);
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Reverted modification should not be a change");
+            assertEquals(0, underTest.getModifiedCount(), "Reverted modification should not be counted");
+        }
+
+        @Test
+        @DisplayName("Should track deleted items")
+        void shouldTrackDelete() {
+            // Arrange
+            final var delete = underTest.getDisplayItems().get(1);
+
+            // Act
+            underTest.markForDelete(delete);
+            underTest.markForDelete(delete);
+
+            // Assert
+            assertTrue(underTest.hasChanges(), "Deletion should be a change");
+            assertEquals(1, underTest.getDeletedCount(), "Deletion should be counted once");
+            assertEquals(List.of(new SomeModel("b", 2)), underTest.getDeletedItems(), "Item should be deleted");
+            assertEquals(2, underTest.getResultItems().size(), "Item should not be part of the result");
+
+            // Act
+            underTest.undoMarkForDelete(delete);
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Undone deletion should not be a change");
+            assertEquals(3, underTest.getResultItems().size(), "Item should be part of the result again");
+        }
+
+        @Test
+        @DisplayName("Should remove an unsaved item when editing another one")
+        void shouldRemoveUnsavedItem() {
+            // Arrange
+            underTest.addItem();
+
+            // Act
+            underTest.editItem(underTest.getDisplayItems().get(2));
+
+            // Assert
+            assertEquals(3, underTest.getDisplayItems().size(), "Unsaved item should be removed");
+            assertEquals(0, underTest.getResultItems().stream().filter(Objects::isNull).count(),
+                    "Result should not contain empty items");
+            assertFalse(underTest.hasChanges(), "Unchanged copy should not be a change");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for display items")
+    class DisplayItemTests {
+
+        @Test
+        @DisplayName("Should renumber the list indices")
+        void shouldRenumberIndices() {
+            // Arrange
+            final var first = underTest.addItem(new SomeModel("x", 10));
+            final var second = underTest.addItem(new SomeModel("y", 11));
+
+            // Act
+            underTest.markForDelete(first);
+            final var items = underTest.getDisplayItems();
+
+            // Assert
+            assertEquals(4, items.size(), "Deleted added item should be removed");
+            assertSame(second, items.getFirst(), "Last added item should be first");
+            for (var index = 0; index < items.size(); index++) {
+                assertEquals(index, items.get(index).getListIndex(), "Index should be renumbered");
+            }
+        }
+
+        @Test
+        @DisplayName("Should cache the result items until the next change")
+        void shouldCacheResultItems() {
+            // Arrange
+            final var result = underTest.getResultItems();
+
+            // Act & Assert
+            assertSame(result, underTest.getResultItems(), "Result should be cached");
+            underTest.addItem(new SomeModel("x", 10));
+            assertNotSame(result, underTest.getResultItems(), "Result should be recomputed");
+            assertEquals(4, underTest.getResultItems().size(), "Added item should be part of the result");
+        }
+
+        @Test
+        @DisplayName("Should reset the journal on reinitialization")
+        void shouldResetOnInit() {
+            // Arrange
+            underTest.addItem(new SomeModel("x", 10));
+            underTest.markForDelete(underTest.getDisplayItems().get(1));
+
+            // Act
+            underTest.initDisplayItems();
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Journal should be reset");
+            assertEquals(3, underTest.getDisplayItems().size(), "Loaded items should be displayed");
+        }
+
+        @Test
+        @DisplayName("Should provide unmodifiable display items")
+        void shouldProvideUnmodifiableItems() {
+            // Act & Assert
+            final var items = underTest.getDisplayItems();
+            assertThrows(UnsupportedOperationException.class, items::clear,
+                    "Changes must be applied by the model");
+        }
+    }
+
+    static class TestModel extends AbstractDeltaTrackingEditableDataListModel<SomeModel> {
+
+        @Serial
+        private static final long serialVersionUID = -2140307153520498722L;
+
+        private final List<SomeModel> loadedItems = List.of(new SomeModel("a", 1), new SomeModel("b", 2),
+                new SomeModel("c", 3));
+
+        @Override
+        public SomeModel createEmptyItem() {
+            return new SomeModel();
+        }
+
+        @Override
+        public SomeModel createCopy(final SomeModel item) {
+            return new SomeModel(item);
+        }
+
+        @Override
+        public List<SomeModel> getLoadedItems() {
+            return loadedItems;
+        }
+    }
+}
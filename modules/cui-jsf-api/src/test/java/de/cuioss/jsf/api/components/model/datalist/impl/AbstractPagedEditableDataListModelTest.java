@@ -0,0 +1,222 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.api.components.model.datalist.EditStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("Tests for AbstractPagedEditableDataListModel")
+class AbstractPagedEditableDataListModelTest {
+
+    private static final int ITEM_COUNT = 1000;
+
+    private final TestModel underTest = new TestModel();
+
+    @Nested
+    @DisplayName("Tests for paging")
+    class PagingTests {
+
+        @Test
+        @DisplayName("Should provide the items of the current page only")
+        void shouldProvidePage() {
+            // Act
+            final var items = underTest.getDisplayItems();
+
+            // Assert
+            assertEquals(TestModel.PAGE_SIZE, items.size(), "Only one page should be wrapped");
+            assertEquals(100, underTest.getPageCount(), "Should compute the page count");
+            assertFalse(underTest.isPreviousPageAvailable(), "First page should have no predecessor");
+            assertTrue(underTest.isNextPageAvailable(), "First page should have a successor");
+        }
+
+        @Test
+        @DisplayName("Should switch and clamp pages")
+        void shouldSwitchPages() {
+            // Act
+            underTest.nextPage();
+            final var items = underTest.getDisplayItems();
+
+            // Assert
+            assertEquals(1, underTest.getPageIndex(), "Should be on second page");
+            assertEquals(new SomeModel("item10", 10), items.getFirst().getWrapped(), "Should show second page");
+            assertEquals(10, items.getFirst().getListIndex(), "Index should be the overall position");
+
+            // Act
+            underTest.setPageIndex(500);
+
+            // Assert
+            assertEquals(99, underTest.getPageIndex(), "Should be clamped to last page");
+            assertEquals(new SomeModel("item999", 999), underTest.getDisplayItems().getLast().getWrapped(),
+                    "Should show last item");
+        }
+
+        @Test
+        @DisplayName("Should drop untouched wrappers when switching pages")
+        void shouldDropUntouchedWrappers() {
+            // Arrange
+            final var untouched = underTest.getDisplayItems().getFirst();
+            final var deleted = underTest.getDisplayItems().get(1);
+            underTest.markForDelete(deleted);
+
+            // Act
+            underTest.nextPage();
+            underTest.previousPage();
+
+            // Assert
+            assertNotSame(untouched, underTest.getDisplayItems().getFirst(), "Untouched wrapper should be dropped");
+            assertSame(deleted, underTest.getDisplayItems().get(1), "Touched wrapper should be kept");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for editing")
+    class EditTests {
+
+        @Test
+        @DisplayName("Should add a new item on the first page")
+        void shouldAddItem() {
+            // Arrange
+            underTest.setPageIndex(3);
+
+            // Act
+            final var added = underTest.addItem();
+
+            // Assert
+            assertEquals(0, underTest.getPageIndex(), "Page of new item should be selected");
+            assertSame(added, underTest.getDisplayItems().getFirst(), "New item should be first");
+            assertEquals(ITEM_COUNT + 1, underTest.getItemCount(), "New item should be counted");
+            assertFalse(underTest.isEveryItemSavedOrCanceled(), "New item should be edited");
+            assertTrue(underTest.hasChanges(), "New item should be a change");
+
+            // Act
+            underTest.cancelEditItem(added);
+
+            // Assert
+            assertEquals(ITEM_COUNT, underTest.getItemCount(), "Canceled item should be removed");
+            assertFalse(underTest.hasChanges(), "Canceled item should not be a change");
+        }
+
+        @Test
+        @DisplayName("Should track modifications against the loaded value")
+        void shouldTrackModification() {
+            // Arrange
+            underTest.nextPage();
+            final var edit = underTest.getDisplayItems().get(2);
+            underTest.editItem(edit);
+            edit.getWrapped().setAge(-1);
+
+            // Act
+            underTest.saveEditItem(edit);
+
+            // Assert
+            assertEquals(EditStatus.MODIFIED, edit.getEditStatus(), "Item should be modified");
+            assertTrue(underTest.hasChanges(), "Modification should be a change");
+            assertEquals(new SomeModel("item12", -1), underTest.getResultItems().get(12),
+                    "Modification should be part of the result");
+
+            // Act
+            underTest.editItem(edit);
+            edit.getWrapped().setAge(12);
+            underTest.saveEditItem(edit);
+
+            // Assert
+            assertEquals(EditStatus.INITIAL, edit.getEditStatus(), "Reverted item should be initial");
+            assertFalse(underTest.hasChanges(), "Reverted modification should not be a change");
+        }
+
+        @Test
+        @DisplayName("Should compute deleted and result items across pages")
+        void shouldComputeResult() {
+            // Arrange
+            underTest.markForDelete(underTest.getDisplayItems().getFirst());
+            underTest.setPageIndex(50);
+            underTest.markForDelete(underTest.getDisplayItems().getFirst());
+            underTest.addItem(new SomeModel("new", 1));
+
+            // Act
+            final var result = underTest.getResultItems();
+
+            // Assert
+            assertEquals(List.of(new SomeModel("item0", 0), new SomeModel("item500", 500)),
+                    underTest.getDeletedItems(), "Deleted items should be collected across pages");
+            assertEquals(ITEM_COUNT - 1, result.size(), "Result should contain added but no deleted items");
+            assertEquals(new SomeModel("new", 1), result.getFirst(), "Added item should be first");
+        }
+
+        @Test
+        @DisplayName("Should reset all changes")
+        void shouldReset() {
+            // Arrange
+            underTest.markForDelete(underTest.getDisplayItems().getFirst());
+            underTest.addItem(new SomeModel("new", 1));
+
+            // Act
+            underTest.initDisplayItems();
+
+            // Assert
+            assertFalse(underTest.hasChanges(), "Changes should be discarded");
+            assertEquals(ITEM_COUNT, underTest.getItemCount(), "Added item should be discarded");
+        }
+    }
+
+    static class TestModel extends AbstractPagedEditableDataListModel<SomeModel> {
+
+        @Serial
+        private static final long serialVersionUID = 5302949421546367407L;
+
+        static final int PAGE_SIZE = 10;
+
+        private final List<SomeModel> loadedItems = new ArrayList<>();
+
+        TestModel() {
+            for (var i = 0; i < ITEM_COUNT; i++) {
+                loadedItems.add(new SomeModel("item" + i, i));
+            }
+        }
+
+        @Override
+        public int getPageSize() {
+            return PAGE_SIZE;
+        }
+
+        @Override
+        public SomeModel createEmptyItem() {
+            return new SomeModel();
+        }
+
+        @Override
+        public SomeModel createCopy(final SomeModel item) {
+            return new SomeModel(item);
+        }
+
+        @Override
+        public List<SomeModel> getLoadedItems() {
+            return loadedItems;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.datalist.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.cuioss.jsf.api.components.model.datalist.impl.support.ExplodingModel;
+import de.cuioss.jsf.api.components.model.datalist.impl.support.MissingDefaultConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for ItemConstructors")
+class ItemConstructorsTest {
+
+    @Test
+    @DisplayName("Should resolve the constructors once per class")
+    void shouldResolveOnce() {
+        // Act & Assert
+        assertSame(ItemConstructors.forType(SomeModel.class), ItemConstructors.forType(SomeModel.class),
+                "Constructors should be shared");
+    }
+
+    @Test
+    @DisplayName("Should create and copy items")
+    void shouldCreateAndCopy() {
+        // Arrange
+        var underTest = ItemConstructors.forType(SomeModel.class);
+        var item = new SomeModel("name", 42);
+
+        // Act
+        var copy = underTest.copy(item);
+
+        // Assert
+        assertInstanceOf(SomeModel.class, underTest.newInstance(), "Should create new item");
+        assertEquals(item, copy, "Copy should be equal");
+        assertNotSame(item, copy, "Copy should be a new instance");
+    }
+
+    @Test
+    @DisplayName("Should report missing constructors on each usage")
+    void shouldReportMissingConstructor() {
+        // Arrange
+        var underTest = ItemConstructors.forType(MissingDefaultConstructor.class);
+
+        // Act & Assert
+        var first = assertThrows(IllegalStateException.class, underTest::newInstance,
+                "Missing constructor should be reported");
+        assertInstanceOf(NoSuchMethodException.class, first.getCause(), "Cause should be kept");
+        assertThrows(IllegalStateException.class, underTest::newInstance,
+                "Missing constructor should be reported again");
+    }
+
+    @Test
+    @DisplayName("Should wrap failing constructors")
+    void shouldWrapFailingConstructor() {
+        // Arrange
+        var underTest = ItemConstructors.forType(ExplodingModel.class);
+
+        // Act & Assert
+        var thrown = assertThrows(IllegalStateException.class, () -> underTest.copy(new SomeModel()),
+                "Invalid item should be reported");
+        assertInstanceOf(ClassCastException.class, thrown.getCause(), "Cause should be kept");
+        assertThrows(IllegalStateException.class, underTest::newInstance, "Failing constructor should be reported");
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.lazyloading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.api.common.logging.JsfApiLogMessages;
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+@EnableTestLogger
+@DisplayName("Tests for BaseLazyLoadingThreadModel")
+class BaseLazyLoadingThreadModelTest {
+
+    private final LazyLoadingRequestRegistry registry = new LazyLoadingRequestRegistry(4,
+            Executors.newVirtualThreadPerTaskExecutor());
+
+    @Test
+    @DisplayName("Should load the content off the request thread")
+    void shouldLoadContent() {
+        // Arrange
+        var underTest = new TestModel(false);
+
+        // Act
+        underTest.startInitialize();
+        underTest.startInitialize();
+        var requestId = underTest.getRequestId();
+        underTest.processAction(null);
+
+        // Assert
+        assertNotNull(requestId, "Retrieval should have been started");
+        assertEquals(1, underTest.invocations.get(), "Retrieval should be started only once");
+        assertTrue(underTest.isInitialized(), "Model should be initialized");
+        assertEquals("content", underTest.getContent(), "Content should be loaded");
+        assertTrue(underTest.isRenderContent(), "Content should be rendered");
+        assertNull(underTest.getRequestId(), "Request should be completed");
+        assertTrue(underTest.isResultAvailable(), "Result should be available");
+    }
+
+    @Test
+    @DisplayName("Should show a notification if the retrieval fails")
+    void shouldHandleFailure() {
+        // Arrange
+        var underTest = new TestModel(true);
+        underTest.startInitialize();
+
+        // Act
+        underTest.processAction(null);
+
+        // Assert
+        assertTrue(underTest.isInitialized(), "Model should be initialized");
+        assertNull(underTest.getContent(), "No content should be loaded");
+        assertFalse(underTest.isRenderContent(), "Content should not be rendered");
+        assertEquals(ContextState.DANGER, underTest.getNotificationBoxState(), "Error should be shown");
+        assertNotNull(underTest.getNotificationBoxValue(), "Message should be shown");
+    }
+
+    @Test
+    @DisplayName("Should load synchronously if there is no running retrieval")
+    void shouldFallBackToSynchronousLoading() {
+        // Arrange
+        var underTest = new TestModel(false);
+        underTest.startInitialize();
+        underTest.cancel();
+
+        // Act
+        underTest.processAction(null);
+
+        // Assert
+        assertEquals("content", underTest.getContent(), "Content should be loaded");
+        assertEquals(0, registry.size(), "Nothing should be tracked");
+    }
+
+    @Test
+    @DisplayName("Should restart a retrieval no longer tracked by the registry")
+    void shouldRestartUntrackedRetrieval() {
+        // Arrange
+        var underTest = new TestModel(false);
+        underTest.startInitialize();
+        var lost = underTest.getRequestId();
+        registry.cancel(lost);
+
+        // Act
+        var available = underTest.isResultAvailable();
+        underTest.processAction(null);
+
+        // Assert
+        assertFalse(available, "Restarted retrieval should be polled");
+        assertEquals("content", underTest.getContent(), "Content should be loaded");
+        assertEquals(2, underTest.invocations.get(), "Retrieval should have been restarted");
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_RESTARTED.resolveIdentifierString());
+    }
+
+    @Test
+    @DisplayName("Should load synchronously once the restarts are exhausted")
+    void shouldLoadSynchronouslyAfterRestarts() {
+        // Arrange
+        var underTest = new TestModel(false);
+        underTest.startInitialize();
+        for (var i = 0; i < BaseLazyLoadingThreadModel.MAX_RESTARTS; i++) {
+            registry.cancel(underTest.getRequestId());
+            assertFalse(underTest.isResultAvailable(), "Retrieval should be restarted");
+        }
+        registry.cancel(underTest.getRequestId());
+
+        // Act
+        var available = underTest.isResultAvailable();
+        underTest.processAction(null);
+
+        // Assert
+        assertTrue(available, "Retrieval should no longer be restarted");
+        assertEquals("content", underTest.getContent(), "Content should be loaded");
+        assertEquals(0, registry.size(), "Nothing should be tracked");
+        LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_UNTRACKED.resolveIdentifierString());
+    }
+
+    @Test
+    @DisplayName("Should allow cancelling while the result is awaited")
+    void shouldCancelWhileAwaiting() throws Exception {
+        // Arrange
+        var started = new CountDownLatch(1);
+        var underTest = new TestModel(false, started);
+        underTest.startInitialize();
+        assertTrue(started.await(5, TimeUnit.SECONDS), "Retrieval should have been started");
+        var collectorThread = new AtomicReference<Thread>();
+        var collector = Executors.newSingleThreadExecutor(runnable -> {
+            var thread = new Thread(runnable);
+            collectorThread.set(thread);
+            return thread;
+        });
+        try {
+            var collecting = collector.submit(() -> underTest.processAction(null));
+            awaitBlocked(collectorThread);
+
+            // Act
+            assertTimeoutPreemptively(Duration.ofSeconds(2), underTest::cancel,
+                    "Cancel should not wait for the collecting thread");
+            collecting.get(5, TimeUnit.SECONDS);
+        } finally {
+            collector.shutdownNow();
+        }
+
+        // Assert
+        assertFalse(underTest.isInitialized(), "Cancelled retrieval should not initialize the model");
+        assertNull(underTest.getRequestId(), "Request should be cancelled");
+        assertEquals(0, registry.size(), "Nothing should be tracked");
+    }
+
+    @Test
+    @DisplayName("Should report a running retrieval as not available")
+    void shouldReportRunningRetrieval() throws InterruptedException {
+        // Arrange
+        var started = new CountDownLatch(1);
+        var underTest = new TestModel(false, started);
+
+        // Act
+        underTest.startInitialize();
+        assertTrue(started.await(5, TimeUnit.SECONDS), "Retrieval should have been started");
+
+        // Assert
+        assertFalse(underTest.isResultAvailable(), "Result should not be available while retrieving");
+        underTest.cancel();
+        assertTrue(underTest.isResultAvailable(), "Cancelled retrieval should not be waited for");
+    }
+
+    /**
+     * Waits until the given thread is blocked waiting for the result.
+     */
+    private static void awaitBlocked(final AtomicReference<Thread> thread) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline
+                && (null == thread.get() || Thread.State.TIMED_WAITING != thread.get().getState())) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private class TestModel extends BaseLazyLoadingThreadModel<String> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final boolean failing;
+
+        /** If present, the retrieval blocks until interrupted. */
+        private final transient CountDownLatch blocking;
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        TestModel(final boolean failing) {
+            this(failing, null);
+        }
+
+        TestModel(final boolean failing, final CountDownLatch blocking) {
+            this.failing = failing;
+            this.blocking = blocking;
+        }
+
+        @Override
+        protected ResultObject<String> retrieve() {
+            invocations.incrementAndGet();
+            if (null != blocking) {
+                blocking.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("cancelled", e);
+                }
+            }
+            if (failing) {
+                throw new IllegalStateException("backend down");
+            }
+            return new ResultObject<>("content", ResultState.VALID);
+        }
+
+        @Override
+        protected LazyLoadingRequestRegistry registry() {
+            return registry;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.model.lazyloading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.api.common.logging.JsfApiLogMessages;
+import de.cuioss.test.juli.LogAsserts;
+import de.cuioss.test.juli.TestLogLevel;
+import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@EnableTestLogger
+@DisplayName("Tests for LazyLoadingRequestRegistry")
+class LazyLoadingRequestRegistryTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final LazyLoadingRequestRegistry underTest = new LazyLoadingRequestRegistry(2, executor);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("Tests for collecting results")
+    class CollectTests {
+
+        @Test
+        @DisplayName("Should provide the result of the retrieval")
+        void shouldProvideResult() {
+            // Arrange
+            var requestId = underTest.submit(() -> new ResultObject<>("loaded", ResultState.VALID), TIMEOUT);
+
+            // Act
+            var result = underTest.<String>await(requestId);
+
+            // Assert
+            assertTrue(result.isPresent(), "Result should be present");
+            assertEquals("loaded", result.get().getResult(), "Result should be provided");
+            assertEquals(0, underTest.size(), "Collected retrieval should no longer be tracked");
+        }
+
+        @Test
+        @DisplayName("Should convert a failing retrieval into an error")
+        void shouldConvertFailure() {
+            // Arrange
+            var requestId = underTest.<String>submit(() -> {
+                throw new IllegalStateException("backend down");
+            }, TIMEOUT);
+
+            // Act
+            var result = underTest.<String>await(requestId).orElseThrow();
+
+            // Assert
+            assertEquals(ResultState.ERROR, result.getState(), "Failure should result in an error");
+            assertInstanceOf(IllegalStateException.class, result.getResultDetail().orElseThrow().getCause()
+                    .orElseThrow(), "Cause should be kept");
+        }
+
+        @Test
+        @DisplayName("Should cancel a retrieval exceeding the timeout")
+        void shouldCancelOnTimeout() {
+            // Arrange
+            var requestId = underTest.submit(blocking(), Duration.ofMillis(50));
+
+            // Act
+            var result = underTest.<String>await(requestId).orElseThrow();
+
+            // Assert
+            assertEquals(ResultState.ERROR, result.getState(), "Timeout should result in an error");
+            assertInstanceOf(TimeoutException.class, result.getResultDetail().orElseThrow().getCause()
+                    .orElseThrow(), "Cause should be the timeout");
+            LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.WARN,
+                    JsfApiLogMessages.WARN.LAZY_LOADING_REQUEST_TIMEOUT.resolveIdentifierString());
+        }
+
+        @Test
+        @DisplayName("Should provide nothing for unknown requests")
+        void shouldHandleUnknownRequest() {
+            // Act & Assert
+            assertTrue(underTest.await("unknown").isEmpty(), "Unknown request should provide nothing");
+            assertTrue(underTest.isDone("unknown"), "Unknown request should not be waited for");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for bounding and cancellation")
+    class BoundTests {
+
+        @Test
+        @DisplayName("Should cancel the oldest retrieval if the maximum is reached")
+        void shouldCancelOldest() {
+            // Arrange
+            var oldest = underTest.submit(blocking(), TIMEOUT);
+            underTest.submit(blocking(), TIMEOUT);
+
+            // Act
+            underTest.submit(blocking(), TIMEOUT);
+
+            // Assert
+            assertEquals(2, underTest.size(), "Number of retrievals should be bounded");
+            assertTrue(underTest.await(oldest).isEmpty(), "Oldest retrieval should be dropped");
+        }
+
+        @Test
+        @DisplayName("Should cancel retrievals explicitly")
+        void shouldCancel() {
+            // Arrange
+            var requestId = underTest.submit(blocking(), TIMEOUT);
+
+            // Act & Assert
+            assertFalse(underTest.isDone(requestId), "Retrieval should be running");
+            assertTrue(underTest.cancel(requestId), "Running retrieval should be cancelled");
+            assertFalse(underTest.cancel(requestId), "Retrieval should no longer be tracked");
+        }
+
+        @Test
+        @DisplayName("Should cancel all retrievals when the session ends")
+        void shouldCancelOnSessionEnd() {
+            // Arrange
+            underTest.submit(blocking(), TIMEOUT);
+            underTest.submit(blocking(), TIMEOUT);
+
+            // Act
+            underTest.valueUnbound(null);
+
+            // Assert
+            assertEquals(0, underTest.size(), "All retrievals should be cancelled");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid parameters")
+        void shouldRejectInvalidParameters() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> new LazyLoadingRequestRegistry(0),
+                    "Maximum must be positive");
+            assertThrows(IllegalArgumentException.class, () -> underTest.submit(blocking(), Duration.ZERO),
+                    "Timeout must be positive");
+        }
+    }
+
+    private Supplier<ResultObject<String>> blocking() {
+        return () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ResultObject<>("late", ResultState.VALID);
+        };
+    }
+}
@@ -78,6 +78,28 @@ class TitleProviderImplTest extends AbstractPartialComponentTest {
             assertEquals(MESSAGE_VALUE, any.resolveTitle(),
                     "Should resolve title from resource bundle using the key");
         }
+
+        @Test
+        @DisplayName("Should store resolved title without using the state helper")
+        void shouldResolveAndStoreTitle() {
+            // Arrange
+            final var any = anyComponent();
+            any.setTitleKey(MESSAGE_KEY);
+
+            // Act
+            any.resolveAndStoreTitle();
+
+            // Assert
+            assertEquals(MESSAGE_VALUE, any.getTitle(), "Resolved title should be stored");
+            assertNull(any.stateHelper().get("title"), "Resolved title should not be part of the view state");
+
+            // Act - remove title
+            any.setTitleKey(null);
+            any.resolveAndStoreTitle();
+
+            // Assert
+            assertNull(any.getTitle(), "Title should be resolved again");
+        }
     }
 
     @Nested
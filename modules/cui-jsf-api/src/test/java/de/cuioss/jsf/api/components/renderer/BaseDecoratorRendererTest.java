@@ -16,20 +16,29 @@
 package de.cuioss.jsf.api.components.renderer;
 
 import static de.cuioss.test.jsf.renderer.util.HtmlTreeAsserts.assertHtmlTreeEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.api.components.html.HtmlTreeBuilder;
 import de.cuioss.jsf.api.components.html.Node;
+import de.cuioss.jsf.api.components.renderer.profiling.RenderPhase;
+import de.cuioss.jsf.api.components.renderer.profiling.RenderProfiler;
 import de.cuioss.test.jsf.renderer.AbstractRendererTestBase;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.component.html.HtmlInputText;
 import jakarta.faces.context.FacesContext;
 import org.apache.myfaces.test.mock.MockResponseWriter;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 @DisplayName("Tests for BaseDecoratorRenderer")
 class BaseDecoratorRendererTest extends AbstractRendererTestBase<MockDecoratorRenderer> {
@@ -93,6 +102,143 @@ class BaseDecoratorRendererTest extends AbstractRendererTestBase<MockDecoratorRe
         }
     }
 
+    @Nested
+    @DisplayName("Tests for render profiling")
+    class ProfilingTests {
+
+        @AfterEach
+        void disableProfiling() {
+            RenderProfiler.setEnabled(false);
+            RenderProfiler.getRegistry().reset();
+        }
+
+        @Test
+        @DisplayName("Should record all phases if profiling is enabled")
+        void shouldRecordPhasesIfEnabled(FacesContext facesContext) throws Exception {
+            // Arrange
+            RenderProfiler.setEnabled(true);
+            RenderProfiler.getRegistry().reset();
+            var registry = RenderProfiler.getRegistry();
+
+            // Act
+            final var actual = renderToTreeBuilder(getComponent(), new MockDecoratorRenderer(true), facesContext);
+
+            // Assert
+            assertHtmlTreeEquals(new HtmlTreeBuilder().withNode(Node.DIV).getDocument(), actual.getDocument());
+            for (RenderPhase phase : RenderPhase.values()) {
+                assertEquals(1, registry.getStatistics(MockDecoratorRenderer.class, phase).getInvocationCount(),
+                        "Each phase should be recorded once: " + phase);
+            }
+            assertEquals("<div".length() + 1,
+                    registry.getStatistics(MockDecoratorRenderer.class, RenderPhase.ENCODE_BEGIN)
+                            .getCharactersWritten(),
+                    "Start element should be counted");
+            assertEquals("</div>".length(),
+                    registry.getStatistics(MockDecoratorRenderer.class, RenderPhase.ENCODE_END)
+                            .getCharactersWritten(),
+                    "End element should be counted");
+        }
+
+        @Test
+        @DisplayName("Should not record anything if profiling is disabled")
+        void shouldNotRecordIfDisabled(FacesContext facesContext) throws Exception {
+            // Arrange
+            RenderProfiler.setEnabled(false);
+            RenderProfiler.getRegistry().reset();
+
+            // Act
+            renderToTreeBuilder(getComponent(), new MockDecoratorRenderer(true), facesContext);
+
+            // Assert
+            assertTrue(RenderProfiler.getRegistry().getAllStatistics().isEmpty(),
+                    "No statistics should be recorded if profiling is disabled");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for the render context")
+    class RenderContextTests {
+
+        @Test
+        @DisplayName("Should share one writer across all phases")
+        void shouldShareWriter(FacesContext facesContext) throws Exception {
+            // Arrange
+            var renderer = new RecordingRenderer();
+
+            // Act
+            renderToTreeBuilder(getComponent(), renderer, facesContext);
+
+            // Assert
+            assertEquals(3, renderer.writers.size(), "All phases should be encoded");
+            assertSame(renderer.writers.get(0), renderer.writers.get(1), "Children should reuse the writer");
+            assertSame(renderer.writers.get(0), renderer.writers.get(2), "End should reuse the writer");
+            assertEquals(0, RenderContext.get(facesContext).size(), "Writer should be released");
+        }
+
+        @Test
+        @DisplayName("Should use a new writer for each encoding")
+        void shouldUseNewWriterPerEncoding(FacesContext facesContext) throws Exception {
+            // Arrange
+            var renderer = new RecordingRenderer();
+            var component = getComponent();
+
+            // Act
+            renderToTreeBuilder(component, renderer, facesContext);
+            renderToTreeBuilder(component, renderer, facesContext);
+
+            // Assert
+            assertNotSame(renderer.writers.get(0), renderer.writers.get(3),
+                    "Repeated encoding should start with a new writer");
+        }
+
+        @Test
+        @DisplayName("Should rebind the writer to a replaced response writer")
+        void shouldRebindWriter(FacesContext facesContext) throws Exception {
+            // Arrange
+            var renderer = new RecordingRenderer();
+            var component = getComponent();
+            var first = new StringWriter();
+            var second = new StringWriter();
+            facesContext.setResponseWriter(new MockResponseWriter(first));
+            renderer.encodeBegin(facesContext, component);
+            var replacement = new MockResponseWriter(second);
+            facesContext.setResponseWriter(replacement);
+
+            // Act
+            renderer.encodeEnd(facesContext, component);
+
+            // Assert
+            assertSame(renderer.writers.get(0), renderer.writers.get(1), "Writer should be reused");
+            assertSame(replacement, renderer.writers.get(1).getWrapped(), "Writer should be rebound");
+            assertEquals("</div>", second.toString(), "End element should be written to the replacement");
+        }
+    }
+
+    static class RecordingRenderer extends MockDecoratorRenderer {
+
+        final List<DecoratingResponseWriter<HtmlInputText>> writers = new ArrayList<>();
+
+        @Override
+        protected void doEncodeBegin(final FacesContext context, final DecoratingResponseWriter<HtmlInputText> writer,
+                final HtmlInputText component) throws IOException {
+            writers.add(writer);
+            super.doEncodeBegin(context, writer, component);
+        }
+
+        @Override
+        protected void doEncodeChildren(final FacesContext context,
+                final DecoratingResponseWriter<HtmlInputText> writer, final HtmlInputText component) {
+            writers.add(writer);
+        }
+
+        @Override
+        protected void doEncodeEnd(final FacesContext context, final DecoratingResponseWriter<HtmlInputText> writer,
+                final HtmlInputText component) throws IOException {
+            writers.add(writer);
+            super.doEncodeEnd(context, writer, component);
+        }
+    }
+
     /**
      * Renders the given component / renderer into a {@link HtmlTreeBuilder}
      * representation
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.StringWriter;
+import java.util.Map;
 
 @EnableJsfEnvironment
 @DisplayName("Tests for ElementReplacingResponseWriter")
@@ -116,5 +117,27 @@ class ElementReplacingResponseWriterTest {
             assertEquals("<" + REPLACEMENT, output.toString(),
                     "Output should only contain the opening tag of the replacement element");
         }
+
+        @Test
+        @DisplayName("Should replace attributes of the replaced element only")
+        void shouldReplaceAttributes(FacesContext facesContext) throws Exception {
+            // Arrange
+            var writer = new ElementReplacingResponseWriter(facesContext.getResponseWriter(), FILTER, REPLACEMENT,
+                    false, Map.of("title", "replaced"));
+
+            // Act
+            writer.startElement(FILTER, component);
+            writer.writeAttribute("title", "original", "title");
+            writer.startElement(PASSTHROUGH, component);
+            writer.writeAttribute("title", "nested", "title");
+            writer.endElement(PASSTHROUGH);
+            writer.endElement(FILTER);
+
+            // Assert
+            var result = output.toString();
+            assertTrue(result.contains("title=\"replaced\""), result);
+            assertFalse(result.contains("original"), result);
+            assertTrue(result.contains("title=\"nested\""), result);
+        }
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registered as service in the test resources, counts the calls.
+ */
+public class CountingRenderMetricsListener implements RenderMetricsListener {
+
+    static final AtomicLong CALLS = new AtomicLong();
+
+    @Override
+    public void recorded(final Class<?> rendererType, final RenderPhase phase, final long durationNanos,
+            final long charactersWritten) {
+        CALLS.incrementAndGet();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.test.jsf.config.decorator.ApplicationConfigDecorator;
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.application.ProjectStage;
+import jakarta.faces.context.FacesContext;
+import org.apache.myfaces.test.mock.MockServletContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@EnableJsfEnvironment
+@DisplayName("Tests for RenderProfiler")
+class RenderProfilerTest {
+
+    @AfterEach
+    void resetProfiler() {
+        RenderProfiler.shutdown();
+        RenderProfiler.getRegistry().reset();
+    }
+
+    @Nested
+    @DisplayName("Tests for resolving the state")
+    class StateTests {
+
+        @Test
+        @DisplayName("Should be disabled in production stage")
+        void shouldBeDisabledInProduction(FacesContext facesContext, ApplicationConfigDecorator applicationConfig) {
+            // Arrange
+            applicationConfig.setProjectStage(ProjectStage.Production);
+
+            // Act & Assert
+            assertFalse(RenderProfiler.isEnabled(facesContext), "Profiling should be disabled in production stage");
+        }
+
+        @Test
+        @DisplayName("Should be enabled in development stage")
+        void shouldBeEnabledInDevelopment(FacesContext facesContext, ApplicationConfigDecorator applicationConfig) {
+            // Arrange
+            applicationConfig.setProjectStage(ProjectStage.Development);
+
+            // Act & Assert
+            assertTrue(RenderProfiler.isEnabled(facesContext), "Profiling should be enabled in development stage");
+            assertTrue(RenderProfiler.isEnabled(), "State should be resolved");
+        }
+
+        @Test
+        @DisplayName("Should prefer the context parameter")
+        void shouldPreferContextParameter(FacesContext facesContext, ApplicationConfigDecorator applicationConfig) {
+            // Arrange
+            applicationConfig.setProjectStage(ProjectStage.Production);
+            ((MockServletContext) facesContext.getExternalContext().getContext())
+                    .addInitParameter(RenderProfiler.CONTEXT_PARAM_ENABLED, "true");
+
+            // Act & Assert
+            assertTrue(RenderProfiler.isEnabled(facesContext), "Context parameter should enable profiling");
+        }
+
+        @Test
+        @DisplayName("Should switch state at runtime")
+        void shouldSwitchAtRuntime(FacesContext facesContext) {
+            // Act
+            RenderProfiler.setEnabled(true);
+
+            // Assert
+            assertTrue(RenderProfiler.isEnabled(facesContext), "Explicit state should win");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for exposing the statistics")
+    class ExposureTests {
+
+        @Test
+        @DisplayName("Should notify the registered listener")
+        void shouldNotifyListener() {
+            // Arrange
+            var before = CountingRenderMetricsListener.CALLS.get();
+
+            // Act
+            RenderProfiler.record(String.class, RenderPhase.ENCODE_END, 100, 1);
+
+            // Assert
+            assertEquals(before + 1, CountingRenderMetricsListener.CALLS.get(), "Listener should be notified");
+        }
+
+        @Test
+        @DisplayName("Should provide the statistics via the MXBean")
+        void shouldProvideStatisticsViaMXBean() {
+            // Arrange
+            var mxBean = new RenderProfiling();
+            RenderProfiler.record(String.class, RenderPhase.ENCODE_BEGIN, 100, 5);
+            RenderProfiler.record(String.class, RenderPhase.ENCODE_BEGIN, 300, 5);
+
+            // Act & Assert
+            var key = "java.lang.String#ENCODE_BEGIN";
+            assertEquals(Map.of(key, 2L), mxBean.getInvocationCounts(), "Unused phases should be omitted");
+            assertEquals(Map.of(key, 400L), mxBean.getTotalDurationNanos(), "Durations should be summed up");
+            assertEquals(Map.of(key, 300L), mxBean.getMaxDurationNanos(), "Maximum should be provided");
+            assertEquals(Map.of(key, 10L), mxBean.getCharactersWritten(), "Characters should be summed up");
+            assertEquals(2L, mxBean.getDurationHistograms().get(key)[0], "Histogram should be provided");
+
+            mxBean.reset();
+            assertTrue(mxBean.getInvocationCounts().isEmpty(), "Statistics should be reset");
+        }
+
+        @Test
+        @DisplayName("Should provide the same statistics instance per type and phase")
+        void shouldReuseStatistics() {
+            // Arrange
+            var registry = RenderProfiler.getRegistry();
+
+            // Act & Assert
+            assertSame(registry.getStatistics(String.class, RenderPhase.ENCODE_CHILDREN),
+                    registry.getStatistics(String.class, RenderPhase.ENCODE_CHILDREN),
+                    "Statistics should be created once");
+        }
+    }
+}
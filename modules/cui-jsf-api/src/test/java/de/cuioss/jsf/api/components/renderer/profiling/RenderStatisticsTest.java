@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.renderer.profiling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Tests for RenderStatistics")
+class RenderStatisticsTest {
+
+    @Nested
+    @DisplayName("Tests for the histogram buckets")
+    class BucketTests {
+
+        @ParameterizedTest(name = "{0} ns should be in bucket {1}")
+        @CsvSource({"0, 0", "999, 0", "1000, 1", "1999, 1", "2000, 2", "3999, 2", "4000, 3", "1000000, 10",
+                "9223372036854775807, 23"})
+        @DisplayName("Should map durations to exponential buckets")
+        void shouldMapToBuckets(long nanos, int expectedBucket) {
+            // Act & Assert
+            assertEquals(expectedBucket, RenderStatistics.bucketIndex(nanos),
+                    "Duration should be mapped to the expected bucket");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for recording")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should aggregate recorded calls")
+        void shouldAggregate() {
+            // Arrange
+            var statistics = new RenderStatistics();
+
+            // Act
+            statistics.record(500, 10);
+            statistics.record(3_500, 20);
+
+            // Assert
+            assertEquals(2, statistics.getInvocationCount(), "Invocations should be counted");
+            assertEquals(4_000, statistics.getTotalNanos(), "Durations should be summed up");
+            assertEquals(2_000, statistics.getAverageNanos(), "Average should be computed");
+            assertEquals(3_500, statistics.getMaxNanos(), "Maximum should be tracked");
+            assertEquals(30, statistics.getCharactersWritten(), "Characters should be summed up");
+            var expectedHistogram = new long[RenderStatistics.BUCKET_COUNT];
+            expectedHistogram[0] = 1;
+            expectedHistogram[2] = 1;
+            assertArrayEquals(expectedHistogram, statistics.getHistogram(), "Histogram should be filled");
+        }
+
+        @Test
+        @DisplayName("Should reset all counters")
+        void shouldReset() {
+            // Arrange
+            var statistics = new RenderStatistics();
+            statistics.record(500, 10);
+
+            // Act
+            statistics.reset();
+
+            // Assert
+            assertEquals(0, statistics.getInvocationCount(), "Invocations should be reset");
+            assertEquals(0, statistics.getAverageNanos(), "Average should be zero without invocations");
+            assertEquals(0, statistics.getMaxNanos(), "Maximum should be reset");
+            assertArrayEquals(new long[RenderStatistics.BUCKET_COUNT], statistics.getHistogram(),
+                    "Histogram should be reset");
+        }
+
+        @Test
+        @DisplayName("Should not lose updates under contention")
+        void shouldHandleConcurrentRecording() throws Exception {
+            // Arrange
+            var statistics = new RenderStatistics();
+            var executor = Executors.newFixedThreadPool(8);
+
+            // Act
+            for (var thread = 0; thread < 8; thread++) {
+                executor.execute(() -> {
+                    for (var i = 0; i < 10_000; i++) {
+                        statistics.record(1_000, 1);
+                    }
+                });
+            }
+            executor.shutdown();
+
+            // Assert
+            assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS), "Recording should finish");
+            assertEquals(80_000, statistics.getInvocationCount(), "No invocation should be lost");
+            assertEquals(80_000, statistics.getCharactersWritten(), "No character should be lost");
+        }
+    }
+}
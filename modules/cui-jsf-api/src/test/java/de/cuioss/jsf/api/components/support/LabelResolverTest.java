@@ -26,7 +26,10 @@ import de.cuioss.test.jsf.config.JsfTestConfiguration;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
 import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
 import de.cuioss.test.jsf.mocks.ReverseConverter;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.html.HtmlOutputText;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.convert.Converter;
 import jakarta.faces.convert.NumberConverter;
 import org.jboss.weld.junit5.ExplicitParamInjection;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +37,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Locale;
+import java.util.Map;
+
 @EnableJSFCDIEnvironment
 @EnableResourceBundleSupport
 @JsfTestConfiguration(CoreJsfTestConfiguration.class)
@@ -82,6 +88,24 @@ class LabelResolverTest {
                     "Resolver should return the message value from the resource bundle");
         }
 
+        @Test
+        @DisplayName("Should cache messages for the locale of the resource bundle, not the view")
+        void shouldCacheForPortalLocale(FacesContext facesContext) {
+            // Arrange
+            facesContext.getViewRoot().setLocale(Locale.GERMAN);
+            final var resolver = LabelResolver.builder().withLabelKey(MESSAGE_KEY).build();
+
+            // Act
+            resolver.resolve(facesContext);
+
+            // Assert
+            final var messages = ResolvedMessageCache.get(facesContext);
+            assertEquals(MESSAGE_VALUE, messages.get(Locale.ENGLISH, MESSAGE_KEY, () -> null),
+                    "Message should be cached for the portal locale");
+            assertNull(messages.get(Locale.GERMAN, MESSAGE_KEY, () -> null),
+                    "Message should not be cached for the locale of the view");
+        }
+
         @Test
         @DisplayName("Should prioritize value over key when both are set")
         void shouldResolveValueOverKey(FacesContext facesContext) {
@@ -194,4 +218,97 @@ class LabelResolverTest {
                     "Resolver should return null in non-strict mode when no label is set");
         }
     }
+
+    @Nested
+    @DisplayName("Tests for the resolver engine")
+    class EngineTests {
+
+        @Test
+        @DisplayName("Should create converters once per type")
+        void shouldCacheConverterByType(FacesContext facesContext) {
+            // Arrange
+            final var resolver = LabelResolver.builder().withLabelValue(1.0).build();
+
+            // Act
+            resolver.resolve(facesContext);
+            final var converter = LabelResolverEngine.get(facesContext).getConverter(Double.class);
+            resolver.resolve(facesContext);
+
+            // Assert
+            final var converters = (Map<?, ?>) facesContext.getExternalContext().getApplicationMap()
+                    .get(LabelResolverEngine.CONVERTERS_KEY);
+            assertNotNull(converters, "Converters should be kept in the application map");
+            assertSame(converter, converters.get(Double.class), "Converter should be cached by type");
+            assertSame(converter, LabelResolverEngine.get(facesContext).getConverter(Double.class),
+                    "Converter should be reused");
+        }
+
+        @Test
+        @DisplayName("Should pass a component with the requested escape mode")
+        void shouldHandleEscapeMode(FacesContext facesContext) {
+            // Arrange
+            final var escaping = LabelResolver.builder().withLabelValue("test")
+                    .withConverter(new EscapeReportingConverter()).build();
+            final var nonEscaping = LabelResolver.builder().withLabelValue("test")
+                    .withConverter(new EscapeReportingConverter()).withEscape(false).build();
+
+            // Act & Assert
+            assertEquals("true", escaping.resolve(facesContext), "Component should escape");
+            assertEquals("false", nonEscaping.resolve(facesContext), "Component should not escape");
+            assertEquals("true", escaping.resolve(facesContext), "Components should not affect each other");
+        }
+
+        @Test
+        @DisplayName("Should cache messages resolved by key per locale")
+        void shouldCacheMessagesPerLocale(FacesContext facesContext) {
+            // Arrange
+            final var resolver = LabelResolver.builder().withLabelKey(MESSAGE_KEY).build();
+            final var statistics = LabelResolver.getMessageCacheStatistics(facesContext);
+            facesContext.getViewRoot().setLocale(Locale.ENGLISH);
+
+            // Act
+            resolver.resolve(facesContext);
+            final var cached = resolver.resolve(facesContext);
+
+            // Assert
+            assertEquals(MESSAGE_VALUE, cached, "Cached message should be returned");
+            assertEquals(1, statistics.getMissCount(), "Bundle should be asked once");
+            assertEquals(1, statistics.getHitCount(), "Second lookup should be served from cache");
+
+            // Act - other locale uses its own partition
+            facesContext.getViewRoot().setLocale(Locale.GERMAN);
+            resolver.resolve(facesContext);
+
+            // Assert
+            assertEquals(2, statistics.getMissCount(), "Other locale should be looked up");
+            assertEquals(2, ResolvedMessageCache.get(facesContext).size(), "Both locales should be cached");
+
+            // Act - invalidation
+            LabelResolver.invalidateMessageCache(facesContext, Locale.GERMAN);
+            assertEquals(1, ResolvedMessageCache.get(facesContext).size(), "Locale should be invalidated");
+            LabelResolver.invalidateMessageCache(facesContext);
+            assertEquals(0, ResolvedMessageCache.get(facesContext).size(), "Cache should be cleared");
+        }
+
+        @Test
+        @DisplayName("Should keep one engine per request")
+        void shouldShareEngineWithinRequest(FacesContext facesContext) {
+            // Act & Assert
+            assertSame(LabelResolverEngine.get(facesContext), LabelResolverEngine.get(facesContext),
+                    "Engine should be reused within a request");
+        }
+    }
+
+    static class EscapeReportingConverter implements Converter<Object> {
+
+        @Override
+        public Object getAsObject(FacesContext context, UIComponent component, String value) {
+            return value;
+        }
+
+        @Override
+        public String getAsString(FacesContext context, UIComponent component, Object value) {
+            return String.valueOf(((HtmlOutputText) component).isEscape());
+        }
+    }
 }
@@ -17,7 +17,9 @@ package de.cuioss.jsf.api.components.util.modifier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
+import de.cuioss.jsf.api.components.util.modifier.SpiResolvedComponentResolver.SpiResolvedComponent;
 import de.cuioss.jsf.api.components.util.modifier.support.TitleProviderImpl;
 import jakarta.faces.component.UIComponentBase;
 import org.junit.jupiter.api.DisplayName;
@@ -68,4 +70,68 @@ class ComponentModifierFactoryTest {
                     "Should use CuiInterfaceBasedModifier for component implementing CUI interface");
         }
     }
+
+    @Nested
+    @DisplayName("Tests for the resolution cache")
+    class ResolutionCacheTests {
+
+        @Test
+        @DisplayName("Should resolve from cache for the same component class")
+        void shouldResolveFromCache() {
+            // Arrange
+            ComponentModifierFactory.findFittingWrapper(new TitleProviderImpl());
+            var hits = ComponentModifierFactory.getResolutionStatistics().getHitCount();
+
+            // Act
+            var first = ComponentModifierFactory.findFittingWrapper(new TitleProviderImpl());
+            var second = ComponentModifierFactory.findFittingWrapper(new TitleProviderImpl());
+
+            // Assert
+            assertEquals(CuiInterfaceBasedModifier.class, first.getClass(),
+                    "Cached resolution should use the same strategy");
+            assertNotSame(first, second,
+                    "Each call should create a new modifier");
+            assertEquals(hits + 2, ComponentModifierFactory.getResolutionStatistics().getHitCount(),
+                    "Subsequent calls should be served from cache");
+        }
+
+        @Test
+        @DisplayName("Should keep the resolver found by SPI")
+        void shouldCacheSpiResolver() {
+            // Arrange
+            ComponentModifierFactory.findFittingWrapper(new SpiResolvedComponent());
+            var instances = SpiResolvedComponentResolver.INSTANCES.get();
+            var hits = ComponentModifierFactory.getResolutionStatistics().getHitCount();
+
+            // Act
+            System.gc();
+            var result = ComponentModifierFactory.findFittingWrapper(new SpiResolvedComponent());
+
+            // Assert
+            assertEquals(ReflectionBasedModifier.class, result.getClass(),
+                    "SPI resolver should be used");
+            assertEquals(hits + 1, ComponentModifierFactory.getResolutionStatistics().getHitCount(),
+                    "SPI resolution should be served from cache");
+            assertEquals(instances, SpiResolvedComponentResolver.INSTANCES.get(),
+                    "SPI should not be scanned again");
+        }
+
+        @Test
+        @DisplayName("Should resolve again after clearing the cache")
+        void shouldResolveAfterClear() {
+            // Arrange
+            ComponentModifierFactory.findFittingWrapper(new TitleProviderImpl());
+            var misses = ComponentModifierFactory.getResolutionStatistics().getMissCount();
+
+            // Act
+            ComponentModifierFactory.clearResolutionCache();
+            var result = ComponentModifierFactory.findFittingWrapper(new TitleProviderImpl());
+
+            // Assert
+            assertEquals(CuiInterfaceBasedModifier.class, result.getClass(),
+                    "Resolution should yield the same strategy");
+            assertEquals(misses + 1, ComponentModifierFactory.getResolutionStatistics().getMissCount(),
+                    "Cleared cache should result in a miss");
+        }
+    }
 }
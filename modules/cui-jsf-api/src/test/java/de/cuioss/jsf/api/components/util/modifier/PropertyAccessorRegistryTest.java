@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.util.modifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import jakarta.faces.component.html.HtmlInputText;
+import jakarta.faces.component.html.HtmlOutputText;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@EnableJsfEnvironment
+@DisplayName("Tests for PropertyAccessorRegistry")
+class PropertyAccessorRegistryTest {
+
+    @Test
+    @DisplayName("Should share accessors per component class")
+    void shouldShareAccessors() {
+        var first = PropertyAccessorRegistry.resolve(HtmlInputText.class, "styleClass");
+        var second = PropertyAccessorRegistry.resolve(HtmlInputText.class, "styleClass");
+
+        assertSame(first, second, "Accessor should be resolved once per class");
+        assertTrue(first.isReadable(), "styleClass should be readable");
+        assertTrue(first.isWriteable(), "styleClass should be writeable");
+    }
+
+    @Test
+    @DisplayName("Should read and write via compiled accessors")
+    void shouldReadAndWrite() {
+        var component = new HtmlInputText();
+        var disabled = PropertyAccessorRegistry.resolve(HtmlInputText.class, "disabled");
+        var title = PropertyAccessorRegistry.resolve(HtmlInputText.class, "title");
+
+        disabled.write(component, Boolean.TRUE);
+        title.write(component, "title");
+
+        assertEquals(Boolean.TRUE, disabled.read(component), "Boolean property should be written");
+        assertTrue(component.isDisabled(), "Component should be disabled");
+        assertEquals("title", title.read(component), "String property should be written");
+    }
+
+    @Test
+    @DisplayName("Should detect unsupported properties")
+    void shouldDetectUnsupported() {
+        var accessor = PropertyAccessorRegistry.resolve(HtmlOutputText.class, "disabled");
+
+        assertFalse(accessor.isReadable(), "HtmlOutputText has no disabled property");
+        assertFalse(accessor.isWriteable(), "HtmlOutputText has no disabled property");
+    }
+}
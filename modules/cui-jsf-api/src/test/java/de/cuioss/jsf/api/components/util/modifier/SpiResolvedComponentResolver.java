@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.components.util.modifier;
+
+import de.cuioss.jsf.api.components.util.ComponentModifier;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.component.UIComponentBase;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ComponentModifierResolver} registered via SPI for the tests, handling
+ * {@link SpiResolvedComponent}s only.
+ */
+public class SpiResolvedComponentResolver implements ComponentModifierResolver {
+
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public SpiResolvedComponentResolver() {
+        INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public Optional<ComponentModifier> wrap(final UIComponent toBeWrapped) {
+        if (toBeWrapped instanceof SpiResolvedComponent) {
+            return Optional.of(new ReflectionBasedModifier(toBeWrapped));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Component resolved by {@link SpiResolvedComponentResolver}.
+     */
+    public static class SpiResolvedComponent extends UIComponentBase {
+
+        @Override
+        public String getFamily() {
+            return "test";
+        }
+    }
+}
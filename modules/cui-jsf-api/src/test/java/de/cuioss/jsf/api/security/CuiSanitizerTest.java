@@ -216,4 +216,30 @@ class CuiSanitizerTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Result Cache Tests")
+    class ResultCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated inputs from cache")
+        void shouldServeFromCache() {
+            // Arrange
+            var sanitizer = CuiSanitizer.PLAIN_TEXT_PRESERVE_ENTITIES;
+            var input = "<b>cached &amp;amp;lt; value</b>";
+            var expected = sanitizer.apply(input);
+            var hits = sanitizer.getCacheStatistics().getHitCount();
+
+            // Act
+            var result = sanitizer.apply(input);
+
+            // Assert
+            assertEquals(expected, result, "Cached result must be identical");
+            assertEquals(hits + 1, sanitizer.getCacheStatistics().getHitCount(),
+                    "Repeated input should be served from cache");
+
+            sanitizer.clearCache();
+            assertEquals(expected, sanitizer.apply(input), "Result must be identical after clearing");
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@DisplayName("Tests for EntityDecoder")
+class EntityDecoderTest {
+
+    private static final String AMP = "&amp;";
+
+    private static Map<String, String> entities(final boolean ampersandFirst) {
+        var map = new LinkedHashMap<String, String>();
+        if (ampersandFirst) {
+            map.put(AMP, "&");
+        }
+        map.put("&lt;", "<");
+        map.put("&#43;", "+");
+        if (!ampersandFirst) {
+            map.put(AMP, "&");
+        }
+        return map;
+    }
+
+    private static String sequential(final String input, final Map<String, String> entities) {
+        var result = input;
+        for (Map.Entry<String, String> entry : entities.entrySet()) {
+            result = result.replace(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should return input without ampersand as is")
+    void shouldReturnPlainInput() {
+        var decoder = new EntityDecoder(entities(true), AMP);
+        var input = "plain text";
+
+        assertSame(input, decoder.decode(input), "Input without entity should not be copied");
+        assertSame(input, decoder.collapseAndDecode(input), "Input without entity should not be copied");
+    }
+
+    @Test
+    @DisplayName("Should behave like sequential replacement")
+    void shouldBehaveLikeSequentialReplacement() {
+        for (boolean ampersandFirst : new boolean[] { true, false }) {
+            var map = entities(ampersandFirst);
+            var decoder = new EntityDecoder(map, AMP);
+            for (String input : new String[] { "&amp;lt;", "a &lt; b &#43; c", "&amp;amp;lt;", "&&amp;#43;",
+                    "&lt", "&amp;", "x&amp;&amp;y" }) {
+                assertEquals(sequential(input, map), decoder.decode(input),
+                        "Unexpected result for '" + input + "', ampersand first: " + ampersandFirst);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should collapse recursive ampersand entities")
+    void shouldCollapseRecursiveEntities() {
+        var decoder = new EntityDecoder(entities(false), AMP);
+
+        assertEquals("<", decoder.collapseAndDecode("&amp;amp;amp;lt;"), "Recursive entities should be collapsed");
+        assertEquals("a & b", decoder.collapseAndDecode("a &amp;amp; b"), "Recursive ampersand should be collapsed");
+    }
+}
@@ -16,6 +16,7 @@
 package de.cuioss.jsf.bootstrap;
 
 import de.cuioss.jsf.api.components.css.StyleClassProvider;
+import de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -203,6 +204,10 @@ public enum CssBootstrap implements StyleClassProvider {
     /** "pinned" */
     TOOLBAR_PINNED("pinned");
 
+    static {
+        StyleClassTokenTable.register(values());
+    }
+
     @Getter
     private final String styleClass;
 
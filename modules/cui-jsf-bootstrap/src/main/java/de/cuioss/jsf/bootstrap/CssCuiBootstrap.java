@@ -16,6 +16,7 @@
 package de.cuioss.jsf.bootstrap;
 
 import de.cuioss.jsf.api.components.css.StyleClassProvider;
+import de.cuioss.jsf.api.components.css.impl.StyleClassTokenTable;
 import de.cuioss.jsf.bootstrap.icon.LabeledIconComponent;
 import de.cuioss.jsf.bootstrap.layout.messages.CuiMessagesComponent;
 import lombok.AccessLevel;
@@ -136,6 +137,10 @@ public enum CssCuiBootstrap implements StyleClassProvider {
 
     INPUT_HELP_TEXT_ACTION("input-help-text-action");
 
+    static {
+        StyleClassTokenTable.register(values());
+    }
+
     @Getter
     private final String styleClass;
 
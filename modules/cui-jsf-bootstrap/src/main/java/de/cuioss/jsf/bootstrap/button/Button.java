@@ -218,6 +218,7 @@ public class Button extends HtmlOutcomeTargetButton implements ComponentBridge,
      * Writes the resolved title to the parent component's title attribute
      */
     @Override
+    @Deprecated(since = "1.1")
     public void writeTitleToParent() {
         super.setTitle(titleProvider.getTitle());
     }
@@ -17,6 +17,7 @@ package de.cuioss.jsf.bootstrap.button;
 
 import de.cuioss.jsf.api.components.JsfHtmlComponent;
 import de.cuioss.jsf.api.components.html.Node;
+import de.cuioss.jsf.api.components.myfaces.MyFacesDelegateTitleAdapter;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
 import de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter;
 import de.cuioss.jsf.api.components.renderer.ElementReplacingResponseWriter;
@@ -80,11 +81,9 @@ public class ButtonRenderer extends BaseDecoratorRenderer<Button> {
     @Override
     protected void doEncodeBegin(final FacesContext context, final DecoratingResponseWriter<Button> writer,
             final Button component) throws IOException {
-        var wrapped = ElementReplacingResponseWriter.createWrappedReplacingResonseWriter(context, "input", "button",
-                true);
-
         component.resolveAndStoreTitle();
-
+        var wrapped = ElementReplacingResponseWriter.createWrappedReplacingResonseWriter(context, "input", "button",
+                true, MyFacesDelegateTitleAdapter.titleAttribute(component.getTitle()));
 
         component.computeAndStoreFinalStyleClass(CssBootstrap.BUTTON.getStyleClassBuilder()
                 .append(ButtonState.getForContextState(component.getState()))
@@ -19,6 +19,7 @@ import de.cuioss.jsf.api.components.JsfHtmlComponent;
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.AttributeValue;
 import de.cuioss.jsf.api.components.html.Node;
+import de.cuioss.jsf.api.components.myfaces.MyFacesDelegateTitleAdapter;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
 import de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter;
 import de.cuioss.jsf.api.components.renderer.ElementReplacingResponseWriter;
@@ -71,11 +72,9 @@ public class CloseCommandButtonRenderer extends BaseDecoratorRenderer<CloseComma
     protected void doEncodeBegin(final FacesContext context, final DecoratingResponseWriter<CloseCommandButton> writer,
             final CloseCommandButton component) throws IOException {
 
-        var wrapped = ElementReplacingResponseWriter.createWrappedReplacingResonseWriter(context, "input", "button",
-                true);
-
         component.resolveAndStoreTitle();
-        component.writeTitleToParent();
+        var wrapped = ElementReplacingResponseWriter.createWrappedReplacingResonseWriter(context, "input", "button",
+                true, MyFacesDelegateTitleAdapter.titleAttribute(component.getTitle()));
 
         component.computeAndStoreFinalStyleClass(CssBootstrap.BUTTON_CLOSE.getStyleClassBuilder());
         component.writeStyleClassToParent();
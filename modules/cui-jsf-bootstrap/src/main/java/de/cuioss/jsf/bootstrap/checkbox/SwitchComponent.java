@@ -17,7 +17,7 @@ package de.cuioss.jsf.bootstrap.checkbox;
 
 import de.cuioss.jsf.api.components.base.BaseCuiHtmlSelectBooleanCheckboxComponent;
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import de.cuioss.jsf.api.components.partial.TitleProvider;
 import de.cuioss.jsf.api.components.partial.TitleProviderImpl;
 import de.cuioss.jsf.api.components.support.LabelResolver;
@@ -252,7 +252,7 @@ public class SwitchComponent extends BaseCuiHtmlSelectBooleanCheckboxComponent {
      */
     @Override
     public StyleClassBuilder getStyleClassBuilder() {
-        return new StyleClassBuilderImpl().append(super.getStyleClass());
+        return StyleClassBuilderFactory.create().append(super.getStyleClass());
     }
 
     /**
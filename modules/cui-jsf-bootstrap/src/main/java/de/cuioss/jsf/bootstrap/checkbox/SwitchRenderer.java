@@ -17,7 +17,7 @@ package de.cuioss.jsf.bootstrap.checkbox;
 
 import de.cuioss.jsf.api.components.JsfHtmlComponent;
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.Node;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
@@ -176,7 +176,7 @@ public class SwitchRenderer extends BaseDecoratorRenderer<SwitchComponent> {
     }
 
     private String getTextStyleClass(final boolean hide) {
-        final StyleClassBuilder builder = new StyleClassBuilderImpl(TEXT_STYLE_CLASS);
+        final StyleClassBuilder builder = StyleClassBuilderFactory.create(TEXT_STYLE_CLASS);
         if (hide) {
             builder.append(CssBootstrap.HIDDEN);
         }
@@ -103,6 +103,15 @@ public final class BootstrapLogMessages {
                 .prefix(PREFIX)
                 .identifier(101)
                 .build();
+
+        /**
+         * Log message when the batched loading of a lazy loading panel did not complete in time.
+         */
+        public static final LogRecord LAZY_LOADING_BATCH_TIMEOUT = LogRecordModel.builder()
+                .template("Batched loading of lazy loading panel '%s' did not complete within %s ms, cancelled it and rendering error state")
+                .prefix(PREFIX)
+                .identifier(102)
+                .build();
     }
 
     /**
@@ -18,7 +18,7 @@ package de.cuioss.jsf.bootstrap.common.partial;
 import static java.util.Objects.requireNonNull;
 
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -102,7 +102,7 @@ public class ColumnCssResolver {
      *         classes, e.g. "col-md-4 col-md-offset-2"
      */
     public StyleClassBuilder resolveColumnCss() {
-        final StyleClassBuilder builder = new StyleClassBuilderImpl();
+        final StyleClassBuilder builder = StyleClassBuilderFactory.create();
         if (renderAsColumn) {
             requireNonNull(size, "size");
             final int sizeInt = size;
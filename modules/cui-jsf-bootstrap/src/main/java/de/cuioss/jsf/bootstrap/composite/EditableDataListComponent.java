@@ -20,6 +20,7 @@ import static de.cuioss.jsf.api.components.model.datalist.AddStatus.CREATED;
 import de.cuioss.jsf.api.components.base.BaseCuiNamingContainer;
 import de.cuioss.jsf.api.components.model.datalist.EditableDataListModel;
 import de.cuioss.jsf.api.components.model.datalist.ItemWrapper;
+import de.cuioss.jsf.api.components.model.datalist.PagedEditableDataListModel;
 import de.cuioss.jsf.api.components.support.LabelResolver;
 import de.cuioss.jsf.api.composite.AttributeAccessorImpl;
 import de.cuioss.jsf.api.composite.accessor.BooleanAttributeAccessor;
@@ -175,6 +176,32 @@ public class EditableDataListComponent extends BaseCuiNamingContainer {
                 .resolve(getFacesContext());
     }
 
+    /**
+     * @return Whether the model is a {@link PagedEditableDataListModel}, therefore only the
+     *         current page is rendered and the pager is displayed
+     */
+    public boolean isPaged() {
+        return getModel() instanceof PagedEditableDataListModel;
+    }
+
+    /**
+     * @return Whether changing the page is disabled, because an item is being edited
+     */
+    public boolean isPagingDisabled() {
+        return !getModel().isEveryItemSavedOrCanceled();
+    }
+
+    /**
+     * @return The current page and the page count, e.g. "2 / 5", or {@code null} if the
+     *         model is not paged
+     */
+    public String getPageLabel() {
+        if (getModel() instanceof PagedEditableDataListModel<?> paged) {
+            return "%s / %s".formatted(paged.getPageIndex() + 1, paged.getPageCount());
+        }
+        return null;
+    }
+
     private boolean isResultItemsAvailable() {
         final EditableDataListModel<?> model = getModel();
         return null != model && !model.getResultItems().isEmpty();
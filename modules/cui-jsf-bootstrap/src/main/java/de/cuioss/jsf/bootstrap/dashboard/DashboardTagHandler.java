@@ -15,6 +15,7 @@
  */
 package de.cuioss.jsf.bootstrap.dashboard;
 
+import de.cuioss.jsf.api.common.util.CacheStatistics;
 import de.cuioss.jsf.api.components.model.widget.DashboardWidgetModel;
 import de.cuioss.jsf.bootstrap.common.logging.BootstrapLogMessages;
 import de.cuioss.tools.logging.CuiLogger;
@@ -25,23 +26,33 @@ import jakarta.faces.view.facelets.FaceletContext;
 import jakarta.faces.view.facelets.TagAttribute;
 import jakarta.faces.view.facelets.TagHandler;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * TagHandler for rendering a dashboard with multiple widgets.
- * Dynamically creates and includes a facelet file with the widget components.
- * 
+ * Dynamically creates and includes a facelet with the widget components.
+ * <p>
+ * The facelet is never written to disk. It is kept in memory and addressed by the
+ * digest of its content, see {@link FaceletSourceRepository}. Therefore every
+ * dashboard variant is compiled only once by the facelet cache of the JSF
+ * implementation. The number of kept variants is bounded by
+ * {@link #MAX_CACHED_DASHBOARDS}, the hit and miss rates are provided by
+ * {@link #getFaceletCacheStatistics()}.
+ * </p>
+ *
  * @author Oliver Wolff
  */
 public class DashboardTagHandler extends TagHandler {
 
     private static final CuiLogger LOGGER = new CuiLogger(DashboardTagHandler.class);
 
+    /** The maximum number of dashboard variants kept in memory. */
+    public static final int MAX_CACHED_DASHBOARDS = 256;
+
+    private static final FaceletSourceRepository FACELETS = new FaceletSourceRepository(MAX_CACHED_DASHBOARDS);
+
     private final TagAttribute widgetsAttr;
     private final TagAttribute widgetStyleClassAttr;
     private final TagAttribute styleClassAttr;
@@ -60,6 +71,14 @@ public class DashboardTagHandler extends TagHandler {
         styleAttr = getAttribute("style");
     }
 
+    /**
+     * @return the statistics of the in-memory facelet sources: A miss corresponds to a
+     *         newly generated dashboard variant
+     */
+    public static CacheStatistics getFaceletCacheStatistics() {
+        return FACELETS.getStatistics();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public void apply(final FaceletContext ctx, final UIComponent parent) throws IOException {
@@ -72,30 +91,27 @@ public class DashboardTagHandler extends TagHandler {
         var style = resolveAttribute(styleAttr, ctx, null);
 
         final var widgetList = (List<DashboardWidgetModel>) widgetsAttr.getObject(ctx);
-        final var f = new File(System.getProperty("java.io.tmpdir"), "dashboard" + widgetList.hashCode() + ".xhtml");
-        if (!f.exists()) {
-            try (var writer = new PrintWriter(f, StandardCharsets.UTF_8)) {
-                writer.println(
-                        "<ui:component xmlns=\"http://www.w3.org/1999/xhtml\" xmlns:ui=\"http://xmlns.jcp.org/jsf/facelets\"");
-                writeNamespaceDeclarations(writer, widgetList);
-                writer.println(">");
-                writer.print("<div class=\"" + styleClass);
-                if (!MoreStrings.isEmpty(style)) {
-                    writer.print("\" style=\"" + style);
-                }
-                writer.println("\">");
-                writeWidgetElements(writer, widgetList, widgetStyleClass);
-                writer.println("</div>");
-                writer.println("</ui:component>");
-            }
+        final var source = new StringBuilder(256);
+        source.append(
+                "<ui:component xmlns=\"http://www.w3.org/1999/xhtml\" xmlns:ui=\"http://xmlns.jcp.org/jsf/facelets\"\n");
+        writeNamespaceDeclarations(source, widgetList);
+        source.append(">\n");
+        source.append("<div class=\"").append(styleClass);
+        if (!MoreStrings.isEmpty(style)) {
+            source.append("\" style=\"").append(style);
         }
+        source.append("\">\n");
+        writeWidgetElements(source, widgetList, widgetStyleClass);
+        source.append("</div>\n");
+        source.append("</ui:component>\n");
+
+        final var url = FACELETS.register("dashboard", source.toString());
         try {
             nextHandler.apply(ctx, parent);
-            ctx.includeFacelet(parent, f.toURI().toURL());
+            ctx.includeFacelet(parent, url);
         } catch (final IOException e) {
-            LOGGER.warn(e, BootstrapLogMessages.WARN.FACELET_INCLUDE_FAILED, f.getAbsolutePath());
+            LOGGER.warn(e, BootstrapLogMessages.WARN.FACELET_INCLUDE_FAILED, url);
         }
-        f.deleteOnExit();
     }
 
     private static String resolveAttribute(final TagAttribute attribute, final FaceletContext ctx,
@@ -110,7 +126,7 @@ public class DashboardTagHandler extends TagHandler {
         return value;
     }
 
-    private static void writeNamespaceDeclarations(final PrintWriter writer,
+    private static void writeNamespaceDeclarations(final StringBuilder source,
             final List<DashboardWidgetModel> widgetList) {
         final List<String> taglibRegistry = new ArrayList<>();
         for (final DashboardWidgetModel widget : widgetList) {
@@ -118,17 +134,17 @@ public class DashboardTagHandler extends TagHandler {
                     widget.getCompositeComponentId().lastIndexOf(':'));
             if (!taglibRegistry.contains(currentComponentNS)) {
                 taglibRegistry.add(currentComponentNS);
-                writer.println("xmlns:" + currentComponentNS + "=\"http://xmlns.jcp.org/jsf/composite/"
-                        + currentComponentNS + "\"");
+                source.append("xmlns:").append(currentComponentNS).append("=\"http://xmlns.jcp.org/jsf/composite/")
+                        .append(currentComponentNS).append("\"\n");
             }
         }
     }
 
-    private void writeWidgetElements(final PrintWriter writer, final List<DashboardWidgetModel> widgetList,
+    private void writeWidgetElements(final StringBuilder source, final List<DashboardWidgetModel> widgetList,
             final String widgetStyleClass) {
         var widgetIndex = 0;
         for (final DashboardWidgetModel widget : widgetList) {
-            writer.println("<div class=\"" + widgetStyleClass + "\">");
+            source.append("<div class=\"").append(widgetStyleClass).append("\">\n");
             final var currentComponentNS = widget.getCompositeComponentId().substring(0,
                     widget.getCompositeComponentId().lastIndexOf(':'));
             final var componentName = widget.getCompositeComponentId()
@@ -136,9 +152,9 @@ public class DashboardTagHandler extends TagHandler {
             final var beanValExpStr = widgetsAttr.getValue().substring(0, widgetsAttr.getValue().lastIndexOf('}'))
                     + ".get(" + widgetIndex + ")}";
             widgetIndex++;
-            writer.println("<" + currentComponentNS + ":" + componentName + " id=\"" + widget.getId()
-                    + "\" model=\"" + beanValExpStr + "\" />");
-            writer.println("</div>");
+            source.append('<').append(currentComponentNS).append(':').append(componentName).append(" id=\"")
+                    .append(widget.getId()).append("\" model=\"").append(beanValExpStr).append("\" />\n");
+            source.append("</div>\n");
         }
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.dashboard;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * In-memory repository for generated facelet sources.
+ * <p>
+ * Each source is addressed by the SHA-256 digest of its content and provided as
+ * {@link URL} with the protocol {@value #PROTOCOL}, which reads directly from memory.
+ * Identical sources therefore always result in the same URL, so the facelet cache of
+ * the JSF implementation compiles each variant only once, independent of the node or
+ * the file system.
+ * </p>
+ * <p>
+ * The number of sources is bounded, the least recently used ones are evicted. An
+ * evicted source is simply registered again on its next use. Instances are
+ * thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class FaceletSourceRepository {
+
+    /** The protocol of the created URLs. */
+    static final String PROTOCOL = "cui-facelet";
+
+    private final LruCache<String, URL> sources;
+
+    /**
+     * @param maxSize the maximum number of sources kept, must be positive
+     */
+    FaceletSourceRepository(final int maxSize) {
+        sources = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param name    used as prefix for the file name part of the URL, must not be null
+     * @param content the complete facelet source, must not be null
+     * @return the URL providing the given content
+     */
+    URL register(final String name, final String content) {
+        final var bytes = requireNonNull(content).getBytes(StandardCharsets.UTF_8);
+        final var digest = digest(bytes);
+        return sources.computeIfAbsent(digest, key -> createUrl(name + "-" + key, bytes));
+    }
+
+    /**
+     * @return the hit and miss statistics of the registered sources
+     */
+    CacheStatistics getStatistics() {
+        return sources.getStatistics();
+    }
+
+    /**
+     * @return the number of sources currently kept
+     */
+    int size() {
+        return sources.size();
+    }
+
+    /**
+     * Removes all sources.
+     */
+    void clear() {
+        sources.clear();
+    }
+
+    static String digest(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static URL createUrl(final String fileName, final byte[] content) {
+        try {
+            return URL.of(URI.create(PROTOCOL + ":/" + fileName + ".xhtml"),
+                    new SourceHandler(content, System.currentTimeMillis()));
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Provides the content it is created with, therefore no lookup is needed while the
+     * JSF implementation reads the source.
+     */
+    private static final class SourceHandler extends URLStreamHandler {
+
+        private final byte[] content;
+        private final long lastModified;
+
+        SourceHandler(final byte[] content, final long lastModified) {
+            this.content = content;
+            this.lastModified = lastModified;
+        }
+
+        @Override
+        protected URLConnection openConnection(final URL url) {
+            return new URLConnection(url) {
+
+                @Override
+                public void connect() {
+                    connected = true;
+                }
+
+                @Override
+                public InputStream getInputStream() {
+                    return new ByteArrayInputStream(content);
+                }
+
+                @Override
+                public long getLastModified() {
+                    return lastModified;
+                }
+
+                @Override
+                public long getContentLengthLong() {
+                    return content.length;
+                }
+
+                @Override
+                public String getContentType() {
+                    return "application/xhtml+xml";
+                }
+            };
+        }
+    }
+}
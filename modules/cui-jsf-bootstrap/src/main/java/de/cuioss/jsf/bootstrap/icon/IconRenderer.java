@@ -16,7 +16,7 @@
 package de.cuioss.jsf.bootstrap.icon;
 
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import de.cuioss.jsf.api.components.html.Node;
 import de.cuioss.jsf.api.components.partial.IconProvider;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
@@ -99,7 +99,7 @@ public class IconRenderer extends BaseDecoratorRenderer<IconComponent> {
     private static StyleClassBuilder computeStyleClass(IconComponent component) {
 
         // Create style-class
-        StyleClassBuilder styleClassBuilder = new StyleClassBuilderImpl(component.resolveIconCss());
+        StyleClassBuilder styleClassBuilder = StyleClassBuilderFactory.create(component.resolveIconCss());
         styleClassBuilder.append(component);
 
         // Consider State and size
@@ -24,7 +24,6 @@ import de.cuioss.jsf.api.components.partial.*;
 import de.cuioss.jsf.api.components.support.OneTimeCheck;
 import de.cuioss.jsf.api.components.util.CuiState;
 import de.cuioss.jsf.api.components.util.styleclass.CombinedComponentModifier;
-import de.cuioss.jsf.api.components.util.styleclass.StyleClassModifierFactory;
 import de.cuioss.jsf.bootstrap.BootstrapFamily;
 import de.cuioss.jsf.bootstrap.CssBootstrap;
 import de.cuioss.jsf.bootstrap.CssCuiBootstrap;
@@ -183,9 +182,13 @@ public class LabeledContainerComponent extends BaseCuiNamingContainer implements
         if (event instanceof PreRenderComponentEvent) {
             resolvePlugins().forEach(p -> p.prerender(this));
             processPreRenderComponentEvent();
-        } else if (event instanceof PostAddToViewEvent && !oneTimeCheck.readAndSetChecked()) {
-            resolvePlugins().forEach(p -> p.postAddToView(this));
-            processPostAddToViewEvent();
+        } else if (event instanceof PostAddToViewEvent) {
+            // The tree has changed, therefore the related component must be searched again
+            RelatedComponentCache.invalidate(getFacesContext(), this);
+            if (!oneTimeCheck.readAndSetChecked()) {
+                resolvePlugins().forEach(p -> p.postAddToView(this));
+                processPostAddToViewEvent();
+            }
         }
         super.processEvent(event);
     }
@@ -281,33 +284,59 @@ public class LabeledContainerComponent extends BaseCuiNamingContainer implements
      * related to.
      * It returns null if none could be found.
      */
-    @SuppressWarnings("java:S3776") // Complexity from debug logging in JSF renderer
     UIComponent findRelatedComponent() {
+        final var resolution = resolveRelatedComponent();
+        return null == resolution ? null : resolution.getComponent();
+    }
+
+    /**
+     * Resolves the related component. While rendering the response, the result is kept in
+     * the {@link RelatedComponentCache}, as it is asked for several times per container.
+     *
+     * @return the resolution of the for attribute, null if no component could be found
+     */
+    private RelatedComponentCache.Resolution resolveRelatedComponent() {
         final var forId = forIdentifierProvider.resolveFirstIdentifier();
-        UIComponent found = null;
-        if (forId.isPresent()) {
-            final var namingContainer = (UIComponent) findNearestNamingContainer(this);
-            found = namingContainer.findComponent(forId.get());
-            if (LOGGER.isDebugEnabled()) {
-                try {
-                    if (null == found && null == contentProvider.resolveContent() && isRendered()) {
-                        if (getChildren().isEmpty()) {
-                            LOGGER.debug("LabeledContainer '%s' does not contain any children and no content.", getClientId());
-                        } else if (isApplicationInProductionStage()) {
-                            LOGGER.debug("LabeledContainer '%s' does not contain an input component with id '%s'. Please check if you want to render an input element and did not adapt the id of this element. If you want to use it for output text, you can ignore this message", getClientId(), forId.get());
-                        } else if (shouldNotRenderComplexOutput()) {
-                            LOGGER.info(BootstrapLogMessages.INFO.NO_INPUT_COMPONENT, getClientId(), forId.get());
-                        }
+        if (forId.isEmpty()) {
+            LOGGER.debug("forId is not present for '%s'", getClientId());
+            return null;
+        }
+        final var context = getFacesContext();
+        if (!RelatedComponentCache.isActive(context)) {
+            return searchRelatedComponent(forId.get());
+        }
+        final var cache = RelatedComponentCache.get(context);
+        var resolution = cache.lookup(this, forId.get());
+        if (null == resolution) {
+            resolution = searchRelatedComponent(forId.get());
+            if (null != resolution) {
+                cache.put(this, resolution);
+            }
+        }
+        return resolution;
+    }
+
+    @SuppressWarnings("java:S3776") // Complexity from debug logging in JSF renderer
+    private RelatedComponentCache.Resolution searchRelatedComponent(final String forId) {
+        final var namingContainer = (UIComponent) findNearestNamingContainer(this);
+        final var found = namingContainer.findComponent(forId);
+        if (LOGGER.isDebugEnabled()) {
+            try {
+                if (null == found && null == contentProvider.resolveContent() && isRendered()) {
+                    if (getChildren().isEmpty()) {
+                        LOGGER.debug("LabeledContainer '%s' does not contain any children and no content.", getClientId());
+                    } else if (isApplicationInProductionStage()) {
+                        LOGGER.debug("LabeledContainer '%s' does not contain an input component with id '%s'. Please check if you want to render an input element and did not adapt the id of this element. If you want to use it for output text, you can ignore this message", getClientId(), forId);
+                    } else if (shouldNotRenderComplexOutput()) {
+                        LOGGER.info(BootstrapLogMessages.INFO.NO_INPUT_COMPONENT, getClientId(), forId);
                     }
-                    // cui-rewrite:disable InvalidExceptionUsageRecipe
-                } catch (Exception e) {
-                    LOGGER.debug("Exception during logging: ", e);
                 }
+                // cui-rewrite:disable InvalidExceptionUsageRecipe
+            } catch (Exception e) {
+                LOGGER.debug("Exception during logging: ", e);
             }
-        } else {
-            LOGGER.debug("forId is not present for '%s'", getClientId());
         }
-        return found;
+        return null == found ? null : new RelatedComponentCache.Resolution(forId, namingContainer, found);
     }
 
     /**
@@ -316,9 +345,9 @@ public class LabeledContainerComponent extends BaseCuiNamingContainer implements
      * It returns null if none could be found.
      */
     public CombinedComponentModifier findRelatedComponentModifier() {
-        final var forComponent = findRelatedComponent();
-        if (null != forComponent && !(forComponent instanceof HtmlInputHidden)) {
-            return StyleClassModifierFactory.findFittingWrapper(forComponent);
+        final var resolution = resolveRelatedComponent();
+        if (null != resolution && !(resolution.getComponent() instanceof HtmlInputHidden)) {
+            return resolution.getModifier();
         }
         return null;
     }
@@ -16,8 +16,8 @@
 package de.cuioss.jsf.bootstrap.layout.input;
 
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
+import de.cuioss.jsf.api.components.css.StyleClassBuilderFactory;
 import de.cuioss.jsf.api.components.css.StyleClassProvider;
-import de.cuioss.jsf.api.components.css.impl.StyleClassBuilderImpl;
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.Node;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
@@ -139,7 +139,7 @@ public class LabeledContainerRenderer extends BaseDecoratorRenderer<LabeledConta
     private static void beginLabel(final DecoratingResponseWriter<LabeledContainerComponent> writer,
             final LabeledContainerComponent component) throws IOException {
         writer.withStartElement(Node.LABEL);
-        StyleClassBuilder labelStyleClassBuilder = new StyleClassBuilderImpl();
+        StyleClassBuilder labelStyleClassBuilder = StyleClassBuilderFactory.create();
         if (!component.containsCheckbox()) {
             labelStyleClassBuilder = component.resolveLabelCss(component.shouldRenderAsColumn());
             labelStyleClassBuilder.append(CssBootstrap.CONTROL_LABEL);
@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.layout.input;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.components.util.styleclass.CombinedComponentModifier;
+import de.cuioss.jsf.api.components.util.styleclass.StyleClassModifierFactory;
+import jakarta.faces.component.UIComponent;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.PhaseId;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Render-scoped cache of the components related to {@link LabeledContainerComponent}s,
+ * stored in the attributes of the {@link FacesContext}.
+ * <p>
+ * During rendering, the related component of a container is asked for by the
+ * pre-render event, the renderer and nested components several times. Each request
+ * would otherwise result in a search within the nearest naming container and a new
+ * {@link CombinedComponentModifier}. The cache is used while rendering the response only,
+ * see {@link #isActive(FacesContext)}.
+ * </p>
+ * <p>
+ * A cached resolution is discarded if the identifier has changed or the related
+ * component is no longer a descendant of the naming container it has been found in,
+ * e.g. because it has been removed from the tree. Unsuccessful searches are not cached,
+ * as a matching component may be added later on.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class RelatedComponentCache {
+
+    static final String CONTEXT_KEY = RelatedComponentCache.class.getName();
+
+    private final Map<LabeledContainerComponent, Resolution> resolutions = new IdentityHashMap<>();
+
+    /**
+     * @param context must not be null
+     * @return boolean indicating whether the cache is to be used in the current phase
+     */
+    static boolean isActive(final FacesContext context) {
+        return PhaseId.RENDER_RESPONSE.equals(context.getCurrentPhaseId());
+    }
+
+    /**
+     * @param context must not be null
+     * @return the instance for the current request, created on first access
+     */
+    static RelatedComponentCache get(final FacesContext context) {
+        return (RelatedComponentCache) context.getAttributes().computeIfAbsent(CONTEXT_KEY,
+                key -> new RelatedComponentCache());
+    }
+
+    /**
+     * @param container must not be null
+     * @param forId     the identifier currently resolved by the container
+     * @return the cached resolution, {@code null} if there is none or it is no longer valid
+     */
+    Resolution lookup(final LabeledContainerComponent container, final String forId) {
+        final var resolution = resolutions.get(container);
+        if (null == resolution) {
+            return null;
+        }
+        if (resolution.isValid(forId)) {
+            return resolution;
+        }
+        resolutions.remove(container);
+        return null;
+    }
+
+    /**
+     * Caches the given resolution, unless the component has been found outside of the
+     * naming container, e.g. by an absolute identifier, and can therefore not be validated.
+     *
+     * @param container  must not be null
+     * @param resolution must not be null
+     */
+    void put(final LabeledContainerComponent container, final Resolution resolution) {
+        requireNonNull(container);
+        if (resolution.isValid(resolution.forId)) {
+            resolutions.put(container, resolution);
+        }
+    }
+
+    /**
+     * Removes the resolution of the given container, without creating an instance for
+     * the current request.
+     *
+     * @param context   must not be null
+     * @param container whose resolution is to be removed
+     */
+    static void invalidate(final FacesContext context, final LabeledContainerComponent container) {
+        if (context.getAttributes().get(CONTEXT_KEY) instanceof RelatedComponentCache cache) {
+            cache.resolutions.remove(container);
+        }
+    }
+
+    /**
+     * @return the number of resolutions currently kept
+     */
+    int size() {
+        return resolutions.size();
+    }
+
+    /**
+     * The related component found for a given identifier, together with its lazily created
+     * {@link CombinedComponentModifier}.
+     */
+    static final class Resolution {
+
+        private final String forId;
+        private final UIComponent namingContainer;
+        private final UIComponent component;
+        private CombinedComponentModifier modifier;
+
+        /**
+         * @param forId           the identifier searched for, must not be null
+         * @param namingContainer the search has been started from, must not be null
+         * @param component       the component found, must not be null
+         */
+        Resolution(final String forId, final UIComponent namingContainer, final UIComponent component) {
+            this.forId = requireNonNull(forId);
+            this.namingContainer = requireNonNull(namingContainer);
+            this.component = requireNonNull(component);
+        }
+
+        /**
+         * @return the related component, never null
+         */
+        UIComponent getComponent() {
+            return component;
+        }
+
+        /**
+         * @return the modifier for the related component, created on first access
+         * @throws IllegalArgumentException if the component does not provide a style class
+         */
+        CombinedComponentModifier getModifier() {
+            if (null == modifier) {
+                modifier = StyleClassModifierFactory.findFittingWrapper(component);
+            }
+            return modifier;
+        }
+
+        private boolean isValid(final String currentForId) {
+            if (!forId.equals(currentForId)) {
+                return false;
+            }
+            var current = component.getParent();
+            while (null != current) {
+                if (current == namingContainer) {
+                    return true;
+                }
+                current = current.getParent();
+            }
+            return false;
+        }
+    }
+}
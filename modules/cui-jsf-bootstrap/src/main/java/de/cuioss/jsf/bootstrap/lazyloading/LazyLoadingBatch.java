@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.lazyloading;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingModel;
+import de.cuioss.jsf.bootstrap.common.logging.BootstrapLogMessages;
+import de.cuioss.tools.logging.CuiLogger;
+import jakarta.faces.FacesException;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.ActionEvent;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the loading work of all {@link LazyLoadingComponent}s of a batched content load
+ * request concurrently, see {@link LazyLoadingComponent#isBatch()}.
+ * <p>
+ * While broadcasting its {@link ActionEvent}, each panel submits
+ * {@link LazyLoadingModel#processAction(ActionEvent)} of its view model to a bounded,
+ * application-wide executor. The renderer waits for the work of the panel in question
+ * only, therefore the panels are rendered in document order while the work of the
+ * remaining ones is still running. If the executor is saturated, the work is done by
+ * the request thread itself.
+ * </p>
+ * <p>
+ * The work is executed without a {@link FacesContext}, as it is bound to the request
+ * thread. View models used in batch mode must therefore be thread-safe and must not
+ * access the {@link FacesContext}, as already required for
+ * {@link de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingThreadModel}.
+ * </p>
+ * <p>
+ * If the work of a panel does not complete in time, it is cancelled, interrupting the
+ * executing thread, so that it does not change the view model while the panel is
+ * rendered and the view state is saved. The panel is rendered in its error state then,
+ * see {@link #isTimedOut(String)}. The work should therefore respond to interruption.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class LazyLoadingBatch {
+
+    private static final CuiLogger LOGGER = new CuiLogger(LazyLoadingBatch.class);
+
+    /**
+     * Request parameter marking a batched content load request, added by
+     * {@code enabler.lazyLoading.js}.
+     */
+    static final String BATCH_PARAMETER = "cui_lazy_loading_batch";
+
+    /** Context parameter defining the time the rendering waits for a single panel. */
+    static final String TIMEOUT_PARAMETER = "de.cuioss.jsf.bootstrap.LAZY_LOADING_BATCH_TIMEOUT";
+
+    /** Default for {@link #TIMEOUT_PARAMETER}, in milliseconds. */
+    static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
+    /** The maximum number of panels loaded concurrently, application-wide. */
+    static final int MAX_THREADS = Math.min(Math.max(2, Runtime.getRuntime().availableProcessors()), 8);
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private static final String REQUEST_KEY = LazyLoadingBatch.class.getName();
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    private final Executor executor;
+
+    private final Map<String, Future<?>> pending = new HashMap<>();
+
+    private final Set<String> timedOut = new HashSet<>();
+
+    LazyLoadingBatch(final Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * @param context the current context, must not be null
+     * @return {@code true} if the current request is a batched content load request
+     */
+    static boolean isBatchRequest(final FacesContext context) {
+        return context.getExternalContext().getRequestParameterMap().containsKey(BATCH_PARAMETER);
+    }
+
+    /**
+     * @param context the current context, must not be null
+     * @return the batch of the current request, created on first access
+     */
+    static LazyLoadingBatch get(final FacesContext context) {
+        return (LazyLoadingBatch) context.getExternalContext().getRequestMap().computeIfAbsent(REQUEST_KEY,
+                key -> new LazyLoadingBatch(EXECUTOR));
+    }
+
+    /**
+     * @param context the current context, must not be null
+     * @return the batch of the current request, {@code null} if nothing has been submitted
+     */
+    static LazyLoadingBatch find(final FacesContext context) {
+        return (LazyLoadingBatch) context.getExternalContext().getRequestMap().get(REQUEST_KEY);
+    }
+
+    /**
+     * @param clientId identifying the panel, must not be null
+     * @param model    whose loading work is to be run, must not be null
+     * @param event    to be passed to the model, must not be null
+     */
+    void submit(final String clientId, final LazyLoadingModel model, final ActionEvent event) {
+        final var task = new FutureTask<Void>(() -> model.processAction(event), null);
+        pending.put(clientId, task);
+        executor.execute(task);
+    }
+
+    /**
+     * Waits for the work of the given panel, if there is any. Work not completed within
+     * the given time is cancelled.
+     *
+     * @param clientId      identifying the panel
+     * @param timeoutMillis the maximum time to wait
+     * @return {@code false} if the work has been cancelled because of the timeout,
+     *         {@code true} otherwise
+     * @throws FacesException if the work failed or the thread has been interrupted
+     */
+    boolean await(final String clientId, final long timeoutMillis) {
+        final var future = pending.remove(clientId);
+        if (null == future) {
+            return !timedOut.contains(clientId);
+        }
+        try {
+            future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.add(clientId);
+            LOGGER.warn(BootstrapLogMessages.WARN.LAZY_LOADING_BATCH_TIMEOUT, clientId, timeoutMillis);
+            return false;
+        } catch (ExecutionException e) {
+            throw new FacesException("Loading of lazy loading panel '%s' failed".formatted(clientId), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FacesException(e);
+        }
+    }
+
+    /**
+     * @param clientId identifying the panel
+     * @return {@code true} if the work of the given panel has been cancelled because of
+     *         the timeout
+     */
+    boolean isTimedOut(final String clientId) {
+        return timedOut.contains(clientId);
+    }
+
+    /**
+     * @return the number of panels whose work has not been awaited yet
+     */
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @param context the current context, must not be null
+     * @return the configured time the rendering waits for a single panel
+     */
+    static long resolveTimeoutMillis(final FacesContext context) {
+        final var configured = context.getExternalContext().getInitParameter(TIMEOUT_PARAMETER);
+        if (null == configured || configured.isBlank()) {
+            return DEFAULT_TIMEOUT_MILLIS;
+        }
+        return Long.parseLong(configured.trim());
+    }
+
+    private static Executor createExecutor() {
+        final var executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), new DaemonThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final var thread = new Thread(runnable, "cui-lazy-loading-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
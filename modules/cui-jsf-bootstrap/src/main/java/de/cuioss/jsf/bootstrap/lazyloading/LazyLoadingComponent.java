@@ -16,6 +16,7 @@
 package de.cuioss.jsf.bootstrap.lazyloading;
 
 import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.model.lazyloading.BaseLazyLoadingThreadModel;
 import de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingModel;
 import de.cuioss.jsf.api.components.partial.ComponentBridge;
 import de.cuioss.jsf.api.components.partial.ComponentStyleClassProviderImpl;
@@ -30,17 +31,25 @@ import de.cuioss.jsf.bootstrap.waitingindicator.WaitingIndicatorComponent;
 import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.string.MoreStrings;
 import de.cuioss.uimodel.nameprovider.IDisplayNameProvider;
+import jakarta.el.ELException;
 import jakarta.el.MethodExpression;
 import jakarta.faces.application.ResourceDependency;
 import jakarta.faces.component.*;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.AbortProcessingException;
+import jakarta.faces.event.ActionEvent;
+import jakarta.faces.event.ActionListener;
 import jakarta.faces.event.ComponentSystemEvent;
+import jakarta.faces.event.FacesEvent;
 import jakarta.faces.event.ListenerFor;
+import jakarta.faces.event.MethodExpressionActionListener;
 import jakarta.faces.event.PostAddToViewEvent;
 import jakarta.faces.event.PreRenderComponentEvent;
 import lombok.experimental.Delegate;
 
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Container for content that loads asynchronously after initial page rendering.
@@ -65,8 +74,38 @@ import java.util.Optional;
  *   <li>{@code renderContent}: Whether to display child components</li>
  *   <li>{@code async}: Whether to load asynchronously</li>
  *   <li>{@code startInitialize}: Method called at start of loading</li>
+ *   <li>{@code batch}: Whether to load together with the other batched panels of the page</li>
+ *   <li>{@code loadOn}: When to load, on page load or once visible</li>
+ *   <li>{@code rootMargin}: Margin around the viewport for {@code loadOn="visible"}</li>
  * </ul>
  *
+ * <h3>Viewport-Driven Loading</h3>
+ * <p>
+ * With {@code loadOn="visible"} the content is requested once the panel is about to
+ * enter the viewport, detected by an {@code IntersectionObserver}. The
+ * {@code rootMargin} extends the viewport, so loading starts slightly before the panel
+ * becomes visible. Panels the user never scrolls to are never loaded. Browsers without
+ * {@code IntersectionObserver} load the panel immediately.
+ * </p>
+ *
+ * <h3>Polling</h3>
+ * <p>
+ * A {@link BaseLazyLoadingThreadModel} retrieves its content on a thread of its own. As
+ * long as its result is not available, a content load request does not wait for it:
+ * The view model is not notified, the waiting indicator is rendered again and the
+ * client requests the content again after a short delay, see {@link #isPolling(FacesContext)}.
+ * </p>
+ *
+ * <h3>Batch Mode</h3>
+ * <p>
+ * By default each panel is loaded by a partial request of its own. Panels with
+ * {@code batch="true"} are collected by the client and loaded by a single partial
+ * request. The work of their view models is run concurrently, see
+ * {@link LazyLoadingBatch}, and all panels are rendered in one response. An action
+ * listener invoking the view model, e.g. {@code actionListener="#{bean.model.processAction}"},
+ * is not notified in addition.
+ * </p>
+ *
  * @author Oliver Wolff
  * @since 1.0
  * @see LazyLoadingRenderer
@@ -95,6 +134,23 @@ public class LazyLoadingComponent extends UICommand implements ComponentBridge,
 
     private static final String START_INITIALIZE_KEY = "startInitialize";
 
+    private static final String BATCH_KEY = "batch";
+
+    private static final String LOAD_ON_KEY = "loadOn";
+
+    private static final String ROOT_MARGIN_KEY = "rootMargin";
+
+    private static final String POLLING_KEY = LazyLoadingComponent.class.getName() + ".polling";
+
+    /** Value of {@code loadOn}: The content is requested on page load, the default. */
+    public static final String LOAD_ON_LOAD = "load";
+
+    /** Value of {@code loadOn}: The content is requested once the panel is about to become visible. */
+    public static final String LOAD_ON_VISIBLE = "visible";
+
+    /** Default of {@code rootMargin}, in CSS margin syntax. */
+    public static final String DEFAULT_ROOT_MARGIN = "200px";
+
     private static final String WAITING_INDICATOR_STYLE_CLASS_KEY = "waitingIndicatorStyleClass";
 
     /**
@@ -378,6 +434,72 @@ public class LazyLoadingComponent extends UICommand implements ComponentBridge,
         state.put(ASYNC_KEY, async);
     }
 
+    /**
+     * Returns whether the content is loaded together with the other batched panels of the
+     * page by a single request.
+     *
+     * @return {@code true} if batch loading is enabled, otherwise {@code false}
+     */
+    public boolean isBatch() {
+        return state.getBoolean(BATCH_KEY, false);
+    }
+
+    /**
+     * Sets whether the content is loaded together with the other batched panels of the
+     * page. The view model must then be thread-safe, see {@link LazyLoadingBatch}.
+     *
+     * @param batch {@code true} to enable batch loading, {@code false} otherwise
+     */
+    public void setBatch(final boolean batch) {
+        state.put(BATCH_KEY, batch);
+    }
+
+    /**
+     * Returns when the content is requested.
+     *
+     * @return {@link #LOAD_ON_LOAD} (default) or {@link #LOAD_ON_VISIBLE}
+     */
+    public String getLoadOn() {
+        return state.get(LOAD_ON_KEY, LOAD_ON_LOAD);
+    }
+
+    /**
+     * Sets when the content is requested.
+     *
+     * @param loadOn {@link #LOAD_ON_LOAD} or {@link #LOAD_ON_VISIBLE}, any other value is
+     *               treated as {@link #LOAD_ON_LOAD}
+     */
+    public void setLoadOn(final String loadOn) {
+        state.put(LOAD_ON_KEY, loadOn);
+    }
+
+    /**
+     * @return {@code true} if the content is requested once the panel is about to become
+     *         visible
+     */
+    public boolean isLoadOnVisible() {
+        return LOAD_ON_VISIBLE.equals(getLoadOn());
+    }
+
+    /**
+     * Returns the margin around the viewport used for detecting the visibility.
+     *
+     * @return the margin in CSS margin syntax, defaults to {@link #DEFAULT_ROOT_MARGIN}
+     */
+    public String getRootMargin() {
+        return state.get(ROOT_MARGIN_KEY, DEFAULT_ROOT_MARGIN);
+    }
+
+    /**
+     * Sets the margin around the viewport used for detecting the visibility, only
+     * relevant for {@link #LOAD_ON_VISIBLE}.
+     *
+     * @param rootMargin the margin in CSS margin syntax, e.g. "200px" or "10% 0px"
+     */
+    public void setRootMargin(final String rootMargin) {
+        state.put(ROOT_MARGIN_KEY, rootMargin);
+    }
+
     /**
      * Returns whether the child content should be rendered.
      *
@@ -423,12 +545,35 @@ public class LazyLoadingComponent extends UICommand implements ComponentBridge,
      *   <li>Children are not loaded yet</li>
      *   <li>The current request is not a content load request</li>
      * </ul>
+     * or the result of the view model is not available yet, see {@link #isPolling(FacesContext)}.
      *
      * @param facesContext The current faces context
      * @return {@code true} if the waiting indicator should be rendered, otherwise {@code false}
      */
     public boolean shouldRenderWaitingIndicator(FacesContext facesContext) {
-        return evaluateNotInitialized() && !getChildrenLoaded() && isNotContentLoadRequest(facesContext);
+        return (evaluateNotInitialized() && !getChildrenLoaded() && isNotContentLoadRequest(facesContext))
+                || isPolling(facesContext);
+    }
+
+    /**
+     * Returns whether the content has been requested by the current request, but the
+     * result of the {@link BaseLazyLoadingThreadModel} is not available yet. The waiting
+     * indicator is rendered then and the client requests the content again.
+     *
+     * @param facesContext The current faces context
+     * @return {@code true} if the client is to request the content again
+     */
+    public boolean isPolling(final FacesContext facesContext) {
+        return facesContext.getAttributes().get(POLLING_KEY) instanceof Set<?> polling
+                && polling.contains(getClientId(facesContext));
+    }
+
+    @SuppressWarnings("unchecked") // Only this class writes the entry
+    private void markPolling(final FacesContext context) {
+        ((Set<String>) context.getAttributes().computeIfAbsent(POLLING_KEY, key -> new HashSet<String>()))
+                .add(getClientId(context));
+        // Loaded by the next content load request
+        setChildrenLoaded(false);
     }
 
     /**
@@ -444,6 +589,92 @@ public class LazyLoadingComponent extends UICommand implements ComponentBridge,
         return isRenderContent();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Within a batched content load request, the {@link LazyLoadingModel#processAction(ActionEvent)}
+     * of the view model is submitted to the {@link LazyLoadingBatch} instead of being
+     * waited for. The registered action listeners are notified as usual, except for the
+     * ones invoking the view model, see {@link #isViewModelListener(FacesContext, ActionListener, LazyLoadingModel)}.
+     * <p>
+     * Nothing is notified while the result of a {@link BaseLazyLoadingThreadModel} is not
+     * available, see {@link #isPolling(FacesContext)}.
+     */
+    @Override
+    public void broadcast(final FacesEvent event) throws AbortProcessingException {
+        final var viewModel = getViewModel();
+        if (event instanceof ActionEvent && viewModel instanceof BaseLazyLoadingThreadModel<?> threadModel
+                && !threadModel.isResultAvailable()) {
+            final var context = getFacesContext();
+            LOGGER.debug("Result of view model of %s not available yet, polling", getClientId(context));
+            markPolling(context);
+            return;
+        }
+        if (event instanceof ActionEvent actionEvent && null != viewModel && isBatch()) {
+            final var context = getFacesContext();
+            if (LazyLoadingBatch.isBatchRequest(context) && !isNotContentLoadRequest(context)) {
+                LOGGER.debug("Submitting view model of %s to batch", getClientId(context));
+                LazyLoadingBatch.get(context).submit(getClientId(context), viewModel, actionEvent);
+                broadcastSkippingViewModel(context, actionEvent, viewModel);
+                return;
+            }
+        }
+        super.broadcast(event);
+    }
+
+    /**
+     * Equivalent to {@link UICommand#broadcast(FacesEvent)}, but without notifying the
+     * listeners invoking the view model, as its work is already done by the batch.
+     */
+    private void broadcastSkippingViewModel(final FacesContext context, final ActionEvent event,
+            final LazyLoadingModel viewModel) {
+        for (final ActionListener listener : getActionListeners()) {
+            if (event.isAppropriateListener(listener) && !isViewModelListener(context, listener, viewModel)) {
+                event.processListener(listener);
+            }
+        }
+        final var defaultListener = context.getApplication().getActionListener();
+        if (null != defaultListener) {
+            defaultListener.processAction(event);
+        }
+    }
+
+    /**
+     * @param context   the current context, must not be null
+     * @param listener  to be checked, must not be null
+     * @param viewModel the view model of the component, must not be null
+     * @return {@code true} if the given listener is the view model itself, e.g. registered
+     *         by {@code f:actionListener binding="..."}, or a method expression invoked on
+     *         it, e.g. {@code actionListener="#{bean.model.processAction}"}
+     */
+    static boolean isViewModelListener(final FacesContext context, final ActionListener listener,
+            final LazyLoadingModel viewModel) {
+        if (listener == viewModel) {
+            return true;
+        }
+        // The method expressions are only accessible by the state of the listener
+        if (listener instanceof MethodExpressionActionListener methodListener
+                && methodListener.saveState(context) instanceof Object[] expressions) {
+            for (final Object expression : expressions) {
+                if (expression instanceof MethodExpression method && isInvokedOn(context, method, viewModel)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isInvokedOn(final FacesContext context, final MethodExpression method,
+            final Object target) {
+        try {
+            final var reference = method.getMethodReference(context.getELContext());
+            return null != reference && reference.getBase() == target;
+        } catch (ELException | UnsupportedOperationException e) {
+            LOGGER.debug(e, "Unable to resolve the target of %s", method.getExpressionString());
+            return false;
+        }
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -17,8 +17,10 @@ package de.cuioss.jsf.bootstrap.lazyloading;
 
 import static de.cuioss.jsf.bootstrap.lazyloading.LazyLoadingComponent.*;
 
+import de.cuioss.jsf.api.components.css.ContextState;
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.Node;
+import de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingRequestRegistry;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
 import de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter;
 import de.cuioss.jsf.api.components.util.ComponentWrapper;
@@ -26,6 +28,7 @@ import de.cuioss.jsf.bootstrap.BootstrapFamily;
 import de.cuioss.jsf.bootstrap.CssCuiBootstrap;
 import de.cuioss.jsf.bootstrap.notification.NotificationBoxComponent;
 import de.cuioss.tools.logging.CuiLogger;
+import de.cuioss.uimodel.nameprovider.LabeledKey;
 import jakarta.faces.component.UIComponent;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.event.ActionEvent;
@@ -44,6 +47,15 @@ import java.io.IOException;
  *   <li>Error: Displays notification messages</li>
  *   <li>Complete: Renders child components according to configuration</li>
  * </ul>
+ * <p>
+ * Within a batched content load request, rendering waits for the loading work of the
+ * respective component, see {@link LazyLoadingBatch}. If it does not complete in time,
+ * the component is rendered in its error state: The notification box shows
+ * {@value LazyLoadingRequestRegistry#MESSAGE_KEY_REQUEST_FAILED} and the content is not
+ * rendered, the next content load request loads it again. While the result of a
+ * {@link LazyLoadingComponent#isPolling(FacesContext) polling} component is not
+ * available, the waiting indicator is rendered together with {@value #DATA_POLL_DELAY}.
+ * </p>
  *
  * <h3>Generated Structure</h3>
  * <pre>
@@ -72,6 +84,17 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
 
     static final String DATA_WAITING_INDICATOR_ID = "data-lazy_loading-waiting-indicator-id";
 
+    static final String DATA_BATCH = "data-batch";
+
+    static final String DATA_LOAD_ON = "data-load-on";
+
+    static final String DATA_ROOT_MARGIN = "data-root-margin";
+
+    static final String DATA_POLL_DELAY = "data-poll-delay";
+
+    /** The time the client waits before requesting the content again, in milliseconds. */
+    static final int POLL_DELAY_MILLIS = 500;
+
     public LazyLoadingRenderer() {
         super(true);
     }
@@ -80,6 +103,7 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
     protected void doEncodeBegin(final FacesContext context,
             final DecoratingResponseWriter<LazyLoadingComponent> writer, final LazyLoadingComponent component)
             throws IOException {
+        awaitBatchedLoading(context, component);
         writer.withStartElement(Node.DIV);
         writer.withClientId();
         if (!component.shouldRenderWaitingIndicator(context)) {
@@ -87,6 +111,16 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
         }
         writer.writeAttribute(DATA_IGNORE_AUTO_UPDATE, component.isIgnoreAutoUpdate(), DATA_IGNORE_AUTO_UPDATE);
         writer.writeAttribute(DATA_ASYNC, component.isAsync(), DATA_ASYNC);
+        if (component.isBatch()) {
+            writer.writeAttribute(DATA_BATCH, true, DATA_BATCH);
+        }
+        if (component.isPolling(context)) {
+            writer.writeAttribute(DATA_POLL_DELAY, POLL_DELAY_MILLIS, DATA_POLL_DELAY);
+        }
+        if (component.isLoadOnVisible()) {
+            writer.writeAttribute(DATA_LOAD_ON, LazyLoadingComponent.LOAD_ON_VISIBLE, DATA_LOAD_ON);
+            writer.writeAttribute(DATA_ROOT_MARGIN, component.getRootMargin(), DATA_ROOT_MARGIN);
+        }
         var waitingIndicatorComponentResult = component.retrieveWaitingIndicator();
         if (waitingIndicatorComponentResult.isEmpty()) {
             throw new IllegalStateException("Waiting indicator not found!");
@@ -122,13 +156,20 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
 
         if (!component.shouldRenderWaitingIndicator(context)) { // render all children including
             // waiting indicator
-            component.setChildrenLoaded(true);
+            final var timedOut = isBatchTimedOut(context, component);
+            component.setChildrenLoaded(!timedOut);
             writer.withStartElement(Node.DIV);
             writer.withClientId(LAZY_LOADING_CONTENT_ID);
             writer.writeAttribute(DATA_LAZY_LOADING_CONTENT, DATA_LAZY_LOADING_CONTENT, DATA_LAZY_LOADING_CONTENT);
             var resultNotificationBoxComponent = (NotificationBoxComponent) component.retrieveNotificationBox()
                     .orElseThrow(IllegalStateException::new);
-            if (null != component.evaluateNotificationBoxValue()) {
+            if (timedOut) {
+                // The view model is not asked, its cancelled work may have been interrupted midway
+                resultNotificationBoxComponent.setState(ContextState.DANGER.name());
+                resultNotificationBoxComponent
+                        .setContentValue(new LabeledKey(LazyLoadingRequestRegistry.MESSAGE_KEY_REQUEST_FAILED));
+                resultNotificationBoxComponent.setRendered(true);
+            } else if (null != component.evaluateNotificationBoxValue()) {
                 resultNotificationBoxComponent.setState(component.evaluateNotificationBoxState().name());
                 resultNotificationBoxComponent.setContentValue(component.evaluateNotificationBoxValue());
                 resultNotificationBoxComponent.setRendered(true);
@@ -137,7 +178,7 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
             }
 
             resultNotificationBoxComponent.encodeAll(context);
-            if (component.evaluateRenderContent()) {
+            if (!timedOut && component.evaluateRenderContent()) {
                 for (final UIComponent child : component.getChildren()) {
                     if (child.isRendered()
                             && !child.getPassThroughAttributes().containsKey(DATA_RESULT_NOTIFICATION_BOX)
@@ -151,6 +192,22 @@ public class LazyLoadingRenderer extends BaseDecoratorRenderer<LazyLoadingCompon
         waitingIndicatorComponent.encodeAll(context);
     }
 
+    /**
+     * Within a batched content load request the view model of the component may still be
+     * loading, see {@link LazyLoadingBatch}.
+     */
+    private static void awaitBatchedLoading(final FacesContext context, final LazyLoadingComponent component) {
+        final var batch = LazyLoadingBatch.find(context);
+        if (null != batch) {
+            batch.await(component.getClientId(context), LazyLoadingBatch.resolveTimeoutMillis(context));
+        }
+    }
+
+    private static boolean isBatchTimedOut(final FacesContext context, final LazyLoadingComponent component) {
+        final var batch = LazyLoadingBatch.find(context);
+        return null != batch && batch.isTimedOut(component.getClientId(context));
+    }
+
     /**
      * Update loaded state from request.
      */
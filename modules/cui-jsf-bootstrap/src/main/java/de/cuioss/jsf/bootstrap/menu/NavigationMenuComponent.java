@@ -17,6 +17,7 @@ package de.cuioss.jsf.bootstrap.menu;
 
 import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
 
+import de.cuioss.jsf.api.common.util.CacheStatistics;
 import de.cuioss.jsf.api.components.base.AbstractBaseCuiComponent;
 import de.cuioss.jsf.api.components.model.menu.NavigationMenuItem;
 import de.cuioss.jsf.api.components.model.menu.NavigationMenuItemContainer;
@@ -67,6 +68,16 @@ import java.util.List;
  * List&lt;NavigationMenuItem&gt; menuItems = Arrays.asList(homeItem, adminMenu);
  * </pre>
  *
+ * <h3>Fragment Cache</h3>
+ * <p>
+ * Menus that only change together with their model can opt in to an application-wide
+ * cache of the rendered markup by providing a {@link #getFragmentCacheKey()}:
+ * </p>
+ * <pre>
+ * &lt;boot:navigationMenu modelItems="#{menuBean.items}"
+ *     fragmentCacheKey="#{menuBean.menuVersion}" /&gt;
+ * </pre>
+ *
  * @author Sven Haag
  */
 @FacesComponent(BootstrapFamily.NAVIGATION_MENU_COMPONENT)
@@ -75,6 +86,14 @@ public class NavigationMenuComponent extends AbstractBaseCuiComponent {
 
     private static final String MODEL_ITEMS_KEY = "modelItems";
 
+    private static final String FRAGMENT_CACHE_KEY_KEY = "fragmentCacheKey";
+
+    /** The maximum number of rendered menus kept in memory. */
+    public static final int MAX_CACHED_MENU_FRAGMENTS = 128;
+
+    private static final NavigationMenuFragmentCache MENU_FRAGMENTS = new NavigationMenuFragmentCache(
+            MAX_CACHED_MENU_FRAGMENTS);
+
     private final CuiState state;
 
     /**
@@ -167,4 +186,63 @@ public class NavigationMenuComponent extends AbstractBaseCuiComponent {
         }
         return modelItems;
     }
+
+    /**
+     * Identifies the version of the model for the application-wide fragment cache. If
+     * set, the markup is rendered once per key, locale and combination of rendered and
+     * active items and written from the cache afterwards, see
+     * {@link #invalidateFragmentCache(String)}.
+     * <p>
+     * The key must change whenever the structure, labels, titles, icons or outcomes of the
+     * model change, e.g. by appending a version or the name of a role to the name of the
+     * menu. Menus with outcome parameters depending on the current user must not use the
+     * cache, neither must applications relying on URL-rewriting for session tracking.
+     * </p>
+     *
+     * @return the key identifying the model, {@code null} if the cache is not used
+     *         (default)
+     */
+    public String getFragmentCacheKey() {
+        return state.get(FRAGMENT_CACHE_KEY_KEY);
+    }
+
+    /**
+     * @param fragmentCacheKey identifying the version of the model, {@code null} to
+     *                         disable the fragment cache
+     */
+    public void setFragmentCacheKey(final String fragmentCacheKey) {
+        state.put(FRAGMENT_CACHE_KEY_KEY, fragmentCacheKey);
+    }
+
+    /**
+     * Removes all rendered fragments of the given model from the application-wide cache,
+     * for all locales and active items.
+     *
+     * @param fragmentCacheKey identifying the model, must not be null
+     */
+    public static void invalidateFragmentCache(final String fragmentCacheKey) {
+        MENU_FRAGMENTS.invalidate(fragmentCacheKey);
+    }
+
+    /**
+     * Removes all rendered fragments from the application-wide cache.
+     */
+    public static void clearFragmentCache() {
+        MENU_FRAGMENTS.clear();
+    }
+
+    /**
+     * @return the statistics of the application-wide fragment cache: A miss corresponds
+     *         to a newly rendered menu
+     */
+    public static CacheStatistics getFragmentCacheStatistics() {
+        return MENU_FRAGMENTS.getStatistics();
+    }
+
+    /**
+     * @return the application-wide fragment cache
+     */
+    static NavigationMenuFragmentCache getFragmentCache() {
+        return MENU_FRAGMENTS;
+    }
 }
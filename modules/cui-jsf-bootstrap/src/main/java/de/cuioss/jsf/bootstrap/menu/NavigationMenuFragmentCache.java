@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.menu;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
+import de.cuioss.jsf.api.components.model.menu.NavigationMenuItem;
+import de.cuioss.jsf.api.components.model.menu.NavigationMenuItemContainer;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Application-wide cache for the rendered markup of {@link NavigationMenuComponent}s
+ * using {@link NavigationMenuComponent#getFragmentCacheKey()}.
+ * <p>
+ * Rendering a menu creates link, icon and text components for every item and resolves
+ * all labels and titles. The resulting markup depends solely on the model, the locale,
+ * the client id and style of the component and on which items are rendered and active.
+ * The model itself is identified by the fragment cache key provided by the client, the
+ * rendered and active flags are part of the key as well, see {@link #createItemState(List)}.
+ * Therefore the number of fragments per menu is small: One per locale and active item.
+ * </p>
+ * <p>
+ * The number of fragments is bounded, the least recently used ones are evicted.
+ * Instances are thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class NavigationMenuFragmentCache {
+
+    private final LruCache<Key, String> fragments;
+
+    /**
+     * @param maxSize the maximum number of fragments kept, must be positive
+     */
+    NavigationMenuFragmentCache(final int maxSize) {
+        fragments = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param key identifying the fragment, must not be null
+     * @return the cached markup, {@code null} if there is none
+     */
+    String get(final Key key) {
+        return fragments.get(key);
+    }
+
+    /**
+     * @param key      identifying the fragment, must not be null
+     * @param fragment the rendered markup, must not be null
+     */
+    void put(final Key key, final String fragment) {
+        fragments.put(key, fragment);
+    }
+
+    /**
+     * Removes all fragments of the given model, regardless of locale and item state.
+     *
+     * @param fragmentCacheKey identifying the model, must not be null
+     */
+    void invalidate(final String fragmentCacheKey) {
+        requireNonNull(fragmentCacheKey);
+        fragments.invalidateIf(key -> fragmentCacheKey.equals(key.fragmentCacheKey()));
+    }
+
+    /**
+     * Removes all fragments.
+     */
+    void clear() {
+        fragments.clear();
+    }
+
+    /**
+     * @return the hit and miss statistics of the fragments
+     */
+    CacheStatistics getStatistics() {
+        return fragments.getStatistics();
+    }
+
+    /**
+     * @return the number of fragments currently kept
+     */
+    int size() {
+        return fragments.size();
+    }
+
+    /**
+     * Computes a compact representation of the rendered and active flags of the given
+     * items, traversing the containers depth-first. Labels are not resolved. The
+     * structure of the model is expected to be identified by the fragment cache key.
+     *
+     * @param items may be null
+     * @return one character per item, '-' for not rendered, '*' for active and '+' for
+     *         any other item, the children of containers are enclosed in parentheses
+     */
+    static String createItemState(final List<NavigationMenuItem> items) {
+        final var builder = new StringBuilder(32);
+        appendItemState(items, builder);
+        return builder.toString();
+    }
+
+    private static void appendItemState(final List<NavigationMenuItem> items, final StringBuilder builder) {
+        if (null == items) {
+            return;
+        }
+        for (NavigationMenuItem item : items) {
+            if (!item.isRendered()) {
+                builder.append('-');
+            } else if (item.isActive()) {
+                builder.append('*');
+            } else {
+                builder.append('+');
+            }
+            if (item instanceof NavigationMenuItemContainer container) {
+                builder.append('(');
+                appendItemState(container.getChildren(), builder);
+                builder.append(')');
+            }
+        }
+    }
+
+    /**
+     * @param fragmentCacheKey identifying the model, see
+     *                         {@link NavigationMenuComponent#getFragmentCacheKey()}
+     * @param locale           the labels are resolved with
+     * @param clientId         of the component, prefixing the ids of the items
+     * @param style            of the component, may be null
+     * @param styleClass       of the component, may be null
+     * @param itemState        see {@link NavigationMenuFragmentCache#createItemState(List)}
+     */
+    record Key(String fragmentCacheKey, Locale locale, String clientId, String style, String styleClass,
+            String itemState) {
+
+        Key {
+            requireNonNull(fragmentCacheKey);
+            requireNonNull(locale);
+            requireNonNull(clientId);
+            requireNonNull(itemState);
+        }
+    }
+}
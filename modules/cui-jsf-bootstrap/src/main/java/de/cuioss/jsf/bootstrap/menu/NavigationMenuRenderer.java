@@ -15,6 +15,7 @@
  */
 package de.cuioss.jsf.bootstrap.menu;
 
+import de.cuioss.jsf.api.common.accessor.LocaleAccessor;
 import de.cuioss.jsf.api.components.model.menu.*;
 import de.cuioss.jsf.api.components.renderer.BaseDecoratorRenderer;
 import de.cuioss.jsf.api.components.renderer.DecoratingResponseWriter;
@@ -24,6 +25,7 @@ import jakarta.faces.context.FacesContext;
 import jakarta.faces.render.FacesRenderer;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 
 /**
@@ -57,6 +59,12 @@ import java.util.List;
  *   <li>Item's own ID from the model</li>
  * </ul>
  *
+ * <h2>Fragment Cache</h2>
+ * <p>If {@link NavigationMenuComponent#getFragmentCacheKey()} is set, the markup of the items is
+ * rendered into a buffer once and written from the application-wide cache afterwards. The cache
+ * key contains the locale and the rendered and active flags of all items, therefore the active
+ * marker is always correct without rendering the items again.</p>
+ *
  * @author Sven Haag
  * @see NavigationMenuComponent
  * @see NavigationMenuItem
@@ -68,6 +76,8 @@ import java.util.List;
 @FacesRenderer(componentFamily = BootstrapFamily.COMPONENT_FAMILY, rendererType = BootstrapFamily.NAVIGATION_MENU_COMPONENT_RENDERER)
 public class NavigationMenuRenderer extends BaseDecoratorRenderer<NavigationMenuComponent> {
 
+    private final LocaleAccessor localeAccessor = new LocaleAccessor();
+
     /**
      * Default constructor that configures this renderer as a non-partial renderer.
      * This means that children within the component are not expected to be rendered directly.
@@ -98,7 +108,49 @@ public class NavigationMenuRenderer extends BaseDecoratorRenderer<NavigationMenu
             return;
         }
 
-        renderNavigationMenuItems(component.resolveModelItems(), context, writer, component, false, "");
+        final var menuItems = component.resolveModelItems();
+        final var fragmentCacheKey = component.getFragmentCacheKey();
+        if (null == fragmentCacheKey) {
+            renderNavigationMenuItems(menuItems, context, writer, component, false, "");
+            return;
+        }
+
+        final var cache = NavigationMenuComponent.getFragmentCache();
+        final var key = new NavigationMenuFragmentCache.Key(fragmentCacheKey, localeAccessor.getValue(),
+                component.getClientId(context), component.getStyle(), component.getStyleClass(),
+                NavigationMenuFragmentCache.createItemState(menuItems));
+        var fragment = cache.get(key);
+        if (null == fragment) {
+            fragment = renderFragment(menuItems, context, component);
+            cache.put(key, fragment);
+        }
+        writer.write(fragment);
+    }
+
+    /**
+     * Renders the given menu items into a buffer by temporarily replacing the response writer
+     * of the context, as the link components write to the latter.
+     *
+     * @param menuItems the list of navigation menu items to render
+     * @param context the current FacesContext
+     * @param component the navigation menu component being rendered
+     * @return the rendered markup
+     * @throws IOException if an error occurs during the rendering process
+     */
+    private static String renderFragment(final List<NavigationMenuItem> menuItems, final FacesContext context,
+            final NavigationMenuComponent component) throws IOException {
+        final var original = context.getResponseWriter();
+        final var buffer = new StringWriter();
+        final var capturing = original.cloneWithWriter(buffer);
+        context.setResponseWriter(capturing);
+        try {
+            renderNavigationMenuItems(menuItems, context, new DecoratingResponseWriter<>(context, capturing, component),
+                    component, false, "");
+            capturing.flush();
+        } finally {
+            context.setResponseWriter(original);
+        }
+        return buffer.toString();
     }
 
     /**
@@ -0,0 +1,122 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import static de.cuioss.tools.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable, locale specific prefix index over {@link ConceptKeyType}s, used by
+ * {@link TagInputComponent} for answering the search requests of its remote-load mode.
+ * <p>
+ * Each element is indexed by its resolved label and its identifier, both lower-cased
+ * using the locale of the index. A search is a binary search for the first matching
+ * key followed by a scan over the matching keys only. The results are ordered by the
+ * matching key and contain each element only once.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class ConceptKeyPrefixIndex {
+
+    @Getter
+    private final Locale locale;
+
+    private final String[] keys;
+
+    private final ConceptKeyType[] elements;
+
+    /**
+     * @param source the elements to be indexed, must not be null
+     * @param locale used for resolving the labels and lower-casing, must not be null
+     */
+    ConceptKeyPrefixIndex(final Collection<ConceptKeyType> source, final Locale locale) {
+        this.locale = requireNonNull(locale);
+        final List<Entry> entries = new ArrayList<>(source.size() * 2);
+        for (final ConceptKeyType element : source) {
+            final var label = element.getResolved(locale);
+            if (null != label) {
+                entries.add(new Entry(label.toLowerCase(locale), element));
+            }
+            entries.add(new Entry(element.getIdentifier().toLowerCase(locale), element));
+        }
+        entries.sort(Comparator.comparing(Entry::key));
+        keys = new String[entries.size()];
+        elements = new ConceptKeyType[entries.size()];
+        for (var i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).key();
+            elements[i] = entries.get(i).element();
+        }
+    }
+
+    /**
+     * @param prefix   the typed text, matched case-insensitively against the beginning
+     *                 of the labels and identifiers. An empty prefix matches all elements
+     * @param page     the zero-based page to be returned, must not be negative
+     * @param pageSize the maximum number of elements per page, must be positive
+     * @return the matching elements of the requested page, never null
+     */
+    List<ConceptKeyType> search(final String prefix, final int page, final int pageSize) {
+        checkArgument(page >= 0, "page must not be negative, but was %s".formatted(page));
+        checkArgument(pageSize > 0, "pageSize must be positive, but was %s".formatted(pageSize));
+        final var normalized = null == prefix ? "" : prefix.trim().toLowerCase(locale);
+        final var skip = (long) page * pageSize;
+        final Set<ConceptKeyType> matches = new LinkedHashSet<>();
+        for (var i = firstIndexNotLessThan(normalized); i < keys.length && keys[i].startsWith(normalized); i++) {
+            matches.add(elements[i]);
+            if (matches.size() >= skip + pageSize) {
+                break;
+            }
+        }
+        return matches.stream().skip(skip).toList();
+    }
+
+    /**
+     * @return the number of indexed keys, two per element at most
+     */
+    int size() {
+        return keys.length;
+    }
+
+    private int firstIndexNotLessThan(final String key) {
+        final var index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            return -index - 1;
+        }
+        // Step back to the first of equal keys
+        var first = index;
+        while (first > 0 && keys[first - 1].equals(key)) {
+            first--;
+        }
+        return first;
+    }
+
+    private record Entry(String key, ConceptKeyType element) {
+    }
+}
@@ -107,7 +107,7 @@ public class ConceptKeyStringConverter extends AbstractConverter<Collection<Conc
 
         final List<String> strings = new ArrayList<>(conceptKeyTypes.size());
         for (final ConceptKeyType codeType : conceptKeyTypes) {
-            strings.add(Hex.encodeHexString(codeType.getIdentifier().getBytes()));
+            strings.add(TagInputComponent.encodeIdentifier(codeType));
         }
         return Joiner.on(delimiter).skipNulls().join(strings);
     }
@@ -156,9 +156,9 @@ public class ConceptKeyStringConverter extends AbstractConverter<Collection<Conc
         }
 
         final Set<ConceptKeyType> previouslyClientCreated = immutableSet(tagInput.getClientCreated());
-        final Set<ConceptKeyType> combinedSources = mutableSet(previouslyClientCreated);
-        combinedSources.addAll(tagInput.getUndefinedValues());
-        combinedSources.addAll(tagInput.getSourceSet());
+        final Set<ConceptKeyType> additionalSources = mutableSet(previouslyClientCreated);
+        additionalSources.addAll(tagInput.getUndefinedValues());
+        final var sourceIndex = tagInput.getSourceIndex();
 
         final SortedSet<ConceptKeyType> selectedCodedValues = mutableSortedSet();
         final Set<ConceptKeyType> clientCreated = mutableSet();
@@ -167,8 +167,8 @@ public class ConceptKeyStringConverter extends AbstractConverter<Collection<Conc
 
         for (final String element : splitted) {
             if (!MoreStrings.isEmpty(element)) {
-                selectedCodedValues.add(convertToConceptKeyType(element, combinedSources, clientCreated, context,
-                        component, itemConverter));
+                selectedCodedValues.add(convertToConceptKeyType(element, sourceIndex, additionalSources,
+                        clientCreated, context, component, itemConverter));
             }
         }
 
@@ -186,7 +186,9 @@ public class ConceptKeyStringConverter extends AbstractConverter<Collection<Conc
      * Attempts to find a match or create a new tag when needed.
      *
      * @param element The hex-encoded element to convert
-     * @param source The collection of existing ConceptKeyType objects 
+     * @param sourceIndex The source set indexed by hex-encoded identifier,
+     *                    see {@link TagInputComponent#getSourceIndex()}
+     * @param additionalSources Further existing ConceptKeyType objects, usually only a few
      * @param clientCreated The collection to add newly created tags to
      * @param context The current FacesContext
      * @param component The current component
@@ -195,12 +197,17 @@ public class ConceptKeyStringConverter extends AbstractConverter<Collection<Conc
      * @return The matching or newly created ConceptKeyType
      * @throws ConverterException if the element cannot be converted
      */
-    private static ConceptKeyType convertToConceptKeyType(final String element, final Collection<ConceptKeyType> source,
+    private static ConceptKeyType convertToConceptKeyType(final String element,
+            final Map<String, ConceptKeyType> sourceIndex, final Collection<ConceptKeyType> additionalSources,
             final Collection<ConceptKeyType> clientCreated, final FacesContext context, final UIComponent component,
             final Optional<Converter> itemConverter) {
         // find existing
-        for (final ConceptKeyType codeType : source) {
-            if (Hex.encodeHexString(codeType.getIdentifier().getBytes()).equals(element)) {
+        final var indexed = sourceIndex.get(element);
+        if (null != indexed) {
+            return indexed;
+        }
+        for (final ConceptKeyType codeType : additionalSources) {
+            if (TagInputComponent.encodeIdentifier(codeType).equals(element)) {
                 return codeType;
             }
         }
@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Application-wide cache for the serialized options of a source set, see
+ * {@link TagInputComponent#getSourceSet()}.
+ * <p>
+ * The JSON of a source set depends solely on its elements, the locale and whether the
+ * labels are sanitized. Code lists are usually provided by application scoped beans and
+ * used on many fields, therefore the payload is created only once per source set and
+ * locale.
+ * </p>
+ * <p>
+ * Source sets are identified by their content only, see {@link SourceSetContent}.
+ * Therefore equal source sets, e.g. created per request, share their payload, while a
+ * source set modified in place is not matched with its previous payload. An outdated
+ * entry is never matched again and evicted eventually. The number of entries is
+ * bounded, the least recently used ones are evicted. Instances are thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class OptionPayloadCache {
+
+    /** The number of hex digits of {@link Payload#id()}. */
+    static final int ID_LENGTH = 16;
+
+    private final LruCache<Key, Payload> payloads;
+
+    /**
+     * @param maxSize the maximum number of payloads kept, must be positive
+     */
+    OptionPayloadCache(final int maxSize) {
+        payloads = new LruCache<>(maxSize);
+    }
+
+    /**
+     * @param content   the content of the source set the payload is created for, must not
+     *                  be null
+     * @param locale    the locale the labels are resolved with, must not be null
+     * @param sanitized indicating whether the labels are sanitized
+     * @param json      creating the comma-separated option elements, without brackets,
+     *                  called on a cache miss only
+     * @return the cached or newly created payload
+     */
+    Payload get(final SourceSetContent content, final Locale locale, final boolean sanitized,
+            final Supplier<String> json) {
+        return payloads.computeIfAbsent(new Key(requireNonNull(content), requireNonNull(locale), sanitized),
+                key -> createPayload(json.get()));
+    }
+
+    /**
+     * @return the hit and miss statistics of the payloads
+     */
+    CacheStatistics getStatistics() {
+        return payloads.getStatistics();
+    }
+
+    /**
+     * @return the number of payloads currently kept
+     */
+    int size() {
+        return payloads.size();
+    }
+
+    /**
+     * Removes all payloads.
+     */
+    void clear() {
+        payloads.clear();
+    }
+
+    private static Payload createPayload(final String json) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return new Payload(json, HexFormat.of().formatHex(digest).substring(0, ID_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param json the comma-separated option elements, without brackets, may be empty
+     * @param id   derived from the content, therefore identical payloads share the id
+     */
+    record Payload(String json, String id) {
+    }
+
+    private record Key(SourceSetContent content, Locale locale, boolean sanitized) {
+    }
+}
@@ -145,4 +145,47 @@ public class PassthroughAttributes {
      * @see de.cuioss.jsf.bootstrap.selectize.Selectize#OPTION_KEY_OPTIONS
      */
     static final String OPTIONS = "data-options";
+
+    /**
+     * Data attribute that indicates whether the options are loaded from the server while
+     * typing, see {@link TagInputComponent#isRemoteLoad()}.
+     * <p>
+     * Enables the Selectize.js <code>load</code> option, posting the typed text as
+     * partial request to the component.
+     * </p>
+     * <p>
+     * Example: <code>data-remoteload="true"</code>
+     * </p>
+     */
+    static final String REMOTE_LOAD = "data-remoteload";
+
+    /**
+     * Data attribute containing the maximum number of options of a single search in
+     * remote-load mode, see {@link TagInputComponent#getPageSize()}. A page containing
+     * fewer options is the last one, otherwise the next page is requested by scrolling
+     * the dropdown to its end, see {@link TagInputComponent#PAGE_PARAMETER_SUFFIX}.
+     * <p>
+     * Example: <code>data-pagesize="20"</code>
+     * </p>
+     */
+    static final String PAGE_SIZE = "data-pagesize";
+
+    /**
+     * Data attribute referencing the shared options of the source set, see
+     * {@link TagInputComponent#isShareOptions()}. The referenced options are added to the
+     * ones of {@link #OPTIONS}.
+     * <p>
+     * Example: <code>data-optionsref="3f2a9c0d1b7e4a65"</code>
+     * </p>
+     */
+    static final String OPTIONS_REF = "data-optionsref";
+
+    /**
+     * Data attribute containing the shared options of the source set. Rendered only for
+     * the first field of a request referencing them by {@link #OPTIONS_REF}.
+     * <p>
+     * Example: <code>data-sharedoptions="[{value:'key1',label:'Option 1'}]"</code>
+     * </p>
+     */
+    static final String SHARED_OPTIONS = "data-sharedoptions";
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cheap description of the content of a source set, identifying the data derived from
+ * it, see {@link OptionPayloadCache} and {@link TagInputComponent#search(String, int)}.
+ * <p>
+ * If the caller provides an explicit version, see
+ * {@link TagInputComponent#getSourceSetVersion()}, the content is identified by the
+ * version and the size only and the elements are not visited at all. Otherwise a
+ * fingerprint over the identifiers and hash codes of the elements is computed,
+ * independent of the iteration order. It detects added, removed or replaced elements,
+ * even if the size is unchanged. The labels are not resolved, as this would be about as
+ * expensive as serializing the options: Elements relabeled without changing their hash
+ * code are detected by a changed version only.
+ * </p>
+ *
+ * @param size        the number of elements
+ * @param fingerprint of the elements, 0 if a version is given
+ * @param version     the explicit version provided by the caller, may be null
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+record SourceSetContent(int size, long fingerprint, String version) {
+
+    /**
+     * @param sourceSet must not be null
+     * @param version   the explicit version of the content, may be null
+     * @return the content of the given source set
+     */
+    static SourceSetContent of(final Set<?> sourceSet, final String version) {
+        if (null != version) {
+            return new SourceSetContent(sourceSet.size(), 0L, version);
+        }
+        return new SourceSetContent(sourceSet.size(), fingerprint(sourceSet), null);
+    }
+
+    /**
+     * Computes a fingerprint of the identifiers and hash codes of the given elements,
+     * independent of the iteration order.
+     *
+     * @param sourceSet must not be null
+     * @return the fingerprint of the content
+     */
+    static long fingerprint(final Set<?> sourceSet) {
+        var fingerprint = 0L;
+        for (final Object element : sourceSet) {
+            final long elementHash;
+            if (element instanceof ConceptKeyType codeType) {
+                elementHash = ((long) Objects.hashCode(codeType.getIdentifier()) << 32) ^ codeType.hashCode();
+            } else {
+                elementHash = Objects.hashCode(element);
+            }
+            fingerprint += mix(elementHash);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Spreads the bits of the given value, so that the sum of several values is unlikely
+     * to collide, see the finalizer of MurmurHash3.
+     */
+    private static long mix(final long value) {
+        var mixed = value;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xff51afd7ed558ccdL;
+        mixed ^= mixed >>> 33;
+        mixed *= 0xc4ceb9fe1a85ec53L;
+        mixed ^= mixed >>> 33;
+        return mixed;
+    }
+}
@@ -20,6 +20,8 @@ import static de.cuioss.tools.base.Preconditions.checkArgument;
 import static de.cuioss.tools.collect.CollectionLiterals.mutableSortedSet;
 
 import de.cuioss.jsf.api.common.accessor.LocaleAccessor;
+import de.cuioss.jsf.api.common.util.CacheStatistics;
+import de.cuioss.jsf.api.common.util.LruCache;
 import de.cuioss.jsf.api.components.base.BaseCuiHtmlInputComponent;
 import de.cuioss.jsf.api.components.css.StyleClassBuilder;
 import de.cuioss.jsf.api.components.css.StyleClassResolver;
@@ -43,8 +45,11 @@ import jakarta.faces.convert.ConverterException;
 import lombok.experimental.Delegate;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -74,7 +79,17 @@ import java.util.stream.Collectors;
  * <li><b>delimiter</b>: Identifier separator (default: {@link JavaScriptOptions#OPTION_VALUE_DELIMITER})</li>
  * <li><b>displayRemoveButton</b>: Show remove buttons for tags</li>
  * <li><b>itemConverterId</b>: Optional converter ID for custom conversion</li>
+ * <li><b>remoteLoad</b>: Load the options from the server while typing (default: false)</li>
+ * <li><b>pageSize</b>: Maximum number of options per search in remoteLoad mode (default: 20)</li>
+ * <li><b>shareOptions</b>: Render the options of the source set only once per page (default: false)</li>
+ * <li><b>sourceSetVersion</b>: Optional version identifying the content of the source set</li>
  * </ul>
+ * <p>
+ * The serialized options of a source set are cached application-wide, see
+ * {@link #getOptionCacheStatistics()}. Therefore a code list used on many fields is
+ * serialized only once per locale. The cache is keyed on the content of the source set,
+ * see {@link #getSourceSetVersion()}.
+ * </p>
  * 
  * <h2>Usage Example</h2>
  * <pre>
@@ -106,6 +121,43 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
     private static final String DELIMITER_KEY = "delimiter";
     private static final String ITEM_CONVERTER_ID_KEY = "itemConverterId";
     private static final String REMOVE_BUTTON_KEY = "displayRemoveButton";
+    private static final String REMOTE_LOAD_KEY = "remoteLoad";
+    private static final String PAGE_SIZE_KEY = "pageSize";
+    private static final String SHARE_OPTIONS_KEY = "shareOptions";
+    private static final String SOURCE_SET_VERSION_KEY = "sourceSetVersion";
+
+    /** The maximum number of serialized source sets kept in memory. */
+    public static final int MAX_CACHED_OPTION_PAYLOADS = 128;
+
+    private static final OptionPayloadCache OPTION_PAYLOADS = new OptionPayloadCache(MAX_CACHED_OPTION_PAYLOADS);
+
+    /** The maximum number of prefix indices of the remote-load mode kept in memory. */
+    public static final int MAX_CACHED_PREFIX_INDICES = 32;
+
+    private static final LruCache<PrefixIndexKey, ConceptKeyPrefixIndex> PREFIX_INDICES = new LruCache<>(
+            MAX_CACHED_PREFIX_INDICES);
+
+    /**
+     * Key of the request map entry tracking which shared payloads have already been
+     * rendered, see {@link #isShareOptions()}.
+     */
+    static final String SHARED_OPTIONS_RENDERED_KEY = TagInputComponent.class.getName() + ".sharedOptions";
+
+    private static final Integer DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * Suffix of the client id identifying the request parameter containing the search
+     * text of the remote-load mode, see {@link #isRemoteLoad()}.
+     */
+    public static final String QUERY_PARAMETER_SUFFIX = "_query";
+
+    /**
+     * Suffix of the client id identifying the optional request parameter containing the
+     * zero-based page of the remote-load mode, see {@link #isRemoteLoad()}. The client
+     * requests the following pages when the dropdown is scrolled to its end, as long as the
+     * previous page contained {@link #getPageSize()} options.
+     */
+    public static final String PAGE_PARAMETER_SUFFIX = "_page";
 
     /**
      * Style class for the Selectize wrapper to indicate that it is allowed to
@@ -123,6 +175,15 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
 
     private final CuiState state;
 
+    /**
+     * Index of the source set by hex-encoded identifier, see {@link #getSourceIndex()}.
+     * Not part of the state, it is rebuilt lazily.
+     */
+    private transient Map<String, ConceptKeyType> sourceIndex;
+
+    /** The content of the source set {@link #sourceIndex} has been built for. */
+    private transient SourceSetContent indexedContent;
+
     /**
      * Constructs a new TagInputComponent with default settings.
      * Initializes the component with the appropriate renderer type and
@@ -162,6 +223,80 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
         state.put(SOURCE_SET_KEY, sourceList);
     }
 
+    /**
+     * Returns the elements of the source set indexed by their hex-encoded identifier,
+     * see {@link #encodeIdentifier(ConceptKeyType)}. This allows the
+     * {@link ConceptKeyStringConverter} to match submitted tokens without encoding
+     * the whole source set for each of them.
+     * <p>
+     * The index is built once and cached within the component. It is rebuilt if the
+     * content of {@link #getSourceSet()} has changed, including in-place modifications
+     * keeping the size, see {@link SourceSetContent} and {@link #getSourceSetVersion()}.
+     * If elements with the same identifier are contained, the first one in iteration
+     * order wins.
+     * </p>
+     *
+     * @return the unmodifiable index of the source set, never null
+     */
+    Map<String, ConceptKeyType> getSourceIndex() {
+        final var sourceSet = getSourceSet();
+        final var content = SourceSetContent.of(sourceSet, getSourceSetVersion());
+        if (null == sourceIndex || !content.equals(indexedContent)) {
+            final Map<String, ConceptKeyType> index = HashMap.newHashMap(sourceSet.size());
+            for (final ConceptKeyType codeType : sourceSet) {
+                index.putIfAbsent(encodeIdentifier(codeType), codeType);
+            }
+            sourceIndex = Collections.unmodifiableMap(index);
+            indexedContent = content;
+        }
+        return sourceIndex;
+    }
+
+    /**
+     * Searches the source set for the remote-load mode, see {@link ConceptKeyPrefixIndex}.
+     * The prefix index is cached application-wide, keyed on the content of the source
+     * set and the locale like the serialized options, see {@link #getSourceSetVersion()}.
+     * Therefore it is built once per code list and locale, not on each search request.
+     *
+     * @param query the text typed by the user, may be null
+     * @param page  the zero-based page, must not be negative
+     * @return the matching elements of the source set, at most {@link #getPageSize()}
+     */
+    List<ConceptKeyType> search(final String query, final int page) {
+        final var sourceSet = getSourceSet();
+        final var locale = localeAccessor.getValue();
+        final var prefixIndex = PREFIX_INDICES.computeIfAbsent(
+                new PrefixIndexKey(SourceSetContent.of(sourceSet, getSourceSetVersion()), locale),
+                key -> new ConceptKeyPrefixIndex(sourceSet, locale));
+        return prefixIndex.search(query, page, getPageSize());
+    }
+
+    /**
+     * @return the statistics of the application-wide cache for the prefix indices of the
+     *         remote-load mode: A miss corresponds to a newly built index
+     */
+    public static CacheStatistics getPrefixIndexCacheStatistics() {
+        return PREFIX_INDICES.getStatistics();
+    }
+
+    /**
+     * @param query the text typed by the user, may be null
+     * @param page  the zero-based page, must not be negative
+     * @return the result of {@link #search(String, int)} as JSON array in the format of
+     *         {@link PassthroughAttributes#OPTIONS}
+     */
+    String getSearchResultAsJson(final String query, final int page) {
+        return JavaScriptOptions.SQUARE_BRACKETS_WRAPPER.formatted(buildOptionElements(search(query, page)));
+    }
+
+    /**
+     * @param codeType must not be null
+     * @return the identifier of the given element, hex-encoded as used for the client side
+     */
+    static String encodeIdentifier(final ConceptKeyType codeType) {
+        return Hex.encodeHexString(codeType.getIdentifier().getBytes());
+    }
+
     /**
      * Returns the set of tags created by the client.
      * 
@@ -235,6 +370,91 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
         state.put(MAX_ITEMS_KEY, maxItems);
     }
 
+    /**
+     * Determines whether the options are loaded from the server while typing, instead of
+     * rendering the complete source set into the page. In this mode only the selected and
+     * client-created values are rendered, the search is answered by
+     * {@link TagInputRenderer} using a prefix index over the source set.
+     *
+     * @return true if the remote-load mode is enabled (defaults to false)
+     */
+    public boolean isRemoteLoad() {
+        return state.getBoolean(REMOTE_LOAD_KEY, false);
+    }
+
+    /**
+     * @param remoteLoad true to enable the remote-load mode
+     */
+    public void setRemoteLoad(final boolean remoteLoad) {
+        state.put(REMOTE_LOAD_KEY, remoteLoad);
+    }
+
+    /**
+     * Determines whether the options of the source set are shared between all fields of
+     * the page using the same source set. The options are then rendered only for the
+     * first of these fields, the others reference them by
+     * {@link PassthroughAttributes#OPTIONS_REF}. Has no effect in remote-load mode.
+     *
+     * @return true if the options are shared (defaults to false)
+     */
+    public boolean isShareOptions() {
+        return state.getBoolean(SHARE_OPTIONS_KEY, false);
+    }
+
+    /**
+     * @param shareOptions true to share the options of the source set
+     */
+    public void setShareOptions(final boolean shareOptions) {
+        state.put(SHARE_OPTIONS_KEY, shareOptions);
+    }
+
+    /**
+     * Returns the optional version of the content of the source set. If present, the
+     * application-wide caches derived from the source set are keyed on it instead of a
+     * fingerprint computed over all elements on each render. It must therefore change
+     * whenever the content of the source set changes, including relabeled elements,
+     * and must not be shared by source sets with different content, e.g. the name and
+     * revision of a code list. Without a version, elements relabeled in place are not
+     * detected.
+     *
+     * @return the version of the source set, may be null
+     */
+    public String getSourceSetVersion() {
+        return state.get(SOURCE_SET_VERSION_KEY);
+    }
+
+    /**
+     * @param sourceSetVersion the version of the content of the source set, may be null
+     */
+    public void setSourceSetVersion(final String sourceSetVersion) {
+        state.put(SOURCE_SET_VERSION_KEY, sourceSetVersion);
+    }
+
+    /**
+     * @return the statistics of the application-wide cache for serialized source sets: A
+     *         miss corresponds to a newly serialized source set
+     */
+    public static CacheStatistics getOptionCacheStatistics() {
+        return OPTION_PAYLOADS.getStatistics();
+    }
+
+    /**
+     * Returns the maximum number of options returned for a single search of the
+     * remote-load mode.
+     *
+     * @return the page size (defaults to 20)
+     */
+    public int getPageSize() {
+        return state.getInt(PAGE_SIZE_KEY, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * @param pageSize the maximum number of options returned for a single search
+     */
+    public void setPageSize(final int pageSize) {
+        state.put(PAGE_SIZE_KEY, pageSize);
+    }
+
     /**
      * Returns the delimiter used to separate identifiers in the input value.
      * 
@@ -394,21 +614,85 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
                 resolveStyleClass().append(OPTION_VALUE_DEFAULT_WRAPPER).getStyleClass());
         attributes.put(PassthroughAttributes.REMOVE_BUTTON, isDisplayRemoveButton());
         attributes.put(PassthroughAttributes.PERSIST, Boolean.FALSE);
-        attributes.put(PassthroughAttributes.OPTIONS, getOptions());
+        // The map is part of the component, therefore the optional attributes of a previous call are reset
+        attributes.remove(PassthroughAttributes.REMOTE_LOAD);
+        attributes.remove(PassthroughAttributes.PAGE_SIZE);
+        attributes.remove(PassthroughAttributes.OPTIONS_REF);
+        attributes.remove(PassthroughAttributes.SHARED_OPTIONS);
+        if (isRemoteLoad()) {
+            attributes.put(PassthroughAttributes.REMOTE_LOAD, Boolean.TRUE);
+            attributes.put(PassthroughAttributes.PAGE_SIZE, getPageSize());
+            attributes.put(PassthroughAttributes.OPTIONS, getRemoteLoadOptions());
+        } else if (isShareOptions()) {
+            final var payload = getSourcePayload();
+            attributes.put(PassthroughAttributes.OPTIONS, joinOptions("", buildOptionElements(getAdditionalOptions())));
+            attributes.put(PassthroughAttributes.OPTIONS_REF, payload.id());
+            if (isSharedPayloadOwner(payload.id())) {
+                attributes.put(PassthroughAttributes.SHARED_OPTIONS, joinOptions(payload.json(), ""));
+            }
+        } else {
+            attributes.put(PassthroughAttributes.OPTIONS,
+                    joinOptions(getSourcePayload().json(), buildOptionElements(getAdditionalOptions())));
+        }
         return attributes;
     }
 
     /**
-     * Builds a JSON string representation of the available tag options.
-     * 
-     * @return a JSON string containing all available tag options
+     * @return the JSON of the values and client-created tags, the source set is omitted
+     */
+    private String getRemoteLoadOptions() {
+        final SortedSet<ConceptKeyType> options = mutableSortedSet(getClientCreated());
+        final var value = getValue();
+        if (null != value) {
+            options.addAll(value);
+        }
+        return joinOptions("", buildOptionElements(options));
+    }
+
+    /**
+     * @return the client-created tags and undefined values not being part of the source
+     *         set
+     */
+    private SortedSet<ConceptKeyType> getAdditionalOptions() {
+        final SortedSet<ConceptKeyType> additional = mutableSortedSet(getClientCreated());
+        additional.addAll(getUndefinedValues());
+        additional.removeIf(getSourceSet()::contains);
+        return additional;
+    }
+
+    /**
+     * @return the serialized source set, taken from the application-wide cache
      */
-    private String getOptions() {
-        final SortedSet<ConceptKeyType> source = mutableSortedSet(getSourceSet());
-        source.addAll(getClientCreated());
-        source.addAll(getUndefinedValues());
-        final var options = buildOptionElements(source);
-        return JavaScriptOptions.SQUARE_BRACKETS_WRAPPER.formatted(options);
+    OptionPayloadCache.Payload getSourcePayload() {
+        final var sourceSet = getSourceSet();
+        return OPTION_PAYLOADS.get(SourceSetContent.of(sourceSet, getSourceSetVersion()), localeAccessor.getValue(),
+                getItemConverter().isEmpty(),
+                () -> buildOptionElements(mutableSortedSet(sourceSet)));
+    }
+
+    /**
+     * @param payloadId identifying the shared payload
+     * @return true if this component is the first one of the current request referencing
+     *         the payload and must therefore render it
+     */
+    private boolean isSharedPayloadOwner(final String payloadId) {
+        @SuppressWarnings("unchecked") final var owners = (Map<String, String>) facesContext().getExternalContext()
+                .getRequestMap().computeIfAbsent(SHARED_OPTIONS_RENDERED_KEY, key -> new HashMap<String, String>());
+        final var clientId = getClientId();
+        return clientId.equals(owners.computeIfAbsent(payloadId, key -> clientId));
+    }
+
+    /**
+     * @param first  comma-separated option elements, may be empty
+     * @param second comma-separated option elements, may be empty
+     * @return the JSON array containing both
+     */
+    private static String joinOptions(final String first, final String second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return JavaScriptOptions.SQUARE_BRACKETS_WRAPPER.formatted(first + second);
+        }
+        return JavaScriptOptions.SQUARE_BRACKETS_WRAPPER.formatted(first + JavaScriptOptions.OPTION_VALUE_DELIMITER
+                + second);
     }
 
     /**
@@ -422,20 +706,21 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
     /**
      * Builds the JSON representation of option elements for the given ConceptKeyType set.
      * 
-     * @param codeTypes the set of ConceptKeyType objects to convert to option elements
+     * @param codeTypes the ConceptKeyType objects to convert to option elements
      * @return a String containing the JSON representation of the option elements
      */
-    private String buildOptionElements(final SortedSet<ConceptKeyType> codeTypes) {
+    private String buildOptionElements(final Collection<ConceptKeyType> codeTypes) {
         final List<String> optionElements = new ArrayList<>();
         final var locale = localeAccessor.getValue();
+        final var converterPresent = getItemConverter().isPresent();
         for (final ConceptKeyType codeType : codeTypes) {
             final String label;
-            if (getItemConverter().isPresent()) {
+            if (converterPresent) {
                 label = codeType.getResolved(locale);
             } else {
                 label = CuiSanitizer.PLAIN_TEXT.apply(codeType.getResolved(locale));
             }
-            final var identifier = Hex.encodeHexString(codeType.getIdentifier().getBytes());
+            final var identifier = encodeIdentifier(codeType);
             optionElements.add(buildOptionElement(label, identifier));
         }
         return Joiner.on(JavaScriptOptions.OPTION_VALUE_DELIMITER).join(optionElements);
@@ -452,4 +737,8 @@ public class TagInputComponent extends BaseCuiHtmlInputComponent implements Styl
         return "{\"" + OPTION_VALUE_LABEL_KEY + "\":\"" + label +
                 "\",\"" + OPTION_VALUE_VALUE_KEY + "\":\"" + identifier + "\"}";
     }
+
+    /** Identifies a prefix index, see {@link #search(String, int)}. */
+    private record PrefixIndexKey(SourceSetContent content, Locale locale) {
+    }
 }
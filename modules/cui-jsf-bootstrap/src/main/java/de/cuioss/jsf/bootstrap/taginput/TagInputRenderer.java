@@ -27,6 +27,7 @@ import de.cuioss.jsf.bootstrap.BootstrapFamily;
 import de.cuioss.jsf.bootstrap.selectize.Selectize;
 import de.cuioss.jsf.bootstrap.tag.TagComponent;
 import de.cuioss.jsf.bootstrap.tag.support.TagHelper;
+import de.cuioss.tools.logging.CuiLogger;
 import de.cuioss.tools.string.MoreStrings;
 import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
 import jakarta.faces.application.ResourceDependency;
@@ -34,6 +35,7 @@ import jakarta.faces.context.FacesContext;
 import jakarta.faces.render.FacesRenderer;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 
 /**
@@ -61,6 +63,8 @@ import java.util.*;
 @FacesRenderer(componentFamily = BootstrapFamily.COMPONENT_FAMILY, rendererType = BootstrapFamily.TAG_INPUT_COMPONENT_RENDERER)
 public class TagInputRenderer extends BaseDecoratorRenderer<TagInputComponent> {
 
+    private static final CuiLogger LOGGER = new CuiLogger(TagInputRenderer.class);
+
     private final LocaleAccessor localeAccessor = new LocaleAccessor();
 
     /**
@@ -78,18 +82,29 @@ public class TagInputRenderer extends BaseDecoratorRenderer<TagInputComponent> {
      * Extracts submitted value from request parameters and sets it as the component's
      * submitted value. The value will later be converted by {@link ConceptKeyStringConverter}.
      * </p>
+     * <p>
+     * In remote-load mode a request containing the search parameter is answered with the
+     * matching options instead, see {@link TagInputComponent#isRemoteLoad()}.
+     * </p>
      *
      * @param context          FacesContext for the request being processed
      * @param componentWrapper type-safe wrapper for the TagInputComponent
      */
     @Override
     protected void doDecode(final FacesContext context, final ComponentWrapper<TagInputComponent> componentWrapper) {
-        final var value = context.getExternalContext().getRequestParameterMap().get(componentWrapper.getClientId());
+        final var parameters = context.getExternalContext().getRequestParameterMap();
+        final var value = parameters.get(componentWrapper.getClientId());
         final var tagInput = componentWrapper.getWrapped();
 
         if (tagInput.isDisabled()) {
             return;
         }
+        final var query = parameters.get(componentWrapper.getClientId() + TagInputComponent.QUERY_PARAMETER_SUFFIX);
+        if (null != query && tagInput.isRemoteLoad()) {
+            writeSearchResult(context, tagInput, query,
+                    parameters.get(componentWrapper.getClientId() + TagInputComponent.PAGE_PARAMETER_SUFFIX));
+            return;
+        }
         if (MoreStrings.isEmpty(value)) {
             tagInput.setSubmittedValue("");
             return;
@@ -98,6 +113,37 @@ public class TagInputRenderer extends BaseDecoratorRenderer<TagInputComponent> {
         tagInput.setSubmittedValue(value);
     }
 
+    /**
+     * Answers a search request of the remote-load mode by writing the matching options
+     * as JSON directly to the response and completing the response. The request is a
+     * partial request executing the component only, sent by enabler.selectize.js.
+     *
+     * @param context   the current FacesContext
+     * @param tagInput  the component to be searched
+     * @param query     the text typed by the user
+     * @param pageParam the zero-based page, may be null
+     */
+    private static void writeSearchResult(final FacesContext context, final TagInputComponent tagInput,
+            final String query, final String pageParam) {
+        var page = 0;
+        if (!MoreStrings.isEmpty(pageParam)) {
+            try {
+                page = Math.max(0, Integer.parseInt(pageParam));
+            } catch (NumberFormatException e) {
+                LOGGER.debug(e, "Invalid page parameter '%s', using first page", pageParam);
+            }
+        }
+        final var externalContext = context.getExternalContext();
+        externalContext.setResponseContentType("application/json");
+        externalContext.setResponseCharacterEncoding("UTF-8");
+        try {
+            externalContext.getResponseOutputWriter().write(tagInput.getSearchResultAsJson(query, page));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        context.responseComplete();
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -1,16 +1,106 @@
 function initializeLazyLoading() {
+    let pending = [];
     jQuery(".cui-lazy-loading").each(function () {
         let lazyLoading = jQuery(this);
-        let lazyLoadingId = lazyLoading.attr("id");
-        if (!lazyLoading.data("content-loaded")) {
-            lazyLoading.data("content-loaded", "true");
-            PrimeFaces.ab({
-                source: lazyLoadingId, process: lazyLoadingId,
-                update: lazyLoadingId, ignoreAutoUpdate: lazyLoading.data("ignore-auto-update"),
-                async: lazyLoading.data("async"), params: [{name: lazyLoadingId + "_is_loaded", value: true}]
-            });
+        if (lazyLoading.data("content-loaded") || lazyLoading.data("lazy_loading-observed")) {
+            return;
+        }
+        if (lazyLoading.data("poll-delay")) {
+            pollLazyLoading(lazyLoading);
+            return;
+        }
+        if (lazyLoading.data("load-on") === "visible" && "IntersectionObserver" in window) {
+            observeLazyLoading(lazyLoading);
+        } else {
+            pending.push(lazyLoading);
         }
     });
+    loadLazyLoadings(pending);
+}
+
+/**
+ * Requests the content of the given panels: Batched panels by a single partial request,
+ * see LazyLoadingComponent#isBatch(), all others by a partial request of their own.
+ */
+function loadLazyLoadings(lazyLoadings) {
+    let batch = [];
+    for (const lazyLoading of lazyLoadings) {
+        lazyLoading.data("content-loaded", "true");
+        if (lazyLoading.data("batch")) {
+            batch.push(lazyLoading);
+            continue;
+        }
+        let lazyLoadingId = lazyLoading.attr("id");
+        PrimeFaces.ab({
+            source: lazyLoadingId, process: lazyLoadingId,
+            update: lazyLoadingId, ignoreAutoUpdate: lazyLoading.data("ignore-auto-update"),
+            async: lazyLoading.data("async"), params: [{name: lazyLoadingId + "_is_loaded", value: true}]
+        });
+    }
+    if (batch.length > 0) {
+        loadLazyLoadingBatch(batch);
+    }
+}
+
+/**
+ * Loads all given lazy loading panels with a single partial request, see
+ * LazyLoadingComponent#isBatch()
+ */
+function loadLazyLoadingBatch(batch) {
+    let ids = batch.map(lazyLoading => lazyLoading.attr("id"));
+    let params = ids.map(id => ({name: id + "_is_loaded", value: true}));
+    params.push({name: "cui_lazy_loading_batch", value: true});
+    PrimeFaces.ab({
+        source: ids[0], process: ids.join(" "), update: ids.join(" "),
+        ignoreAutoUpdate: batch.every(lazyLoading => lazyLoading.data("ignore-auto-update")),
+        async: batch.some(lazyLoading => lazyLoading.data("async")), params: params
+    });
+}
+
+/**
+ * Requests the content of the given panel again after the delay given by the server, as
+ * the result of its view model has not been available yet, see LazyLoadingComponent#isPolling().
+ */
+function pollLazyLoading(lazyLoading) {
+    lazyLoading.data("content-loaded", "true");
+    setTimeout(function () {
+        // The panel may have been replaced by an AJAX update meanwhile
+        if (document.body.contains(lazyLoading[0])) {
+            loadLazyLoadings([lazyLoading]);
+        }
+    }, lazyLoading.data("poll-delay"));
+}
+
+/** IntersectionObserver per root margin, see LazyLoadingComponent#getRootMargin() */
+let lazyLoadingObservers = {};
+
+/**
+ * Defers loading of the given panel until it is about to enter the viewport, see
+ * LazyLoadingComponent#isLoadOnVisible(). Panels becoming visible together are loaded
+ * together, so batching still applies.
+ */
+function observeLazyLoading(lazyLoading) {
+    let rootMargin = lazyLoading.data("root-margin") || "0px";
+    let observer = lazyLoadingObservers[rootMargin];
+    if (!observer) {
+        observer = new IntersectionObserver(function (entries) {
+            let visible = [];
+            for (const entry of entries) {
+                if (entry.isIntersecting) {
+                    observer.unobserve(entry.target);
+                    let target = jQuery(entry.target);
+                    // The panel may have been replaced or loaded by an AJAX update meanwhile
+                    if (document.body.contains(entry.target) && !target.data("content-loaded")) {
+                        visible.push(target);
+                    }
+                }
+            }
+            loadLazyLoadings(visible);
+        }, {rootMargin: rootMargin});
+        lazyLoadingObservers[rootMargin] = observer;
+    }
+    lazyLoading.data("lazy_loading-observed", "true");
+    observer.observe(lazyLoading[0]);
 }
 
 jQuery(document).ready(function () {
@@ -72,7 +162,8 @@ jQuery(document).ready(function () {
         if (container && container.length === 1 && container.data("lazy_loading-waiting-indicator-id")) {
             let waitingIndicator = jQuery(Cui.Utilities.escapeClientId(container.data("lazy_loading-waiting-indicator-id")));
             if (waitingIndicator) {
-                if (status === "begin") {
+                // A polling panel keeps its waiting indicator until the content is available
+                if (status === "begin" || container.data("poll-delay")) {
                     waitingIndicator.show();
                 } else {
                     waitingIndicator.hide();
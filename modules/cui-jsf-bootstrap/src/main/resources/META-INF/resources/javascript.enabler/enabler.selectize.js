@@ -17,7 +17,7 @@ let initializeSelectize = function () {
         options["wrapperClass"] = component.data("wrapperclass");
         options["delimiter"] = component.data("delimiter");
         options["persist"] = component.data("persist");
-        options["options"] = component.data("options");
+        options["options"] = resolveOptions(component);
 
         if (component.data("cancreate")) {
             options["create"] = function (input) {
@@ -25,6 +25,10 @@ let initializeSelectize = function () {
             };
         }
 
+        if (component.data("remoteload")) {
+            initializeRemoteLoad(component, options);
+        }
+
         let plugins = [];
         if (component.data("removebutton")) {
             plugins.push("remove_button");
@@ -36,6 +40,129 @@ let initializeSelectize = function () {
     });
 };
 
+/** Shared options of the page by id, see data-optionsref */
+let sharedOptions = {};
+
+/**
+ * Resolves the options of the component: The shared options are rendered for the first
+ * component referencing them only and are kept for all others, including the ones
+ * rendered by later AJAX requests.
+ */
+let resolveOptions = function (component) {
+    let options = component.data("options") || [];
+    let ref = component.data("optionsref");
+    if (!ref) {
+        return options;
+    }
+    let shared = component.data("sharedoptions");
+    if (shared !== undefined) {
+        sharedOptions[ref] = shared;
+    }
+    return (sharedOptions[ref] || []).concat(options);
+};
+
+/**
+ * Loads the options from the server while typing: Posts the typed text as partial request
+ * executing the component only. The component answers with the matching options as JSON,
+ * already filtered, therefore the client side scoring is disabled. The options of previous
+ * queries are removed before a new result is added, the selected ones are kept.
+ * The first page is loaded while typing, the following ones when the dropdown is scrolled
+ * to its end. A page with less options than data-pagesize is the last one.
+ */
+let initializeRemoteLoad = function (component, options) {
+    let form = component.closest("form");
+    let clientId = component.attr("name");
+    let pageSize = component.data("pagesize") || 0;
+    let paging = {query: null, page: 0, complete: true, loading: false};
+
+    let requestPage = function (query, page, onResult) {
+        let data = {};
+        data[form.attr("id")] = form.attr("id");
+        data["jakarta.faces.ViewState"] = form.find("input[name$='jakarta.faces.ViewState']").val();
+        data["jakarta.faces.partial.ajax"] = "true";
+        data["jakarta.faces.source"] = clientId;
+        data["jakarta.faces.partial.execute"] = clientId;
+        data[clientId + "_query"] = query;
+        data[clientId + "_page"] = page;
+        paging.loading = true;
+        jQuery.ajax({
+            url: form.attr("action"),
+            type: "POST",
+            data: data,
+            dataType: "json",
+            complete: function () {
+                paging.loading = false;
+            },
+            error: function () {
+                onResult();
+            },
+            success: function (result) {
+                if (paging.query === query) {
+                    paging.page = page;
+                    paging.complete = !result || result.length < pageSize;
+                }
+                onResult(result);
+            }
+        });
+    };
+
+    options["preload"] = false;
+    options["score"] = function () {
+        return function () {
+            return 1;
+        };
+    };
+    options["load"] = function (query, callback) {
+        if (!query.length) {
+            return callback();
+        }
+        let selectize = this;
+        paging.query = query;
+        paging.page = 0;
+        paging.complete = true;
+        requestPage(query, 0, function (result) {
+            if (paging.query !== query) {
+                // outdated response, the user kept on typing
+                return callback();
+            }
+            removeStaleOptions(selectize);
+            callback(result);
+        });
+    };
+    options["onInitialize"] = function () {
+        let selectize = this;
+        let content = selectize.$dropdown_content;
+        content.on("scroll", function () {
+            if (paging.complete || paging.loading || paging.query !== selectize.lastQuery) {
+                return;
+            }
+            if (content.scrollTop() + content.innerHeight() < content[0].scrollHeight - 20) {
+                return;
+            }
+            requestPage(paging.query, paging.page + 1, function (result) {
+                if (result && result.length) {
+                    selectize.addOption(result);
+                    selectize.refreshOptions(false);
+                }
+            });
+        });
+    };
+};
+
+/**
+ * Removes all options not being selected. As the client side scoring is disabled, they would
+ * otherwise be displayed for every following query. The loaded searches are reset as well,
+ * so that a repeated query is loaded again instead of displaying the options of the last one.
+ */
+let removeStaleOptions = function (selectize) {
+    Object.keys(selectize.options).forEach(function (value) {
+        if (selectize.items.indexOf(value) === -1) {
+            selectize.removeOption(value, true);
+        }
+    });
+    selectize.loadedSearches = {};
+};
+
 /**
  * Registering this script to all AJAX requests/responses and page load.
  */
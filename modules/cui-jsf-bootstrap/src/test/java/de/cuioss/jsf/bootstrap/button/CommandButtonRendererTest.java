@@ -16,6 +16,8 @@
 package de.cuioss.jsf.bootstrap.button;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.api.components.JsfComponentIdentifier;
 import de.cuioss.jsf.api.components.html.AttributeName;
@@ -39,6 +41,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
 @JsfTestConfiguration(CoreJsfTestConfiguration.class)
 @DisplayName("Tests for CommandButtonRenderer")
 class CommandButtonRendererTest extends AbstractComponentRendererTest<CommandButtonRenderer> {
@@ -136,6 +142,22 @@ class CommandButtonRendererTest extends AbstractComponentRendererTest<CommandBut
             assertRenderResult(component, expected.getDocument(), facesContext);
         }
 
+        @Test
+        @DisplayName("Should not store the resolved title in the state")
+        void shouldNotSaveResolvedTitle(FacesContext facesContext) throws Exception {
+            // Arrange
+            var component = new CommandButton();
+            component.setTitleValue(TEXT_VALUE);
+
+            // Act
+            var rendered = renderToString(component, facesContext);
+
+            // Assert - the title value itself is part of the state, the resolved title is not
+            assertTrue(rendered.contains(TEXT_VALUE), rendered);
+            assertEquals(1, countValue(component.saveState(facesContext), TEXT_VALUE),
+                    "Resolved title must not be saved with the view");
+        }
+
         @Test
         @DisplayName("Should handle text value")
         void shouldHandleTextValue(FacesContext facesContext) throws Exception {
@@ -218,4 +240,20 @@ class CommandButtonRendererTest extends AbstractComponentRendererTest<CommandBut
     protected UIComponent getComponent() {
         return new CommandButton();
     }
+
+    private static long countValue(final Object state, final Object value) {
+        if (value.equals(state)) {
+            return 1;
+        }
+        if (state instanceof Object[] array) {
+            return countValue(Arrays.asList(array), value);
+        }
+        if (state instanceof Collection<?> collection) {
+            return collection.stream().mapToLong(element -> countValue(element, value)).sum();
+        }
+        if (state instanceof Map<?, ?> map) {
+            return countValue(map.values(), value);
+        }
+        return 0;
+    }
 }
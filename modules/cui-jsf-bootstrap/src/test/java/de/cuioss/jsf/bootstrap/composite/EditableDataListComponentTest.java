@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import de.cuioss.jsf.api.components.model.datalist.EditStatus;
 import de.cuioss.jsf.api.components.model.datalist.ItemWrapper;
+import de.cuioss.jsf.api.components.model.datalist.impl.AbstractPagedEditableDataListModel;
 import de.cuioss.jsf.api.components.model.datalist.impl.ItemWrapperImpl;
 import de.cuioss.jsf.api.converter.ObjectToStringConverter;
 import de.cuioss.test.jsf.component.AbstractComponentTest;
@@ -30,6 +31,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.Serial;
+import java.util.List;
+import java.util.stream.IntStream;
+
 @DisplayName("Tests for EditableDataListComponent")
 class EditableDataListComponentTest extends AbstractComponentTest<EditableDataListComponent> {
 
@@ -295,4 +300,65 @@ class EditableDataListComponentTest extends AbstractComponentTest<EditableDataLi
                     "Should throw ValidatorException when custom validator fails");
         }
     }
+
+    @Nested
+    @DisplayName("Paging tests")
+    class PagingTests {
+
+        @Test
+        @DisplayName("Should not page a plain model")
+        void shouldNotPagePlainModel() {
+            // Arrange
+            var underTest = anyComponent();
+            underTest.getAttributes().put("model", new MockEditableDataListModel());
+
+            // Act & Assert
+            assertFalse(underTest.isPaged(), "Plain model should not be paged");
+            assertNull(underTest.getPageLabel(), "Plain model should have no page label");
+        }
+
+        @Test
+        @DisplayName("Should page a paged model")
+        void shouldPagePagedModel() {
+            // Arrange
+            var model = new PagedModel();
+            var underTest = anyComponent();
+            underTest.getAttributes().put("model", model);
+            model.nextPage();
+
+            // Act & Assert
+            assertTrue(underTest.isPaged(), "Paged model should be paged");
+            assertEquals("2 / 3", underTest.getPageLabel(), "Should display current page and page count");
+            assertFalse(underTest.isPagingDisabled(), "Paging should be enabled");
+
+            // Act
+            model.editItem(model.getDisplayItems().getFirst());
+
+            // Assert
+            assertTrue(underTest.isPagingDisabled(), "Paging should be disabled while editing");
+        }
+    }
+
+    static class PagedModel extends AbstractPagedEditableDataListModel<String> {
+
+        @Serial
+        private static final long serialVersionUID = 2262414151813454862L;
+
+        private final List<String> loadedItems = IntStream.range(0, 60).mapToObj(String::valueOf).toList();
+
+        @Override
+        public String createEmptyItem() {
+            return "";
+        }
+
+        @Override
+        public String createCopy(final String item) {
+            return item;
+        }
+
+        @Override
+        public List<String> getLoadedItems() {
+            return loadedItems;
+        }
+    }
 }
@@ -16,16 +16,24 @@
 package de.cuioss.jsf.bootstrap.dashboard;
 
 import static de.cuioss.tools.collect.CollectionLiterals.mutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.api.components.model.widget.DashboardWidgetModel;
 import de.cuioss.jsf.api.components.support.DummyComponent;
+import jakarta.faces.component.UIComponent;
 import jakarta.faces.view.facelets.*;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.easymock.EasyMock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
 @DisplayName("Tests for DashboardTagHandler")
 class DashboardTagHandlerTest {
 
@@ -101,4 +109,57 @@ class DashboardTagHandlerTest {
             underTest.apply(faceletContext, new DummyComponent());
         }
     }
+
+    @Nested
+    @DisplayName("In-memory facelet tests")
+    class InMemoryFaceletTests {
+
+        @Test
+        @DisplayName("Should include the same in-memory facelet for identical dashboards")
+        void shouldReuseFaceletForIdenticalDashboards() throws Exception {
+            // Arrange
+            EasyMock.expect(dashboardWidgetModel.getCompositeComponentId()).andReturn("cache:widget").anyTimes();
+            EasyMock.replay(dashboardWidgetModel);
+
+            EasyMock.expect(tagAttribute.getObject(EasyMock.anyObject(FaceletContext.class)))
+                    .andReturn(mutableList(dashboardWidgetModel)).anyTimes();
+            EasyMock.expect(tagAttribute.getValue()).andReturn("{cache}").anyTimes();
+            EasyMock.replay(tagAttribute);
+
+            EasyMock.expect(tagAttributes.get("widgets")).andReturn(tagAttribute);
+            EasyMock.replay(tagAttributes);
+
+            tag = new Tag(null, null, null, null, tagAttributes);
+
+            EasyMock.expect(componentConfig.getTagId()).andReturn("test");
+            EasyMock.expect(componentConfig.getTag()).andReturn(tag);
+            EasyMock.expect(componentConfig.getNextHandler()).andReturn(new CompositeFaceletHandler(new FaceletHandler[0]));
+            EasyMock.replay(componentConfig);
+
+            final Capture<URL> includedUrls = Capture.newInstance(CaptureType.ALL);
+            faceletContext.includeFacelet(EasyMock.anyObject(UIComponent.class), EasyMock.capture(includedUrls));
+            EasyMock.expectLastCall().times(2);
+            EasyMock.replay(faceletContext);
+
+            var underTest = new DashboardTagHandler(componentConfig);
+            var statistics = DashboardTagHandler.getFaceletCacheStatistics();
+            var hitsBefore = statistics.getHitCount();
+
+            // Act
+            underTest.apply(faceletContext, new DummyComponent());
+            underTest.apply(faceletContext, new DummyComponent());
+
+            // Assert
+            EasyMock.verify(faceletContext);
+            var first = includedUrls.getValues().get(0);
+            assertEquals(first, includedUrls.getValues().get(1), "Identical dashboards should share the facelet");
+            assertEquals(FaceletSourceRepository.PROTOCOL, first.getProtocol(), "Facelet should be kept in memory");
+            assertEquals(hitsBefore + 1, statistics.getHitCount(), "Second dashboard should be a cache hit");
+            try (var content = first.openStream()) {
+                var source = new String(content.readAllBytes(), StandardCharsets.UTF_8);
+                assertTrue(source.contains("<cache:widget id=\"null\" model=\"{cache.get(0)}\" />"),
+                        "Generated source should contain the widget: " + source);
+            }
+        }
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.dashboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+@DisplayName("Tests for FaceletSourceRepository")
+class FaceletSourceRepositoryTest {
+
+    @Test
+    @DisplayName("Should address sources by their content")
+    void shouldAddressByContent() throws Exception {
+        // Arrange
+        var underTest = new FaceletSourceRepository(4);
+
+        // Act
+        var first = underTest.register("dashboard", "<ui:component/>");
+        var second = underTest.register("dashboard", "<ui:component/>");
+        var other = underTest.register("dashboard", "<ui:component></ui:component>");
+
+        // Assert
+        assertEquals(first, second, "Identical content should result in the same URL");
+        assertNotEquals(first, other, "Different content should result in a different URL");
+        assertEquals(1, underTest.getStatistics().getHitCount(), "Identical content should be a hit");
+        try (var content = first.openStream()) {
+            assertEquals("<ui:component/>", new String(content.readAllBytes(), StandardCharsets.UTF_8),
+                    "Content should be read from memory");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the number of sources bounded")
+    void shouldBeBounded() {
+        // Arrange
+        var underTest = new FaceletSourceRepository(2);
+
+        // Act
+        for (var i = 0; i < 5; i++) {
+            underTest.register("dashboard", "<div>" + i + "</div>");
+        }
+
+        // Assert
+        assertEquals(2, underTest.size(), "Least recently used sources should be evicted");
+        assertEquals(3, underTest.getStatistics().getEvictionCount(), "Evictions should be counted");
+    }
+}
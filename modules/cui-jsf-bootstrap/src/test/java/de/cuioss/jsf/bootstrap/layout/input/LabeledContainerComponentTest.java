@@ -17,13 +17,20 @@ package de.cuioss.jsf.bootstrap.layout.input;
 
 import static de.cuioss.jsf.bootstrap.BootstrapFamily.COMPONENT_FAMILY;
 import static de.cuioss.jsf.bootstrap.BootstrapFamily.LABELED_CONTAINER_COMPONENT_RENDERER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.bootstrap.layout.input.support.MockComponentPlugin;
 import de.cuioss.test.jsf.component.AbstractUiComponentTest;
 import de.cuioss.test.jsf.config.component.VerifyComponentProperties;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
+import jakarta.faces.component.html.HtmlInputText;
+import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.PhaseId;
 import jakarta.faces.event.PostAddToViewEvent;
 import jakarta.faces.event.PreRenderComponentEvent;
 import org.junit.jupiter.api.DisplayName;
@@ -94,4 +101,68 @@ class LabeledContainerComponentTest extends AbstractUiComponentTest<LabeledConta
             assertTrue(plugin.isPostAddToViewCalled(), "PostAddToView should be called after PostAddToViewEvent");
         }
     }
+
+    @Nested
+    @DisplayName("Tests for resolving the related component")
+    class RelatedComponentTests {
+
+        @Test
+        @DisplayName("Should reuse the resolution while rendering")
+        void shouldCacheWhileRendering(FacesContext facesContext) {
+            // Arrange
+            facesContext.setCurrentPhaseId(PhaseId.RENDER_RESPONSE);
+            var component = anyComponent();
+            var input = new HtmlInputText();
+            input.setId("input");
+            component.getChildren().add(input);
+
+            // Act
+            var first = component.findRelatedComponentModifier();
+            var second = component.findRelatedComponentModifier();
+
+            // Assert
+            assertSame(input, component.findRelatedComponent(), "Input should be resolved");
+            assertSame(first, second, "Modifier should be reused while rendering");
+            assertEquals(1, RelatedComponentCache.get(facesContext).size(), "Resolution should be cached");
+        }
+
+        @Test
+        @DisplayName("Should search again after the related component has been removed")
+        void shouldInvalidateOnRemoval(FacesContext facesContext) {
+            // Arrange
+            facesContext.setCurrentPhaseId(PhaseId.RENDER_RESPONSE);
+            var component = anyComponent();
+            var input = new HtmlInputText();
+            input.setId("input");
+            component.getChildren().add(input);
+            assertSame(input, component.findRelatedComponent(), "Input should be resolved");
+
+            // Act
+            component.getChildren().remove(input);
+
+            // Assert
+            assertNull(component.findRelatedComponent(), "Removed input should not be resolved");
+            assertEquals(0, RelatedComponentCache.get(facesContext).size(), "Stale resolution should be removed");
+        }
+
+        @Test
+        @DisplayName("Should not cache outside of rendering")
+        void shouldNotCacheOutsideOfRendering(FacesContext facesContext) {
+            // Arrange
+            facesContext.setCurrentPhaseId(PhaseId.PROCESS_VALIDATIONS);
+            var component = anyComponent();
+            var input = new HtmlInputText();
+            input.setId("input");
+            component.getChildren().add(input);
+
+            // Act
+            var first = component.findRelatedComponentModifier();
+            var second = component.findRelatedComponentModifier();
+
+            // Assert
+            assertNotSame(first, second, "Modifier should be created per call");
+            assertNull(facesContext.getAttributes().get(RelatedComponentCache.CONTEXT_KEY),
+                    "Cache should not be created");
+        }
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.lazyloading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.api.components.css.ContextState;
+import de.cuioss.jsf.api.components.model.lazyloading.LazyLoadingModel;
+import de.cuioss.uimodel.nameprovider.IDisplayNameProvider;
+import jakarta.faces.FacesException;
+import jakarta.faces.component.UICommand;
+import jakarta.faces.event.ActionEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.Serial;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Tests for LazyLoadingBatch")
+class LazyLoadingBatchTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final LazyLoadingBatch underTest = new LazyLoadingBatch(executor);
+
+    private final ActionEvent event = new ActionEvent(new UICommand());
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the work of the panels concurrently")
+    void shouldRunConcurrently() {
+        // Arrange
+        var bothStarted = new CountDownLatch(2);
+        var first = new BlockingModel(bothStarted);
+        var second = new BlockingModel(bothStarted);
+
+        // Act
+        underTest.submit("first", first, event);
+        underTest.submit("second", second, event);
+        underTest.await("first", 5_000);
+        underTest.await("second", 5_000);
+
+        // Assert
+        assertTrue(first.isInitialized(), "First panel should be loaded");
+        assertTrue(second.isInitialized(), "Second panel should be loaded while the first one waits");
+        assertEquals(0, underTest.getPendingCount(), "Awaited panels should no longer be pending");
+    }
+
+    @Test
+    @DisplayName("Should ignore panels without submitted work")
+    void shouldIgnoreUnknownPanels() {
+        // Act
+        underTest.await("unknown", 1);
+
+        // Assert
+        assertEquals(0, underTest.getPendingCount(), "Nothing should be pending");
+    }
+
+    @Test
+    @DisplayName("Should cancel the work after the timeout")
+    void shouldCancelAfterTimeout() throws InterruptedException {
+        // Arrange
+        var model = new BlockingModel(new CountDownLatch(2));
+        underTest.submit("slow", model, event);
+
+        // Act
+        var completed = underTest.await("slow", 50);
+
+        // Assert
+        assertFalse(completed, "Timeout should be reported");
+        assertTrue(underTest.isTimedOut("slow"), "Panel should be marked as timed out");
+        assertTrue(model.awaitFinished(), "Work should be interrupted instead of running on");
+        assertFalse(model.isInitialized(), "Cancelled work should not initialize the panel");
+        assertFalse(underTest.await("slow", 50), "Timeout should be reported on subsequent calls as well");
+    }
+
+    @Test
+    @DisplayName("Should report completed work")
+    void shouldReportCompletedWork() {
+        // Arrange
+        var model = new BlockingModel(new CountDownLatch(1));
+        underTest.submit("fast", model, event);
+
+        // Act & Assert
+        assertTrue(underTest.await("fast", 5_000), "Work should be completed");
+        assertFalse(underTest.isTimedOut("fast"), "Panel should not be marked as timed out");
+    }
+
+    @Test
+    @DisplayName("Should propagate failures of the work")
+    void shouldPropagateFailures() {
+        // Arrange
+        var model = new BlockingModel(null);
+        underTest.submit("failing", model, event);
+
+        // Act & Assert
+        var exception = assertThrows(FacesException.class, () -> underTest.await("failing", 5_000),
+                "Failure should be propagated to the rendering");
+        assertTrue(exception.getMessage().contains("failing"), "Message should name the panel");
+    }
+
+    /**
+     * Waits until the given latch is released by all panels, fails if there is none.
+     */
+    static final class BlockingModel implements LazyLoadingModel {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient CountDownLatch latch;
+
+        private final transient CountDownLatch finished = new CountDownLatch(1);
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private volatile boolean initialized;
+
+        BlockingModel(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void processAction(final ActionEvent event) {
+            invocations.incrementAndGet();
+            if (null == latch) {
+                throw new IllegalStateException("Loading failed");
+            }
+            latch.countDown();
+            try {
+                if (latch.await(1, TimeUnit.SECONDS)) {
+                    initialized = true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        /**
+         * @return {@code true} if the work has finished within half a second, i.e. before
+         *         the latch would have been given up on
+         */
+        boolean awaitFinished() throws InterruptedException {
+            return finished.await(500, TimeUnit.MILLISECONDS);
+        }
+
+        int getInvocations() {
+            return invocations.get();
+        }
+
+        @Override
+        public IDisplayNameProvider<?> getNotificationBoxValue() {
+            return null;
+        }
+
+        @Override
+        public ContextState getNotificationBoxState() {
+            return ContextState.DEFAULT;
+        }
+
+        @Override
+        public boolean isRenderContent() {
+            return true;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return initialized;
+        }
+    }
+}
@@ -24,7 +24,8 @@ import org.junit.jupiter.api.DisplayName;
  * {@link AbstractComponentTest}.
  */
 @VerifyComponentProperties(of = {"initialized", "notificationBoxValue", "notificationBoxState", "renderContent",
-        "viewModel", "ignoreAutoUpdate", "async", "childrenLoaded", "waitingIndicatorStyleClass"})
+        "viewModel", "ignoreAutoUpdate", "async", "childrenLoaded", "waitingIndicatorStyleClass", "batch", "loadOn",
+        "rootMargin"}, defaultValued = {"loadOn", "rootMargin"})
 @DisplayName("Tests for LazyLoadingComponent")
 class LazyLoadingComponentTest extends AbstractComponentTest<LazyLoadingComponent> {
     // All tests are inherited from AbstractComponentTest
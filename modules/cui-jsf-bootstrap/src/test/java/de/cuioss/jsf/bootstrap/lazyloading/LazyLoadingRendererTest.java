@@ -16,10 +16,14 @@
 package de.cuioss.jsf.bootstrap.lazyloading;
 
 import static de.cuioss.jsf.bootstrap.CssCuiBootstrap.CUI_LAZY_LOADING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.HtmlTreeBuilder;
 import de.cuioss.jsf.api.components.html.Node;
+import de.cuioss.jsf.api.components.model.lazyloading.BaseLazyLoadingThreadModel;
 import de.cuioss.jsf.api.converter.nameprovider.DisplayNameConverter;
 import de.cuioss.jsf.bootstrap.BootstrapFamily;
 import de.cuioss.jsf.bootstrap.CssCuiBootstrap;
@@ -30,8 +34,11 @@ import de.cuioss.jsf.test.CoreJsfTestConfiguration;
 import de.cuioss.test.jsf.config.JsfTestConfiguration;
 import de.cuioss.test.jsf.config.decorator.ComponentConfigDecorator;
 import de.cuioss.test.jsf.renderer.AbstractComponentRendererTest;
+import de.cuioss.uimodel.result.ResultObject;
+import de.cuioss.uimodel.result.ResultState;
 import jakarta.faces.component.html.HtmlOutputText;
 import jakarta.faces.context.FacesContext;
+import jakarta.faces.event.ActionEvent;
 import jakarta.faces.event.PostAddToViewEvent;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +46,10 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.Serial;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Tests for {@link LazyLoadingRenderer}
  */
@@ -124,6 +135,28 @@ class LazyLoadingRendererTest extends AbstractComponentRendererTest<LazyLoadingR
         }
     }
 
+    @Test
+    @DisplayName("Should render the visibility configuration for loadOn visible")
+    void shouldRenderLoadOnVisible(FacesContext facesContext) throws Exception {
+        // Arrange
+        final var component = getComponent();
+        component.setLoadOn(LazyLoadingComponent.LOAD_ON_VISIBLE);
+        component.setRootMargin("50% 0px");
+        component.getClientId();
+        component.processEvent(new PostAddToViewEvent(component));
+
+        // Act & Assert
+        var expected = new HtmlTreeBuilder().withNode(Node.DIV).withAttributeNameAndId(DEFAULT_ID)
+                .withAttribute(LazyLoadingRenderer.DATA_WAITING_INDICATOR_ID, DEFAULT_ID + ":waitingIndicator")
+                .withStyleClass(CUI_LAZY_LOADING.getStyleClassBuilder().append(CssCuiBootstrap.UI_HIDDEN_CONTAINER))
+                .withAttribute("data-ignore-auto-update", "false").withAttribute("data-async", "false")
+                .withAttribute(LazyLoadingRenderer.DATA_LOAD_ON, LazyLoadingComponent.LOAD_ON_VISIBLE)
+                .withAttribute(LazyLoadingRenderer.DATA_ROOT_MARGIN, "50% 0px")
+                .withNode("WaitingIndicatorComponent").withAttributeNameAndId(DEFAULT_ID + ":waitingIndicator")
+                .withAttribute("style", "display: block;");
+        assertRenderResult(component, expected.getDocument(), facesContext);
+    }
+
     @Test
     void shouldRenderContent(FacesContext facesContext) throws Exception {
         final var component = createComponentWithContent();
@@ -163,6 +196,102 @@ class LazyLoadingRendererTest extends AbstractComponentRendererTest<LazyLoadingR
         assertRenderResult(component, expected.getDocument(), facesContext);
     }
 
+    @Test
+    @DisplayName("Should render the content loaded within a batched request")
+    void shouldRenderBatchedContent(FacesContext facesContext) throws Exception {
+        // Arrange
+        final var component = createComponentWithContent();
+        final var model = new LazyLoadingBatchTest.BlockingModel(new CountDownLatch(1));
+        component.setBatch(true);
+        component.setViewModel(model);
+        component.getClientId();
+        facesContext.getViewRoot().getChildren().add(component);
+        component.processEvent(new PostAddToViewEvent(component));
+        var parameters = ((HttpServletRequest) facesContext.getExternalContext().getRequest()).getParameterMap();
+        parameters.put(DEFAULT_ID + "_" + LazyLoadingComponent.ID_SUFFIX_IS_LOADED, new String[]{"true"});
+        parameters.put(LazyLoadingBatch.BATCH_PARAMETER, new String[]{"true"});
+
+        // Act
+        component.decode(facesContext);
+        component.broadcast(new ActionEvent(component));
+
+        // Assert
+        assertEquals(1, LazyLoadingBatch.find(facesContext).getPendingCount(), "Work should be submitted");
+        var expected = new HtmlTreeBuilder().withNode(Node.DIV).withAttributeNameAndId(DEFAULT_ID)
+                .withAttribute(LazyLoadingRenderer.DATA_WAITING_INDICATOR_ID, DEFAULT_ID + ":waitingIndicator")
+                .withAttribute(AttributeName.DATA_CONTENT_LOADED, "true")
+                .withStyleClass(CUI_LAZY_LOADING.getStyleClassBuilder().append(CssCuiBootstrap.UI_HIDDEN_CONTAINER))
+                .withAttribute("data-ignore-auto-update", "false").withAttribute("data-async", "false")
+                .withAttribute(LazyLoadingRenderer.DATA_BATCH, "true")
+                .withNode(Node.DIV).withAttribute(LazyLoadingRenderer.DATA_LAZY_LOADING_CONTENT, LazyLoadingRenderer.DATA_LAZY_LOADING_CONTENT)
+                .withAttributeNameAndId(DEFAULT_ID + "_content").withNode(Node.SPAN).withTextContent("lazy loading...")
+                .currentHierarchyUp().currentHierarchyUp().withNode("WaitingIndicatorComponent")
+                .withAttributeNameAndId(DEFAULT_ID + ":waitingIndicator").withAttribute("style", "display: none;");
+        assertRenderResult(component, expected.getDocument(), facesContext);
+        assertTrue(model.isInitialized(), "Rendering should wait for the work");
+        assertEquals(0, LazyLoadingBatch.find(facesContext).getPendingCount(), "Work should be awaited");
+    }
+
+    @Test
+    @DisplayName("Should run a view model registered as action listener only once within a batched request")
+    void shouldRunBatchedViewModelOnce(FacesContext facesContext) throws Exception {
+        // Arrange
+        final var component = createComponentWithContent();
+        final var model = new LazyLoadingBatchTest.BlockingModel(new CountDownLatch(1));
+        final var otherListener = new LazyLoadingBatchTest.BlockingModel(new CountDownLatch(1));
+        component.setBatch(true);
+        component.setViewModel(model);
+        component.addActionListener(model);
+        component.addActionListener(otherListener);
+        component.getClientId();
+        facesContext.getViewRoot().getChildren().add(component);
+        component.processEvent(new PostAddToViewEvent(component));
+        var parameters = ((HttpServletRequest) facesContext.getExternalContext().getRequest()).getParameterMap();
+        parameters.put(DEFAULT_ID + "_" + LazyLoadingComponent.ID_SUFFIX_IS_LOADED, new String[]{"true"});
+        parameters.put(LazyLoadingBatch.BATCH_PARAMETER, new String[]{"true"});
+
+        // Act
+        component.decode(facesContext);
+        component.broadcast(new ActionEvent(component));
+        renderToString(component, facesContext);
+
+        // Assert
+        assertEquals(1, model.getInvocations(), "View model should be run by the batch only");
+        assertEquals(1, otherListener.getInvocations(), "Other listeners should be notified as usual");
+    }
+
+    @Test
+    @DisplayName("Should render the waiting indicator while the result of a thread model is not available")
+    void shouldPollPendingThreadModel(FacesContext facesContext) throws Exception {
+        // Arrange
+        final var component = createComponentWithContent();
+        final var release = new CountDownLatch(1);
+        final var model = new PendingThreadModel(release);
+        component.setViewModel(model);
+        component.getClientId();
+        facesContext.getViewRoot().getChildren().add(component);
+        component.processEvent(new PostAddToViewEvent(component));
+        var parameters = ((HttpServletRequest) facesContext.getExternalContext().getRequest()).getParameterMap();
+        parameters.put(DEFAULT_ID + "_" + LazyLoadingComponent.ID_SUFFIX_IS_LOADED, new String[]{"true"});
+        model.startInitialize();
+        try {
+            // Act
+            component.decode(facesContext);
+            component.broadcast(new ActionEvent(component));
+            var rendered = renderToString(component, facesContext);
+
+            // Assert
+            assertTrue(component.isPolling(facesContext), "Component should poll");
+            assertFalse(model.isInitialized(), "Collecting the result should not block the request");
+            assertFalse(component.getChildrenLoaded(), "Content should be requested again");
+            assertTrue(rendered.contains(LazyLoadingRenderer.DATA_POLL_DELAY), "Client should be told to poll");
+            assertFalse(rendered.contains("lazy loading..."), "Content should not be rendered yet");
+        } finally {
+            release.countDown();
+            model.cancel();
+        }
+    }
+
     @Test
     void shouldRenderNotificationBox(FacesContext facesContext) throws Exception {
         final var component = createComponentWithContent();
@@ -187,6 +316,31 @@ class LazyLoadingRendererTest extends AbstractComponentRendererTest<LazyLoadingR
         assertRenderResult(component, expected.getDocument(), facesContext);
     }
 
+    /**
+     * Retrieval blocking until released.
+     */
+    static final class PendingThreadModel extends BaseLazyLoadingThreadModel<String> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient CountDownLatch release;
+
+        PendingThreadModel(final CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        protected ResultObject<String> retrieve() {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ResultObject<>("content", ResultState.VALID);
+        }
+    }
+
     private LazyLoadingComponent createComponentWithContent() {
         final var component = getComponent();
         var htmlOutputText = new HtmlOutputText();
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.menu;
+
+import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import de.cuioss.jsf.api.components.model.menu.NavigationMenuItemContainerImpl;
+import de.cuioss.jsf.api.components.model.menu.NavigationMenuItemSeparatorImpl;
+import de.cuioss.jsf.api.components.model.menu.NavigationMenuItemSingleImpl;
+import de.cuioss.test.jsf.junit5.EnableJsfEnvironment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+@EnableJsfEnvironment
+@DisplayName("Tests for NavigationMenuFragmentCache")
+class NavigationMenuFragmentCacheTest {
+
+    private final NavigationMenuFragmentCache underTest = new NavigationMenuFragmentCache(4);
+
+    @Test
+    @DisplayName("Should invalidate all fragments of a model")
+    void shouldInvalidateByFragmentCacheKey() {
+        // Arrange
+        underTest.put(key("main", Locale.GERMAN), "<li>de</li>");
+        underTest.put(key("main", Locale.ENGLISH), "<li>en</li>");
+        underTest.put(key("footer", Locale.GERMAN), "<li>footer</li>");
+
+        // Act
+        underTest.invalidate("main");
+
+        // Assert
+        assertEquals(1, underTest.size(), "Only fragments of other models should be kept");
+        assertNull(underTest.get(key("main", Locale.GERMAN)), "Fragment should be invalidated");
+        assertEquals("<li>footer</li>", underTest.get(key("footer", Locale.GERMAN)), "Fragment should be kept");
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used fragments")
+    void shouldBeBounded() {
+        // Act
+        for (var i = 0; i < 6; i++) {
+            underTest.put(key("menu-" + i, Locale.GERMAN), "<li/>");
+        }
+
+        // Assert
+        assertEquals(4, underTest.size(), "Cache should be bounded");
+        assertEquals(2, underTest.getStatistics().getEvictionCount(), "Evictions should be recorded");
+    }
+
+    @Test
+    @DisplayName("Should represent rendered and active flags of all items")
+    void shouldCreateItemState() {
+        // Arrange
+        final var active = new NavigationMenuItemSingleImpl(10);
+        active.getActiveForAdditionalViewId().add("/viewId");
+        final var hidden = new NavigationMenuItemSingleImpl(20);
+        hidden.setRendered(false);
+        final var container = new NavigationMenuItemContainerImpl(30);
+        container.getChildren().add(new NavigationMenuItemSingleImpl(10));
+        container.getChildren().add(new NavigationMenuItemSeparatorImpl(20));
+
+        // Act
+        final var itemState = NavigationMenuFragmentCache.createItemState(immutableList(active, hidden, container));
+
+        // Assert
+        assertEquals("*-+(++)", itemState, "Item state should reflect the flags");
+        assertEquals("", NavigationMenuFragmentCache.createItemState(null), "Null should be handled");
+    }
+
+    private static NavigationMenuFragmentCache.Key key(final String fragmentCacheKey, final Locale locale) {
+        return new NavigationMenuFragmentCache.Key(fragmentCacheKey, locale, "menu", null, null, "+");
+    }
+}
@@ -16,6 +16,7 @@
 package de.cuioss.jsf.bootstrap.menu;
 
 import static de.cuioss.tools.collect.CollectionLiterals.immutableList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import de.cuioss.jsf.api.components.html.AttributeName;
 import de.cuioss.jsf.api.components.html.HtmlTreeBuilder;
@@ -356,6 +357,56 @@ class NavigationMenuRendererTest extends AbstractComponentRendererTest<Navigatio
         assertEmptyRenderResult(component, facesContext);
     }
 
+    @Test
+    void shouldRenderFromFragmentCache(FacesContext facesContext) throws Exception {
+        NavigationMenuComponent.clearFragmentCache();
+        final var menuModelItem = new NavigationMenuItemSingleImpl(10);
+        menuModelItem.setOutcome(OUTCOME_HOME);
+        menuModelItem.setLabelValue(RESOLVED_LABEL);
+        final var component = new NavigationMenuComponent();
+        component.setModel(menuModelItem);
+        component.setFragmentCacheKey("mainMenu-1");
+        final var builder = new HtmlTreeBuilder();
+        withCommandElement(builder, CLIENT_ID, OUTCOME_HOME, RESOLVED_LABEL);
+        assertRenderResult(component, builder.getDocument(), facesContext);
+        assertEquals(1, NavigationMenuComponent.getFragmentCache().size(), "Fragment should be cached");
+
+        // Same key, therefore the cached fragment is written
+        menuModelItem.setLabelValue("changedLabel");
+        assertRenderResult(component, builder.getDocument(), facesContext);
+
+        NavigationMenuComponent.invalidateFragmentCache("mainMenu-1");
+        assertEquals(0, NavigationMenuComponent.getFragmentCache().size(), "Fragment should be invalidated");
+        final var changed = new HtmlTreeBuilder();
+        withCommandElement(changed, CLIENT_ID, OUTCOME_HOME, "changedLabel");
+        assertRenderResult(component, changed.getDocument(), facesContext);
+    }
+
+    @Test
+    void shouldRenderActiveStateWithFragmentCache(FacesContext facesContext) throws Exception {
+        NavigationMenuComponent.clearFragmentCache();
+        final var menuModelItem = new NavigationMenuItemSingleImpl(10);
+        menuModelItem.setOutcome(OUTCOME_HOME);
+        menuModelItem.setLabelValue(RESOLVED_LABEL);
+        final var component = new NavigationMenuComponent();
+        component.setModel(menuModelItem);
+        component.setFragmentCacheKey("mainMenu-1");
+        final var builder = new HtmlTreeBuilder();
+        withCommandElement(builder, CLIENT_ID, OUTCOME_HOME, RESOLVED_LABEL);
+        assertRenderResult(component, builder.getDocument(), facesContext);
+
+        menuModelItem.getActiveForAdditionalViewId().add("/viewId");
+        final var active = new HtmlTreeBuilder();
+        active.withNode(Node.LI).withAttributeNameAndId(CLIENT_ID)
+                .withAttribute(AttributeName.DATA_ITEM_ACTIVE, "true").withNode(HTML_OUTCOME_TARGET_LINK)
+                .withAttribute("outcome", OUTCOME_HOME).withNode(Node.SPAN)
+                .withAttribute("class", CssCuiBootstrap.CUI_NAVIGATION_MENU_TEXT.getStyleClass())
+                .withTextContent(RESOLVED_LABEL).currentHierarchyUp().currentHierarchyUp().currentHierarchyUp();
+        assertRenderResult(component, active.getDocument(), facesContext);
+        assertEquals(2, NavigationMenuComponent.getFragmentCache().size(),
+                "Active state should result in a distinct fragment");
+    }
+
     private static void separatorElement(final HtmlTreeBuilder builder, final String id) {
         builder.withNode(Node.LI).withStyleClass("divider").withAttributeNameAndId(id).currentHierarchyUp();
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
+import de.cuioss.uimodel.model.conceptkey.impl.ConceptKeyTypeImpl;
+import de.cuioss.uimodel.nameprovider.I18nDisplayNameProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+
+@DisplayName("Tests for ConceptKeyPrefixIndex")
+class ConceptKeyPrefixIndexTest {
+
+    private static final ConceptKeyType ASTHMA = create("J45", "Asthma");
+    private static final ConceptKeyType ALLERGIC_ASTHMA = create("J45.0", "Asthma allergic");
+    private static final ConceptKeyType CHOLERA = create("A00", "Cholera");
+    private static final ConceptKeyType HIV = create("B20", "HIV");
+
+    private final ConceptKeyPrefixIndex underTest = new ConceptKeyPrefixIndex(
+            List.of(ASTHMA, ALLERGIC_ASTHMA, CHOLERA, HIV), Locale.ENGLISH);
+
+    @Nested
+    @DisplayName("Tests for searching")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should match labels case-insensitively")
+        void shouldMatchLabels() {
+            // Act
+            var result = underTest.search(" aSTh", 0, 10);
+
+            // Assert
+            assertEquals(List.of(ASTHMA, ALLERGIC_ASTHMA), result, "Labels should be matched by prefix");
+        }
+
+        @Test
+        @DisplayName("Should match identifiers")
+        void shouldMatchIdentifiers() {
+            // Act
+            var result = underTest.search("b2", 0, 10);
+
+            // Assert
+            assertEquals(List.of(HIV), result, "Identifiers should be matched by prefix");
+        }
+
+        @Test
+        @DisplayName("Should provide each element only once")
+        void shouldDeduplicate() {
+            // Act
+            var result = underTest.search("", 0, 10);
+
+            // Assert
+            assertEquals(4, result.size(), "Empty prefix should match each element once");
+            assertEquals(8, underTest.size(), "Labels and identifiers should be indexed");
+        }
+
+        @Test
+        @DisplayName("Should provide an empty result if nothing matches")
+        void shouldHandleNoMatch() {
+            // Act & Assert
+            assertTrue(underTest.search("zz", 0, 10).isEmpty(), "Nothing should match");
+        }
+    }
+
+    @Nested
+    @DisplayName("Tests for paging")
+    class PagingTests {
+
+        @Test
+        @DisplayName("Should split the result into pages")
+        void shouldPage() {
+            // Act
+            var first = underTest.search("", 0, 3);
+            var second = underTest.search("", 1, 3);
+
+            // Assert
+            assertEquals(3, first.size(), "First page should be full");
+            assertEquals(1, second.size(), "Second page should contain the remainder");
+            assertTrue(first.stream().noneMatch(second::contains), "Pages should not overlap");
+        }
+
+        @Test
+        @DisplayName("Should reject invalid paging parameters")
+        void shouldRejectInvalidParameters() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> underTest.search("a", -1, 3),
+                    "Negative page should be rejected");
+            assertThrows(IllegalArgumentException.class, () -> underTest.search("a", 0, 0),
+                    "Empty page size should be rejected");
+        }
+    }
+
+    private static ConceptKeyType create(final String identifier, final String label) {
+        return ConceptKeyTypeImpl.builder().identifier(identifier).labelResolver(new I18nDisplayNameProvider(label))
+                .build();
+    }
+}
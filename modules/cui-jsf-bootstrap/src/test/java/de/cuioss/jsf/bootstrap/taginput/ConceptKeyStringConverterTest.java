@@ -18,6 +18,8 @@ package de.cuioss.jsf.bootstrap.taginput;
 import static de.cuioss.jsf.bootstrap.taginput.TagInputRendererTest.CODE_TYPE_1;
 import static de.cuioss.jsf.bootstrap.taginput.TagInputRendererTest.CODE_TYPE_2;
 import static de.cuioss.tools.collect.CollectionLiterals.immutableSortedSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import de.cuioss.jsf.bootstrap.common.logging.BootstrapLogMessages;
@@ -26,13 +28,19 @@ import de.cuioss.test.jsf.converter.TestItems;
 import de.cuioss.test.juli.LogAsserts;
 import de.cuioss.test.juli.TestLogLevel;
 import de.cuioss.test.juli.junit5.EnableTestLogger;
+import de.cuioss.tools.codec.Hex;
 import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
+import de.cuioss.uimodel.model.conceptkey.impl.ConceptKeyTypeImpl;
+import de.cuioss.uimodel.nameprovider.I18nDisplayNameProvider;
 import jakarta.faces.component.html.HtmlInputText;
 import jakarta.faces.context.FacesContext;
 import jakarta.faces.convert.ConverterException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @EnableTestLogger
@@ -63,4 +71,32 @@ class ConceptKeyStringConverterTest extends AbstractConverterTest<ConceptKeyStri
         LogAsserts.assertSingleLogMessagePresentContaining(TestLogLevel.ERROR,
                 BootstrapLogMessages.ERROR.INVALID_COMPONENT_TYPE.resolveIdentifierString());
     }
+
+    @Test
+    @DisplayName("Should match tokens against a large source set using the index")
+    void shouldMatchTokensOfLargeSourceSet(FacesContext facesContext) {
+        // Arrange - a code list with 10k entries, as used for diagnosis codes
+        final Set<ConceptKeyType> sourceSet = new HashSet<>();
+        for (var i = 0; i < 10_000; i++) {
+            sourceSet.add(ConceptKeyTypeImpl.builder().identifier("code" + i)
+                    .labelResolver(new I18nDisplayNameProvider("label" + i)).build());
+        }
+        var component = new TagInputComponent();
+        component.setSourceSet(sourceSet);
+        final List<String> tokens = new ArrayList<>();
+        for (var i = 0; i < 10_000; i += 20) {
+            tokens.add(Hex.encodeHexString(("code" + i).getBytes()));
+        }
+        var converter = new ConceptKeyStringConverter();
+
+        // Act
+        var first = converter.getAsObject(facesContext, component, String.join(",", tokens));
+        var index = component.getSourceIndex();
+        var second = converter.getAsObject(facesContext, component, String.join(",", tokens));
+
+        // Assert
+        assertEquals(500, first.size(), "Each token should be matched");
+        assertEquals(first, second, "Repeated decoding should provide the same result");
+        assertSame(index, component.getSourceIndex(), "Index should be built only once");
+    }
 }
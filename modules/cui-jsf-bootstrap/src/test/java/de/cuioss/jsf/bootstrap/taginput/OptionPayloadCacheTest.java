@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import de.cuioss.jsf.bootstrap.support.ConceptKeyTypeGenerator;
+import de.cuioss.uimodel.model.conceptkey.ConceptKeyType;
+import de.cuioss.uimodel.model.conceptkey.impl.ConceptKeyTypeImpl;
+import de.cuioss.uimodel.nameprovider.I18nDisplayNameProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("Tests for OptionPayloadCache")
+class OptionPayloadCacheTest {
+
+    private final OptionPayloadCache underTest = new OptionPayloadCache(4);
+
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should serialize a source set only once per locale")
+    void shouldCacheBySourceSetAndLocale() {
+        // Arrange
+        var sourceSet = Set.of("a", "b");
+
+        // Act
+        var first = underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+        var second = underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+        underTest.get(content(sourceSet), Locale.GERMAN, true, this::serialize);
+        underTest.get(content(sourceSet), Locale.ENGLISH, false, this::serialize);
+
+        // Assert
+        assertSame(first, second, "Same source set and locale should provide the cached payload");
+        assertEquals(3, serializations.get(), "Locale and sanitizing should be part of the key");
+        assertEquals(1, underTest.getStatistics().getHitCount(), "Hit should be recorded");
+    }
+
+    @Test
+    @DisplayName("Should identify source sets by content")
+    void shouldIdentifyByContent() {
+        // Arrange
+        var sourceSet = new HashSet<>(Set.of("a"));
+        var equalSourceSet = new HashSet<>(Set.of("a"));
+        var first = underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+
+        // Act
+        var equal = underTest.get(content(equalSourceSet), Locale.ENGLISH, true, this::serialize);
+        sourceSet.add("b");
+        var modified = underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+
+        // Assert
+        assertSame(first, equal, "Equal source sets should share the payload");
+        assertEquals(2, serializations.get(), "Modified source set should be serialized again");
+        assertNotEquals(first.id(), modified.id(), "Different content should result in a different id");
+    }
+
+    @Test
+    @DisplayName("Should detect in-place modifications keeping the size")
+    void shouldDetectModificationsKeepingSize() {
+        // Arrange
+        var sourceSet = new HashSet<>(Set.of("a", "b"));
+        underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+
+        // Act
+        sourceSet.remove("a");
+        sourceSet.add("c");
+        underTest.get(content(sourceSet), Locale.ENGLISH, true, this::serialize);
+
+        // Assert
+        assertEquals(2, serializations.get(), "Modified source set should be serialized again");
+    }
+
+    @Test
+    @DisplayName("Should key on the explicit version")
+    void shouldKeyOnVersion() {
+        // Arrange
+        var sourceSet = new HashSet<ConceptKeyType>(Set.of(codeType("label")));
+        var first = underTest.get(SourceSetContent.of(sourceSet, "1"), Locale.ENGLISH, true, this::serialize);
+
+        // Act
+        sourceSet.clear();
+        sourceSet.add(codeType("relabeled"));
+        var sameVersion = underTest.get(SourceSetContent.of(sourceSet, "1"), Locale.ENGLISH, true,
+                this::serialize);
+        underTest.get(SourceSetContent.of(sourceSet, "2"), Locale.ENGLISH, true, this::serialize);
+
+        // Assert
+        assertSame(first, sameVersion, "Same version should provide the cached payload");
+        assertEquals(2, serializations.get(), "Changed version should result in serializing again");
+    }
+
+    @Test
+    @DisplayName("Should derive the id from the content")
+    void shouldDeriveIdFromContent() {
+        // Act
+        var first = underTest.get(content(Set.of("a")), Locale.ENGLISH, true, () -> "{}");
+        var second = underTest.get(content(Set.of("b")), Locale.ENGLISH, true, () -> "{}");
+
+        // Assert
+        assertEquals(first.id(), second.id(), "Identical payloads should share the id");
+        assertEquals(OptionPayloadCache.ID_LENGTH, first.id().length(), "Id should be truncated");
+    }
+
+    @Test
+    @DisplayName("Should keep the number of payloads bounded")
+    void shouldBeBounded() {
+        // Act
+        for (var i = 0; i < 6; i++) {
+            underTest.get(content(Set.of(i)), Locale.ENGLISH, true, this::serialize);
+        }
+
+        // Assert
+        assertEquals(4, underTest.size(), "Least recently used payloads should be evicted");
+        assertEquals(2, underTest.getStatistics().getEvictionCount(), "Evictions should be counted");
+    }
+
+    private static ConceptKeyType codeType(final String label) {
+        return ConceptKeyTypeImpl.builder().identifier("identifier").labelResolver(new I18nDisplayNameProvider(label))
+                .category(ConceptKeyTypeGenerator.TestConceptCategory).build();
+    }
+
+    private static SourceSetContent content(final Set<?> sourceSet) {
+        return SourceSetContent.of(sourceSet, null);
+    }
+
+    private String serialize() {
+        return "{\"value\":\"" + serializations.incrementAndGet() + "\"}";
+    }
+}
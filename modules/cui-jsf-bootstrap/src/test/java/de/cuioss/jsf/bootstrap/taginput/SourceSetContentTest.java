@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.bootstrap.taginput;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@DisplayName("Tests for SourceSetContent")
+class SourceSetContentTest {
+
+    @Test
+    @DisplayName("Should be independent of the iteration order")
+    void shouldIgnoreOrder() {
+        // Arrange
+        var first = new LinkedHashSet<>(List.of("a", "b", "c"));
+        var second = new LinkedHashSet<>(List.of("c", "a", "b"));
+
+        // Act & Assert
+        assertEquals(SourceSetContent.of(first, null), SourceSetContent.of(second, null));
+    }
+
+    @Test
+    @DisplayName("Should detect replaced elements keeping the size")
+    void shouldDetectReplacedElements() {
+        // Act & Assert
+        assertNotEquals(SourceSetContent.of(Set.of("a", "b"), null), SourceSetContent.of(Set.of("a", "c"), null));
+    }
+
+    @Test
+    @DisplayName("Should not visit the elements if a version is given")
+    void shouldUseVersion() {
+        // Act
+        var content = SourceSetContent.of(Set.of("a", "b"), "1");
+
+        // Assert
+        assertEquals(new SourceSetContent(2, 0L, "1"), content);
+        assertEquals(content, SourceSetContent.of(Set.of("c", "d"), "1"), "Content should be identified by version");
+    }
+}
@@ -34,10 +34,13 @@ import de.cuioss.uimodel.nameprovider.I18nDisplayNameProvider;
 import jakarta.faces.context.FacesContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 @VerifyComponentProperties(of = {"maxItems", "letUserCreateTags", "delimiter", "itemConverterId",
-        "displayRemoveButton"}, defaultValued = {"maxItems", "displayRemoveButton"})
+        "displayRemoveButton", "remoteLoad", "pageSize", "shareOptions", "sourceSetVersion"}, defaultValued = {"maxItems",
+                "displayRemoveButton", "pageSize"})
 @PropertyConfig(name = "sourceSet", propertyClass = ConceptKeyType.class, collectionType = CollectionType.SET)
 @PropertyConfig(name = "clientCreated", propertyClass = ConceptKeyType.class, collectionType = CollectionType.SET)
 @PropertyGenerator(ConceptKeyTypeGenerator.class)
@@ -122,4 +125,121 @@ class TagInputComponentTest extends AbstractUiComponentTest<TagInputComponent> {
     void shouldHaveRemoveButtonPerDefault() {
         assertTrue(anyComponent().isDisplayRemoveButton());
     }
+
+    @Test
+    void shouldRebuildSourceIndexOnSourceSetChange() {
+        final var underTest = anyComponent();
+        assertTrue(underTest.getSourceIndex().isEmpty());
+        final Set<ConceptKeyType> sourceSet = mutableSet(conceptKeyTypeGenerator.next());
+        underTest.setSourceSet(sourceSet);
+        final var index = underTest.getSourceIndex();
+        final var element = sourceSet.iterator().next();
+        assertSame(element, index.get(TagInputComponent.encodeIdentifier(element)));
+        assertSame(index, underTest.getSourceIndex());
+        sourceSet.add(ConceptKeyTypeImpl.builder().identifier("added")
+                .labelResolver(new I18nDisplayNameProvider("added")).build());
+        assertNotSame(index, underTest.getSourceIndex());
+        assertEquals(2, underTest.getSourceIndex().size());
+    }
+
+    @Test
+    void shouldRebuildSourceIndexOnInPlaceModification() {
+        final var underTest = anyComponent();
+        final var original = ConceptKeyTypeImpl.builder().identifier("original")
+                .labelResolver(new I18nDisplayNameProvider("original")).build();
+        final Set<ConceptKeyType> sourceSet = mutableSet(original);
+        underTest.setSourceSet(sourceSet);
+        final var index = underTest.getSourceIndex();
+        sourceSet.remove(original);
+        final var replaced = ConceptKeyTypeImpl.builder().identifier("replaced")
+                .labelResolver(new I18nDisplayNameProvider("replaced")).build();
+        sourceSet.add(replaced);
+        assertNotSame(index, underTest.getSourceIndex());
+        assertSame(replaced, underTest.getSourceIndex().get(TagInputComponent.encodeIdentifier(replaced)));
+        assertNull(underTest.getSourceIndex().get(TagInputComponent.encodeIdentifier(original)));
+    }
+
+    @Test
+    void shouldRenderSelectedValuesOnlyInRemoteLoadMode() {
+        final var underTest = anyComponent();
+        final var selected = ConceptKeyTypeImpl.builder().identifier("selected")
+                .labelResolver(new I18nDisplayNameProvider("Selected")).build();
+        final var other = ConceptKeyTypeImpl.builder().identifier("other")
+                .labelResolver(new I18nDisplayNameProvider("Other")).build();
+        underTest.setSourceSet(mutableSet(selected, other));
+        underTest.setValue(Set.of(selected));
+        underTest.setRemoteLoad(true);
+        final var options = (String) underTest.getPassThroughAttributes().get(PassthroughAttributes.OPTIONS);
+        assertTrue(options.contains(TagInputComponent.encodeIdentifier(selected)));
+        assertFalse(options.contains(TagInputComponent.encodeIdentifier(other)));
+        assertEquals(Boolean.TRUE, underTest.getPassThroughAttributes().get(PassthroughAttributes.REMOTE_LOAD));
+        assertEquals(underTest.getPageSize(), underTest.getPassThroughAttributes().get(PassthroughAttributes.PAGE_SIZE));
+    }
+
+    @Test
+    void shouldProvideSearchResultAsJson() {
+        final var underTest = anyComponent();
+        final var asthma = ConceptKeyTypeImpl.builder().identifier("J45")
+                .labelResolver(new I18nDisplayNameProvider("Asthma")).build();
+        final var cholera = ConceptKeyTypeImpl.builder().identifier("A00")
+                .labelResolver(new I18nDisplayNameProvider("Cholera")).build();
+        underTest.setSourceSet(mutableSet(asthma, cholera));
+        underTest.setPageSize(5);
+        assertEquals("[{\"label\":\"Asthma\",\"value\":\"" + TagInputComponent.encodeIdentifier(asthma) + "\"}]",
+                underTest.getSearchResultAsJson("ast", 0));
+        assertEquals("[]", underTest.getSearchResultAsJson("ast", 1));
+    }
+
+    @Test
+    void shouldShareSearchIndex() {
+        final var sourceSet = conceptKeyTypeSetGenerator.nextNotEmpty();
+        final var first = anyComponent();
+        final var second = anyComponent();
+        first.setSourceSet(sourceSet);
+        second.setSourceSet(new HashSet<>(sourceSet));
+        final var misses = TagInputComponent.getPrefixIndexCacheStatistics().getMissCount();
+        assertEquals(first.search("", 0), second.search("", 0));
+        first.search("a", 0);
+        assertEquals(misses + 1, TagInputComponent.getPrefixIndexCacheStatistics().getMissCount());
+        sourceSet.add(conceptKeyTypeGenerator.next());
+        first.search("", 0);
+        assertEquals(misses + 2, TagInputComponent.getPrefixIndexCacheStatistics().getMissCount());
+    }
+
+    @Test
+    void shouldSerializeSourceSetOnlyOnce() {
+        final var sourceSet = conceptKeyTypeSetGenerator.next();
+        final var first = anyComponent();
+        final var second = anyComponent();
+        first.setSourceSet(sourceSet);
+        second.setSourceSet(sourceSet);
+        final var misses = TagInputComponent.getOptionCacheStatistics().getMissCount();
+        assertEquals(first.getPassThroughAttributes().get(PassthroughAttributes.OPTIONS),
+                second.getPassThroughAttributes().get(PassthroughAttributes.OPTIONS));
+        assertEquals(misses + 1, TagInputComponent.getOptionCacheStatistics().getMissCount());
+    }
+
+    @Test
+    void shouldRenderSharedOptionsOnlyOnce() {
+        final var sourceSet = conceptKeyTypeSetGenerator.next();
+        final var first = anyComponent();
+        first.setId("first");
+        final var second = anyComponent();
+        second.setId("second");
+        for (final TagInputComponent component : List.of(first, second)) {
+            component.setSourceSet(sourceSet);
+            component.setShareOptions(true);
+        }
+        final var firstAttributes = first.getPassThroughAttributes();
+        final var secondAttributes = second.getPassThroughAttributes();
+        final var payloadId = first.getSourcePayload().id();
+        assertEquals(payloadId, firstAttributes.get(PassthroughAttributes.OPTIONS_REF));
+        assertEquals(payloadId, secondAttributes.get(PassthroughAttributes.OPTIONS_REF));
+        assertEquals("[" + first.getSourcePayload().json() + "]",
+                firstAttributes.get(PassthroughAttributes.SHARED_OPTIONS));
+        assertFalse(secondAttributes.containsKey(PassthroughAttributes.SHARED_OPTIONS));
+        assertEquals("[]", secondAttributes.get(PassthroughAttributes.OPTIONS));
+        // Rendering the owner again must provide the payload again
+        assertTrue(first.getPassThroughAttributes().containsKey(PassthroughAttributes.SHARED_OPTIONS));
+    }
 }
@@ -23,6 +23,7 @@ import de.cuioss.jsf.jqplot.hook.HookFunctionsManager;
 import de.cuioss.jsf.jqplot.hook.PlotHookFunctionProvider;
 import de.cuioss.jsf.jqplot.js.support.JsObject;
 import de.cuioss.jsf.jqplot.js.types.JsString;
+import de.cuioss.jsf.jqplot.model.Downsampling;
 import de.cuioss.jsf.jqplot.model.SeriesData;
 import de.cuioss.jsf.jqplot.options.Options;
 import de.cuioss.jsf.jqplot.plugin.PluginSupport;
@@ -30,8 +31,10 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -124,13 +127,6 @@ public class JqPlot extends JsObject {
         return requireNonNull(someData, "SeriesData must not be null");
     }
 
-    private String getOptions() {
-        if (null == options) {
-            return "null";
-        }
-        return options.asJavaScriptObjectNotation();
-    }
-
     private final HookFunctionsManager hooksManager = new HookFunctionsManager();
 
     /**
@@ -152,16 +148,42 @@ public class JqPlot extends JsObject {
             return "'';";
         }
 
-        final var builder = new StringBuilder(OBJECT_NAME).append("(").append(targetId.getValueAsString()).append(", ")
-                .append(data.asJavaScriptObjectNotation()).append(", ").append(getOptions()).append(");");
+        final var builder = new StringBuilder();
+        try {
+            writeJavaScriptObjectNotation(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
 
-        if (null != options) {
-            builder.append(options.getHookFunctionCode());
+    /**
+     * Writes the complete plot, including series data, options and hook functions, directly
+     * to the given target, usually the current {@code ResponseWriter}. In contrast to
+     * {@link #asJavaScriptObjectNotation()} no intermediate string representation of the
+     * series data is created.
+     */
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        if (nothingToDisplay) {
+            out.append("'';");
+            return true;
         }
 
-        builder.append(hooksManager.getHooksFunctionCode());
+        out.append(OBJECT_NAME).append('(').append(targetId.getValueAsString()).append(", ");
+        data.writeJavaScriptObjectNotation(out);
+        out.append(", ");
+        if (null == options || !options.writeJavaScriptObjectNotation(out)) {
+            out.append("null");
+        }
+        out.append(");");
 
-        return builder.toString();
+        if (null != options) {
+            out.append(options.getHookFunctionCode());
+        }
+
+        out.append(hooksManager.getHooksFunctionCode());
+        return true;
     }
 
     /* Component specific informations */
@@ -201,6 +223,12 @@ public class JqPlot extends JsObject {
 
         private Options _options;
 
+        private Downsampling _downsampling;
+
+        private int _targetPointCount;
+
+        private boolean _parallelDownsampling;
+
         /**
          * @param value chart id must not be null or empty
          * @return fluent api style
@@ -239,6 +267,24 @@ public class JqPlot extends JsObject {
             return _options;
         }
 
+        /**
+         * Activates downsampling of the primitive series on {@link #build()}, see
+         * {@link SeriesData#downsample(Downsampling, int, boolean)}.
+         *
+         * @param mode             the algorithm to be used, must not be null
+         * @param targetPointCount the maximum number of data points per seria, usually
+         *                         around the width of the plot in pixels
+         * @param parallel         if {@code true} the series are processed in parallel
+         * @return fluent api style
+         */
+        public Builder useDownsampling(final Downsampling mode, final int targetPointCount,
+                final boolean parallel) {
+            _downsampling = requireNonNull(mode, "Downsampling mode must not be null");
+            _targetPointCount = targetPointCount;
+            _parallelDownsampling = parallel;
+            return this;
+        }
+
         /**
          * @return {@link JqPlot} according used objects
          * @throws IllegalStateException if chart id is missing
@@ -247,10 +293,14 @@ public class JqPlot extends JsObject {
         public JqPlot build() {
             checkState(null != _targetId, "Chart id must be defined");
             checkState(null != _data, "SeriesData id must be defined");
+            var data = _data;
+            if (null != _downsampling) {
+                data = data.downsample(_downsampling, _targetPointCount, _parallelDownsampling);
+            }
             if (null == _options) {
-                return new JqPlot(_targetId, _data);
+                return new JqPlot(_targetId, data);
             }
-            return new JqPlot(_targetId, _data, _options);
+            return new JqPlot(_targetId, data, _options);
         }
 
     }
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.js.support;
+
+import java.io.IOException;
+
+/**
+ * {@link Appendable} used for streaming a list of elements, where elements without any
+ * content are to be skipped, analogous to {@code Joiner.skipNulls()}.
+ * <p>
+ * The prefix and the separators are written lazily, directly before the first content of
+ * an element. Therefore nothing at all is written, if no element provides content.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class DelimitingAppendable implements Appendable {
+
+    private final Appendable delegate;
+
+    private final String separator;
+
+    private String pending;
+
+    private boolean contentWritten;
+
+    private boolean elementWritten;
+
+    /**
+     * @param delegate  the actual target
+     * @param prefix    written before the first content
+     * @param separator written between the content of two elements
+     */
+    DelimitingAppendable(final Appendable delegate, final String prefix, final String separator) {
+        this.delegate = delegate;
+        pending = prefix;
+        this.separator = separator;
+    }
+
+    /**
+     * Marks the end of the current element.
+     */
+    void nextElement() {
+        if (elementWritten) {
+            pending = separator;
+            elementWritten = false;
+        }
+    }
+
+    /**
+     * @return {@code true} if any content has been written
+     */
+    boolean isContentWritten() {
+        return contentWritten;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq) throws IOException {
+        flushPending();
+        delegate.append(csq);
+        return this;
+    }
+
+    @Override
+    public Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        flushPending();
+        delegate.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Appendable append(final char c) throws IOException {
+        flushPending();
+        delegate.append(c);
+        return this;
+    }
+
+    private void flushPending() throws IOException {
+        if (null != pending) {
+            delegate.append(pending);
+            pending = null;
+        }
+        contentWritten = true;
+        elementWritten = true;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package de.cuioss.jsf.jqplot.js.support;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -30,4 +31,25 @@ public interface JavaScriptSupport extends Serializable {
      */
     String asJavaScriptObjectNotation();
 
+    /**
+     * Streaming counterpart of {@link #asJavaScriptObjectNotation()}: Writes the very same
+     * representation directly to the given target, e.g. a
+     * {@code ResponseWriter}. The default implementation delegates to
+     * {@link #asJavaScriptObjectNotation()}, types with potentially large content override
+     * it in order to omit the intermediate strings.
+     *
+     * @param out the target to write to, must not be null
+     * @return {@code false} if there is no content and therefore nothing has been written,
+     *         analogous to {@link #asJavaScriptObjectNotation()} returning {@code null}
+     * @throws IOException if writing to the target fails
+     */
+    default boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        final var representation = asJavaScriptObjectNotation();
+        if (null == representation) {
+            return false;
+        }
+        out.append(representation);
+        return true;
+    }
+
 }
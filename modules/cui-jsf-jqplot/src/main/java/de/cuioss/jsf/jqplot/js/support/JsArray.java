@@ -15,11 +15,12 @@
  */
 package de.cuioss.jsf.jqplot.js.support;
 
-import de.cuioss.tools.string.Joiner;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -66,14 +67,6 @@ public class JsArray<T extends JsValue> implements JavaScriptSupport, JsValue, I
         return this;
     }
 
-    private String transformedArray() {
-        final List<String> stringRepresentation = new ArrayList<>(items.size());
-        for (JsValue item : items) {
-            stringRepresentation.add(item.getValueAsString());
-        }
-        return Joiner.on(",").join(stringRepresentation);
-    }
-
     /**
      * @return boolean indicating whether the element is empty
      */
@@ -81,6 +74,13 @@ public class JsArray<T extends JsValue> implements JavaScriptSupport, JsValue, I
         return items.isEmpty();
     }
 
+    /**
+     * @return the number of items
+     */
+    public int size() {
+        return items.size();
+    }
+
     /**
      * An array is an ordered collection of values. An array begins with [ (left
      * bracket) and ends with ] (right bracket). Values are separated by, (comma).
@@ -93,7 +93,31 @@ public class JsArray<T extends JsValue> implements JavaScriptSupport, JsValue, I
             return "[]";
         }
 
-        return "[" + transformedArray() + "]";
+        final var builder = new StringBuilder();
+        try {
+            writeJavaScriptObjectNotation(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the items one by one, nested arrays are streamed as well.
+     */
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        out.append('[');
+        var first = true;
+        for (final JsValue item : items) {
+            if (!first) {
+                out.append(',');
+            }
+            item.writeValue(out);
+            first = false;
+        }
+        out.append(']');
+        return true;
     }
 
     @Override
@@ -101,6 +125,11 @@ public class JsArray<T extends JsValue> implements JavaScriptSupport, JsValue, I
         return asJavaScriptObjectNotation();
     }
 
+    @Override
+    public void writeValue(final Appendable out) throws IOException {
+        writeJavaScriptObjectNotation(out);
+    }
+
     @Override
     public Iterator<T> iterator() {
         return items.iterator();
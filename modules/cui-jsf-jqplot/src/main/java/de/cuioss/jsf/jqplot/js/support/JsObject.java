@@ -15,14 +15,13 @@
  */
 package de.cuioss.jsf.jqplot.js.support;
 
-import de.cuioss.tools.string.Joiner;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.UncheckedIOException;
 
 /**
  * @author Eugen Fischer
@@ -54,17 +53,13 @@ public abstract class JsObject implements JavaScriptSupport {
     }
 
     protected String transformProperties() {
-        final var properties = propProvider.getProperties();
-
-        if (properties.isEmpty()) {
-            return "";
-        }
-
-        final List<String> stringRepresentation = new ArrayList<>(properties.size());
-        for (final JavaScriptSupport property : properties) {
-            stringRepresentation.add(property.asJavaScriptObjectNotation());
+        final var builder = new StringBuilder();
+        try {
+            writeProperties(builder, "");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        return Joiner.on(",").skipNulls().join(stringRepresentation);
+        return builder.toString();
     }
 
     /**
@@ -88,23 +83,67 @@ public abstract class JsObject implements JavaScriptSupport {
      * </pre>
      */
     protected String createAsJSON() {
+        return toStringOrNull(objectName + ": {");
+    }
 
-        final var stringRepresentation = transformProperties();
-        if (stringRepresentation.isEmpty()) {
-            return null;
-        }
+    protected String createAsJSONObjectWithoutName() {
+        return toStringOrNull("{");
+    }
 
-        return objectName + ": {" + stringRepresentation +
-                "}";
+    /**
+     * Streaming counterpart of {@link #createAsJSON()}.
+     *
+     * @param out the target to write to
+     * @return {@code false} if no property provides any content and therefore nothing has
+     *         been written
+     * @throws IOException if writing to the target fails
+     */
+    protected boolean writeAsJSON(final Appendable out) throws IOException {
+        return writeObject(out, objectName + ": {");
     }
 
-    protected String createAsJSONObjectWithoutName() {
+    /**
+     * Streaming counterpart of {@link #createAsJSONObjectWithoutName()}.
+     *
+     * @param out the target to write to
+     * @return {@code false} if no property provides any content and therefore nothing has
+     *         been written
+     * @throws IOException if writing to the target fails
+     */
+    protected boolean writeAsJSONObjectWithoutName(final Appendable out) throws IOException {
+        return writeObject(out, "{");
+    }
 
-        final var stringRepresentation = transformProperties();
-        if (stringRepresentation.isEmpty()) {
-            return null;
+    private String toStringOrNull(final String prefix) {
+        final var builder = new StringBuilder();
+        try {
+            if (!writeObject(builder, prefix)) {
+                return null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return builder.toString();
+    }
 
-        return "{" + stringRepresentation + "}";
+    private boolean writeObject(final Appendable out, final String prefix) throws IOException {
+        if (!writeProperties(out, prefix)) {
+            return false;
+        }
+        out.append('}');
+        return true;
+    }
+
+    /**
+     * Writes the given prefix followed by the comma separated properties. Properties without
+     * content are skipped. If no property provides any content, nothing is written at all.
+     */
+    private boolean writeProperties(final Appendable out, final String prefix) throws IOException {
+        final var target = new DelimitingAppendable(out, prefix, ",");
+        for (final JavaScriptSupport property : propProvider.getPropertiesView()) {
+            property.writeJavaScriptObjectNotation(target);
+            target.nextElement();
+        }
+        return target.isContentWritten();
     }
 }
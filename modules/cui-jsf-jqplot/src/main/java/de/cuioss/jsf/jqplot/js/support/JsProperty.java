@@ -20,6 +20,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 
 /**
@@ -57,4 +58,17 @@ public class JsProperty<T extends JsValue> implements JavaScriptSupport {
         return JSON_FORMAT.formatted(propertyName, valueAsString);
     }
 
+    /**
+     * {@link JsArray} values are streamed, all other values are written by using
+     * {@link JsValue#getValueAsString()}.
+     */
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        if (propertyValue instanceof JsArray<?> array) {
+            out.append(propertyName).append(':');
+            return array.writeJavaScriptObjectNotation(out);
+        }
+        return JavaScriptSupport.super.writeJavaScriptObjectNotation(out);
+    }
+
 }
@@ -15,6 +15,7 @@
  */
 package de.cuioss.jsf.jqplot.js.support;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 /**
@@ -28,4 +29,16 @@ public interface JsValue extends Serializable {
      */
     String getValueAsString();
 
+    /**
+     * Writes {@link #getValueAsString()} to the given target. A {@code null} value is written
+     * as "null". Types with potentially large content override this method in order to
+     * stream their content.
+     *
+     * @param out the target to write to, must not be null
+     * @throws IOException if writing to the target fails
+     */
+    default void writeValue(final Appendable out) throws IOException {
+        out.append(getValueAsString());
+    }
+
 }
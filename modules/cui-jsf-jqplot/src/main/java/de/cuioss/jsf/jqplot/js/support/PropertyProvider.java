@@ -22,26 +22,58 @@ import lombok.ToString;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
+ * Insertion-ordered container for the properties of a {@link JsObject}.
+ * <p>
+ * {@link JsProperty} elements are identified by their name: Adding an equal property
+ * is ignored, adding a different property with the same name replaces the existing one
+ * and moves it to the end. The name lookup is constant in time, independent of the
+ * number of properties. All other elements are added only once: the same instance or
+ * an element equal to an already contained one is ignored.
+ * </p>
+ * <p>
+ * Equality of two providers is defined by their elements in insertion order.
+ * </p>
+ *
  * @author Oliver Wolff
  *
  */
 @ToString
-@EqualsAndHashCode
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class PropertyProvider implements IPropertyProvider, Serializable {
 
     /** serial Version UID */
     @Serial
     private static final long serialVersionUID = 9198858377353412920L;
 
-    private final List<JavaScriptSupport> properties = new ArrayList<>();
+    private final Map<Object, JavaScriptSupport> properties = new LinkedHashMap<>();
+
+    @EqualsAndHashCode.Include
+    private List<JavaScriptSupport> elements() {
+        return List.copyOf(properties.values());
+    }
 
+    /**
+     * @return an immutable copy of the properties, see {@link #getPropertiesView()} for
+     *         a non-copying variant
+     */
     @Override
     public List<JavaScriptSupport> getProperties() {
-        return immutableList(properties);
+        return immutableList(properties.values());
+    }
+
+    /**
+     * @return an unmodifiable, non-copying view on the properties in insertion order.
+     *         It reflects later modifications and must therefore not be held on to.
+     */
+    public Collection<JavaScriptSupport> getPropertiesView() {
+        return Collections.unmodifiableCollection(properties.values());
     }
 
     /**
@@ -71,26 +103,51 @@ public class PropertyProvider implements IPropertyProvider, Serializable {
      * @return {@link PropertyProvider}
      */
     public PropertyProvider addProperty(final JavaScriptSupport property) {
-        if (null != property && needToBeAdded(property)) {
-            properties.add(property);
+        if (null == property) {
+            return this;
+        }
+        if (property instanceof JsProperty<?> jsProp) {
+            final var key = jsProp.getPropertyName();
+            final var existing = properties.get(key);
+            if (!property.equals(existing)) {
+                // remove first in order to move it to the end, like a newly added one
+                properties.remove(key);
+                properties.put(key, property);
+            }
+        } else {
+            final var key = new IdentityKey(property);
+            if (!properties.containsKey(key) && !containsEqualElement(property)) {
+                properties.put(key, property);
+            }
         }
         return this;
     }
 
-    private boolean needToBeAdded(final JavaScriptSupport property) {
-        if (properties.contains(property)) {
-            return false;
-        }
-        var result = true;
-        if (property instanceof JsProperty jsProp) {
-            for (final JavaScriptSupport item : properties) {
-                if ((item instanceof JsProperty prop) && prop.getPropertyName().equals(jsProp.getPropertyName())) {
-                    properties.remove(item);
-                    break;
-                }
+    private boolean containsEqualElement(final JavaScriptSupport element) {
+        for (final JavaScriptSupport contained : properties.values()) {
+            if (!(contained instanceof JsProperty<?>) && element.equals(contained)) {
+                return true;
             }
         }
-        return result;
+        return false;
+    }
+
+    /**
+     * Identifies non-property elements by identity, as their hash code may change while
+     * they are contained. Only used as map key, equality of the provider is defined by
+     * the elements themselves, see {@link #elements()}.
+     */
+    private record IdentityKey(JavaScriptSupport element) implements Serializable {
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof IdentityKey other && other.element == element;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(element);
+        }
     }
 
 }
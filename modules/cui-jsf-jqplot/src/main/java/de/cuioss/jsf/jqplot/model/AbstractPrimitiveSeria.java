@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.jqplot.js.support.JavaScriptSupport;
+import de.cuioss.jsf.jqplot.js.support.JsArray;
+import de.cuioss.jsf.jqplot.js.support.JsValue;
+import de.cuioss.jsf.jqplot.js.types.JsDouble;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Base class for series storing their data points in growable primitive arrays instead
+ * of {@link SeriaTupelItem}s. The y values are always doubles, the type of the x values
+ * is defined by the concrete subclass.
+ * <p>
+ * The JSON representation is identical to the one of the boxed variants, [ [x1, y1] ,
+ * [x2, y2], .. [xn, yn] ], but it is created directly from the arrays while serializing.
+ * {@link SeriesData} streams instances without converting them.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public abstract class AbstractPrimitiveSeria implements JavaScriptSupport, JsValue, JsArrayContainer {
+
+    @Serial
+    private static final long serialVersionUID = -2617442409618125027L;
+
+    static final int INITIAL_CAPACITY = 16;
+
+    private double[] yValues = new double[INITIAL_CAPACITY];
+
+    private int size;
+
+    /**
+     * Package-private, the subclasses are defined within this package only.
+     */
+    AbstractPrimitiveSeria() {
+    }
+
+    /**
+     * Appends the given y value, growing the arrays if needed.
+     *
+     * @param yValue the y value of the new data point
+     * @return the index of the new data point, the subclass must store the x value there
+     */
+    int append(final double yValue) {
+        if (size == yValues.length) {
+            final var capacity = Math.max(INITIAL_CAPACITY, yValues.length + (yValues.length >> 1));
+            yValues = Arrays.copyOf(yValues, capacity);
+            resizeX(capacity);
+        }
+        yValues[size] = yValue;
+        return size++;
+    }
+
+    /**
+     * @param capacity the new capacity the x values must be copied to
+     */
+    abstract void resizeX(int capacity);
+
+    /**
+     * @param index  the index of the data point
+     * @param out    the target to write to
+     * @param writer to be used for writing decimals
+     * @throws IOException if writing to the target fails
+     */
+    abstract void writeX(int index, Appendable out, DecimalWriter writer) throws IOException;
+
+    /**
+     * @param index the index of the data point
+     * @return the boxed x value, used by {@link #getAsArray()}
+     */
+    abstract JsValue createX(int index);
+
+    /**
+     * @param index the index of the data point
+     * @return the x value as double, used for downsampling
+     */
+    abstract double getXAsDouble(int index);
+
+    /**
+     * @param indices of the data points to be copied, in ascending order
+     * @return a new instance of the same type containing the given data points only
+     */
+    abstract AbstractPrimitiveSeria copyOf(int[] indices);
+
+    /**
+     * @param other an instance of the same type
+     * @return {@code true} if the x values of both instances are equal
+     */
+    abstract boolean equalsX(AbstractPrimitiveSeria other);
+
+    /**
+     * @return hash code of the x values
+     */
+    abstract int hashCodeX();
+
+    /**
+     * @return the number of data points
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return boolean indicating whether there are no data points
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    /**
+     * @param index the index of the data point
+     * @return the y value of the data point
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getY(final int index) {
+        return yValues[checkIndex(index)];
+    }
+
+    int checkIndex(final int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    /**
+     * Reduces the number of data points to the given target point count, see
+     * {@link Downsampling}.
+     *
+     * @param mode             the algorithm to be used, must not be null
+     * @param targetPointCount the maximum number of data points of the result, at least
+     *                         {@link Downsampling#MIN_TARGET_POINT_COUNT}
+     * @return a new instance containing the selected data points, the instance itself if
+     *         it does not contain more data points than requested
+     */
+    public AbstractPrimitiveSeria downsample(final Downsampling mode, final int targetPointCount) {
+        requireNonNull(mode, "mode must not be null");
+        Downsampling.checkTargetPointCount(targetPointCount);
+        if (size <= targetPointCount) {
+            return this;
+        }
+        return copyOf(mode.selectIndices(this, targetPointCount));
+    }
+
+    /**
+     * Reduces the capacity of the arrays to the number of data points. Called implicitly
+     * before serialization.
+     */
+    public void trimToSize() {
+        if (yValues.length != size) {
+            yValues = Arrays.copyOf(yValues, size);
+            resizeX(size);
+        }
+    }
+
+    /**
+     * Converts the data points to {@link SeriaTupelItem}s. Solely intended for
+     * compatibility, as it creates all the objects this type avoids.
+     */
+    @Override
+    public JsArray<JsValue> getAsArray() {
+        final var array = new JsArray<JsValue>();
+        for (var i = 0; i < size; i++) {
+            array.addValueIfNotNull(new SeriaTupelItem<>(createX(i), new JsDouble(yValues[i])));
+        }
+        return array;
+    }
+
+    @Override
+    public void writeValue(final Appendable out) throws IOException {
+        final var writer = new DecimalWriter();
+        out.append('[');
+        for (var i = 0; i < size; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('[');
+            writeX(i, out, writer);
+            out.append(',');
+            writer.write(yValues[i], out);
+            out.append(']');
+        }
+        out.append(']');
+    }
+
+    @Override
+    public String getValueAsString() {
+        final var builder = new StringBuilder(size * 24 + 2);
+        try {
+            writeValue(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        writeValue(out);
+        return true;
+    }
+
+    @Override
+    public String asJavaScriptObjectNotation() {
+        return getValueAsString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (null == obj || getClass() != obj.getClass()) {
+            return false;
+        }
+        final var other = (AbstractPrimitiveSeria) obj;
+        return size == other.size && Arrays.equals(yValues, 0, size, other.yValues, 0, size) && equalsX(other);
+    }
+
+    @Override
+    public int hashCode() {
+        var result = size;
+        for (var i = 0; i < size; i++) {
+            result = 31 * result + Double.hashCode(yValues[i]);
+        }
+        return 31 * result + hashCodeX();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(size=" + size + ")";
+    }
+
+    @Serial
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        trimToSize();
+        out.defaultWriteObject();
+    }
+}
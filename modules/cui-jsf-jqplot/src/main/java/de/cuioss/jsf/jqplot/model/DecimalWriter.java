@@ -0,0 +1,52 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import de.cuioss.jsf.jqplot.js.types.JsDouble;
+
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.FieldPosition;
+
+/**
+ * Writes primitive doubles in the very same format as {@link JsDouble}, reusing its
+ * buffer for all values. Instances are intended to be used for a single serialization
+ * run and are not thread-safe.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+final class DecimalWriter {
+
+    private final DecimalFormat format;
+
+    private final StringBuffer buffer = new StringBuffer(24);
+
+    private final FieldPosition position = new FieldPosition(0);
+
+    DecimalWriter() {
+        final var symbols = DecimalFormatSymbols.getInstance();
+        symbols.setDecimalSeparator('.');
+        format = new DecimalFormat("0.000", symbols);
+    }
+
+    void write(final double value, final Appendable out) throws IOException {
+        buffer.setLength(0);
+        format.format(value, buffer, position);
+        out.append(buffer);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static de.cuioss.tools.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Server-side downsampling algorithms for {@link AbstractPrimitiveSeria}. A plot is
+ * usually only around a thousand pixels wide, therefore sending 100k data points to
+ * the browser only costs bandwidth and render time.
+ * <p>
+ * Both algorithms always keep the first and the last data point and preserve the order
+ * of the data points. They assume the data points to be sorted by their x values.
+ * </p>
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ * @see AbstractPrimitiveSeria#downsample(Downsampling, int)
+ * @see SeriesData#downsample(Downsampling, int, boolean)
+ */
+public enum Downsampling {
+
+    /**
+     * Largest-Triangle-Three-Buckets: Selects from each bucket the data point forming the
+     * largest triangle with the previously selected point and the average of the next
+     * bucket. Preserves the visual shape of the line very well.
+     *
+     * @see <a href="https://skemman.is/handle/1946/15343">Downsampling Time Series for
+     *      Visual Representation, Sveinn Steinarsson</a>
+     */
+    LARGEST_TRIANGLE_THREE_BUCKETS {
+
+        @Override
+        int[] selectIndices(final AbstractPrimitiveSeria seria, final int targetPointCount) {
+            final var size = seria.size();
+            final var selected = new int[targetPointCount];
+            final var bucketSize = (double) (size - 2) / (targetPointCount - 2);
+            var previous = 0;
+            selected[0] = 0;
+
+            for (var bucket = 0; bucket < targetPointCount - 2; bucket++) {
+                // Average of the next bucket, the last point for the last bucket
+                final var averageStart = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+                final var averageEnd = Math.min((int) Math.floor((bucket + 2) * bucketSize) + 1, size);
+                var averageX = 0.0;
+                var averageY = 0.0;
+                for (var i = averageStart; i < averageEnd; i++) {
+                    averageX += seria.getXAsDouble(i);
+                    averageY += seria.getY(i);
+                }
+                final var averageLength = averageEnd - averageStart;
+                averageX /= averageLength;
+                averageY /= averageLength;
+
+                final var rangeStart = (int) Math.floor(bucket * bucketSize) + 1;
+                final var rangeEnd = (int) Math.floor((bucket + 1) * bucketSize) + 1;
+                final var previousX = seria.getXAsDouble(previous);
+                final var previousY = seria.getY(previous);
+                var maxArea = -1.0;
+                var maxIndex = rangeStart;
+                for (var i = rangeStart; i < rangeEnd; i++) {
+                    final var area = Math.abs((previousX - averageX) * (seria.getY(i) - previousY)
+                            - (previousX - seria.getXAsDouble(i)) * (averageY - previousY));
+                    if (area > maxArea) {
+                        maxArea = area;
+                        maxIndex = i;
+                    }
+                }
+                selected[bucket + 1] = maxIndex;
+                previous = maxIndex;
+            }
+            selected[targetPointCount - 1] = size - 1;
+            return selected;
+        }
+    },
+
+    /**
+     * Selects the data points with the minimum and maximum y value of each bucket. Keeps
+     * all peaks, but the line looks more jagged than with
+     * {@link #LARGEST_TRIANGLE_THREE_BUCKETS}.
+     */
+    MIN_MAX {
+
+        @Override
+        int[] selectIndices(final AbstractPrimitiveSeria seria, final int targetPointCount) {
+            final var size = seria.size();
+            final var bucketCount = (targetPointCount - 2) / 2;
+            final var bucketSize = (double) (size - 2) / bucketCount;
+            final var selected = new int[targetPointCount];
+            var count = 0;
+            selected[count++] = 0;
+
+            for (var bucket = 0; bucket < bucketCount; bucket++) {
+                final var start = (int) Math.floor(bucket * bucketSize) + 1;
+                final var end = Math.min((int) Math.floor((bucket + 1) * bucketSize) + 1, size - 1);
+                if (start >= end) {
+                    continue;
+                }
+                var minIndex = start;
+                var maxIndex = start;
+                for (var i = start + 1; i < end; i++) {
+                    final var value = seria.getY(i);
+                    if (value < seria.getY(minIndex)) {
+                        minIndex = i;
+                    }
+                    if (value > seria.getY(maxIndex)) {
+                        maxIndex = i;
+                    }
+                }
+                selected[count++] = Math.min(minIndex, maxIndex);
+                if (minIndex != maxIndex) {
+                    selected[count++] = Math.max(minIndex, maxIndex);
+                }
+            }
+            selected[count++] = size - 1;
+            return Arrays.copyOf(selected, count);
+        }
+    };
+
+    /** The minimal target point count accepted. */
+    public static final int MIN_TARGET_POINT_COUNT = 4;
+
+    /**
+     * @param seria            to be downsampled, containing more data points than the
+     *                         target point count, which is at least
+     *                         {@link #MIN_TARGET_POINT_COUNT}
+     * @param targetPointCount the maximum number of data points to be selected
+     * @return the indices of the selected data points in ascending order
+     */
+    abstract int[] selectIndices(AbstractPrimitiveSeria seria, int targetPointCount);
+
+    /**
+     * @param targetPointCount to be checked
+     * @return the given target point count
+     * @throws IllegalArgumentException if it is less than {@link #MIN_TARGET_POINT_COUNT}
+     */
+    static int checkTargetPointCount(final int targetPointCount) {
+        checkArgument(targetPointCount >= MIN_TARGET_POINT_COUNT,
+                "targetPointCount must be at least %s, but was %s".formatted(MIN_TARGET_POINT_COUNT, targetPointCount));
+        return targetPointCount;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import de.cuioss.jsf.jqplot.js.support.JsValue;
+import de.cuioss.jsf.jqplot.js.types.JsDouble;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.util.Arrays;
+
+/**
+ * Seria storing doubles as x and y values in primitive arrays. Each data point needs
+ * 16 bytes, compared to several hundred bytes for a {@link Seria} of
+ * {@link JsDouble}s. Both values are formatted like {@link JsDouble} while serializing,
+ * therefore the JSON representation is identical to the one of the corresponding
+ * {@link Seria}.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class PrimitiveSeria extends AbstractPrimitiveSeria {
+
+    @Serial
+    private static final long serialVersionUID = -5121040236420311457L;
+
+    private double[] xValues = new double[INITIAL_CAPACITY];
+
+    /**
+     * @param xValue the x value
+     * @param yValue the y value
+     * @return the instance itself in order to use it in a fluent way
+     */
+    public PrimitiveSeria add(final double xValue, final double yValue) {
+        final var index = append(yValue);
+        xValues[index] = xValue;
+        return this;
+    }
+
+    /**
+     * @param index the index of the data point
+     * @return the x value of the data point
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public double getX(final int index) {
+        return xValues[checkIndex(index)];
+    }
+
+    @Override
+    public PrimitiveSeria downsample(final Downsampling mode, final int targetPointCount) {
+        return (PrimitiveSeria) super.downsample(mode, targetPointCount);
+    }
+
+    @Override
+    void resizeX(final int capacity) {
+        xValues = Arrays.copyOf(xValues, capacity);
+    }
+
+    @Override
+    void writeX(final int index, final Appendable out, final DecimalWriter writer) throws IOException {
+        writer.write(xValues[index], out);
+    }
+
+    @Override
+    JsValue createX(final int index) {
+        return new JsDouble(xValues[index]);
+    }
+
+    @Override
+    double getXAsDouble(final int index) {
+        return xValues[index];
+    }
+
+    @Override
+    PrimitiveSeria copyOf(final int[] indices) {
+        final var copy = new PrimitiveSeria();
+        for (final int index : indices) {
+            copy.add(xValues[index], getY(index));
+        }
+        return copy;
+    }
+
+    @Override
+    boolean equalsX(final AbstractPrimitiveSeria other) {
+        return Arrays.equals(xValues, 0, size(), ((PrimitiveSeria) other).xValues, 0, size());
+    }
+
+    @Override
+    int hashCodeX() {
+        var result = 0;
+        for (var i = 0; i < size(); i++) {
+            result = 31 * result + Double.hashCode(xValues[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static java.util.Objects.requireNonNull;
+
+import de.cuioss.jsf.jqplot.js.support.JsValue;
+import de.cuioss.jsf.jqplot.js.types.JsDateTime;
+import de.cuioss.jsf.jqplot.js.types.JsDateTimeFormat;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Time line seria storing epoch milliseconds as x and doubles as y values in primitive
+ * arrays. Each data point needs 16 bytes, compared to several hundred bytes for
+ * {@link TimeLineSeria}. The x values are formatted with the given
+ * {@link JsDateTimeFormat} while serializing, the y values like
+ * {@link de.cuioss.jsf.jqplot.js.types.JsDouble}. Therefore the JSON representation is
+ * identical to the one of a {@link TimeLineSeria} with double values.
+ *
+ * @author Oliver Wolff
+ * @since 1.1
+ */
+public class PrimitiveTimeLineSeria extends AbstractPrimitiveSeria {
+
+    @Serial
+    private static final long serialVersionUID = 3409217349181718338L;
+
+    @Getter
+    private final JsDateTimeFormat format;
+
+    @Getter
+    private final ZoneId zone;
+
+    private long[] xValues = new long[INITIAL_CAPACITY];
+
+    /**
+     * @param format used for formatting the x values, must not be null
+     * @param zone   the time zone the epoch milliseconds are converted to, must not be null
+     */
+    public PrimitiveTimeLineSeria(@NonNull final JsDateTimeFormat format, @NonNull final ZoneId zone) {
+        this.format = format;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates an instance using {@link ZoneId#systemDefault()}.
+     *
+     * @param format used for formatting the x values, must not be null
+     */
+    public PrimitiveTimeLineSeria(@NonNull final JsDateTimeFormat format) {
+        this(format, ZoneId.systemDefault());
+    }
+
+    /**
+     * @param epochMillis the point in time in milliseconds since the epoch
+     * @param value       the y value
+     * @return the instance itself in order to use it in a fluent way
+     */
+    public PrimitiveTimeLineSeria add(final long epochMillis, final double value) {
+        final var index = append(value);
+        xValues[index] = epochMillis;
+        return this;
+    }
+
+    /**
+     * @param instant must not be null
+     * @param value   the y value
+     * @return the instance itself in order to use it in a fluent way
+     */
+    public PrimitiveTimeLineSeria add(final Instant instant, final double value) {
+        return add(requireNonNull(instant).toEpochMilli(), value);
+    }
+
+    /**
+     * @param index the index of the data point
+     * @return the x value of the data point in milliseconds since the epoch
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public long getEpochMillis(final int index) {
+        return xValues[checkIndex(index)];
+    }
+
+    @Override
+    public PrimitiveTimeLineSeria downsample(final Downsampling mode, final int targetPointCount) {
+        return (PrimitiveTimeLineSeria) super.downsample(mode, targetPointCount);
+    }
+
+    @Override
+    void resizeX(final int capacity) {
+        xValues = Arrays.copyOf(xValues, capacity);
+    }
+
+    @Override
+    void writeX(final int index, final Appendable out, final DecimalWriter writer) throws IOException {
+        out.append('"');
+        format.getFormatter().formatTo(Instant.ofEpochMilli(xValues[index]).atZone(zone), out);
+        out.append('"');
+    }
+
+    @Override
+    JsValue createX(final int index) {
+        return JsDateTime.builder().formatter(format).value(Instant.ofEpochMilli(xValues[index]).atZone(zone))
+                .build();
+    }
+
+    @Override
+    double getXAsDouble(final int index) {
+        return xValues[index];
+    }
+
+    @Override
+    PrimitiveTimeLineSeria copyOf(final int[] indices) {
+        final var copy = new PrimitiveTimeLineSeria(format, zone);
+        for (final int index : indices) {
+            copy.add(xValues[index], getY(index));
+        }
+        return copy;
+    }
+
+    @Override
+    boolean equalsX(final AbstractPrimitiveSeria other) {
+        final var that = (PrimitiveTimeLineSeria) other;
+        return format == that.format && zone.equals(that.zone)
+                && Arrays.equals(xValues, 0, size(), that.xValues, 0, size());
+    }
+
+    @Override
+    int hashCodeX() {
+        var result = 31 * format.hashCode() + zone.hashCode();
+        for (var i = 0; i < size(); i++) {
+            result = 31 * result + Long.hashCode(xValues[i]);
+        }
+        return result;
+    }
+}
@@ -21,6 +21,7 @@ import de.cuioss.jsf.jqplot.js.support.JsValue;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.util.Iterator;
 
@@ -94,9 +95,19 @@ public class Seria<X extends JsValue, Y extends JsValue>
         return data.getValueAsString();
     }
 
+    @Override
+    public void writeValue(final Appendable out) throws IOException {
+        data.writeValue(out);
+    }
+
     @Override
     public String asJavaScriptObjectNotation() {
         return data.asJavaScriptObjectNotation();
     }
 
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        return data.writeJavaScriptObjectNotation(out);
+    }
+
 }
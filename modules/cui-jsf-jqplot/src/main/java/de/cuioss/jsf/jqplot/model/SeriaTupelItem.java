@@ -20,6 +20,7 @@ import de.cuioss.jsf.jqplot.js.support.JsValue;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 
 /**
@@ -69,4 +70,13 @@ public class SeriaTupelItem<X extends JsValue, Y extends JsValue> implements JsV
         return null;
     }
 
+    @Override
+    public void writeValue(final Appendable out) throws IOException {
+        if (isComplete()) {
+            array.writeValue(out);
+        } else {
+            JsValue.super.writeValue(out);
+        }
+    }
+
 }
@@ -23,9 +23,20 @@ import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * user's data. Data should *NOT* be specified in the options object, but be
@@ -46,7 +57,21 @@ public class SeriesData implements JavaScriptSupport {
     @Serial
     private static final long serialVersionUID = 130324845834722962L;
 
-    private final JsArray<JsArray<? super JsValue>> nested = new JsArray<>();
+    /**
+     * The maximum number of threads used by {@link #downsample(Downsampling, int, boolean)},
+     * half of the available processors.
+     */
+    public static final int MAX_DOWNSAMPLING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final AtomicInteger DOWNSAMPLING_THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Shared by all calls, therefore the number of threads is bounded application-wide.
+     * Idle threads are terminated, a task finding all threads busy is run by the caller.
+     */
+    private static final ExecutorService DOWNSAMPLING_EXECUTOR = createDownsamplingExecutor();
+
+    private final JsArray<JsValue> nested = new JsArray<>();
 
     /**
      * Null values and empty seria objects will be ignored
@@ -68,12 +93,46 @@ public class SeriesData implements JavaScriptSupport {
      * @return fluent api style
      */
     public SeriesData addSeriaDataIfNotNull(final JsArrayContainer data) {
+        if (data instanceof AbstractPrimitiveSeria primitive) {
+            return this.addSeriaDataIfNotNull(primitive);
+        }
+        if (data instanceof TimeLineSeria<?> timeLine) {
+            return this.addSeriaDataIfNotNull(timeLine);
+        }
         if (null != data) {
             this.addSeriaDataIfNotNull(data.getAsArray());
         }
         return this;
     }
 
+    /**
+     * Null values and empty seria objects will be ignored. The seria is added as it is,
+     * without converting it to a {@link JsArray}, and streamed on serialization.
+     *
+     * @param data {@link AbstractPrimitiveSeria}
+     * @return fluent api style
+     */
+    public SeriesData addSeriaDataIfNotNull(final AbstractPrimitiveSeria data) {
+        if (null != data && !data.isEmpty()) {
+            nested.addValueIfNotNull(data);
+        }
+        return this;
+    }
+
+    /**
+     * Null values and empty seria objects will be ignored. The seria is added as it is,
+     * so that it can be downsampled, see {@link #downsample(Downsampling, int, boolean)}.
+     *
+     * @param data {@link TimeLineSeria}
+     * @return fluent api style
+     */
+    public SeriesData addSeriaDataIfNotNull(final TimeLineSeria<?> data) {
+        if (null != data && !data.isEmpty()) {
+            nested.addValueIfNotNull(data);
+        }
+        return this;
+    }
+
     /**
      * @return true if no data available
      */
@@ -81,11 +140,93 @@ public class SeriesData implements JavaScriptSupport {
         return nested.isEmpty();
     }
 
+    /**
+     * Downsamples all contained {@link AbstractPrimitiveSeria}s and {@link TimeLineSeria}s,
+     * see {@link Downsampling}. Other kinds of series are taken over as they are.
+     * <p>
+     * Parallel processing does not use the common {@link java.util.concurrent.ForkJoinPool},
+     * as it is shared by the whole application server. The series are processed by a pool
+     * shared by all requests, bounded to {@link #MAX_DOWNSAMPLING_THREADS} threads. If all
+     * of them are busy, the calling thread processes the remaining series itself, so
+     * concurrent requests degrade to sequential processing instead of creating further
+     * threads. The calling thread waits for all series.
+     * </p>
+     *
+     * @param mode             the algorithm to be used, must not be null
+     * @param targetPointCount the maximum number of data points per seria, at least
+     *                         {@link Downsampling#MIN_TARGET_POINT_COUNT}
+     * @param parallel         if {@code true} the series are processed in parallel
+     * @return a new {@link SeriesData} containing the downsampled series
+     */
+    public SeriesData downsample(@NonNull final Downsampling mode, final int targetPointCount,
+            final boolean parallel) {
+        Downsampling.checkTargetPointCount(targetPointCount);
+        final List<JsValue> series = new ArrayList<>();
+        nested.forEach(series::add);
+        final List<JsValue> downsampled;
+        if (parallel && series.size() > 1 && MAX_DOWNSAMPLING_THREADS > 1) {
+            downsampled = downsampleInParallel(series, mode, targetPointCount);
+        } else {
+            downsampled = series.stream().map(seria -> downsample(seria, mode, targetPointCount)).toList();
+        }
+        final var result = new SeriesData();
+        downsampled.forEach(result.nested::addValueIfNotNull);
+        return result;
+    }
+
+    private static List<JsValue> downsampleInParallel(final List<JsValue> series, final Downsampling mode,
+            final int targetPointCount) {
+        final List<Callable<JsValue>> tasks = series.stream()
+                .<Callable<JsValue>>map(seria -> () -> downsample(seria, mode, targetPointCount)).toList();
+        try {
+            final List<JsValue> result = new ArrayList<>(series.size());
+            for (final Future<JsValue> future : DOWNSAMPLING_EXECUTOR.invokeAll(tasks)) {
+                result.add(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while downsampling", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static ExecutorService createDownsamplingExecutor() {
+        final var executor = new ThreadPoolExecutor(MAX_DOWNSAMPLING_THREADS, MAX_DOWNSAMPLING_THREADS, 30,
+                TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                    final var thread = new Thread(runnable,
+                            "jqplot-downsampling-" + DOWNSAMPLING_THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static JsValue downsample(final JsValue seria, final Downsampling mode, final int targetPointCount) {
+        if (seria instanceof AbstractPrimitiveSeria primitive) {
+            return primitive.downsample(mode, targetPointCount);
+        }
+        if (seria instanceof TimeLineSeria<?> timeLine) {
+            return timeLine.downsample(mode, targetPointCount);
+        }
+        return seria;
+    }
+
     @Override
     public String asJavaScriptObjectNotation() {
         return nested.asJavaScriptObjectNotation();
     }
 
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        return nested.writeJavaScriptObjectNotation(out);
+    }
+
     /**
      * @author Oliver Wolff
      */
@@ -97,6 +238,30 @@ public class SeriesData implements JavaScriptSupport {
 
         private final ArrayList<JsArrayContainer> candidates = new ArrayList<>();
 
+        private Downsampling downsampling;
+
+        private int targetPointCount;
+
+        private boolean parallelDownsampling;
+
+        /**
+         * Activates downsampling of the primitive series on {@link #build()}, see
+         * {@link SeriesData#downsample(Downsampling, int, boolean)}.
+         *
+         * @param mode             the algorithm to be used
+         * @param targetPointCount the maximum number of data points per seria, at least
+         *                         {@link Downsampling#MIN_TARGET_POINT_COUNT}
+         * @param parallel         if {@code true} the series are processed in parallel
+         * @return the builder itself
+         */
+        public Builder withDownsampling(@NonNull final Downsampling mode, final int targetPointCount,
+                final boolean parallel) {
+            this.targetPointCount = Downsampling.checkTargetPointCount(targetPointCount);
+            downsampling = mode;
+            parallelDownsampling = parallel;
+            return this;
+        }
+
         /**
          * @param format
          * @return {@link TimeLineSeria}
@@ -117,13 +282,47 @@ public class SeriesData implements JavaScriptSupport {
             return timeLineSeria;
         }
 
+        /**
+         * @param format used for formatting the epoch milliseconds
+         * @return {@link PrimitiveTimeLineSeria} with double values
+         */
+        public PrimitiveTimeLineSeria createPrimitiveTimeLine(@NonNull final JsDateTimeFormat format) {
+            final var timeLineSeria = new PrimitiveTimeLineSeria(format);
+            candidates.add(timeLineSeria);
+            return timeLineSeria;
+        }
+
+        /**
+         * @param format used for formatting the epoch milliseconds
+         * @param zone   the time zone the epoch milliseconds are converted to
+         * @return {@link PrimitiveTimeLineSeria} with double values
+         */
+        public PrimitiveTimeLineSeria createPrimitiveTimeLine(@NonNull final JsDateTimeFormat format,
+                @NonNull final ZoneId zone) {
+            final var timeLineSeria = new PrimitiveTimeLineSeria(format, zone);
+            candidates.add(timeLineSeria);
+            return timeLineSeria;
+        }
+
+        /**
+         * @return {@link PrimitiveSeria} with double x and y values
+         */
+        public PrimitiveSeria createPrimitiveSeria() {
+            final var seria = new PrimitiveSeria();
+            candidates.add(seria);
+            return seria;
+        }
+
         /**
          * @return {@link SeriesData}
          */
         public SeriesData build() {
             final var seriesData = new SeriesData();
             for (final JsArrayContainer container : candidates) {
-                seriesData.addSeriaDataIfNotNull(container.getAsArray());
+                seriesData.addSeriaDataIfNotNull(container);
+            }
+            if (null != downsampling) {
+                return seriesData.downsample(downsampling, targetPointCount, parallelDownsampling);
             }
             return seriesData;
         }
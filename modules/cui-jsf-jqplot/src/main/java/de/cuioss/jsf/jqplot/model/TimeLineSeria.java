@@ -24,24 +24,39 @@ import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
-import java.io.Serializable;
+import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Typed {@link TimeLineSeria} use {@link Temporal} for x values, {@link Number}
  * for y values.
+ * <p>
+ * For {@link #downsample(Downsampling, int)} the x and y values are derived from the
+ * data points as doubles, they are not kept separately. The x value is derived from the
+ * epoch milliseconds if the temporal supports them, the epoch day and time of day
+ * otherwise. Temporals supporting neither, e.g. {@link java.time.YearMonth}, are spaced
+ * by their position. Therefore only data points created by {@link #add(Temporal, Number)}
+ * can be downsampled, not the ones added to {@link #getAsArray()} directly.
+ * </p>
  *
  * @author Eugen Fischer
  * @param <T> at least {@link Number}
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-public class TimeLineSeria<T extends Number> implements JsArrayContainer, Serializable {
+public class TimeLineSeria<T extends Number> implements JsArrayContainer, JsValue {
 
     @Serial
     private static final long serialVersionUID = 4435082055226755388L;
 
+    private static final double MILLIS_PER_DAY = 86_400_000.0;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
     @NonNull
     private final JsDateTimeFormat format;
 
@@ -66,18 +81,32 @@ public class TimeLineSeria<T extends Number> implements JsArrayContainer, Serial
      * @throws NullPointerException if date or value is null
      */
     public TimeLineSeria<T> add(@NonNull final Temporal date, @NonNull final T number) {
-
-        final var xValue = JsDateTime.builder().formatter(format).value(date).build();
-
-        final JsNumber<T> yValue = JsNumber.create(number);
-
-        final var tupel = new SeriaTupelItem<>(xValue, yValue);
-
-        data.addValueIfNotNull(tupel);
-
+        data.addValueIfNotNull(new Point<>(format, date, number));
         return this;
     }
 
+    private static double toXValue(final Temporal date, final int position) {
+        if (date.isSupported(ChronoField.INSTANT_SECONDS)) {
+            final var millis = date.isSupported(ChronoField.MILLI_OF_SECOND)
+                    ? date.getLong(ChronoField.MILLI_OF_SECOND)
+                    : 0L;
+            return date.getLong(ChronoField.INSTANT_SECONDS) * 1000.0 + millis;
+        }
+        final var epochDay = date.isSupported(ChronoField.EPOCH_DAY);
+        final var timeOfDay = date.isSupported(ChronoField.NANO_OF_DAY);
+        if (!epochDay && !timeOfDay) {
+            return position;
+        }
+        var result = 0.0;
+        if (epochDay) {
+            result += date.getLong(ChronoField.EPOCH_DAY) * MILLIS_PER_DAY;
+        }
+        if (timeOfDay) {
+            result += date.getLong(ChronoField.NANO_OF_DAY) / NANOS_PER_MILLI;
+        }
+        return result;
+    }
+
     /**
      * Add tupel if both parameters are available, otherwise ignore silently
      *
@@ -92,8 +121,87 @@ public class TimeLineSeria<T extends Number> implements JsArrayContainer, Serial
         return this;
     }
 
+    /**
+     * @return the number of data points
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * @return {@code true} if there are no data points
+     */
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    /**
+     * Reduces the number of data points, see {@link Downsampling}. The data points are
+     * expected to be sorted by date.
+     *
+     * @param mode             the algorithm to be used, must not be null
+     * @param targetPointCount the maximum number of data points of the result, at least
+     *                         {@link Downsampling#MIN_TARGET_POINT_COUNT}
+     * @return a new instance containing the selected data points, the instance itself if
+     *         it does not contain more data points than requested
+     * @throws IllegalStateException if the data contains elements not created by
+     *                               {@link #add(Temporal, Number)}
+     */
+    public TimeLineSeria<T> downsample(@NonNull final Downsampling mode, final int targetPointCount) {
+        Downsampling.checkTargetPointCount(targetPointCount);
+        if (data.size() <= targetPointCount) {
+            return this;
+        }
+        final List<JsValue> elements = new ArrayList<>(data.size());
+        data.forEach(elements::add);
+        final var points = new PrimitiveSeria();
+        for (final JsValue element : elements) {
+            if (!(element instanceof Point<?> point)) {
+                throw new IllegalStateException(
+                        "Only data points created by add() can be downsampled, but found: " + element);
+            }
+            points.add(toXValue(point.date, points.size()), point.number.doubleValue());
+        }
+        final var copy = new TimeLineSeria<T>(format);
+        for (final int index : mode.selectIndices(points, targetPointCount)) {
+            copy.data.addValueIfNotNull(elements.get(index));
+        }
+        return copy;
+    }
+
     @Override
     public JsArray<JsValue> getAsArray() {
         return data;
     }
+
+    @Override
+    public String getValueAsString() {
+        return data.getValueAsString();
+    }
+
+    @Override
+    public void writeValue(final Appendable out) throws IOException {
+        data.writeValue(out);
+    }
+
+    /**
+     * Tuple of a date and a number, keeping the original values for
+     * {@link #downsample(Downsampling, int)}.
+     */
+    private static final class Point<N extends Number> extends SeriaTupelItem<JsDateTime, JsNumber<N>> {
+
+        @Serial
+        private static final long serialVersionUID = 6528013658400361717L;
+
+        @SuppressWarnings("squid:S1948") // All known implementations are Serializable
+        private final Temporal date;
+
+        private final N number;
+
+        Point(final JsDateTimeFormat format, final Temporal date, final N number) {
+            super(JsDateTime.builder().formatter(format).value(date).build(), JsNumber.create(number));
+            this.date = date;
+            this.number = number;
+        }
+    }
 }
@@ -34,6 +34,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Setter;
 import lombok.ToString;
 
+import java.io.IOException;
 import java.io.Serial;
 import java.util.List;
 
@@ -233,6 +234,17 @@ public class Options extends JsObject implements IPluginConsumer, PlotHookFuncti
 
     @Override
     public String asJavaScriptObjectNotation() {
+        addAllProperties();
+        return createAsJSONObjectWithoutName();
+    }
+
+    @Override
+    public boolean writeJavaScriptObjectNotation(final Appendable out) throws IOException {
+        addAllProperties();
+        return writeAsJSONObjectWithoutName(out);
+    }
+
+    private void addAllProperties() {
         this.addProperty(title);
         this.addProperty(axes);
         this.addProperty(seriesDefaults);
@@ -241,7 +253,6 @@ public class Options extends JsObject implements IPluginConsumer, PlotHookFuncti
         this.addProperty(legend);
         this.addProperty(highlighter);
         this.addProperty(grid);
-        return createAsJSONObjectWithoutName();
     }
 
     @Override
@@ -31,6 +31,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Calendar;
 
 @SuppressWarnings({"unchecked"})
@@ -147,6 +149,63 @@ class JqPlotTest implements ShouldHandleObjectContracts<JqPlot> {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming tests")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should stream the same representation as the string based variant")
+        void shouldStreamSameRepresentation() throws IOException {
+            // Arrange
+            final var options = new Options();
+            options.setTitle(new Title("Incident date"));
+            options.getHighlighter().getTooltipContentEditor();
+            final JsArray<? super JsValue> line = new JsArray<>();
+            for (var i = 0; i < 500; i++) {
+                line.addValueIfNotNull(createItem(i));
+            }
+            final var jqPlot = new JqPlot("chartA", createSeries(line, line), options);
+            final var writer = new StringWriter();
+
+            // Act
+            final var written = jqPlot.writeJavaScriptObjectNotation(writer);
+
+            // Assert
+            assertTrue(written, "Plot should always write content");
+            assertEquals(jqPlot.asJavaScriptObjectNotation(), writer.toString(),
+                    "Streamed representation should match the string representation");
+        }
+
+        @Test
+        @DisplayName("Should stream null for options without content")
+        void shouldStreamNullForEmptyOptions() throws IOException {
+            // Arrange
+            final var jqPlot = new JqPlot("chartA", anyNotEmptySeria(), new Options());
+            final var writer = new StringWriter();
+
+            // Act
+            jqPlot.writeJavaScriptObjectNotation(writer);
+
+            // Assert
+            assertEquals("$.jqplot(\"chartA\", [[0]], null);", writer.toString(),
+                    "Options without content should be rendered as null");
+        }
+
+        @Test
+        @DisplayName("Should stream placeholder if there is nothing to display")
+        void shouldStreamPlaceholder() throws IOException {
+            // Arrange
+            final var jqPlot = new JqPlot("chartA", anyNotEmptySeria()).setNothingToDisplay(true);
+            final var writer = new StringWriter();
+
+            // Act
+            jqPlot.writeJavaScriptObjectNotation(writer);
+
+            // Assert
+            assertEquals("'';", writer.toString(), "Placeholder should be streamed");
+        }
+    }
+
     private static SeriesData anyNotEmptySeria() {
         final var seriesData = new SeriesData();
         final var jsArray = new JsArray<>();
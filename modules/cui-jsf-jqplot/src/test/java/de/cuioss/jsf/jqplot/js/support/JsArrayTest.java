@@ -23,6 +23,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -156,6 +157,46 @@ class JsArrayTest extends ValueObjectTest<JsArray<JsValue>> {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming tests")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should stream nested arrays like the string based variant")
+        void shouldStreamNestedArrays() throws IOException {
+            // Arrange
+            final var target = new JsArray<JsValue>();
+            final var nested = new JsArray<JsString>();
+            nested.addValueIfNotNull(new JsString("val1"));
+            nested.addValueIfNotNull(new JsString("val2"));
+            target.addValueIfNotNull(nested);
+            target.addValueIfNotNull(new JsArray<JsString>());
+            target.addValueIfNotNull(new JsString("val3"));
+            final var builder = new StringBuilder();
+
+            // Act
+            final var written = target.writeJavaScriptObjectNotation(builder);
+
+            // Assert
+            assertTrue(written, "Arrays should always write content");
+            assertEquals("[[\"val1\",\"val2\"],[],\"val3\"]", builder.toString());
+            assertEquals(target.asJavaScriptObjectNotation(), builder.toString());
+        }
+
+        @Test
+        @DisplayName("Should stream empty array")
+        void shouldStreamEmptyArray() throws IOException {
+            // Arrange
+            final var builder = new StringBuilder();
+
+            // Act
+            new JsArray<JsString>().writeJavaScriptObjectNotation(builder);
+
+            // Assert
+            assertEquals("[]", builder.toString());
+        }
+    }
+
     @Override
     protected JsArray<JsValue> anyValueObject() {
         return new JsArray<>();
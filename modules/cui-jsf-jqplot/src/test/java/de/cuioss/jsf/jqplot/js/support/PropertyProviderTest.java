@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.js.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.cuioss.jsf.jqplot.js.support.testobjects.TestObject1;
+import de.cuioss.jsf.jqplot.js.types.JsString;
+import de.cuioss.test.valueobjects.contract.SerializableContractImpl;
+import de.cuioss.test.valueobjects.junit5.contracts.ShouldHandleObjectContracts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@DisplayName("Tests for PropertyProvider class")
+class PropertyProviderTest implements ShouldHandleObjectContracts<PropertyProvider> {
+
+    @Override
+    public PropertyProvider getUnderTest() {
+        return new PropertyProvider().addProperty("name", new JsString("value"));
+    }
+
+    @Nested
+    @DisplayName("De-duplication tests")
+    class DeduplicationTests {
+
+        @Test
+        @DisplayName("Should ignore null and equal properties")
+        void shouldIgnoreEqualProperties() {
+            // Arrange
+            final var target = new PropertyProvider();
+
+            // Act
+            target.addProperty(null);
+            target.addProperty("a", new JsString("1"));
+            target.addProperty("b", new JsString("2"));
+            target.addProperty("a", new JsString("1"));
+
+            // Assert
+            assertEquals(List.of("a:\"1\"", "b:\"2\""), toJson(target),
+                    "Equal property should neither be added nor moved");
+        }
+
+        @Test
+        @DisplayName("Should replace property with same name and move it to the end")
+        void shouldReplaceSameNamedProperty() {
+            // Arrange
+            final var target = new PropertyProvider();
+
+            // Act
+            target.addProperty("a", new JsString("1"));
+            target.addProperty("b", new JsString("2"));
+            target.addProperty("a", new JsString("3"));
+
+            // Assert
+            assertEquals(List.of("b:\"2\"", "a:\"3\""), toJson(target));
+        }
+
+        @Test
+        @DisplayName("Should add objects only once, even if modified in between")
+        void shouldIdentifyObjectsByIdentity() {
+            // Arrange
+            final var target = new PropertyProvider();
+            final var object = new TestObject1().setSomeStringProperty("first");
+            target.addProperty(object);
+
+            // Act
+            object.setSomeStringProperty("second");
+            target.addProperty(object);
+
+            // Assert
+            assertEquals(1, target.getProperties().size(), "Object should only be contained once");
+            assertSame(object, target.getPropertiesView().iterator().next());
+        }
+
+        @Test
+        @DisplayName("Should add equal but distinct objects only once")
+        void shouldIgnoreEqualObjects() {
+            // Arrange
+            final var target = new PropertyProvider();
+
+            // Act
+            target.addProperty(new TestObject1().setSomeStringProperty("first"));
+            target.addProperty(new TestObject1().setSomeStringProperty("first"));
+            target.addProperty(new TestObject1().setSomeStringProperty("second"));
+
+            // Assert
+            assertEquals(2, target.getProperties().size(), "Equal object should only be contained once");
+        }
+
+        @Test
+        @DisplayName("Should take over properties of another provider")
+        void shouldAddProperties() {
+            // Arrange
+            final var target = new PropertyProvider().addProperty("a", new JsString("1"));
+
+            // Act
+            target.addProperties(new PropertyProvider().addProperty("a", new JsString("2")).addProperty("b",
+                    new JsString("3")));
+            target.addProperties(null);
+
+            // Assert
+            assertEquals(List.of("a:\"2\"", "b:\"3\""), toJson(target));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality tests")
+    class EqualityTests {
+
+        @Test
+        @DisplayName("Should consider providers with equal elements as equal")
+        void shouldCompareElements() {
+            // Arrange
+            final var first = createTree();
+            final var second = createTree();
+
+            // Act & Assert
+            assertEquals(first, second, "Equal trees should be equal");
+            assertEquals(first.hashCode(), second.hashCode());
+            assertNotEquals(first, new PropertyProvider().addProperty("a", new JsString("1")));
+        }
+
+        @Test
+        @DisplayName("Should be equal after serialization")
+        void shouldBeEqualAfterSerialization() {
+            // Arrange
+            final var target = createTree();
+
+            // Act
+            final var deserialized = SerializableContractImpl.serializeAndDeserialize(target);
+
+            // Assert
+            assertEquals(target, deserialized, "Deserialized tree should be equal");
+        }
+
+        private static PropertyProvider createTree() {
+            return new PropertyProvider().addProperty("a", new JsString("1"))
+                    .addProperty(new TestObject1().setSomeStringProperty("nested"));
+        }
+    }
+
+    @Nested
+    @DisplayName("View tests")
+    class ViewTests {
+
+        @Test
+        @DisplayName("Should provide an unmodifiable live view")
+        void shouldProvideLiveView() {
+            // Arrange
+            final var target = new PropertyProvider();
+            final var view = target.getPropertiesView();
+
+            // Act
+            target.addProperty("a", new JsString("1"));
+
+            // Assert
+            assertEquals(1, view.size(), "View should reflect modifications");
+            assertThrows(UnsupportedOperationException.class, view::clear);
+            assertThrows(UnsupportedOperationException.class, () -> target.getProperties().clear());
+        }
+    }
+
+    private static List<String> toJson(final PropertyProvider provider) {
+        return provider.getPropertiesView().stream().map(JavaScriptSupport::asJavaScriptObjectNotation).toList();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Tests for Downsampling")
+class DownsamplingTest {
+
+    private static final int POINT_COUNT = 10_000;
+
+    private static final int PEAK_INDEX = 4_321;
+
+    @Nested
+    @DisplayName("Common contract tests")
+    class ContractTests {
+
+        @ParameterizedTest
+        @EnumSource(Downsampling.class)
+        @DisplayName("Should reduce to target point count keeping first and last point")
+        void shouldReduceToTargetPointCount(final Downsampling mode) {
+            // Arrange
+            final var seria = createSeria();
+
+            // Act
+            final var result = seria.downsample(mode, 100);
+
+            // Assert
+            assertTrue(result.size() <= 100, "Result must not exceed the target point count");
+            assertTrue(result.size() >= 50, "Result should use most of the target point count");
+            assertEquals(0.0, result.getX(0), "First point should be kept");
+            assertEquals(POINT_COUNT - 1.0, result.getX(result.size() - 1), "Last point should be kept");
+            for (var i = 1; i < result.size(); i++) {
+                assertTrue(result.getX(i - 1) < result.getX(i), "Order should be preserved");
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(Downsampling.class)
+        @DisplayName("Should keep a distinct peak")
+        void shouldKeepPeak(final Downsampling mode) {
+            // Arrange
+            final var seria = createSeria();
+
+            // Act
+            final var result = seria.downsample(mode, 50);
+
+            // Assert
+            var peakFound = false;
+            for (var i = 0; i < result.size(); i++) {
+                peakFound |= result.getX(i) == PEAK_INDEX;
+            }
+            assertTrue(peakFound, "Peak should survive downsampling");
+        }
+
+        @ParameterizedTest
+        @EnumSource(Downsampling.class)
+        @DisplayName("Should return the seria itself if it is small enough")
+        void shouldReturnSmallSeria(final Downsampling mode) {
+            // Arrange
+            final var seria = new PrimitiveSeria().add(1.0, 1.0).add(2.0, 2.0);
+
+            // Act & Assert
+            assertSame(seria, seria.downsample(mode, 4));
+        }
+
+        @Test
+        @DisplayName("Should reject too small target point count")
+        void shouldRejectInvalidTargetPointCount() {
+            // Arrange
+            final var seria = createSeria();
+
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> seria.downsample(Downsampling.MIN_MAX, Downsampling.MIN_TARGET_POINT_COUNT - 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("SeriesData tests")
+    class SeriesDataTests {
+
+        @Test
+        @DisplayName("Should downsample all primitive series in parallel")
+        void shouldDownsampleSeriesData() {
+            // Arrange
+            final var builder = new SeriesData.Builder();
+            for (var seria = 0; seria < 4; seria++) {
+                final var primitive = builder.createPrimitiveSeria();
+                for (var i = 0; i < POINT_COUNT; i++) {
+                    primitive.add(i, Math.sin(i / 100.0));
+                }
+            }
+            builder.withDownsampling(Downsampling.LARGEST_TRIANGLE_THREE_BUCKETS, 20, true);
+
+            // Act
+            final var result = builder.build().asJavaScriptObjectNotation();
+
+            // Assert
+            assertEquals(4, result.split("\\]\\],\\[\\[").length, "All series should be present");
+            assertTrue(result.length() < 4 * 20 * 24, "Series should be downsampled");
+        }
+    }
+
+    private static PrimitiveSeria createSeria() {
+        final var seria = new PrimitiveSeria();
+        for (var i = 0; i < POINT_COUNT; i++) {
+            seria.add(i, PEAK_INDEX == i ? 100.0 : Math.sin(i / 100.0));
+        }
+        return seria;
+    }
+}
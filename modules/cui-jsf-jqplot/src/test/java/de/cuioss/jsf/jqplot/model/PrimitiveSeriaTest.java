@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.cuioss.jsf.jqplot.js.types.JsDouble;
+import de.cuioss.test.valueobjects.junit5.contracts.ShouldHandleObjectContracts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Tests for PrimitiveSeria class")
+class PrimitiveSeriaTest implements ShouldHandleObjectContracts<PrimitiveSeria> {
+
+    @Override
+    public PrimitiveSeria getUnderTest() {
+        return new PrimitiveSeria().add(1.0, 2.0);
+    }
+
+    @Nested
+    @DisplayName("Serialization tests")
+    class SerializationTests {
+
+        @Test
+        @DisplayName("Should produce the same representation as Seria")
+        void shouldMatchSeria() {
+            // Arrange
+            final var target = new PrimitiveSeria();
+            final var reference = new Seria<JsDouble, JsDouble>();
+
+            // Act - exceed the initial capacity
+            for (var i = 0; i < 50; i++) {
+                target.add(i, i * -1.125);
+                reference.addAsTuple(new JsDouble((double) i), new JsDouble(i * -1.125));
+            }
+
+            // Assert
+            assertEquals(reference.asJavaScriptObjectNotation(), target.asJavaScriptObjectNotation(),
+                    "Should format like Seria");
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality tests")
+    class EqualityTests {
+
+        @Test
+        @DisplayName("Should ignore unused capacity")
+        void shouldIgnoreCapacity() {
+            // Arrange
+            final var trimmed = getUnderTest();
+            trimmed.trimToSize();
+
+            // Act & Assert
+            assertEquals(getUnderTest(), trimmed);
+            assertEquals(getUnderTest().hashCode(), trimmed.hashCode());
+            assertNotEquals(getUnderTest(), getUnderTest().add(0.0, 0.0));
+            assertThrows(IndexOutOfBoundsException.class, () -> trimmed.getX(1));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2025 CUI-OpenSource-Software (info@cuioss.de)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package de.cuioss.jsf.jqplot.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.cuioss.jsf.jqplot.js.types.JsDateTimeFormat;
+import de.cuioss.test.valueobjects.junit5.contracts.ShouldHandleObjectContracts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+@DisplayName("Tests for PrimitiveTimeLineSeria class")
+class PrimitiveTimeLineSeriaTest implements ShouldHandleObjectContracts<PrimitiveTimeLineSeria> {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2015, 10, 30, 12, 30);
+
+    @Override
+    public PrimitiveTimeLineSeria getUnderTest() {
+        return new PrimitiveTimeLineSeria(JsDateTimeFormat.DATE_ONLY, ZONE).add(epochMillis(DATE), 1.5);
+    }
+
+    @Nested
+    @DisplayName("Constructor validation tests")
+    class ConstructorValidationTests {
+
+        @Test
+        @DisplayName("Should throw exception when format is null")
+        void shouldRejectNullFormat() {
+            // Act & Assert
+            assertThrows(NullPointerException.class, () -> new PrimitiveTimeLineSeria(null),
+                    "Constructor should reject null format");
+        }
+
+        @Test
+        @DisplayName("Should throw exception when zone is null")
+        void shouldRejectNullZone() {
+            // Act & Assert
+            assertThrows(NullPointerException.class,
+                    () -> new PrimitiveTimeLineSeria(JsDateTimeFormat.DATE_ONLY, null),
+                    "Constructor should reject null zone");
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization tests")
+    class SerializationTests {
+
+        @Test
+        @DisplayName("Should produce the same representation as TimeLineSeria")
+        void shouldMatchTimeLineSeria() {
+            // Arrange
+            final var target = new PrimitiveTimeLineSeria(JsDateTimeFormat.DATE_TIME, ZONE);
+            final var reference = new TimeLineSeria<Double>(JsDateTimeFormat.DATE_TIME);
+
+            // Act - exceed the initial capacity
+            for (var i = 0; i < 100; i++) {
+                final var date = DATE.plusMinutes(i);
+                target.add(epochMillis(date), i * 0.25);
+                reference.add(date, i * 0.25);
+            }
+
+            // Assert
+            assertEquals(100, target.size());
+            assertEquals(reference.getAsArray().asJavaScriptObjectNotation(), target.asJavaScriptObjectNotation(),
+                    "Should format like TimeLineSeria");
+            assertEquals(reference.getAsArray().asJavaScriptObjectNotation(),
+                    target.getAsArray().asJavaScriptObjectNotation(), "Boxed array should match as well");
+        }
+
+        @Test
+        @DisplayName("Should stream the same representation")
+        void shouldStreamRepresentation() throws IOException {
+            // Arrange
+            final var target = getUnderTest();
+            final var writer = new StringWriter();
+
+            // Act
+            target.writeJavaScriptObjectNotation(writer);
+
+            // Assert
+            assertEquals("[[\"2015-10-30\",1.500]]", writer.toString());
+        }
+
+        @Test
+        @DisplayName("Should produce empty array without data points")
+        void shouldHandleEmptySeria() {
+            // Arrange
+            final var target = new PrimitiveTimeLineSeria(JsDateTimeFormat.DATE_ONLY);
+
+            // Act & Assert
+            assertTrue(target.isEmpty());
+            assertEquals("[]", target.asJavaScriptObjectNotation());
+        }
+    }
+
+    @Nested
+    @DisplayName("Data access tests")
+    class DataAccessTests {
+
+        @Test
+        @DisplayName("Should provide the stored values")
+        void shouldProvideValues() {
+            // Arrange
+            final var target = getUnderTest();
+
+            // Act
+            target.trimToSize();
+            target.add(0L, 3.0);
+
+            // Assert
+            assertEquals(epochMillis(DATE), target.getEpochMillis(0));
+            assertEquals(1.5, target.getY(0));
+            assertEquals(0L, target.getEpochMillis(1));
+            assertEquals(3.0, target.getY(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> target.getY(2));
+        }
+    }
+
+    private static long epochMillis(final LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.Temporal;
 
 @DisplayName("Tests for SeriesData class")
@@ -84,6 +85,51 @@ class SeriesDataTest implements ShouldHandleObjectContracts<SeriesData> {
                     builder.build().asJavaScriptObjectNotation(),
                     "Should build and format timeline series correctly");
         }
+
+        @Test
+        @DisplayName("Should build series data with primitive series")
+        void shouldBuildSeriesDataWithPrimitiveSeries() {
+            // Arrange
+            final var date = LocalDateTime.of(2015, 10, 30, 12, 30);
+            final var builder = new SeriesData.Builder();
+
+            // Act
+            builder.createPrimitiveTimeLine(JsDateTimeFormat.DATE_ONLY, ZoneOffset.UTC)
+                    .add(date.toInstant(ZoneOffset.UTC), 10.0)
+                    .add(date.toInstant(ZoneOffset.UTC), 20.0);
+            builder.createPrimitiveSeria().add(1.0, 5.0);
+            builder.createPrimitiveSeria();
+
+            // Assert
+            assertEquals("[[[\"2015-10-30\",10.000],[\"2015-10-30\",20.000]],[[1.000,5.000]]]",
+                    builder.build().asJavaScriptObjectNotation(),
+                    "Should build and format primitive series correctly, ignoring empty ones");
+        }
+
+        @Test
+        @DisplayName("Should downsample timeline and primitive series in parallel")
+        void shouldDownsampleInParallel() {
+            // Arrange
+            final var start = LocalDateTime.of(2015, 10, 30, 12, 30);
+            final var builder = new SeriesData.Builder().withDownsampling(Downsampling.MIN_MAX, 10, true);
+            final var timeLine = builder.createTimeLineWithDoubleValues(JsDateTimeFormat.DATE_ONLY);
+            final var primitive = builder.createPrimitiveSeria();
+            for (var i = 0; i < 100; i++) {
+                timeLine.add(start.plusDays(i), (double) i);
+                primitive.add(i, i);
+            }
+
+            // Act
+            final var parallel = builder.build();
+            final var sequential = new SeriesData().addSeriaDataIfNotNull(timeLine)
+                    .addSeriaDataIfNotNull(primitive).downsample(Downsampling.MIN_MAX, 10, false);
+
+            // Assert
+            assertEquals(sequential.asJavaScriptObjectNotation(), parallel.asJavaScriptObjectNotation(),
+                    "Parallel and sequential downsampling should yield the same result");
+            assertEquals(10, timeLine.downsample(Downsampling.MIN_MAX, 10).size(),
+                    "Timeline series should be downsampled");
+        }
     }
 
 }
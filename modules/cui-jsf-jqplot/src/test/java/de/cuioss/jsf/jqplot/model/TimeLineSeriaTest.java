@@ -16,9 +16,12 @@
 package de.cuioss.jsf.jqplot.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.cuioss.jsf.jqplot.js.types.JsDateTimeFormat;
+import de.cuioss.jsf.jqplot.js.types.JsString;
 import de.cuioss.test.valueobjects.junit5.contracts.ShouldHandleObjectContracts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -104,4 +107,57 @@ class TimeLineSeriaTest implements ShouldHandleObjectContracts<TimeLineSeria<?>>
         }
     }
 
+    @Nested
+    @DisplayName("Downsampling tests")
+    class DownsamplingTests {
+
+        @Test
+        @DisplayName("Should downsample keeping first, last and peak")
+        void shouldDownsample() {
+            // Arrange
+            final var timeLineSeria = new TimeLineSeria<Double>(JsDateTimeFormat.DATE_ONLY);
+            final var start = LocalDateTime.of(2015, 10, 30, 12, 30);
+            for (var i = 0; i < 100; i++) {
+                timeLineSeria.add(start.plusDays(i), i == 50 ? 1000.0 : 1.0);
+            }
+
+            // Act
+            final var result = timeLineSeria.downsample(Downsampling.LARGEST_TRIANGLE_THREE_BUCKETS, 10);
+
+            // Assert
+            assertEquals(10, result.size(), "Should be reduced to the target point count");
+            final var json = result.asJavaScriptObjectNotation();
+            assertTrue(json.startsWith("[[\"2015-10-30\",1.000]"), json);
+            assertTrue(json.contains("[\"2015-12-19\",1000.000]"), json);
+            assertTrue(json.endsWith("[\"2016-02-06\",1.000]]"), json);
+        }
+
+        @Test
+        @DisplayName("Should reject data points added to the array directly")
+        void shouldRejectForeignDataPoints() {
+            // Arrange
+            final var timeLineSeria = new TimeLineSeria<Integer>(JsDateTimeFormat.DATE_ONLY);
+            final var start = LocalDateTime.of(2015, 10, 30, 12, 30);
+            for (var i = 0; i < 20; i++) {
+                timeLineSeria.add(start.plusDays(i), i);
+            }
+            timeLineSeria.getAsArray().addValueIfNotNull(new JsString("foreign"));
+
+            // Act & Assert
+            assertEquals(21, timeLineSeria.size(), "Size should reflect the array");
+            assertThrows(IllegalStateException.class, () -> timeLineSeria.downsample(Downsampling.MIN_MAX, 10));
+        }
+
+        @Test
+        @DisplayName("Should keep small series")
+        void shouldKeepSmallSeries() {
+            // Arrange
+            final var timeLineSeria = new TimeLineSeria<Integer>(JsDateTimeFormat.DATE_ONLY)
+                    .add(LocalDateTime.of(2015, 10, 30, 12, 30), 1);
+
+            // Act & Assert
+            assertSame(timeLineSeria, timeLineSeria.downsample(Downsampling.MIN_MAX, 10),
+                    "Should not copy series not exceeding the target point count");
+        }
+    }
 }
@@ -249,4 +249,37 @@ class OptionsTest implements ShouldHandleObjectContracts<Options> {
                     "Should properly format grid configuration");
         }
     }
+
+    @Nested
+    @DisplayName("Large option tree tests")
+    class LargeOptionTreeTests {
+
+        @Test
+        @DisplayName("Should serialize a large option tree repeatedly with identical result")
+        void shouldSerializeLargeTreeRepeatedly() {
+            // Arrange
+            target = new Options();
+            target.setTitle(new Title("Large"));
+            target.setLegend(new Legend().setShow(TRUE));
+            target.setHighlighter(new Highlighter().setShow(TRUE));
+            target.setCursor(new Cursor().setShow(TRUE));
+            final var xAxis = Axis.createXAxis();
+            xAxis.setLabel("x");
+            target.getAxes().addInNotNull(xAxis);
+            for (var i = 0; i < 2_000; i++) {
+                final var seria = Series.createAsListElement();
+                seria.setYaxis(AxisType.YAXIS);
+                target.addSeriaOption(seria);
+            }
+
+            // Act
+            final var first = target.asJavaScriptObjectNotation();
+            final var second = target.asJavaScriptObjectNotation();
+
+            // Assert
+            assertEquals(first, second, "Repeated serialization must not duplicate properties");
+            assertEquals(2_000, first.split("\\{yaxis:\"yaxis\"\\}", -1).length - 1,
+                    "Each seria should be serialized exactly once");
+        }
+    }
 }